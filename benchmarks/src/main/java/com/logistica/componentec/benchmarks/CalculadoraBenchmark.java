@@ -0,0 +1,84 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.utils.CalculadoraLote;
+import com.logistica.componentec.utils.CalculadoraUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de CalculadoraUtils: cálculo empresarial escalar y por lotes, y suma de listas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculadoraBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int tamanio;
+
+    private List<BigDecimal> montos;
+    private long[] montosCentavos;
+    private CalculadoraLote.ResultadoLote destino;
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        montos = new ArrayList<>(tamanio);
+        montosCentavos = new long[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            long centavos = random.nextInt(1_000_000);
+            montosCentavos[i] = centavos;
+            montos.add(BigDecimal.valueOf(centavos, 2));
+        }
+        destino = new CalculadoraLote.ResultadoLote(tamanio);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotal() {
+        return CalculadoraUtils.calcularTotal(montos);
+    }
+
+    @Benchmark
+    public long calcularTotalCentavos() {
+        return CalculadoraUtils.calcularTotalCentavos(montosCentavos);
+    }
+
+    @Benchmark
+    public void calcularTotalEmpresarial(Blackhole bh) {
+        for (BigDecimal monto : montos) {
+            bh.consume(CalculadoraUtils.calcularTotalEmpresarial(monto));
+        }
+    }
+
+    @Benchmark
+    public void calcularTotalEmpresarialCentavos(Blackhole bh) {
+        for (long monto : montosCentavos) {
+            bh.consume(CalculadoraUtils.calcularTotalEmpresarialCentavos(monto));
+        }
+    }
+
+    @Benchmark
+    public CalculadoraLote.ResultadoLote calcularTotalEmpresarialLote() {
+        CalculadoraLote.calcularTotalEmpresarial(montosCentavos, destino);
+        return destino;
+    }
+}
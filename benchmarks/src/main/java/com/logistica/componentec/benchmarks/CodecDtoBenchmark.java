@@ -0,0 +1,99 @@
+package com.logistica.componentec.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.logistica.componentec.dto.CalculoEmpresarialDTO;
+import com.logistica.componentec.dto.CodecBinario;
+import com.logistica.componentec.dto.CodecDTO;
+import com.logistica.componentec.dto.RespuestaExitosaDTO;
+import com.logistica.componentec.utils.CalculadoraUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intercambio de un resultado de cálculo empresarial: formato binario de CodecBinario sobre un
+ * buffer reutilizado frente a la ruta JSON con Map que se usa hoy entre componentes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecDtoBenchmark {
+
+    private static final CodecDTO<RespuestaExitosaDTO<CalculoEmpresarialDTO>> CODEC =
+        CodecBinario.respuestaExitosa(CodecBinario.CALCULO_EMPRESARIAL);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader lectorMapa = objectMapper.readerFor(new TypeReference<Map<String, Object>>() { });
+    private final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    private RespuestaExitosaDTO<CalculoEmpresarialDTO> respuesta;
+    private Map<String, Object> mapa;
+    private byte[] json;
+
+    @Setup
+    public void preparar() throws IOException {
+        respuesta = new RespuestaExitosaDTO<>(200, "OK",
+            CalculoEmpresarialDTO.deCentavos(1_250_075, CalculadoraUtils.obtenerReglas()), 1_700_000_000_000L);
+
+        CalculadoraUtils.ResultadoCalculoEmpresarial resultado =
+            CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal("12500.75"));
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("montoOriginal", resultado.getMontoOriginal());
+        datos.put("porcentajeDescuento", resultado.getPorcentajeDescuento());
+        datos.put("montoDescuento", resultado.getMontoDescuento());
+        datos.put("subtotal", resultado.getSubtotal());
+        datos.put("porcentajeIVA", resultado.getPorcentajeIVA());
+        datos.put("montoIVA", resultado.getMontoIVA());
+        datos.put("total", resultado.getTotal());
+        mapa = new LinkedHashMap<>();
+        mapa.put("estado", 200);
+        mapa.put("mensaje", "OK");
+        mapa.put("datos", datos);
+        mapa.put("timestamp", 1_700_000_000_000L);
+        json = objectMapper.writeValueAsBytes(mapa);
+    }
+
+    @Benchmark
+    public int escribirBinario() {
+        buffer.clear();
+        CODEC.escribir(respuesta, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public RespuestaExitosaDTO<CalculoEmpresarialDTO> idaYVueltaBinario() {
+        buffer.clear();
+        CODEC.escribir(respuesta, buffer);
+        buffer.flip();
+        return CODEC.leer(buffer);
+    }
+
+    @Benchmark
+    public byte[] escribirJsonMapa() throws IOException {
+        return objectMapper.writeValueAsBytes(mapa);
+    }
+
+    @Benchmark
+    public Map<String, Object> leerJsonMapa() throws IOException {
+        return lectorMapa.readValue(json);
+    }
+}
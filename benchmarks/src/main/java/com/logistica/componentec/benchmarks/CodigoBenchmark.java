@@ -0,0 +1,60 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.utils.CodigoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de CodigoUtils.generarCodigoUnico bajo distintos niveles de concurrencia.
+ * Se mide rendimiento agregado (operaciones por microsegundo entre todos los hilos).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodigoBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String generarCodigoUnico01Hilo() {
+        return CodigoUtils.generarCodigoUnico("PEDIDO");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generarCodigoUnico04Hilos() {
+        return CodigoUtils.generarCodigoUnico("PEDIDO");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String generarCodigoUnico16Hilos() {
+        return CodigoUtils.generarCodigoUnico("PEDIDO");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String generarCodigoUnico64Hilos() {
+        return CodigoUtils.generarCodigoUnico("PEDIDO");
+    }
+
+    /**
+     * Generación en bloque; el resultado se normaliza por código generado.
+     */
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(1000)
+    public String[] generarCodigosBloque1000() {
+        return CodigoUtils.generarCodigos("PEDIDO", 1000);
+    }
+}
@@ -0,0 +1,90 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.utils.CalculadoraUtils;
+import com.logistica.componentec.utils.ConsolidadorCsv;
+import com.logistica.componentec.utils.ResultadoConsolidacion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consolidación de un CSV de facturas por cliente: ConsolidadorCsv frente a la ruta del proceso
+ * nocturno (BufferedReader, split, BigDecimal y calcularTotalEmpresarial por línea).
+ * El archivo se genera una vez y queda en la caché de páginas del sistema operativo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsolidadorBenchmark {
+
+    @Param({"1000000"})
+    private int lineas;
+
+    private Path archivo;
+    private ConsolidadorCsv consolidador;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        archivo = Files.createTempFile("consolidador", ".csv");
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        try (BufferedWriter escritor = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            escritor.write("factura,cliente,fecha,monto\n");
+            for (int i = 0; i < lineas; i++) {
+                long centavos = aleatorio.nextLong(10_000_000);
+                escritor.write("FAC-" + i + ",CLI-" + aleatorio.nextInt(5_000) + ",2024-06-30,"
+                    + BigDecimal.valueOf(centavos, 2).toPlainString() + "\n");
+            }
+        }
+        consolidador = ConsolidadorCsv.builder().columnaClave(1).columnaMonto(3).encabezado(true).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() throws IOException {
+        Files.deleteIfExists(archivo);
+    }
+
+    @Benchmark
+    public ResultadoConsolidacion consolidador() throws IOException {
+        return consolidador.consolidar(archivo);
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> bigDecimalPorLinea() throws IOException {
+        Map<String, BigDecimal> porCliente = new HashMap<>();
+        try (BufferedReader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            lector.readLine();
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                String[] campos = linea.split(",");
+                BigDecimal total = CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal(campos[3])).getTotal();
+                porCliente.merge(campos[1], total, BigDecimal::add);
+            }
+        }
+        return porCliente;
+    }
+}
@@ -0,0 +1,26 @@
+package com.logistica.componentec.benchmarks;
+
+/**
+ * Cuerpos JSON representativos de las respuestas de los Componentes A y B.
+ */
+final class DatosPrueba {
+
+    private DatosPrueba() {
+    }
+
+    static String estadisticasProyectosJson(int entradas) {
+        StringBuilder json = new StringBuilder(64 + entradas * 48);
+        json.append("{\"totalProyectos\":").append(entradas)
+            .append(",\"proyectosActivos\":").append(entradas / 2)
+            .append(",\"proyectosCompletados\":").append(entradas / 3)
+            .append(",\"montoTotal\":").append(entradas * 1250.75)
+            .append(",\"proyectosPorEstado\":{");
+        for (int i = 0; i < entradas; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"ESTADO_").append(i).append("\":").append(i * 3L);
+        }
+        return json.append("}}").toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.logistica.componentec.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks. Acepta las mismas opciones que {@code org.openjdk.jmh.Main}
+ * y agrega siempre el perfilador de GC para reportar la tasa de asignación (gc.alloc.rate.norm).
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                       # todas las suites
+ * java -jar target/benchmarks.jar Calculadora -p tamanio=1000
+ * </pre>
+ */
+public class EjecutorBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options opciones = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opciones).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.validation.EsquemaValidacion;
+import com.logistica.componentec.validation.ReglaValidacion;
+import com.logistica.componentec.validation.ValidacionUtils;
+import com.logistica.componentec.validation.Validar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de un registro válido: llamadas escritas a mano a ValidacionUtils, esquema compilado
+ * con EsquemaValidacion y una validación genérica que lee los campos por reflexión en cada llamada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EsquemaValidacionBenchmark {
+
+    public static class Proveedor {
+        @Validar(ReglaValidacion.ID)
+        private final Long id;
+        @Validar(ReglaValidacion.NOMBRE_EMPRESARIAL)
+        private final String nombre;
+        @Validar(ReglaValidacion.EMAIL)
+        private final String email;
+        @Validar(ReglaValidacion.MONTO_EMPRESARIAL)
+        private final BigDecimal credito;
+
+        public Proveedor(Long id, String nombre, String email, BigDecimal credito) {
+            this.id = id;
+            this.nombre = nombre;
+            this.email = email;
+            this.credito = credito;
+        }
+
+        public Long getId() { return id; }
+        public String getNombre() { return nombre; }
+        public String getEmail() { return email; }
+        public BigDecimal getCredito() { return credito; }
+    }
+
+    private final EsquemaValidacion<Proveedor> esquema = EsquemaValidacion.de(Proveedor.class);
+    private Field[] campos;
+    private Proveedor proveedor;
+
+    @Setup
+    public void preparar() {
+        proveedor = new Proveedor(42L, "Transportes Andinos", "ventas@andinos.com.ec", new BigDecimal("25000.00"));
+        campos = Proveedor.class.getDeclaredFields();
+        for (Field campo : campos) {
+            campo.setAccessible(true);
+        }
+    }
+
+    @Benchmark
+    public Proveedor escritoAMano() {
+        ValidacionUtils.validarIdObligatorio(proveedor.getId(), "proveedor");
+        ValidacionUtils.validarNombreEmpresarialObligatorio(proveedor.getNombre(), "nombre");
+        ValidacionUtils.validarEmailObligatorio(proveedor.getEmail(), "email");
+        ValidacionUtils.validarMontoEmpresarialObligatorio(proveedor.getCredito(), "credito");
+        return proveedor;
+    }
+
+    @Benchmark
+    public Proveedor esquemaCompilado() {
+        esquema.validar(proveedor);
+        return proveedor;
+    }
+
+    /**
+     * Lo que haría un framework basado en reflexión sin caché: anotaciones y campos en cada llamada.
+     */
+    @Benchmark
+    public boolean reflexionPorLlamada() throws IllegalAccessException {
+        boolean valido = true;
+        for (Field campo : campos) {
+            Validar anotacion = campo.getAnnotation(Validar.class);
+            if (anotacion != null) {
+                Object valor = campo.get(proveedor);
+                for (ReglaValidacion regla : anotacion.value()) {
+                    valido &= regla.acepta(valor);
+                }
+            }
+        }
+        return valido;
+    }
+}
@@ -0,0 +1,87 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.dto.EstadisticasProyectosDTO;
+import com.logistica.componentec.integration.IntegracionClient;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la decodificación JSON de respuestas de IntegracionClient, llamando a los
+ * métodos reales del cliente contra un servidor local que devuelve siempre el mismo cuerpo.
+ * Incluye el viaje por loopback; la diferencia entre tamaños de cuerpo y entre Map y DTO
+ * es la que corresponde a la decodificación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@State(Scope.Benchmark)
+public class IntegracionJsonBenchmark {
+
+    /** Cantidad de entradas por tipo en el cuerpo de estadísticas. */
+    @Param({"10", "1000"})
+    private int entradas;
+
+    private HttpServer servidor;
+    private IntegracionClient cliente;
+
+    @Setup
+    public void preparar() throws IOException {
+        byte[] cuerpo = DatosPrueba.estadisticasProyectosJson(entradas).getBytes(StandardCharsets.UTF_8);
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        servidor.createContext("/api/proyectos/estadisticas", intercambio -> {
+            intercambio.getResponseHeaders().set("Content-Type", "application/json");
+            intercambio.sendResponseHeaders(200, cuerpo.length);
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                salida.write(cuerpo);
+            }
+        });
+        servidor.start();
+
+        cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/api")
+            .build();
+    }
+
+    @TearDown
+    public void cerrar() throws IOException {
+        cliente.cerrar();
+        servidor.stop(0);
+    }
+
+    /**
+     * Ruta de compatibilidad del cliente: Map leído del flujo de la respuesta.
+     */
+    @Benchmark
+    public Map<String, Object> decodificarMapa() throws IOException {
+        return cliente.obtenerEstadisticasProyectos();
+    }
+
+    /**
+     * Ruta tipada del cliente: DTO leído del flujo de la respuesta.
+     */
+    @Benchmark
+    public EstadisticasProyectosDTO decodificarDto() throws IOException {
+        return cliente.obtenerEstadisticasProyectosDTO();
+    }
+}
@@ -0,0 +1,67 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.metricas.Contador;
+import com.logistica.componentec.metricas.Histograma;
+import com.logistica.componentec.metricas.RegistroMetricas;
+import com.logistica.componentec.metricas.TemporizadorMuestreado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de registrar métricas en el camino caliente, con uno y varios hilos escribiendo sobre
+ * la misma métrica. Ninguna operación debe asignar memoria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricasBenchmark {
+
+    private final RegistroMetricas registro = new RegistroMetricas();
+    private final Contador contador = registro.contador("benchmark.contador");
+    private final Histograma histograma = registro.histograma("benchmark.histograma");
+    private final TemporizadorMuestreado temporizador = registro.temporizador("benchmark.temporizador", 16);
+    private long valor;
+
+    @Benchmark
+    @Threads(1)
+    public void incrementarContador() {
+        contador.incrementar();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void incrementarContador08Hilos() {
+        contador.incrementar();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void registrarHistograma() {
+        histograma.registrar(valor++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void registrarHistograma08Hilos() {
+        histograma.registrar(System.nanoTime() & 0xFFFFF);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void temporizadorMuestreado() {
+        temporizador.terminar(temporizador.iniciar());
+    }
+}
@@ -0,0 +1,103 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.utils.Money;
+import com.logistica.componentec.utils.TextoDecimal;
+import com.logistica.componentec.validation.ValidacionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importación de montos: lectura, validación de rango y escritura de 1024 montos en texto,
+ * con BigDecimal frente a TextoDecimal sobre unidades menores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextoDecimalBenchmark {
+
+    private static final int MONTOS = 1024;
+
+    private String[] textos;
+    private byte[] bytes;
+    private int[] inicios;
+    private long[] centavos;
+    private final byte[] salida = new byte[MONTOS * TextoDecimal.LONGITUD_MAXIMA];
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(23);
+        textos = new String[MONTOS];
+        centavos = new long[MONTOS];
+        StringBuilder csv = new StringBuilder();
+        inicios = new int[MONTOS + 1];
+        for (int i = 0; i < MONTOS; i++) {
+            centavos[i] = 5_000 + random.nextInt(150_000_000);
+            textos[i] = BigDecimal.valueOf(centavos[i], 2).toPlainString();
+            inicios[i] = csv.length();
+            csv.append(textos[i]).append('\n');
+        }
+        inicios[MONTOS] = csv.length();
+        bytes = csv.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long leerBigDecimal() {
+        long validos = 0;
+        for (String texto : textos) {
+            BigDecimal monto = new BigDecimal(texto);
+            if (ValidacionUtils.validarMontoEmpresarial(monto)) {
+                validos += Money.deBigDecimal(monto, Money.ESCALA_CENTAVOS).getUnidadesMenores();
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    public long leerTextoDecimal() {
+        long validos = 0;
+        for (int i = 0; i < MONTOS; i++) {
+            long monto = TextoDecimal.leer(bytes, inicios[i], inicios[i + 1] - 1, Money.ESCALA_CENTAVOS, (byte) '.');
+            if (monto != TextoDecimal.INVALIDO && ValidacionUtils.validarMontoEmpresarial(monto)) {
+                validos += monto;
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    public void escribirBigDecimal(Blackhole blackhole) {
+        int posicion = 0;
+        for (long monto : centavos) {
+            byte[] texto = BigDecimal.valueOf(monto, 2).toPlainString().getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(texto, 0, salida, posicion, texto.length);
+            posicion += texto.length;
+        }
+        blackhole.consume(posicion);
+    }
+
+    @Benchmark
+    public void escribirTextoDecimal(Blackhole blackhole) {
+        int posicion = 0;
+        for (long monto : centavos) {
+            posicion = TextoDecimal.formatear(monto, 2, salida, posicion);
+        }
+        blackhole.consume(posicion);
+    }
+}
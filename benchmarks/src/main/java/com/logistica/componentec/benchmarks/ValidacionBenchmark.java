@@ -0,0 +1,65 @@
+package com.logistica.componentec.benchmarks;
+
+import com.logistica.componentec.validation.ValidacionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de los validadores de formato de ValidacionUtils con entradas válidas e inválidas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacionBenchmark {
+
+    @Param({"valido", "invalido"})
+    private String caso;
+
+    private String email;
+    private String telefono;
+    private String codigoPostal;
+    private String codigoProyecto;
+
+    @Setup
+    public void preparar() {
+        boolean valido = "valido".equals(caso);
+        email = valido ? "  operaciones.norte@logistica-empresa.com.ec " : "operaciones.norte@logistica-empresa";
+        telefono = valido ? "+593987654321" : "+59398765432a";
+        codigoPostal = valido ? "170150" : "17015O";
+        codigoProyecto = valido ? "PR-001234" : "PR-00123X";
+    }
+
+    @Benchmark
+    public boolean validarEmail() {
+        return ValidacionUtils.validarEmail(email);
+    }
+
+    @Benchmark
+    public boolean validarTelefono() {
+        return ValidacionUtils.validarTelefono(telefono);
+    }
+
+    @Benchmark
+    public boolean validarCodigoPostal() {
+        return ValidacionUtils.validarCodigoPostal(codigoPostal);
+    }
+
+    @Benchmark
+    public boolean validarCodigoProyecto() {
+        return ValidacionUtils.validarCodigoProyecto(codigoProyecto);
+    }
+}
@@ -0,0 +1,117 @@
+package com.logistica.componentec.dto;
+
+import com.logistica.componentec.utils.Money;
+import com.logistica.componentec.utils.ReglasCalculo;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de un cálculo empresarial intercambiado entre componentes.
+ * Inmutable: los montos son unidades menores con una escala común y los porcentajes puntos base,
+ * igual que en {@link Money}.
+ */
+public final class CalculoEmpresarialDTO {
+
+    static final int ESCALA_MAXIMA = 18;
+
+    private final int escala;
+    private final long montoOriginal;
+    private final long porcentajeDescuentoPb;
+    private final long montoDescuento;
+    private final long subtotal;
+    private final long porcentajeIvaPb;
+    private final long montoIva;
+    private final long total;
+
+    /**
+     * @param escala Escala común de los montos (2 = centavos)
+     * @param montoOriginal Monto antes de descuentos e impuestos
+     * @param porcentajeDescuentoPb Descuento aplicado en puntos base
+     * @param montoDescuento Monto descontado
+     * @param subtotal Monto con descuento, sin IVA
+     * @param porcentajeIvaPb IVA aplicado en puntos base
+     * @param montoIva Monto de IVA
+     * @param total Total final
+     */
+    public CalculoEmpresarialDTO(int escala, long montoOriginal, long porcentajeDescuentoPb, long montoDescuento,
+                                 long subtotal, long porcentajeIvaPb, long montoIva, long total) {
+        if (escala < 0 || escala > ESCALA_MAXIMA) {
+            throw new IllegalArgumentException("La escala debe estar entre 0 y " + ESCALA_MAXIMA);
+        }
+        this.escala = escala;
+        this.montoOriginal = montoOriginal;
+        this.porcentajeDescuentoPb = porcentajeDescuentoPb;
+        this.montoDescuento = montoDescuento;
+        this.subtotal = subtotal;
+        this.porcentajeIvaPb = porcentajeIvaPb;
+        this.montoIva = montoIva;
+        this.total = total;
+    }
+
+    /**
+     * Calcula descuento escalonado e IVA sobre un monto en centavos sin pasar por BigDecimal.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @param reglas Reglas de tramos e IVA a aplicar
+     */
+    public static CalculoEmpresarialDTO deCentavos(long montoCentavos, ReglasCalculo reglas) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        long descuentoPb = reglas.porcentajeDescuentoPb(montoCentavos);
+        long descuento = Money.porcentaje(montoCentavos, descuentoPb);
+        long subtotal = Math.subtractExact(montoCentavos, descuento);
+        long iva = Money.porcentaje(subtotal, reglas.getIvaPb());
+        return new CalculoEmpresarialDTO(Money.ESCALA_CENTAVOS, montoCentavos, descuentoPb, descuento, subtotal,
+            reglas.getIvaPb(), iva, Math.addExact(subtotal, iva));
+    }
+
+    // Getters
+    public int getEscala() { return escala; }
+    public long getMontoOriginal() { return montoOriginal; }
+    public long getPorcentajeDescuentoPb() { return porcentajeDescuentoPb; }
+    public long getMontoDescuento() { return montoDescuento; }
+    public long getSubtotal() { return subtotal; }
+    public long getPorcentajeIvaPb() { return porcentajeIvaPb; }
+    public long getMontoIva() { return montoIva; }
+    public long getTotal() { return total; }
+
+    /**
+     * Convierte un monto de este cálculo a BigDecimal con la escala común.
+     */
+    public BigDecimal aDecimal(long unidadesMenores) {
+        return BigDecimal.valueOf(unidadesMenores, escala);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CalculoEmpresarialDTO)) return false;
+        CalculoEmpresarialDTO otro = (CalculoEmpresarialDTO) o;
+        return escala == otro.escala && montoOriginal == otro.montoOriginal
+            && porcentajeDescuentoPb == otro.porcentajeDescuentoPb && montoDescuento == otro.montoDescuento
+            && subtotal == otro.subtotal && porcentajeIvaPb == otro.porcentajeIvaPb && montoIva == otro.montoIva
+            && total == otro.total;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = escala;
+        h = 31 * h + montoOriginal;
+        h = 31 * h + porcentajeDescuentoPb;
+        h = 31 * h + montoDescuento;
+        h = 31 * h + subtotal;
+        h = 31 * h + porcentajeIvaPb;
+        h = 31 * h + montoIva;
+        h = 31 * h + total;
+        return Long.hashCode(h);
+    }
+
+    @Override
+    public String toString() {
+        return "CalculoEmpresarialDTO{escala=" + escala + ", montoOriginal=" + montoOriginal
+            + ", porcentajeDescuentoPb=" + porcentajeDescuentoPb + ", montoDescuento=" + montoDescuento
+            + ", subtotal=" + subtotal + ", porcentajeIvaPb=" + porcentajeIvaPb + ", montoIva=" + montoIva
+            + ", total=" + total + "}";
+    }
+}
@@ -0,0 +1,359 @@
+package com.logistica.componentec.dto;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Formato binario versionado de los DTO intercambiados entre componentes, alternativo a JSON.
+ * <p>
+ * Cada mensaje empieza con dos bytes: tipo y versión del formato. Los enteros acotados (estado,
+ * escala) y los instantes van en ancho fijo big-endian; los montos y porcentajes como varints
+ * (LEB128, con zigzag para los que pueden ser negativos); los textos como varint de longitud más
+ * uno (0 = null) seguida de los bytes UTF-8. Un lector acepta su versión y las anteriores y
+ * rechaza las posteriores.
+ */
+public final class CodecBinario {
+
+    /** Versión del formato que se escribe. */
+    public static final int VERSION = 1;
+
+    static final byte TIPO_CALCULO_EMPRESARIAL = 1;
+    static final byte TIPO_ERROR_RESPUESTA = 2;
+    static final byte TIPO_RESPUESTA_EXITOSA = 3;
+
+    /** Codec de {@link CalculoEmpresarialDTO}. */
+    public static final CodecDTO<CalculoEmpresarialDTO> CALCULO_EMPRESARIAL = new CodecCalculo();
+
+    /** Codec de {@link ErrorResponseDTO}. */
+    public static final CodecDTO<ErrorResponseDTO> ERROR_RESPUESTA = new CodecError();
+
+    private CodecBinario() {
+    }
+
+    /**
+     * Codec de {@link RespuestaExitosaDTO} cuyos datos se codifican con el codec indicado.
+     */
+    public static <T> CodecDTO<RespuestaExitosaDTO<T>> respuestaExitosa(CodecDTO<T> datos) {
+        if (datos == null) {
+            throw new IllegalArgumentException("El codec de los datos no puede ser null");
+        }
+        return new CodecRespuesta<>(datos);
+    }
+
+    /**
+     * Codifica un valor en un arreglo del tamaño exacto.
+     */
+    public static <T> byte[] codificar(T valor, CodecDTO<T> codec) {
+        byte[] bytes = new byte[codec.tamanio(valor)];
+        codec.escribir(valor, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Decodifica un valor que ocupa el arreglo completo.
+     *
+     * @throws IllegalArgumentException si los bytes están truncados, sobran o no corresponden al codec
+     */
+    public static <T> T decodificar(byte[] bytes, CodecDTO<T> codec) {
+        ByteBuffer origen = ByteBuffer.wrap(bytes);
+        T valor;
+        try {
+            valor = codec.leer(origen);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Mensaje binario truncado");
+        }
+        if (origen.hasRemaining()) {
+            throw new IllegalArgumentException("Sobran " + origen.remaining() + " bytes tras el mensaje");
+        }
+        return valor;
+    }
+
+    // Codecs
+
+    private static final class CodecCalculo implements CodecDTO<CalculoEmpresarialDTO> {
+
+        @Override
+        public int tamanio(CalculoEmpresarialDTO valor) {
+            return 3 + tamanioVarint(zigzag(valor.getMontoOriginal()))
+                + tamanioVarint(zigzag(valor.getPorcentajeDescuentoPb()))
+                + tamanioVarint(zigzag(valor.getMontoDescuento()))
+                + tamanioVarint(zigzag(valor.getSubtotal()))
+                + tamanioVarint(zigzag(valor.getPorcentajeIvaPb()))
+                + tamanioVarint(zigzag(valor.getMontoIva()))
+                + tamanioVarint(zigzag(valor.getTotal()));
+        }
+
+        @Override
+        public void escribir(CalculoEmpresarialDTO valor, ByteBuffer destino) {
+            escribirCabecera(destino, TIPO_CALCULO_EMPRESARIAL);
+            destino.put((byte) valor.getEscala());
+            escribirVarint(destino, zigzag(valor.getMontoOriginal()));
+            escribirVarint(destino, zigzag(valor.getPorcentajeDescuentoPb()));
+            escribirVarint(destino, zigzag(valor.getMontoDescuento()));
+            escribirVarint(destino, zigzag(valor.getSubtotal()));
+            escribirVarint(destino, zigzag(valor.getPorcentajeIvaPb()));
+            escribirVarint(destino, zigzag(valor.getMontoIva()));
+            escribirVarint(destino, zigzag(valor.getTotal()));
+        }
+
+        @Override
+        public CalculoEmpresarialDTO leer(ByteBuffer origen) {
+            leerCabecera(origen, TIPO_CALCULO_EMPRESARIAL);
+            int escala = origen.get();
+            return new CalculoEmpresarialDTO(escala,
+                dezigzag(leerVarint(origen)), dezigzag(leerVarint(origen)), dezigzag(leerVarint(origen)),
+                dezigzag(leerVarint(origen)), dezigzag(leerVarint(origen)), dezigzag(leerVarint(origen)),
+                dezigzag(leerVarint(origen)));
+        }
+    }
+
+    private static final class CodecError implements CodecDTO<ErrorResponseDTO> {
+
+        @Override
+        public int tamanio(ErrorResponseDTO valor) {
+            int tamanio = 2 + 2 + 8 + tamanioTexto(valor.getCodigo()) + tamanioTexto(valor.getMensaje())
+                + tamanioVarint(valor.getDetalles().size());
+            for (String detalle : valor.getDetalles()) {
+                tamanio += tamanioTexto(detalle);
+            }
+            return tamanio;
+        }
+
+        @Override
+        public void escribir(ErrorResponseDTO valor, ByteBuffer destino) {
+            escribirCabecera(destino, TIPO_ERROR_RESPUESTA);
+            escribirEstado(destino, valor.getEstado());
+            escribirLong(destino, valor.getTimestamp());
+            escribirTexto(destino, valor.getCodigo());
+            escribirTexto(destino, valor.getMensaje());
+            escribirVarint(destino, valor.getDetalles().size());
+            for (String detalle : valor.getDetalles()) {
+                escribirTexto(destino, detalle);
+            }
+        }
+
+        @Override
+        public ErrorResponseDTO leer(ByteBuffer origen) {
+            leerCabecera(origen, TIPO_ERROR_RESPUESTA);
+            int estado = leerEstado(origen);
+            long timestamp = leerLong(origen);
+            String codigo = leerTexto(origen);
+            String mensaje = leerTexto(origen);
+            int cantidad = leerLongitud(origen);
+            List<String> detalles = Collections.emptyList();
+            if (cantidad > 0) {
+                detalles = new ArrayList<>(cantidad);
+                for (int i = 0; i < cantidad; i++) {
+                    detalles.add(leerTexto(origen));
+                }
+            }
+            return new ErrorResponseDTO(estado, codigo, mensaje, detalles, timestamp);
+        }
+    }
+
+    private static final class CodecRespuesta<T> implements CodecDTO<RespuestaExitosaDTO<T>> {
+
+        private final CodecDTO<T> datos;
+
+        CodecRespuesta(CodecDTO<T> datos) {
+            this.datos = datos;
+        }
+
+        @Override
+        public int tamanio(RespuestaExitosaDTO<T> valor) {
+            T contenido = valor.getDatos();
+            return 2 + 2 + 8 + tamanioTexto(valor.getMensaje()) + 1 + (contenido == null ? 0 : datos.tamanio(contenido));
+        }
+
+        @Override
+        public void escribir(RespuestaExitosaDTO<T> valor, ByteBuffer destino) {
+            escribirCabecera(destino, TIPO_RESPUESTA_EXITOSA);
+            escribirEstado(destino, valor.getEstado());
+            escribirLong(destino, valor.getTimestamp());
+            escribirTexto(destino, valor.getMensaje());
+            T contenido = valor.getDatos();
+            destino.put((byte) (contenido == null ? 0 : 1));
+            if (contenido != null) {
+                datos.escribir(contenido, destino);
+            }
+        }
+
+        @Override
+        public RespuestaExitosaDTO<T> leer(ByteBuffer origen) {
+            leerCabecera(origen, TIPO_RESPUESTA_EXITOSA);
+            int estado = leerEstado(origen);
+            long timestamp = leerLong(origen);
+            String mensaje = leerTexto(origen);
+            T contenido = origen.get() == 0 ? null : datos.leer(origen);
+            return new RespuestaExitosaDTO<>(estado, mensaje, contenido, timestamp);
+        }
+    }
+
+    // Primitivas
+
+    static void escribirCabecera(ByteBuffer destino, byte tipo) {
+        destino.put(tipo);
+        destino.put((byte) VERSION);
+    }
+
+    static void leerCabecera(ByteBuffer origen, byte tipo) {
+        byte leido = origen.get();
+        int version = origen.get() & 0xFF;
+        if (leido != tipo) {
+            throw new IllegalArgumentException("Tipo de mensaje " + leido + ", se esperaba " + tipo);
+        }
+        if (version == 0 || version > VERSION) {
+            throw new IllegalArgumentException("Versión de formato no soportada: " + version);
+        }
+    }
+
+    private static void escribirEstado(ByteBuffer destino, int estado) {
+        if (estado < 0 || estado > 0xFFFF) {
+            throw new IllegalArgumentException("Estado fuera de rango: " + estado);
+        }
+        destino.putShort(destino.order() == ByteOrder.BIG_ENDIAN ? (short) estado
+            : Short.reverseBytes((short) estado));
+    }
+
+    private static int leerEstado(ByteBuffer origen) {
+        short estado = origen.getShort();
+        return (origen.order() == ByteOrder.BIG_ENDIAN ? estado : Short.reverseBytes(estado)) & 0xFFFF;
+    }
+
+    private static void escribirLong(ByteBuffer destino, long valor) {
+        destino.putLong(destino.order() == ByteOrder.BIG_ENDIAN ? valor : Long.reverseBytes(valor));
+    }
+
+    private static long leerLong(ByteBuffer origen) {
+        long valor = origen.getLong();
+        return origen.order() == ByteOrder.BIG_ENDIAN ? valor : Long.reverseBytes(valor);
+    }
+
+    static long zigzag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    static long dezigzag(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    static int tamanioVarint(long valor) {
+        // 7 bits por byte; 0 ocupa un byte
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(valor) + 6) / 7);
+    }
+
+    static void escribirVarint(ByteBuffer destino, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    static long leerVarint(ByteBuffer origen) {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+            byte b = origen.get();
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint de más de 10 bytes");
+    }
+
+    private static int leerLongitud(ByteBuffer origen) {
+        long longitud = leerVarint(origen);
+        if (longitud < 0 || longitud > origen.remaining()) {
+            throw new IllegalArgumentException("Longitud fuera del mensaje: " + longitud);
+        }
+        return (int) longitud;
+    }
+
+    static int tamanioTexto(String texto) {
+        if (texto == null) {
+            return 1;
+        }
+        int bytes = longitudUtf8(texto);
+        return tamanioVarint(bytes + 1L) + bytes;
+    }
+
+    /**
+     * Escribe el texto en UTF-8 directamente en el buffer, sin arreglo intermedio.
+     */
+    static void escribirTexto(ByteBuffer destino, String texto) {
+        if (texto == null) {
+            destino.put((byte) 0);
+            return;
+        }
+        escribirVarint(destino, longitudUtf8(texto) + 1L);
+        for (int i = 0, n = texto.length(); i < n; i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                destino.put((byte) c);
+            } else if (c < 0x800) {
+                destino.put((byte) (0xC0 | (c >> 6)));
+                destino.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                int punto = Character.toCodePoint(c, texto.charAt(++i));
+                destino.put((byte) (0xF0 | (punto >> 18)));
+                destino.put((byte) (0x80 | ((punto >> 12) & 0x3F)));
+                destino.put((byte) (0x80 | ((punto >> 6) & 0x3F)));
+                destino.put((byte) (0x80 | (punto & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // Sustituto aislado: se reemplaza por '?' como hace String.getBytes
+                destino.put((byte) '?');
+            } else {
+                destino.put((byte) (0xE0 | (c >> 12)));
+                destino.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                destino.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    static String leerTexto(ByteBuffer origen) {
+        long marca = leerVarint(origen);
+        if (marca == 0) {
+            return null;
+        }
+        if (marca < 0 || marca - 1 > origen.remaining()) {
+            throw new IllegalArgumentException("Longitud fuera del mensaje: " + (marca - 1));
+        }
+        int longitud = (int) (marca - 1);
+        String texto;
+        if (origen.hasArray()) {
+            texto = new String(origen.array(), origen.arrayOffset() + origen.position(), longitud, StandardCharsets.UTF_8);
+            origen.position(origen.position() + longitud);
+        } else {
+            byte[] bytes = new byte[longitud];
+            origen.get(bytes);
+            texto = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return texto;
+    }
+
+    private static int longitudUtf8(String texto) {
+        int bytes = 0;
+        for (int i = 0, n = texto.length(); i < n; i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,32 @@
+package com.logistica.componentec.dto;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codificación binaria de un DTO sobre {@link ByteBuffer}. Las implementaciones de
+ * {@link CodecBinario} escriben y leen directamente del buffer, sin objetos intermedios.
+ *
+ * @param <T> Tipo del DTO
+ */
+public interface CodecDTO<T> {
+
+    /**
+     * Tamaño exacto en bytes de la codificación del valor.
+     */
+    int tamanio(T valor);
+
+    /**
+     * Escribe el valor a partir de la posición actual del destino y la avanza.
+     *
+     * @throws java.nio.BufferOverflowException si no quedan {@link #tamanio(Object)} bytes
+     */
+    void escribir(T valor, ByteBuffer destino);
+
+    /**
+     * Lee un valor a partir de la posición actual del origen y la avanza.
+     *
+     * @throws IllegalArgumentException si los bytes no corresponden a este tipo o versión
+     * @throws java.nio.BufferUnderflowException si el origen está truncado
+     */
+    T leer(ByteBuffer origen);
+}
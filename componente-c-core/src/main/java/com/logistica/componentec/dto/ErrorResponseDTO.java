@@ -0,0 +1,64 @@
+package com.logistica.componentec.dto;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Respuesta de error estándar compartida por los Componentes A y B.
+ * Inmutable: los detalles se copian al construir.
+ */
+public final class ErrorResponseDTO {
+
+    private final int estado;
+    private final String codigo;
+    private final String mensaje;
+    private final List<String> detalles;
+    private final long timestamp;
+
+    /**
+     * @param estado Código de estado HTTP (ej: 400)
+     * @param codigo Código de error estructurado (ej: SOLICITUD_INVALIDA)
+     * @param mensaje Mensaje legible del error
+     * @param detalles Detalles adicionales (ej: un elemento por campo inválido)
+     * @param timestamp Instante del error en milisegundos desde la época Unix
+     */
+    public ErrorResponseDTO(int estado, String codigo, String mensaje, List<String> detalles, long timestamp) {
+        this.estado = estado;
+        this.codigo = codigo;
+        this.mensaje = mensaje;
+        this.detalles = detalles == null || detalles.isEmpty() ? Collections.emptyList() : List.copyOf(detalles);
+        this.timestamp = timestamp;
+    }
+
+    public ErrorResponseDTO(int estado, String codigo, String mensaje) {
+        this(estado, codigo, mensaje, Collections.emptyList(), System.currentTimeMillis());
+    }
+
+    // Getters
+    public int getEstado() { return estado; }
+    public String getCodigo() { return codigo; }
+    public String getMensaje() { return mensaje; }
+    public List<String> getDetalles() { return detalles; }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ErrorResponseDTO)) return false;
+        ErrorResponseDTO otro = (ErrorResponseDTO) o;
+        return estado == otro.estado && timestamp == otro.timestamp && Objects.equals(codigo, otro.codigo)
+            && Objects.equals(mensaje, otro.mensaje) && detalles.equals(otro.detalles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(estado, codigo, mensaje, detalles, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorResponseDTO{estado=" + estado + ", codigo='" + codigo + "', mensaje='" + mensaje
+            + "', detalles=" + detalles + ", timestamp=" + timestamp + "}";
+    }
+}
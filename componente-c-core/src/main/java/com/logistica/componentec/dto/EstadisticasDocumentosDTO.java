@@ -0,0 +1,52 @@
+package com.logistica.componentec.dto;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estadísticas de documentos publicadas por el Componente B.
+ */
+public class EstadisticasDocumentosDTO {
+
+    private long totalDocumentos;
+    private long documentosPendientes;
+    private long documentosAprobados;
+    private Map<String, Long> documentosPorTipo;
+
+    public EstadisticasDocumentosDTO() {
+    }
+
+    // Getters y setters
+    public long getTotalDocumentos() { return totalDocumentos; }
+    public void setTotalDocumentos(long totalDocumentos) { this.totalDocumentos = totalDocumentos; }
+
+    public long getDocumentosPendientes() { return documentosPendientes; }
+    public void setDocumentosPendientes(long documentosPendientes) { this.documentosPendientes = documentosPendientes; }
+
+    public long getDocumentosAprobados() { return documentosAprobados; }
+    public void setDocumentosAprobados(long documentosAprobados) { this.documentosAprobados = documentosAprobados; }
+
+    public Map<String, Long> getDocumentosPorTipo() { return documentosPorTipo; }
+    public void setDocumentosPorTipo(Map<String, Long> documentosPorTipo) { this.documentosPorTipo = documentosPorTipo; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EstadisticasDocumentosDTO)) return false;
+        EstadisticasDocumentosDTO otro = (EstadisticasDocumentosDTO) o;
+        return totalDocumentos == otro.totalDocumentos && documentosPendientes == otro.documentosPendientes
+            && documentosAprobados == otro.documentosAprobados && Objects.equals(documentosPorTipo, otro.documentosPorTipo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalDocumentos, documentosPendientes, documentosAprobados, documentosPorTipo);
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticasDocumentosDTO{totalDocumentos=" + totalDocumentos + ", documentosPendientes="
+            + documentosPendientes + ", documentosAprobados=" + documentosAprobados
+            + ", documentosPorTipo=" + documentosPorTipo + "}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.logistica.componentec.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estadísticas de proyectos publicadas por el Componente A (Operaciones).
+ */
+public class EstadisticasProyectosDTO {
+
+    private long totalProyectos;
+    private long proyectosActivos;
+    private long proyectosCompletados;
+    private BigDecimal montoTotal;
+    private Map<String, Long> proyectosPorEstado;
+
+    public EstadisticasProyectosDTO() {
+    }
+
+    // Getters y setters
+    public long getTotalProyectos() { return totalProyectos; }
+    public void setTotalProyectos(long totalProyectos) { this.totalProyectos = totalProyectos; }
+
+    public long getProyectosActivos() { return proyectosActivos; }
+    public void setProyectosActivos(long proyectosActivos) { this.proyectosActivos = proyectosActivos; }
+
+    public long getProyectosCompletados() { return proyectosCompletados; }
+    public void setProyectosCompletados(long proyectosCompletados) { this.proyectosCompletados = proyectosCompletados; }
+
+    public BigDecimal getMontoTotal() { return montoTotal; }
+    public void setMontoTotal(BigDecimal montoTotal) { this.montoTotal = montoTotal; }
+
+    public Map<String, Long> getProyectosPorEstado() { return proyectosPorEstado; }
+    public void setProyectosPorEstado(Map<String, Long> proyectosPorEstado) { this.proyectosPorEstado = proyectosPorEstado; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EstadisticasProyectosDTO)) return false;
+        EstadisticasProyectosDTO otro = (EstadisticasProyectosDTO) o;
+        return totalProyectos == otro.totalProyectos && proyectosActivos == otro.proyectosActivos
+            && proyectosCompletados == otro.proyectosCompletados && Objects.equals(montoTotal, otro.montoTotal)
+            && Objects.equals(proyectosPorEstado, otro.proyectosPorEstado);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalProyectos, proyectosActivos, proyectosCompletados, montoTotal, proyectosPorEstado);
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticasProyectosDTO{totalProyectos=" + totalProyectos + ", proyectosActivos=" + proyectosActivos
+            + ", proyectosCompletados=" + proyectosCompletados + ", montoTotal=" + montoTotal
+            + ", proyectosPorEstado=" + proyectosPorEstado + "}";
+    }
+}
@@ -0,0 +1,60 @@
+package com.logistica.componentec.dto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Proyecto publicado por el Componente A (Operaciones).
+ */
+public class ProyectoDTO {
+
+    private Long id;
+    private String codigo;
+    private String nombre;
+    private String descripcion;
+    private String estado;
+    private BigDecimal montoPresupuesto;
+
+    public ProyectoDTO() {
+    }
+
+    // Getters y setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getCodigo() { return codigo; }
+    public void setCodigo(String codigo) { this.codigo = codigo; }
+
+    public String getNombre() { return nombre; }
+    public void setNombre(String nombre) { this.nombre = nombre; }
+
+    public String getDescripcion() { return descripcion; }
+    public void setDescripcion(String descripcion) { this.descripcion = descripcion; }
+
+    public String getEstado() { return estado; }
+    public void setEstado(String estado) { this.estado = estado; }
+
+    public BigDecimal getMontoPresupuesto() { return montoPresupuesto; }
+    public void setMontoPresupuesto(BigDecimal montoPresupuesto) { this.montoPresupuesto = montoPresupuesto; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProyectoDTO)) return false;
+        ProyectoDTO otro = (ProyectoDTO) o;
+        return Objects.equals(id, otro.id) && Objects.equals(codigo, otro.codigo) && Objects.equals(nombre, otro.nombre)
+            && Objects.equals(descripcion, otro.descripcion) && Objects.equals(estado, otro.estado)
+            && Objects.equals(montoPresupuesto, otro.montoPresupuesto);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, codigo, nombre, descripcion, estado, montoPresupuesto);
+    }
+
+    @Override
+    public String toString() {
+        return "ProyectoDTO{id=" + id + ", codigo='" + codigo + "', nombre='" + nombre + "', estado='" + estado
+            + "', montoPresupuesto=" + montoPresupuesto + "}";
+    }
+}
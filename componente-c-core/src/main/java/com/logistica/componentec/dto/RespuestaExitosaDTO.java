@@ -0,0 +1,66 @@
+package com.logistica.componentec.dto;
+
+import java.util.Objects;
+
+/**
+ * Respuesta exitosa estándar compartida por los Componentes A y B, contraparte de
+ * {@link ErrorResponseDTO}. Inmutable si los datos lo son.
+ *
+ * @param <T> Tipo de los datos de la respuesta
+ */
+public final class RespuestaExitosaDTO<T> {
+
+    private final int estado;
+    private final String mensaje;
+    private final T datos;
+    private final long timestamp;
+
+    /**
+     * @param estado Código de estado HTTP (ej: 200)
+     * @param mensaje Mensaje legible, puede ser null
+     * @param datos Datos de la respuesta, pueden ser null
+     * @param timestamp Instante de la respuesta en milisegundos desde la época Unix
+     */
+    public RespuestaExitosaDTO(int estado, String mensaje, T datos, long timestamp) {
+        if (estado < 200 || estado > 299) {
+            throw new IllegalArgumentException("Una respuesta exitosa requiere un estado 2xx: " + estado);
+        }
+        this.estado = estado;
+        this.mensaje = mensaje;
+        this.datos = datos;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Respuesta 200 con los datos indicados y el instante actual.
+     */
+    public static <T> RespuestaExitosaDTO<T> ok(T datos) {
+        return new RespuestaExitosaDTO<>(200, null, datos, System.currentTimeMillis());
+    }
+
+    // Getters
+    public int getEstado() { return estado; }
+    public String getMensaje() { return mensaje; }
+    public T getDatos() { return datos; }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RespuestaExitosaDTO)) return false;
+        RespuestaExitosaDTO<?> otro = (RespuestaExitosaDTO<?>) o;
+        return estado == otro.estado && timestamp == otro.timestamp && Objects.equals(mensaje, otro.mensaje)
+            && Objects.equals(datos, otro.datos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(estado, mensaje, datos, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "RespuestaExitosaDTO{estado=" + estado + ", mensaje='" + mensaje + "', datos=" + datos
+            + ", timestamp=" + timestamp + "}";
+    }
+}
@@ -0,0 +1,31 @@
+package com.logistica.componentec.exception;
+
+/**
+ * Operación que viola una regla de negocio o el estado actual de un recurso (HTTP 409).
+ */
+public class ConflictoNegocioException extends LogisticaException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int ESTADO = 409;
+    public static final String CODIGO = "CONFLICTO_NEGOCIO";
+
+    public ConflictoNegocioException(String mensaje) {
+        super(ESTADO, CODIGO, mensaje, null, conTrazaPredeterminada());
+    }
+
+    public ConflictoNegocioException(String mensaje, Throwable causa) {
+        super(ESTADO, CODIGO, mensaje, causa, conTrazaPredeterminada());
+    }
+
+    private ConflictoNegocioException(String mensaje, boolean conTraza) {
+        super(ESTADO, CODIGO, mensaje, null, conTraza);
+    }
+
+    /**
+     * Crea la excepción sin traza de pila.
+     */
+    public static ConflictoNegocioException sinTraza(String mensaje) {
+        return new ConflictoNegocioException(mensaje, false);
+    }
+}
@@ -0,0 +1,104 @@
+package com.logistica.componentec.exception;
+
+import com.logistica.componentec.dto.ErrorResponseDTO;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Excepción base de los componentes de logística. Lleva un código de error estructurado y el
+ * estado HTTP con el que se traduce a {@link ErrorResponseDTO}.
+ * <p>
+ * El mensaje se construye la primera vez que se pide (ver {@link #construirMensaje()}) y la traza
+ * de pila puede omitirse: globalmente con {@link #configurarTrazas(boolean)} o la propiedad de
+ * sistema {@value #PROPIEDAD_TRAZAS}, o por instancia con las fábricas {@code sinTraza} de cada
+ * subclase. Una excepción sin traza no invoca {@code fillInStackTrace}, que es la parte más
+ * costosa de crearla en rutas que rechazan datos con frecuencia.
+ */
+public class LogisticaException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Propiedad de sistema que desactiva las trazas de pila con el valor {@code false}. */
+    public static final String PROPIEDAD_TRAZAS = "componentec.excepciones.trazas";
+
+    private static volatile boolean trazasHabilitadas =
+        !"false".equalsIgnoreCase(System.getProperty(PROPIEDAD_TRAZAS));
+
+    private final int estado;
+    private final String codigo;
+    private String mensaje;
+
+    public LogisticaException(int estado, String codigo, String mensaje) {
+        this(estado, codigo, mensaje, null, trazasHabilitadas);
+    }
+
+    public LogisticaException(int estado, String codigo, String mensaje, Throwable causa) {
+        this(estado, codigo, mensaje, causa, trazasHabilitadas);
+    }
+
+    /**
+     * @param estado Código de estado HTTP
+     * @param codigo Código de error estructurado
+     * @param mensaje Mensaje, o null si la subclase lo construye en {@link #construirMensaje()}
+     * @param causa Causa original, puede ser null
+     * @param conTraza false para no capturar la traza de pila ni registrar excepciones suprimidas
+     */
+    protected LogisticaException(int estado, String codigo, String mensaje, Throwable causa, boolean conTraza) {
+        super(null, causa, conTraza, conTraza);
+        this.estado = estado;
+        this.codigo = codigo;
+        this.mensaje = mensaje;
+    }
+
+    /**
+     * Activa o desactiva la captura de trazas de pila para las excepciones creadas a partir de ahora.
+     */
+    public static void configurarTrazas(boolean habilitadas) {
+        trazasHabilitadas = habilitadas;
+    }
+
+    public static boolean trazasHabilitadas() {
+        return trazasHabilitadas;
+    }
+
+    protected static boolean conTrazaPredeterminada() {
+        return trazasHabilitadas;
+    }
+
+    public int getEstado() { return estado; }
+    public String getCodigo() { return codigo; }
+
+    /**
+     * Detalles adicionales para {@link ErrorResponseDTO}. Por defecto no hay detalles.
+     */
+    public List<String> getDetalles() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getMessage() {
+        String actual = mensaje;
+        if (actual == null) {
+            // Carrera benigna: dos hilos construirían el mismo texto
+            actual = construirMensaje();
+            mensaje = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * Construye el mensaje cuando no se dio uno explícito. Se llama como máximo una vez por hilo
+     * que lea el mensaje, nunca al crear la excepción.
+     */
+    protected String construirMensaje() {
+        return codigo;
+    }
+
+    /**
+     * Convierte la excepción a la respuesta de error estándar.
+     */
+    public ErrorResponseDTO aErrorResponse() {
+        return new ErrorResponseDTO(estado, codigo, getMessage(), getDetalles(), System.currentTimeMillis());
+    }
+}
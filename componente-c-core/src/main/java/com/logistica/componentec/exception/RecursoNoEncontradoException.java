@@ -0,0 +1,50 @@
+package com.logistica.componentec.exception;
+
+/**
+ * Recurso inexistente (HTTP 404).
+ */
+public class RecursoNoEncontradoException extends LogisticaException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int ESTADO = 404;
+    public static final String CODIGO = "RECURSO_NO_ENCONTRADO";
+
+    private final String recurso;
+    private final transient Object id;
+
+    public RecursoNoEncontradoException(String mensaje) {
+        super(ESTADO, CODIGO, mensaje, null, conTrazaPredeterminada());
+        this.recurso = null;
+        this.id = null;
+    }
+
+    /**
+     * @param recurso Tipo de recurso (ej: Proyecto)
+     * @param id Identificador buscado
+     */
+    public RecursoNoEncontradoException(String recurso, Object id) {
+        this(recurso, id, conTrazaPredeterminada());
+    }
+
+    private RecursoNoEncontradoException(String recurso, Object id, boolean conTraza) {
+        super(ESTADO, CODIGO, null, null, conTraza);
+        this.recurso = recurso;
+        this.id = id;
+    }
+
+    /**
+     * Crea la excepción sin traza de pila.
+     */
+    public static RecursoNoEncontradoException sinTraza(String recurso, Object id) {
+        return new RecursoNoEncontradoException(recurso, id, false);
+    }
+
+    public String getRecurso() { return recurso; }
+    public Object getId() { return id; }
+
+    @Override
+    protected String construirMensaje() {
+        return recurso + " con ID " + id + " no encontrado";
+    }
+}
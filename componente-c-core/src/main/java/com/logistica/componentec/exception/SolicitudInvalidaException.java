@@ -0,0 +1,64 @@
+package com.logistica.componentec.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Datos de entrada inválidos (HTTP 400).
+ * Cuando se crea con campo, valor y motivo, el mensaje se arma solo si alguien lo lee.
+ */
+public class SolicitudInvalidaException extends LogisticaException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int ESTADO = 400;
+    public static final String CODIGO = "SOLICITUD_INVALIDA";
+
+    private final String campo;
+    private final transient Object valor;
+    private final String motivo;
+
+    public SolicitudInvalidaException(String mensaje) {
+        super(ESTADO, CODIGO, mensaje, null, conTrazaPredeterminada());
+        this.campo = null;
+        this.valor = null;
+        this.motivo = null;
+    }
+
+    /**
+     * @param campo Nombre del campo inválido
+     * @param valor Valor recibido; se convierte a texto solo al construir el mensaje
+     * @param motivo Motivo del rechazo
+     */
+    public SolicitudInvalidaException(String campo, Object valor, String motivo) {
+        this(campo, valor, motivo, conTrazaPredeterminada());
+    }
+
+    private SolicitudInvalidaException(String campo, Object valor, String motivo, boolean conTraza) {
+        super(ESTADO, CODIGO, null, null, conTraza);
+        this.campo = campo;
+        this.valor = valor;
+        this.motivo = motivo;
+    }
+
+    /**
+     * Crea la excepción sin traza de pila, para rutas de validación frecuentes.
+     */
+    public static SolicitudInvalidaException sinTraza(String campo, Object valor, String motivo) {
+        return new SolicitudInvalidaException(campo, valor, motivo, false);
+    }
+
+    public String getCampo() { return campo; }
+    public Object getValor() { return valor; }
+    public String getMotivo() { return motivo; }
+
+    @Override
+    public List<String> getDetalles() {
+        return campo == null ? Collections.emptyList() : List.of(campo + ": " + motivo);
+    }
+
+    @Override
+    protected String construirMensaje() {
+        return "Campo '" + campo + "' inválido (valor: " + valor + "): " + motivo;
+    }
+}
@@ -0,0 +1,35 @@
+package com.logistica.componentec.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monótono sin bloqueo. Con las métricas desactivadas no registra nada.
+ */
+public final class Contador {
+
+    private final LongAdder valor = new LongAdder();
+
+    Contador() {
+    }
+
+    public void incrementar() {
+        if (RegistroMetricas.activas()) {
+            valor.increment();
+        }
+    }
+
+    public void sumar(long cantidad) {
+        if (RegistroMetricas.activas()) {
+            valor.add(cantidad);
+        }
+    }
+
+    public long getValor() {
+        return valor.sum();
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(getValor());
+    }
+}
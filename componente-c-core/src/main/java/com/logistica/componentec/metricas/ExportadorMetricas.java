@@ -0,0 +1,13 @@
+package com.logistica.componentec.metricas;
+
+import java.io.IOException;
+
+/**
+ * Destino de las métricas (registro, Prometheus, StatsD, etc.). Ver
+ * {@link RegistroMetricas#exportarPeriodicamente(ExportadorMetricas, java.time.Duration)}.
+ */
+@FunctionalInterface
+public interface ExportadorMetricas {
+
+    void exportar(InstantaneaMetricas instantanea) throws IOException;
+}
@@ -0,0 +1,82 @@
+package com.logistica.componentec.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de cubetas fijas con escala logarítmica, al estilo HDR: cada potencia de dos se
+ * divide en {@value #SUBCUBETAS} cubetas lineales, con un error relativo máximo del 12,5 %.
+ * Cubre valores de 0 a 2^{@value #EXPONENTE_MAXIMO} (unas 4,9 horas si se registran nanosegundos).
+ * <p>
+ * Registrar un valor es un cálculo de índice con operaciones de bits y un incremento atómico;
+ * no asigna memoria ni toma bloqueos.
+ */
+public final class Histograma {
+
+    private static final int BITS_SUBCUBETA = 3;
+    static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    static final int EXPONENTE_MAXIMO = 44;
+    static final int CUBETAS = (EXPONENTE_MAXIMO - BITS_SUBCUBETA + 2) * SUBCUBETAS;
+
+    private final AtomicLongArray cubetas = new AtomicLongArray(CUBETAS);
+    private final LongAdder suma = new LongAdder();
+    private final AtomicLong maximo = new AtomicLong();
+
+    Histograma() {
+    }
+
+    /**
+     * Registra un valor; los negativos cuentan como cero.
+     */
+    public void registrar(long valor) {
+        if (!RegistroMetricas.activas()) {
+            return;
+        }
+        long positivo = Math.max(0, valor);
+        cubetas.getAndIncrement(indice(positivo));
+        suma.add(positivo);
+        if (positivo > maximo.get()) {
+            maximo.accumulateAndGet(positivo, Math::max);
+        }
+    }
+
+    /**
+     * Copia los conteos actuales. Con registros concurrentes la copia puede no ser exacta
+     * entre cubetas, suma y máximo, pero cada cubeta es consistente.
+     */
+    public InstantaneaHistograma instantanea() {
+        long[] conteos = new long[CUBETAS];
+        for (int i = 0; i < CUBETAS; i++) {
+            conteos[i] = cubetas.get(i);
+        }
+        return new InstantaneaHistograma(conteos, suma.sum(), maximo.get());
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        if (exponente > EXPONENTE_MAXIMO) {
+            return CUBETAS - 1;
+        }
+        int subcubeta = (int) (valor >>> (exponente - BITS_SUBCUBETA)) & (SUBCUBETAS - 1);
+        return (exponente - BITS_SUBCUBETA + 1) * SUBCUBETAS + subcubeta;
+    }
+
+    /** Menor valor que cae en la cubeta. */
+    static long limiteInferior(int indice) {
+        if (indice < SUBCUBETAS) {
+            return indice;
+        }
+        int exponente = indice / SUBCUBETAS + BITS_SUBCUBETA - 1;
+        long subcubeta = indice % SUBCUBETAS;
+        return (SUBCUBETAS + subcubeta) << (exponente - BITS_SUBCUBETA);
+    }
+
+    /** Mayor valor que cae en la cubeta. */
+    static long limiteSuperior(int indice) {
+        return indice == CUBETAS - 1 ? Long.MAX_VALUE : limiteInferior(indice + 1) - 1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.logistica.componentec.metricas;
+
+/**
+ * Copia inmutable de un {@link Histograma}.
+ */
+public final class InstantaneaHistograma {
+
+    private final long[] conteos;
+    private final long cantidad;
+    private final long suma;
+    private final long maximo;
+
+    InstantaneaHistograma(long[] conteos, long suma, long maximo) {
+        long total = 0;
+        for (long conteo : conteos) {
+            total += conteo;
+        }
+        this.conteos = conteos;
+        this.cantidad = total;
+        this.suma = suma;
+        this.maximo = maximo;
+    }
+
+    public long getCantidad() { return cantidad; }
+    public long getSuma() { return suma; }
+    public long getMaximo() { return maximo; }
+
+    public double getMedia() {
+        return cantidad == 0 ? 0 : (double) suma / cantidad;
+    }
+
+    /**
+     * Obtiene el percentil indicado como el límite superior de su cubeta (sin pasar del máximo
+     * registrado), es decir, redondeado hacia arriba.
+     *
+     * @param percentil Valor entre 0 y 1, por ejemplo 0.99
+     * @return Valor del percentil, o 0 si el histograma está vacío
+     */
+    public long percentil(double percentil) {
+        if (percentil < 0 || percentil > 1) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 1");
+        }
+        if (cantidad == 0) {
+            return 0;
+        }
+        long posicion = Math.max(1, (long) Math.ceil(percentil * cantidad));
+        long acumulado = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            acumulado += conteos[i];
+            if (acumulado >= posicion) {
+                return Math.min(Histograma.limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    @Override
+    public String toString() {
+        return "InstantaneaHistograma{cantidad=" + cantidad + ", p50=" + percentil(0.5) + ", p95=" + percentil(0.95)
+            + ", p99=" + percentil(0.99) + ", maximo=" + maximo + "}";
+    }
+}
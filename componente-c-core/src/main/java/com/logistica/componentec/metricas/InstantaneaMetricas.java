@@ -0,0 +1,30 @@
+package com.logistica.componentec.metricas;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Copia de todas las métricas de un registro, con nombres ordenados alfabéticamente.
+ */
+public final class InstantaneaMetricas {
+
+    private final long timestamp;
+    private final Map<String, Long> contadores;
+    private final Map<String, InstantaneaHistograma> histogramas;
+
+    InstantaneaMetricas(long timestamp, Map<String, Long> contadores, Map<String, InstantaneaHistograma> histogramas) {
+        this.timestamp = timestamp;
+        this.contadores = Collections.unmodifiableMap(contadores);
+        this.histogramas = Collections.unmodifiableMap(histogramas);
+    }
+
+    public long getTimestamp() { return timestamp; }
+    public Map<String, Long> getContadores() { return contadores; }
+    public Map<String, InstantaneaHistograma> getHistogramas() { return histogramas; }
+
+    @Override
+    public String toString() {
+        return "InstantaneaMetricas{timestamp=" + timestamp + ", contadores=" + contadores
+            + ", histogramas=" + histogramas + "}";
+    }
+}
@@ -0,0 +1,62 @@
+package com.logistica.componentec.metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Métricas de un endpoint remoto: respuestas por código de estado, errores de E/S, bytes
+ * enviados y recibidos, y latencia en nanosegundos.
+ */
+public final class MetricasEndpoint {
+
+    private static final int CODIGOS = 600;
+
+    private final AtomicLongArray respuestas = new AtomicLongArray(CODIGOS);
+    private final Contador errores = new Contador();
+    private final Contador bytesEnviados = new Contador();
+    private final Contador bytesRecibidos = new Contador();
+    private final Histograma latencia = new Histograma();
+
+    MetricasEndpoint() {
+    }
+
+    /**
+     * @param codigo Código de estado HTTP
+     * @param bytes Longitud declarada del cuerpo, o negativa si se desconoce
+     */
+    public void registrarRespuesta(int codigo, long bytes) {
+        if (!RegistroMetricas.activas()) {
+            return;
+        }
+        respuestas.getAndIncrement(codigo >= 0 && codigo < CODIGOS ? codigo : 0);
+        if (bytes > 0) {
+            bytesRecibidos.sumar(bytes);
+        }
+    }
+
+    /** Llamada que falló sin una respuesta utilizable (red, tiempo agotado, cuerpo inválido). */
+    public void registrarError() {
+        errores.incrementar();
+    }
+
+    public void registrarEnvio(long bytes) {
+        if (bytes > 0) {
+            bytesEnviados.sumar(bytes);
+        }
+    }
+
+    public void registrarLatencia(long nanos) {
+        latencia.registrar(nanos);
+    }
+
+    /** Respuestas con el código indicado (0 agrupa los códigos fuera de rango). */
+    public long getRespuestas(int codigo) {
+        return codigo >= 0 && codigo < CODIGOS ? respuestas.get(codigo) : 0;
+    }
+
+    public long getErrores() { return errores.getValor(); }
+    public long getBytesEnviados() { return bytesEnviados.getValor(); }
+    public long getBytesRecibidos() { return bytesRecibidos.getValor(); }
+    public InstantaneaHistograma getLatencia() { return latencia.instantanea(); }
+
+    int codigos() { return CODIGOS; }
+}
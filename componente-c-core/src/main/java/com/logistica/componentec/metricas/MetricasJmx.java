@@ -0,0 +1,44 @@
+package com.logistica.componentec.metricas;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementación de {@link MetricasMXBean}; cada lectura toma una instantánea nueva.
+ */
+final class MetricasJmx implements MetricasMXBean {
+
+    private final RegistroMetricas registro;
+
+    MetricasJmx(RegistroMetricas registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    public Map<String, Long> getContadores() {
+        return registro.instantanea().getContadores();
+    }
+
+    @Override
+    public Map<String, Long> getPercentiles() {
+        Map<String, Long> percentiles = new TreeMap<>();
+        registro.instantanea().getHistogramas().forEach((nombre, histograma) -> {
+            percentiles.put(nombre + ".cantidad", histograma.getCantidad());
+            percentiles.put(nombre + ".p50", histograma.percentil(0.50));
+            percentiles.put(nombre + ".p95", histograma.percentil(0.95));
+            percentiles.put(nombre + ".p99", histograma.percentil(0.99));
+            percentiles.put(nombre + ".maximo", histograma.getMaximo());
+        });
+        return percentiles;
+    }
+
+    @Override
+    public boolean isActivas() {
+        return RegistroMetricas.activas();
+    }
+
+    @Override
+    public void setActivas(boolean activas) {
+        RegistroMetricas.configurar(activas);
+    }
+}
@@ -0,0 +1,19 @@
+package com.logistica.componentec.metricas;
+
+import java.util.Map;
+
+/**
+ * Vista JMX de un {@link RegistroMetricas}; ver {@link RegistroMetricas#registrarMBean(String)}.
+ */
+public interface MetricasMXBean {
+
+    /** Valor de cada contador. */
+    Map<String, Long> getContadores();
+
+    /** Cantidad, p50, p95, p99 y máximo de cada histograma, como {@code nombre.p99}. */
+    Map<String, Long> getPercentiles();
+
+    boolean isActivas();
+
+    void setActivas(boolean activas);
+}
@@ -0,0 +1,172 @@
+package com.logistica.componentec.metricas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registro de métricas con nombre. Las métricas se crean una vez (normalmente en un campo
+ * estático o en el constructor del componente) y se registran después sin asignar memoria
+ * ni tomar bloqueos: contadores {@link java.util.concurrent.atomic.LongAdder} e histogramas de
+ * cubetas fijas.
+ * <p>
+ * Las métricas de la librería (cliente de integración, cálculo por lotes y validación) usan
+ * {@link #PREDETERMINADO}. Todas pueden desactivarse globalmente con {@link #configurar(boolean)}
+ * o la propiedad de sistema {@value #PROPIEDAD_METRICAS}; desactivadas, registrar es una lectura
+ * volátil.
+ */
+public final class RegistroMetricas {
+
+    /** Propiedad de sistema que desactiva las métricas con el valor {@code false}. */
+    public static final String PROPIEDAD_METRICAS = "componentec.metricas";
+
+    /** Dominio JMX de los MBeans registrados con {@link #registrarMBean(String)}. */
+    public static final String DOMINIO_JMX = "com.logistica.componentec";
+
+    private static volatile boolean activas = !"false".equalsIgnoreCase(System.getProperty(PROPIEDAD_METRICAS));
+
+    /** Registro compartido por los componentes de la librería. */
+    public static final RegistroMetricas PREDETERMINADO = new RegistroMetricas();
+
+    private final ConcurrentMap<String, Contador> contadores = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histograma> histogramas = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TemporizadorMuestreado> temporizadores = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MetricasEndpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Activa o desactiva el registro de todas las métricas a partir de ahora.
+     */
+    public static void configurar(boolean habilitadas) {
+        activas = habilitadas;
+    }
+
+    public static boolean activas() {
+        return activas;
+    }
+
+    public Contador contador(String nombre) {
+        return contadores.computeIfAbsent(validarNombre(nombre), n -> new Contador());
+    }
+
+    public Histograma histograma(String nombre) {
+        return histogramas.computeIfAbsent(validarNombre(nombre), n -> new Histograma());
+    }
+
+    /**
+     * Obtiene el temporizador con el nombre indicado, creándolo si no existe.
+     *
+     * @param periodo Se mide una de cada {@code periodo} llamadas; debe ser potencia de dos
+     *                (se ignora si el temporizador ya existe)
+     */
+    public TemporizadorMuestreado temporizador(String nombre, int periodo) {
+        if (periodo <= 0 || Integer.bitCount(periodo) != 1) {
+            throw new IllegalArgumentException("El periodo de muestreo debe ser una potencia de dos");
+        }
+        return temporizadores.computeIfAbsent(validarNombre(nombre),
+            n -> new TemporizadorMuestreado(new Contador(), new Histograma(), periodo));
+    }
+
+    public MetricasEndpoint endpoint(String nombre) {
+        return endpoints.computeIfAbsent(validarNombre(nombre), n -> new MetricasEndpoint());
+    }
+
+    /**
+     * Copia todas las métricas. Los temporizadores aportan {@code nombre.llamadas} y el
+     * histograma {@code nombre.duracion}; los endpoints, {@code nombre.respuestas.<código>},
+     * {@code nombre.errores}, {@code nombre.bytesEnviados}, {@code nombre.bytesRecibidos} y el
+     * histograma {@code nombre.latencia}.
+     */
+    public InstantaneaMetricas instantanea() {
+        Map<String, Long> valores = new TreeMap<>();
+        Map<String, InstantaneaHistograma> distribuciones = new TreeMap<>();
+        contadores.forEach((nombre, contador) -> valores.put(nombre, contador.getValor()));
+        histogramas.forEach((nombre, histograma) -> distribuciones.put(nombre, histograma.instantanea()));
+        temporizadores.forEach((nombre, temporizador) -> {
+            valores.put(nombre + ".llamadas", temporizador.getLlamadas());
+            distribuciones.put(nombre + ".duracion", temporizador.getDuracion());
+        });
+        endpoints.forEach((nombre, endpoint) -> {
+            for (int codigo = 0; codigo < endpoint.codigos(); codigo++) {
+                long respuestas = endpoint.getRespuestas(codigo);
+                if (respuestas > 0) {
+                    valores.put(nombre + ".respuestas." + codigo, respuestas);
+                }
+            }
+            valores.put(nombre + ".errores", endpoint.getErrores());
+            valores.put(nombre + ".bytesEnviados", endpoint.getBytesEnviados());
+            valores.put(nombre + ".bytesRecibidos", endpoint.getBytesRecibidos());
+            distribuciones.put(nombre + ".latencia", endpoint.getLatencia());
+        });
+        return new InstantaneaMetricas(System.currentTimeMillis(), valores, distribuciones);
+    }
+
+    /**
+     * Envía una instantánea al exportador.
+     */
+    public void exportar(ExportadorMetricas exportador) throws IOException {
+        if (exportador == null) {
+            throw new IllegalArgumentException("El exportador no puede ser null");
+        }
+        exportador.exportar(instantanea());
+    }
+
+    /**
+     * Exporta una instantánea en cada periodo desde un hilo daemon. Un error del exportador
+     * se cuenta en {@code metricas.exportaciones.fallidas} y no detiene las siguientes.
+     *
+     * @return Handle que detiene la exportación al cerrarse
+     */
+    public Closeable exportarPeriodicamente(ExportadorMetricas exportador, Duration periodo) {
+        if (exportador == null) {
+            throw new IllegalArgumentException("El exportador no puede ser null");
+        }
+        if (periodo == null || periodo.isNegative() || periodo.isZero()) {
+            throw new IllegalArgumentException("El periodo debe ser positivo");
+        }
+        Contador fallidas = contador("metricas.exportaciones.fallidas");
+        ScheduledExecutorService programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "metricas-exportador");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        programador.scheduleAtFixedRate(() -> {
+            try {
+                exportar(exportador);
+            } catch (IOException | RuntimeException e) {
+                fallidas.incrementar();
+            }
+        }, periodo.toMillis(), periodo.toMillis(), TimeUnit.MILLISECONDS);
+        return programador::shutdownNow;
+    }
+
+    /**
+     * Publica este registro como MXBean en el servidor de la plataforma con el nombre
+     * {@code com.logistica.componentec:type=Metricas,name=<nombre>}.
+     *
+     * @return Nombre con el que quedó registrado, para retirarlo con
+     *         {@code ManagementFactory.getPlatformMBeanServer().unregisterMBean(nombre)}
+     */
+    public ObjectName registrarMBean(String nombre) throws JMException {
+        ObjectName objectName = new ObjectName(DOMINIO_JMX + ":type=Metricas,name="
+            + ObjectName.quote(validarNombre(nombre)));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricasJmx(this), objectName);
+        return objectName;
+    }
+
+    private static String validarNombre(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El nombre de la métrica no puede estar vacío");
+        }
+        return nombre;
+    }
+}
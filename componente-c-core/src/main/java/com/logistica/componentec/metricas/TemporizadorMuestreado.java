@@ -0,0 +1,53 @@
+package com.logistica.componentec.metricas;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cuenta todas las llamadas a una operación y mide la duración de una de cada
+ * {@code periodo}, elegida al azar, para que medir no cueste dos lecturas de reloj por llamada.
+ *
+ * <pre>
+ * long inicio = temporizador.iniciar();
+ * ... operación ...
+ * temporizador.terminar(inicio);
+ * </pre>
+ */
+public final class TemporizadorMuestreado {
+
+    private static final long SIN_MUESTRA = Long.MIN_VALUE;
+
+    private final Contador llamadas;
+    private final Histograma duracion;
+    private final int mascara;
+
+    TemporizadorMuestreado(Contador llamadas, Histograma duracion, int periodo) {
+        this.llamadas = llamadas;
+        this.duracion = duracion;
+        this.mascara = periodo - 1;
+    }
+
+    /**
+     * Registra la llamada y devuelve el instante de inicio si esta llamada se mide.
+     */
+    public long iniciar() {
+        if (!RegistroMetricas.activas()) {
+            return SIN_MUESTRA;
+        }
+        llamadas.incrementar();
+        return (ThreadLocalRandom.current().nextInt() & mascara) == 0 ? System.nanoTime() : SIN_MUESTRA;
+    }
+
+    /**
+     * Registra la duración si la llamada fue elegida en {@link #iniciar()}.
+     */
+    public void terminar(long inicio) {
+        if (inicio != SIN_MUESTRA) {
+            duracion.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    public long getLlamadas() { return llamadas.getValor(); }
+
+    /** Duraciones medidas, en nanosegundos. */
+    public InstantaneaHistograma getDuracion() { return duracion.instantanea(); }
+}
@@ -0,0 +1,170 @@
+package com.logistica.componentec.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Acumulador incremental de totales empresariales sin redondeo.
+ * Lleva cantidad, bruto, descuento escalonado, subtotal, IVA y total con el mismo valor que la
+ * suma de {@link CalculadoraUtils#calcularTotalEmpresarial(BigDecimal, ReglasCalculo)} línea a línea.
+ * <p>
+ * Los montos con a lo sumo dos decimales se calculan en longs de escala fija, igual que el modo
+ * exacto de {@link CalculadoraLote}: descuento y subtotal con escala
+ * {@value CalculadoraLote#ESCALA_EXACTA_SUBTOTAL} e IVA y total con escala
+ * {@value CalculadoraLote#ESCALA_EXACTA_TOTAL}. Los montos con más decimales, o demasiado grandes
+ * para esas escalas, pasan por el cálculo BigDecimal; también las sumas que desbordan un long se
+ * vuelcan a BigDecimal, así que el acumulador nunca desborda.
+ * <p>
+ * A diferencia de {@link AcumuladorTotales}, que redondea cada línea a centavos, los totales
+ * conservan todos los decimales. No es seguro para hilos: cada hilo usa su propia instancia y
+ * luego se combinan con {@link #combinar(AcumuladorExacto)}.
+ */
+public final class AcumuladorExacto {
+
+    /**
+     * Suma de una columna en un long de escala fija y un excedente BigDecimal.
+     */
+    private static final class Columna {
+        private final int escala;
+        private long valor;
+        private BigDecimal excedente = BigDecimal.ZERO;
+
+        Columna(int escala) {
+            this.escala = escala;
+        }
+
+        void sumar(long sumando) {
+            try {
+                valor = Math.addExact(valor, sumando);
+            } catch (ArithmeticException e) {
+                excedente = excedente.add(BigDecimal.valueOf(valor, escala));
+                valor = sumando;
+            }
+        }
+
+        void sumar(BigDecimal sumando) {
+            excedente = excedente.add(sumando);
+        }
+
+        void combinar(Columna otra) {
+            sumar(otra.valor);
+            excedente = excedente.add(otra.excedente);
+        }
+
+        BigDecimal total() {
+            return BigDecimal.valueOf(valor, escala).add(excedente);
+        }
+    }
+
+    private final ReglasCalculo reglas;
+    private long cantidad;
+    private final Columna bruto = new Columna(Money.ESCALA_CENTAVOS);
+    private final Columna descuento = new Columna(CalculadoraLote.ESCALA_EXACTA_SUBTOTAL);
+    private final Columna subtotal = new Columna(CalculadoraLote.ESCALA_EXACTA_SUBTOTAL);
+    private final Columna iva = new Columna(CalculadoraLote.ESCALA_EXACTA_TOTAL);
+    private final Columna total = new Columna(CalculadoraLote.ESCALA_EXACTA_TOTAL);
+
+    public AcumuladorExacto() {
+        this(CalculadoraUtils.obtenerReglas());
+    }
+
+    /**
+     * Crea un acumulador con reglas de cálculo explícitas.
+     */
+    public AcumuladorExacto(ReglasCalculo reglas) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        this.reglas = reglas;
+    }
+
+    /**
+     * Agrega un monto en centavos.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @return Este acumulador
+     */
+    public AcumuladorExacto agregar(long montoCentavos) {
+        long porcentaje = reglas.porcentajeDescuentoPb(montoCentavos);
+        long ivaPb = reglas.getIvaPb();
+        long descuentoLinea;
+        long subtotalLinea;
+        long ivaLinea;
+        long totalLinea;
+        try {
+            descuentoLinea = Math.multiplyExact(montoCentavos, porcentaje);
+            subtotalLinea = Math.multiplyExact(montoCentavos, Money.PUNTOS_BASE - porcentaje);
+            ivaLinea = Math.multiplyExact(subtotalLinea, ivaPb);
+            totalLinea = Math.multiplyExact(subtotalLinea, Money.PUNTOS_BASE + ivaPb);
+        } catch (ArithmeticException e) {
+            return agregarCalculado(BigDecimal.valueOf(montoCentavos, Money.ESCALA_CENTAVOS));
+        }
+
+        cantidad++;
+        bruto.sumar(montoCentavos);
+        descuento.sumar(descuentoLinea);
+        subtotal.sumar(subtotalLinea);
+        iva.sumar(ivaLinea);
+        total.sumar(totalLinea);
+        return this;
+    }
+
+    /**
+     * Agrega un monto de cualquier escala sin redondearlo. Los valores null se ignoran, igual que
+     * en {@link AcumuladorTotales#agregar(BigDecimal)}.
+     *
+     * @return Este acumulador
+     */
+    public AcumuladorExacto agregar(BigDecimal monto) {
+        if (monto == null) {
+            return this;
+        }
+        if (monto.scale() <= Money.ESCALA_CENTAVOS && monto.precision() - monto.scale() < 17) {
+            return agregar(monto.movePointRight(Money.ESCALA_CENTAVOS).longValueExact());
+        }
+        return agregarCalculado(monto);
+    }
+
+    private AcumuladorExacto agregarCalculado(BigDecimal monto) {
+        CalculadoraUtils.ResultadoCalculoEmpresarial resultado = CalculadoraUtils.calcularTotalEmpresarial(monto, reglas);
+        cantidad++;
+        bruto.sumar(monto);
+        descuento.sumar(resultado.getMontoDescuento());
+        subtotal.sumar(resultado.getSubtotal());
+        iva.sumar(resultado.getMontoIVA());
+        total.sumar(resultado.getTotal());
+        return this;
+    }
+
+    /**
+     * Combina los totales de otro acumulador en este.
+     *
+     * @param otro Acumulador a combinar
+     * @return Este acumulador
+     */
+    public AcumuladorExacto combinar(AcumuladorExacto otro) {
+        if (otro == null) {
+            throw new IllegalArgumentException("El acumulador no puede ser null");
+        }
+
+        cantidad += otro.cantidad;
+        bruto.combinar(otro.bruto);
+        descuento.combinar(otro.descuento);
+        subtotal.combinar(otro.subtotal);
+        iva.combinar(otro.iva);
+        total.combinar(otro.total);
+        return this;
+    }
+
+    public long getCantidad() { return cantidad; }
+    public BigDecimal getBruto() { return bruto.total(); }
+    public BigDecimal getDescuento() { return descuento.total(); }
+    public BigDecimal getSubtotal() { return subtotal.total(); }
+    public BigDecimal getIva() { return iva.total(); }
+    public BigDecimal getTotal() { return total.total(); }
+
+    @Override
+    public String toString() {
+        return "AcumuladorExacto{cantidad=" + cantidad + ", bruto=" + getBruto() + ", descuento=" + getDescuento()
+            + ", subtotal=" + getSubtotal() + ", iva=" + getIva() + ", total=" + getTotal() + "}";
+    }
+}
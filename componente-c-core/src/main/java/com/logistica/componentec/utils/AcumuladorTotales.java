@@ -0,0 +1,164 @@
+package com.logistica.componentec.utils;
+
+import java.math.BigDecimal;
+import java.util.stream.Collector;
+
+/**
+ * Acumulador incremental de totales empresariales en centavos.
+ * En una sola pasada lleva cantidad, bruto, descuento escalonado, subtotal, IVA y total,
+ * aplicando por línea las mismas reglas que {@link CalculadoraLote} en centavos. Las reglas de
+ * cálculo se fijan al crear el acumulador.
+ * <p>
+ * Cada línea se redondea HALF_EVEN a centavos (descuento y luego IVA) antes de sumarse, igual que
+ * {@link CalculadoraUtils#calcularTotalEmpresarial(Money)}. Por eso los totales pueden diferir
+ * de la suma de {@link CalculadoraUtils#calcularTotalEmpresarial(java.math.BigDecimal)}, que no
+ * redondea, en hasta un centavo por línea.
+ * No es seguro para hilos: cada hilo usa su propia instancia y luego se combinan con
+ * {@link #combinar(AcumuladorTotales)}, que es lo que hace el {@link Collector} en streams paralelos.
+ */
+public final class AcumuladorTotales {
+
+    private final ReglasCalculo reglas;
+    private long cantidad;
+    private long bruto;
+    private long descuento;
+    private long subtotal;
+    private long iva;
+    private long total;
+
+    public AcumuladorTotales() {
+        this(CalculadoraUtils.obtenerReglas());
+    }
+
+    /**
+     * Crea un acumulador con reglas de cálculo explícitas.
+     */
+    public AcumuladorTotales(ReglasCalculo reglas) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        this.reglas = reglas;
+    }
+
+    /**
+     * Agrega un monto en centavos.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @return Este acumulador
+     * @throws ArithmeticException si algún total desborda un long
+     */
+    public AcumuladorTotales agregar(long montoCentavos) {
+        long porcentaje = reglas.porcentajeDescuentoPb(montoCentavos);
+        long descuentoLinea = Money.porcentaje(montoCentavos, porcentaje);
+        long subtotalLinea = Math.subtractExact(montoCentavos, descuentoLinea);
+        long ivaLinea = Money.porcentaje(subtotalLinea, reglas.getIvaPb());
+
+        cantidad++;
+        bruto = Math.addExact(bruto, montoCentavos);
+        descuento = Math.addExact(descuento, descuentoLinea);
+        subtotal = Math.addExact(subtotal, subtotalLinea);
+        iva = Math.addExact(iva, ivaLinea);
+        total = Math.addExact(total, Math.addExact(subtotalLinea, ivaLinea));
+        return this;
+    }
+
+    /**
+     * Agrega un monto de cualquier escala, redondeado HALF_EVEN a centavos. Los valores null
+     * se ignoran, igual que en {@link CalculadoraUtils#calcularTotal(java.util.List)}.
+     *
+     * @throws ArithmeticException si el monto no cabe en un long de centavos o algún total desborda
+     */
+    public AcumuladorTotales agregar(BigDecimal monto) {
+        if (monto == null) {
+            return this;
+        }
+        return agregar(Money.deBigDecimalRedondeado(monto, Money.ESCALA_CENTAVOS).getUnidadesMenores());
+    }
+
+    /**
+     * Agrega un bloque de montos en centavos.
+     *
+     * @param montosCentavos Arreglo de montos
+     * @param desde Índice inicial inclusivo
+     * @param hasta Índice final exclusivo
+     * @return Este acumulador
+     */
+    public AcumuladorTotales agregar(long[] montosCentavos, int desde, int hasta) {
+        if (montosCentavos == null) {
+            throw new IllegalArgumentException("La lista de valores no puede ser null");
+        }
+        if (desde < 0 || hasta > montosCentavos.length || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango inválido [" + desde + ", " + hasta + ")");
+        }
+
+        for (int i = desde; i < hasta; i++) {
+            agregar(montosCentavos[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Combina los totales de otro acumulador en este.
+     *
+     * @param otro Acumulador a combinar
+     * @return Este acumulador
+     */
+    public AcumuladorTotales combinar(AcumuladorTotales otro) {
+        if (otro == null) {
+            throw new IllegalArgumentException("El acumulador no puede ser null");
+        }
+
+        cantidad += otro.cantidad;
+        bruto = Math.addExact(bruto, otro.bruto);
+        descuento = Math.addExact(descuento, otro.descuento);
+        subtotal = Math.addExact(subtotal, otro.subtotal);
+        iva = Math.addExact(iva, otro.iva);
+        total = Math.addExact(total, otro.total);
+        return this;
+    }
+
+    /**
+     * Collector de montos BigDecimal, seguro para streams paralelos.
+     */
+    public static Collector<BigDecimal, AcumuladorTotales, AcumuladorTotales> coleccionar() {
+        return coleccionar(CalculadoraUtils.obtenerReglas());
+    }
+
+    /**
+     * Collector de montos BigDecimal con reglas de cálculo explícitas.
+     */
+    public static Collector<BigDecimal, AcumuladorTotales, AcumuladorTotales> coleccionar(ReglasCalculo reglas) {
+        return Collector.of(() -> new AcumuladorTotales(reglas), AcumuladorTotales::agregar,
+            AcumuladorTotales::combinar, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Collector de montos en centavos, seguro para streams paralelos.
+     */
+    public static Collector<Long, AcumuladorTotales, AcumuladorTotales> coleccionarCentavos() {
+        ReglasCalculo reglas = CalculadoraUtils.obtenerReglas();
+        return Collector.of(() -> new AcumuladorTotales(reglas), (acumulador, monto) -> acumulador.agregar(monto.longValue()),
+            AcumuladorTotales::combinar, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Getters en centavos
+    public long getCantidad() { return cantidad; }
+    public long getBrutoCentavos() { return bruto; }
+    public long getDescuentoCentavos() { return descuento; }
+    public long getSubtotalCentavos() { return subtotal; }
+    public long getIvaCentavos() { return iva; }
+    public long getTotalCentavos() { return total; }
+
+    // Getters en BigDecimal
+    public BigDecimal getBruto() { return BigDecimal.valueOf(bruto, Money.ESCALA_CENTAVOS); }
+    public BigDecimal getDescuento() { return BigDecimal.valueOf(descuento, Money.ESCALA_CENTAVOS); }
+    public BigDecimal getSubtotal() { return BigDecimal.valueOf(subtotal, Money.ESCALA_CENTAVOS); }
+    public BigDecimal getIva() { return BigDecimal.valueOf(iva, Money.ESCALA_CENTAVOS); }
+    public BigDecimal getTotal() { return BigDecimal.valueOf(total, Money.ESCALA_CENTAVOS); }
+
+    @Override
+    public String toString() {
+        return "AcumuladorTotales{cantidad=" + cantidad + ", bruto=" + getBruto() + ", descuento=" + getDescuento()
+            + ", subtotal=" + getSubtotal() + ", iva=" + getIva() + ", total=" + getTotal() + "}";
+    }
+}
@@ -0,0 +1,294 @@
+package com.logistica.componentec.utils;
+
+import com.logistica.componentec.metricas.RegistroMetricas;
+import com.logistica.componentec.metricas.TemporizadorMuestreado;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Motor por lotes para el cálculo empresarial sobre columnas de montos en centavos.
+ * Llena columnas paralelas (porcentaje de descuento, descuento, subtotal, IVA y total)
+ * sin crear un objeto por línea y divide las entradas grandes entre núcleos con fork/join.
+ * <p>
+ * Hay dos modos. En centavos, cada línea se calcula con los mismos núcleos que
+ * {@link CalculadoraUtils#calcularTotalEmpresarial(Money)}: se redondea HALF_EVEN a centavos
+ * el descuento y luego el IVA, por lo que el total puede diferir en un centavo del total de
+ * {@link CalculadoraUtils#calcularTotalEmpresarial(BigDecimal)} redondeado a centavos.
+ * En modo exacto no se redondea: descuento y subtotal quedan con escala
+ * {@value #ESCALA_EXACTA_SUBTOTAL} e IVA y total con escala {@value #ESCALA_EXACTA_TOTAL},
+ * y cada valor es numéricamente idéntico al del cálculo BigDecimal.
+ * Todo el lote usa las reglas vigentes al iniciar, o las reglas explícitas recibidas.
+ * <p>
+ * Cada lote se cuenta en {@code calculadora.lote.llamadas} y uno de cada
+ * {@value #PERIODO_MUESTREO} se mide en {@code calculadora.lote.duracion}.
+ */
+public final class CalculadoraLote {
+
+    /** Cantidad de líneas a partir de la cual se divide el trabajo entre núcleos. */
+    static final int UMBRAL_PARALELO = 8_192;
+
+    static final int PERIODO_MUESTREO = 16;
+
+    /** Escala de las columnas de descuento y subtotal en modo exacto. */
+    public static final int ESCALA_EXACTA_SUBTOTAL = Money.ESCALA_CENTAVOS + 4;
+
+    /** Escala de las columnas de IVA y total en modo exacto. */
+    public static final int ESCALA_EXACTA_TOTAL = ESCALA_EXACTA_SUBTOTAL + 4;
+
+    private static final TemporizadorMuestreado TEMPORIZADOR =
+        RegistroMetricas.PREDETERMINADO.temporizador("calculadora.lote", PERIODO_MUESTREO);
+
+    private CalculadoraLote() {
+    }
+
+    /**
+     * Calcula el total empresarial de una columna de montos en centavos.
+     *
+     * @param montosCentavos Montos originales en centavos
+     * @return Columnas de resultado
+     * @throws ArithmeticException si algún cálculo desborda un long
+     */
+    public static ResultadoLote calcularTotalEmpresarial(long[] montosCentavos) {
+        if (montosCentavos == null) {
+            throw new IllegalArgumentException("La lista de valores no puede ser null");
+        }
+
+        ResultadoLote resultado = new ResultadoLote(montosCentavos.length);
+        calcularTotalEmpresarial(montosCentavos, resultado);
+        return resultado;
+    }
+
+    /**
+     * Calcula en modo exacto el total empresarial de una lista de montos con a lo sumo dos decimales.
+     * Los valores coinciden con los de {@link CalculadoraUtils#calcularTotalEmpresarial(BigDecimal)}.
+     *
+     * @param montos Montos originales
+     * @return Columnas de resultado con escalas {@value #ESCALA_EXACTA_SUBTOTAL} y {@value #ESCALA_EXACTA_TOTAL}
+     * @throws IllegalArgumentException si la lista o algún monto es null
+     * @throws ArithmeticException si algún monto tiene más de dos decimales o el cálculo desborda un long
+     */
+    public static ResultadoLote calcularTotalEmpresarial(List<BigDecimal> montos) {
+        if (montos == null) {
+            throw new IllegalArgumentException("La lista de valores no puede ser null");
+        }
+
+        long[] centavos = new long[montos.size()];
+        int i = 0;
+        for (BigDecimal monto : montos) {
+            centavos[i++] = Money.deBigDecimal(monto, Money.ESCALA_CENTAVOS).getUnidadesMenores();
+        }
+        ResultadoLote resultado = new ResultadoLote(centavos.length);
+        calcularTotalEmpresarialExacto(centavos, resultado, CalculadoraUtils.obtenerReglas());
+        return resultado;
+    }
+
+    /**
+     * Calcula el total empresarial llenando un resultado preasignado, reutilizable entre lotes.
+     *
+     * @param montosCentavos Montos originales en centavos
+     * @param destino Columnas de resultado con capacidad suficiente
+     */
+    public static void calcularTotalEmpresarial(long[] montosCentavos, ResultadoLote destino) {
+        calcularTotalEmpresarial(montosCentavos, destino, CalculadoraUtils.obtenerReglas());
+    }
+
+    /**
+     * Calcula el total empresarial con reglas explícitas llenando un resultado preasignado.
+     *
+     * @param montosCentavos Montos originales en centavos
+     * @param destino Columnas de resultado con capacidad suficiente
+     * @param reglas Reglas de tramos e IVA a aplicar
+     */
+    public static void calcularTotalEmpresarial(long[] montosCentavos, ResultadoLote destino, ReglasCalculo reglas) {
+        calcular(montosCentavos, destino, reglas, false);
+    }
+
+    /**
+     * Calcula el total empresarial sin redondear, llenando un resultado preasignado.
+     * El descuento y el subtotal quedan con escala {@value #ESCALA_EXACTA_SUBTOTAL} y el IVA y
+     * el total con escala {@value #ESCALA_EXACTA_TOTAL}.
+     *
+     * @param montosCentavos Montos originales en centavos
+     * @param destino Columnas de resultado con capacidad suficiente
+     * @param reglas Reglas de tramos e IVA a aplicar
+     * @throws ArithmeticException si algún cálculo desborda un long (montos de más de ~$460 millones)
+     */
+    public static void calcularTotalEmpresarialExacto(long[] montosCentavos, ResultadoLote destino,
+                                                      ReglasCalculo reglas) {
+        calcular(montosCentavos, destino, reglas, true);
+    }
+
+    private static void calcular(long[] montosCentavos, ResultadoLote destino, ReglasCalculo reglas,
+                                 boolean exacto) {
+        if (montosCentavos == null || destino == null) {
+            throw new IllegalArgumentException("Montos y destino no pueden ser null");
+        }
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        if (destino.capacidad() < montosCentavos.length) {
+            throw new IllegalArgumentException("El destino no tiene capacidad para " + montosCentavos.length + " montos");
+        }
+
+        long inicio = TEMPORIZADOR.iniciar();
+        destino.tamanio = montosCentavos.length;
+        destino.escalaSubtotal = exacto ? ESCALA_EXACTA_SUBTOTAL : Money.ESCALA_CENTAVOS;
+        destino.escalaTotal = exacto ? ESCALA_EXACTA_TOTAL : Money.ESCALA_CENTAVOS;
+        if (montosCentavos.length < UMBRAL_PARALELO) {
+            calcularRango(montosCentavos, destino, reglas, exacto, 0, montosCentavos.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(
+                new TareaLote(montosCentavos, destino, reglas, exacto, 0, montosCentavos.length));
+        }
+        TEMPORIZADOR.terminar(inicio);
+    }
+
+    private static void calcularRango(long[] montos, ResultadoLote destino, ReglasCalculo reglas,
+                                      boolean exacto, int desde, int hasta) {
+        if (exacto) {
+            calcularRangoExacto(montos, destino, reglas, desde, hasta);
+            return;
+        }
+        long[] porcentajes = destino.porcentajeDescuentoPb;
+        long[] descuentos = destino.montoDescuento;
+        long[] subtotales = destino.subtotal;
+        long[] ivas = destino.montoIVA;
+        long[] totales = destino.total;
+        long ivaPb = reglas.getIvaPb();
+
+        for (int i = desde; i < hasta; i++) {
+            long monto = montos[i];
+            long porcentaje = reglas.porcentajeDescuentoPb(monto);
+            long descuento = Money.porcentaje(monto, porcentaje);
+            long subtotal = Math.subtractExact(monto, descuento);
+            long iva = Money.porcentaje(subtotal, ivaPb);
+
+            porcentajes[i] = porcentaje;
+            descuentos[i] = descuento;
+            subtotales[i] = subtotal;
+            ivas[i] = iva;
+            totales[i] = Math.addExact(subtotal, iva);
+        }
+    }
+
+    // Sin redondeo: monto (escala 2) por factores en puntos base (escala 4) da escala 6 y luego 10
+    private static void calcularRangoExacto(long[] montos, ResultadoLote destino, ReglasCalculo reglas,
+                                            int desde, int hasta) {
+        long[] porcentajes = destino.porcentajeDescuentoPb;
+        long[] descuentos = destino.montoDescuento;
+        long[] subtotales = destino.subtotal;
+        long[] ivas = destino.montoIVA;
+        long[] totales = destino.total;
+        long ivaPb = reglas.getIvaPb();
+
+        for (int i = desde; i < hasta; i++) {
+            long monto = montos[i];
+            long porcentaje = reglas.porcentajeDescuentoPb(monto);
+            long subtotal = Math.multiplyExact(monto, Money.PUNTOS_BASE - porcentaje);
+
+            porcentajes[i] = porcentaje;
+            descuentos[i] = Math.multiplyExact(monto, porcentaje);
+            subtotales[i] = subtotal;
+            ivas[i] = Math.multiplyExact(subtotal, ivaPb);
+            totales[i] = Math.multiplyExact(subtotal, Money.PUNTOS_BASE + ivaPb);
+        }
+    }
+
+    private static final class TareaLote extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] montos;
+        private final ResultadoLote destino;
+        private final ReglasCalculo reglas;
+        private final boolean exacto;
+        private final int desde;
+        private final int hasta;
+
+        TareaLote(long[] montos, ResultadoLote destino, ReglasCalculo reglas, boolean exacto, int desde, int hasta) {
+            this.montos = montos;
+            this.destino = destino;
+            this.reglas = reglas;
+            this.exacto = exacto;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_PARALELO) {
+                calcularRango(montos, destino, reglas, exacto, desde, hasta);
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new TareaLote(montos, destino, reglas, exacto, desde, medio),
+                      new TareaLote(montos, destino, reglas, exacto, medio, hasta));
+        }
+    }
+
+    /**
+     * Columnas de resultado de un lote. Los porcentajes están en puntos base; los montos, en
+     * unidades de la escala indicada por {@link #escalaSubtotal()} y {@link #escalaTotal()}
+     * (centavos, o las escalas exactas).
+     */
+    public static final class ResultadoLote {
+        private final long[] porcentajeDescuentoPb;
+        private final long[] montoDescuento;
+        private final long[] subtotal;
+        private final long[] montoIVA;
+        private final long[] total;
+        private int tamanio;
+        private int escalaSubtotal = Money.ESCALA_CENTAVOS;
+        private int escalaTotal = Money.ESCALA_CENTAVOS;
+
+        /**
+         * Crea columnas preasignadas para la capacidad indicada.
+         */
+        public ResultadoLote(int capacidad) {
+            if (capacidad < 0) {
+                throw new IllegalArgumentException("La capacidad no puede ser negativa");
+            }
+            this.porcentajeDescuentoPb = new long[capacidad];
+            this.montoDescuento = new long[capacidad];
+            this.subtotal = new long[capacidad];
+            this.montoIVA = new long[capacidad];
+            this.total = new long[capacidad];
+        }
+
+        public int capacidad() { return total.length; }
+        public int tamanio() { return tamanio; }
+
+        /** Escala de las columnas de descuento y subtotal. */
+        public int escalaSubtotal() { return escalaSubtotal; }
+
+        /** Escala de las columnas de IVA y total. */
+        public int escalaTotal() { return escalaTotal; }
+
+        public long getPorcentajeDescuentoPb(int i) { return porcentajeDescuentoPb[verificar(i)]; }
+        public long getMontoDescuento(int i) { return montoDescuento[verificar(i)]; }
+        public long getSubtotal(int i) { return subtotal[verificar(i)]; }
+        public long getMontoIVA(int i) { return montoIVA[verificar(i)]; }
+        public long getTotal(int i) { return total[verificar(i)]; }
+
+        public BigDecimal getMontoDescuentoDecimal(int i) { return BigDecimal.valueOf(getMontoDescuento(i), escalaSubtotal); }
+        public BigDecimal getSubtotalDecimal(int i) { return BigDecimal.valueOf(getSubtotal(i), escalaSubtotal); }
+        public BigDecimal getMontoIVADecimal(int i) { return BigDecimal.valueOf(getMontoIVA(i), escalaTotal); }
+        public BigDecimal getTotalDecimal(int i) { return BigDecimal.valueOf(getTotal(i), escalaTotal); }
+
+        // Columnas completas, sin copia; solo las primeras tamanio() posiciones son válidas
+        public long[] columnaPorcentajeDescuentoPb() { return porcentajeDescuentoPb; }
+        public long[] columnaMontoDescuento() { return montoDescuento; }
+        public long[] columnaSubtotal() { return subtotal; }
+        public long[] columnaMontoIVA() { return montoIVA; }
+        public long[] columnaTotal() { return total; }
+
+        private int verificar(int i) {
+            if (i < 0 || i >= tamanio) {
+                throw new IndexOutOfBoundsException("Índice " + i + " fuera del lote de tamaño " + tamanio);
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.logistica.componentec.utils;
+
+import com.logistica.componentec.metricas.RegistroMetricas;
+import com.logistica.componentec.metricas.TemporizadorMuestreado;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Utilidades para cálculos financieros empresariales en el sistema de logística.
+ * Proporciona métodos reutilizables para cálculos de totales, descuentos e impuestos.
+ * Las sumas de listas se cuentan y muestrean en {@code calculadora.total}.
+ */
+public class CalculadoraUtils {
+
+    private static final TemporizadorMuestreado TEMPORIZADOR_TOTAL =
+        RegistroMetricas.PREDETERMINADO.temporizador("calculadora.total", CalculadoraLote.PERIODO_MUESTREO);
+
+    // Reglas empresariales vigentes (tramos de descuento e IVA); se reemplazan atómicamente
+    private static volatile ReglasCalculo reglas = ReglasCalculo.PREDETERMINADAS;
+
+    /**
+     * Reemplaza las reglas de cálculo vigentes. Los lectores no se bloquean: cada cálculo
+     * usa las reglas que estaban vigentes al iniciar.
+     *
+     * @param nuevasReglas Reglas compiladas
+     */
+    public static void configurarReglas(ReglasCalculo nuevasReglas) {
+        if (nuevasReglas == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        reglas = nuevasReglas;
+    }
+
+    /**
+     * Obtiene las reglas de cálculo vigentes.
+     */
+    public static ReglasCalculo obtenerReglas() {
+        return reglas;
+    }
+
+    /**
+     * Calcula el total sumando todos los elementos de una lista de BigDecimal.
+     * 
+     * @param valores Lista de valores a sumar
+     * @return El total calculado
+     * @throws IllegalArgumentException si la lista es null
+     */
+    public static BigDecimal calcularTotal(List<BigDecimal> valores) {
+        if (valores == null) {
+            throw new IllegalArgumentException("La lista de valores no puede ser null");
+        }
+
+        long inicio = TEMPORIZADOR_TOTAL.iniciar();
+        BigDecimal total = valores.stream()
+                .filter(valor -> valor != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        TEMPORIZADOR_TOTAL.terminar(inicio);
+        return total;
+    }
+
+    /**
+     * Calcula descuentos escalonados según el monto empresarial y las reglas vigentes.
+     * Con las reglas predeterminadas:
+     * - < $1,000: 5% descuento
+     * - $1,000 - $4,999: 10% descuento
+     * - ≥ $5,000: 15% descuento
+     *
+     * @param monto Monto original
+     * @return Porcentaje de descuento aplicable
+     */
+    public static BigDecimal calcularPorcentajeDescuentoEscalonado(BigDecimal monto) {
+        if (monto == null) {
+            throw new IllegalArgumentException("El monto no puede ser null");
+        }
+
+        return reglas.porcentajeDescuento(monto);
+    }
+
+    /**
+     * Aplica descuento escalonado automático según el monto.
+     *
+     * @param monto Monto original
+     * @return Monto con descuento aplicado
+     */
+    public static BigDecimal aplicarDescuentoEscalonado(BigDecimal monto) {
+        if (monto == null) {
+            throw new IllegalArgumentException("El monto no puede ser null");
+        }
+
+        BigDecimal porcentajeDescuento = calcularPorcentajeDescuentoEscalonado(monto);
+        return aplicarDescuento(monto, porcentajeDescuento);
+    }
+
+    /**
+     * Calcula descuento aplicado a un monto.
+     * 
+     * @param monto Monto original
+     * @param porcentajeDescuento Porcentaje de descuento
+     * @return Monto con descuento aplicado
+     */
+    public static BigDecimal aplicarDescuento(BigDecimal monto, BigDecimal porcentajeDescuento) {
+        if (monto == null || porcentajeDescuento == null) {
+            throw new IllegalArgumentException("Monto y porcentaje descuento no pueden ser null");
+        }
+        
+        BigDecimal descuento = monto.multiply(porcentajeDescuento.divide(BigDecimal.valueOf(100)));
+        return monto.subtract(descuento);
+    }
+
+    /**
+     * Calcula el IVA empresarial (15%) sobre un monto.
+     *
+     * @param monto Monto sobre el cual calcular IVA
+     * @return Valor del IVA
+     */
+    public static BigDecimal calcularIVA(BigDecimal monto) {
+        if (monto == null) {
+            throw new IllegalArgumentException("El monto no puede ser null");
+        }
+
+        return monto.multiply(reglas.getFactorIva());
+    }
+
+    /**
+     * Calcula el total con IVA empresarial (15%) aplicado.
+     *
+     * @param subtotal Subtotal sin IVA
+     * @return Total con IVA incluido
+     */
+    public static BigDecimal calcularTotalConIVA(BigDecimal subtotal) {
+        if (subtotal == null) {
+            throw new IllegalArgumentException("El subtotal no puede ser null");
+        }
+
+        BigDecimal iva = calcularIVA(subtotal);
+        return subtotal.add(iva);
+    }
+
+    /**
+     * Calcula el total con IVA aplicado usando porcentaje personalizado.
+     *
+     * @param subtotal Subtotal sin IVA
+     * @param porcentajeIva Porcentaje de IVA (ej: 15 para 15%)
+     * @return Total con IVA incluido
+     */
+    public static BigDecimal calcularTotalConIva(BigDecimal subtotal, BigDecimal porcentajeIva) {
+        if (subtotal == null || porcentajeIva == null) {
+            throw new IllegalArgumentException("Subtotal y porcentaje IVA no pueden ser null");
+        }
+
+        BigDecimal iva = subtotal.multiply(porcentajeIva.divide(BigDecimal.valueOf(100)));
+        return subtotal.add(iva);
+    }
+
+    /**
+     * Cálculo completo empresarial: aplica descuento escalonado y luego IVA.
+     *
+     * @param montoOriginal Monto original antes de descuentos e impuestos
+     * @return Resultado con subtotal, descuento, IVA y total final
+     */
+    public static ResultadoCalculoEmpresarial calcularTotalEmpresarial(BigDecimal montoOriginal) {
+        return calcularTotalEmpresarial(montoOriginal, reglas);
+    }
+
+    /**
+     * Cálculo completo empresarial con reglas explícitas (ej: por país o por cliente).
+     *
+     * @param montoOriginal Monto original antes de descuentos e impuestos
+     * @param reglasCalculo Reglas de tramos e IVA a aplicar
+     * @return Resultado con subtotal, descuento, IVA y total final
+     */
+    public static ResultadoCalculoEmpresarial calcularTotalEmpresarial(BigDecimal montoOriginal,
+                                                                       ReglasCalculo reglasCalculo) {
+        if (montoOriginal == null) {
+            throw new IllegalArgumentException("El monto original no puede ser null");
+        }
+        if (reglasCalculo == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+
+        BigDecimal porcentajeDescuento = reglasCalculo.porcentajeDescuento(montoOriginal);
+        BigDecimal montoDescuento = montoOriginal.multiply(reglasCalculo.factorDescuento(montoOriginal));
+        BigDecimal subtotal = montoOriginal.subtract(montoDescuento);
+        BigDecimal iva = subtotal.multiply(reglasCalculo.getFactorIva());
+        BigDecimal total = subtotal.add(iva);
+
+        return new ResultadoCalculoEmpresarial(
+            montoOriginal,
+            porcentajeDescuento,
+            montoDescuento,
+            subtotal,
+            reglasCalculo.getIva(),
+            iva,
+            total
+        );
+    }
+
+    /**
+     * Clase para encapsular el resultado de cálculos empresariales completos.
+     */
+    public static class ResultadoCalculoEmpresarial {
+        private final BigDecimal montoOriginal;
+        private final BigDecimal porcentajeDescuento;
+        private final BigDecimal montoDescuento;
+        private final BigDecimal subtotal;
+        private final BigDecimal porcentajeIVA;
+        private final BigDecimal montoIVA;
+        private final BigDecimal total;
+
+        public ResultadoCalculoEmpresarial(BigDecimal montoOriginal, BigDecimal porcentajeDescuento,
+                                         BigDecimal montoDescuento, BigDecimal subtotal,
+                                         BigDecimal porcentajeIVA, BigDecimal montoIVA, BigDecimal total) {
+            this.montoOriginal = montoOriginal;
+            this.porcentajeDescuento = porcentajeDescuento;
+            this.montoDescuento = montoDescuento;
+            this.subtotal = subtotal;
+            this.porcentajeIVA = porcentajeIVA;
+            this.montoIVA = montoIVA;
+            this.total = total;
+        }
+
+        // Getters
+        public BigDecimal getMontoOriginal() { return montoOriginal; }
+        public BigDecimal getPorcentajeDescuento() { return porcentajeDescuento; }
+        public BigDecimal getMontoDescuento() { return montoDescuento; }
+        public BigDecimal getSubtotal() { return subtotal; }
+        public BigDecimal getPorcentajeIVA() { return porcentajeIVA; }
+        public BigDecimal getMontoIVA() { return montoIVA; }
+        public BigDecimal getTotal() { return total; }
+    }
+
+    // Variantes en punto fijo: montos en centavos y porcentajes en puntos base (ver Money).
+    // Llevan el sufijo de su unidad para no confundirse con las versiones BigDecimal;
+    // no crean objetos y redondean HALF_EVEN a centavos en cada paso.
+
+    /**
+     * Calcula el total sumando montos en centavos.
+     *
+     * @param centavos Montos en centavos
+     * @return Total en centavos
+     * @throws ArithmeticException si la suma desborda un long
+     */
+    public static long calcularTotalCentavos(long[] centavos) {
+        if (centavos == null) {
+            throw new IllegalArgumentException("La lista de valores no puede ser null");
+        }
+
+        long inicio = TEMPORIZADOR_TOTAL.iniciar();
+        long total = 0;
+        for (long valor : centavos) {
+            total = Math.addExact(total, valor);
+        }
+        TEMPORIZADOR_TOTAL.terminar(inicio);
+        return total;
+    }
+
+    /**
+     * Calcula el descuento escalonado para un monto en centavos.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @return Porcentaje de descuento en puntos base
+     */
+    public static long calcularPorcentajeDescuentoEscalonadoPb(long montoCentavos) {
+        return reglas.porcentajeDescuentoPb(montoCentavos);
+    }
+
+    /**
+     * Aplica descuento escalonado automático a un monto en centavos.
+     */
+    public static long aplicarDescuentoEscalonadoCentavos(long montoCentavos) {
+        return Money.aplicarDescuento(montoCentavos, calcularPorcentajeDescuentoEscalonadoPb(montoCentavos));
+    }
+
+    /**
+     * Aplica un descuento expresado en puntos base a un monto en centavos.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @param porcentajeDescuentoPb Porcentaje de descuento en puntos base (1000 = 10%)
+     * @return Monto con descuento aplicado en centavos
+     */
+    public static long aplicarDescuentoCentavos(long montoCentavos, long porcentajeDescuentoPb) {
+        return Money.aplicarDescuento(montoCentavos, porcentajeDescuentoPb);
+    }
+
+    /**
+     * Calcula el IVA empresarial (15%) sobre un monto en centavos.
+     */
+    public static long calcularIVACentavos(long montoCentavos) {
+        return Money.porcentaje(montoCentavos, reglas.getIvaPb());
+    }
+
+    /**
+     * Calcula el total con IVA empresarial (15%) sobre un subtotal en centavos.
+     */
+    public static long calcularTotalConIVACentavos(long subtotalCentavos) {
+        return Money.sumarImpuesto(subtotalCentavos, reglas.getIvaPb());
+    }
+
+    /**
+     * Calcula el total con IVA personalizado sobre un subtotal en centavos.
+     *
+     * @param subtotalCentavos Subtotal sin IVA en centavos
+     * @param porcentajeIvaPb Porcentaje de IVA en puntos base (1200 = 12%)
+     * @return Total con IVA incluido en centavos
+     */
+    public static long calcularTotalConIvaCentavos(long subtotalCentavos, long porcentajeIvaPb) {
+        return Money.sumarImpuesto(subtotalCentavos, porcentajeIvaPb);
+    }
+
+    /**
+     * Cálculo completo empresarial en centavos: descuento escalonado y luego IVA.
+     *
+     * @param montoCentavos Monto original en centavos
+     * @return Total final en centavos
+     */
+    public static long calcularTotalEmpresarialCentavos(long montoCentavos) {
+        ReglasCalculo reglasCalculo = reglas;
+        long subtotal = Money.aplicarDescuento(montoCentavos, reglasCalculo.porcentajeDescuentoPb(montoCentavos));
+        return Money.sumarImpuesto(subtotal, reglasCalculo.getIvaPb());
+    }
+
+    /**
+     * Cálculo completo empresarial sobre un valor Money en centavos.
+     *
+     * @param montoOriginal Monto original (escala 2)
+     * @return Resultado con los valores convertidos a BigDecimal
+     */
+    public static ResultadoCalculoEmpresarial calcularTotalEmpresarial(Money montoOriginal) {
+        return calcularTotalEmpresarial(montoOriginal, reglas);
+    }
+
+    /**
+     * Cálculo completo empresarial sobre un valor Money en centavos con reglas explícitas.
+     */
+    public static ResultadoCalculoEmpresarial calcularTotalEmpresarial(Money montoOriginal,
+                                                                       ReglasCalculo reglasCalculo) {
+        if (reglasCalculo == null) {
+            throw new IllegalArgumentException("Las reglas no pueden ser null");
+        }
+        if (montoOriginal == null) {
+            throw new IllegalArgumentException("El monto original no puede ser null");
+        }
+        if (montoOriginal.getEscala() != Money.ESCALA_CENTAVOS) {
+            throw new IllegalArgumentException("El monto debe estar expresado en centavos (escala 2)");
+        }
+
+        long monto = montoOriginal.getUnidadesMenores();
+        long porcentajeDescuento = reglasCalculo.porcentajeDescuentoPb(monto);
+        long montoDescuento = Money.porcentaje(monto, porcentajeDescuento);
+        long subtotal = Math.subtractExact(monto, montoDescuento);
+        long iva = Money.porcentaje(subtotal, reglasCalculo.getIvaPb());
+
+        return new ResultadoCalculoEmpresarial(
+            montoOriginal.toBigDecimal(),
+            Money.dePuntosBase(porcentajeDescuento),
+            BigDecimal.valueOf(montoDescuento, 2),
+            BigDecimal.valueOf(subtotal, 2),
+            reglasCalculo.getIva(),
+            BigDecimal.valueOf(iva, 2),
+            BigDecimal.valueOf(Math.addExact(subtotal, iva), 2)
+        );
+    }
+}
@@ -0,0 +1,319 @@
+package com.logistica.componentec.utils;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Codificación binaria sin pérdida de los códigos de {@link CodigoUtils#generarCodigoUnico(String)}
+ * ({@code PREFIJO-yyyyMMddHHmmss-XXXXXXXX}) en un valor fijo de 128 bits.
+ * <p>
+ * La parte alta lleva la fecha empaquetada (año 14 bits, mes 4, día 5, hora 5, minuto 6 y
+ * segundo 6), el tipo de entidad (8 bits) y la versión del formato (8 bits); la parte baja lleva
+ * el sufijo de 32 bits. Ambas partes son positivas y se escriben en big-endian, de modo que el
+ * orden de los bytes coincide con el orden por fecha de creación y permite recorrer rangos.
+ */
+public final class CodigoCodec {
+
+    /** Tamaño en bytes de un código codificado. */
+    public static final int BYTES = 16;
+
+    /** Versión del formato binario. */
+    static final int VERSION = 1;
+
+    private static final int LONGITUD_FECHA = GeneradorIds.LONGITUD_FECHA;
+    private static final int LONGITUD_SUFIJO = GeneradorIds.LONGITUD_SUFIJO;
+    private static final int LONGITUD_MAXIMA_PREFIJO = 4;
+    private static final int BITS_FECHA = 40;
+    private static final int ANIO_MAXIMO = 9999;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Compara códigos válidos por fecha de creación, luego por tipo de entidad y luego por sufijo
+     * (que en códigos de {@link GeneradorIds} empieza por el milisegundo). No crea objetos.
+     * Lanza IllegalArgumentException si alguno no cumple {@link #esValido(CharSequence)}.
+     */
+    public static final Comparator<CharSequence> POR_FECHA = CodigoCodec::compararPorFecha;
+
+    private CodigoCodec() {
+    }
+
+    /**
+     * Valida un código sin expresiones regulares: prefijo conocido, fecha existente y sufijo
+     * hexadecimal en mayúsculas.
+     *
+     * @param codigo Código a validar
+     * @return true si el código tiene el formato de generarCodigoUnico
+     */
+    public static boolean esValido(CharSequence codigo) {
+        if (codigo == null) {
+            return false;
+        }
+        int tipo = tipoPrefijo(codigo);
+        if (tipo == 0) {
+            return false;
+        }
+        int inicioFecha = CodigoUtils.PREFIJOS[tipo - 1].length() + 1;
+        if (codigo.length() != inicioFecha + LONGITUD_FECHA + 1 + LONGITUD_SUFIJO
+                || codigo.charAt(inicioFecha + LONGITUD_FECHA) != '-') {
+            return false;
+        }
+        if (empaquetarFecha(codigo, inicioFecha) < 0) {
+            return false;
+        }
+        return leerHex(codigo, inicioFecha + LONGITUD_FECHA + 1) >= 0;
+    }
+
+    /**
+     * Obtiene la parte alta (fecha, tipo y versión) de un código.
+     *
+     * @throws IllegalArgumentException si el código no es válido
+     */
+    public static long codificarAlto(CharSequence codigo) {
+        validar(codigo);
+        int tipo = tipoPrefijo(codigo);
+        long fecha = empaquetarFecha(codigo, CodigoUtils.PREFIJOS[tipo - 1].length() + 1);
+        return (fecha << 16) | ((long) tipo << 8) | VERSION;
+    }
+
+    /**
+     * Obtiene la parte baja (sufijo de 32 bits) de un código.
+     *
+     * @throws IllegalArgumentException si el código no es válido
+     */
+    public static long codificarBajo(CharSequence codigo) {
+        validar(codigo);
+        return leerHex(codigo, codigo.length() - LONGITUD_SUFIJO);
+    }
+
+    /**
+     * Escribe un código como 16 bytes big-endian en la posición actual del búfer.
+     *
+     * @throws IllegalArgumentException si el código no es válido
+     */
+    public static void codificar(CharSequence codigo, ByteBuffer destino) {
+        long alto = codificarAlto(codigo);
+        destino.putLong(alto);
+        destino.putLong(leerHex(codigo, codigo.length() - LONGITUD_SUFIJO));
+    }
+
+    /**
+     * Lee 16 bytes big-endian de la posición actual del búfer y reconstruye el código.
+     *
+     * @throws IllegalArgumentException si los bytes no corresponden a un código
+     */
+    public static String decodificar(ByteBuffer origen) {
+        long alto = origen.getLong();
+        long bajo = origen.getLong();
+        return decodificar(alto, bajo);
+    }
+
+    /**
+     * Reconstruye el texto de un código a partir de sus partes alta y baja.
+     *
+     * @throws IllegalArgumentException si las partes no corresponden a un código
+     */
+    public static String decodificar(long alto, long bajo) {
+        int version = (int) (alto & 0xFF);
+        int tipo = (int) ((alto >>> 8) & 0xFF);
+        long fecha = alto >>> 16;
+        if (version != VERSION || tipo < 1 || tipo > CodigoUtils.PREFIJOS.length || (bajo >>> 32) != 0
+                || (fecha >>> BITS_FECHA) != 0
+                || !fechaValida((int) (fecha >>> 26), (int) ((fecha >>> 22) & 0xF), (int) ((fecha >>> 17) & 0x1F),
+                    (int) ((fecha >>> 12) & 0x1F), (int) ((fecha >>> 6) & 0x3F), (int) (fecha & 0x3F))) {
+            throw new IllegalArgumentException("Valor binario que no corresponde a un código");
+        }
+
+        String prefijo = CodigoUtils.PREFIJOS[tipo - 1];
+        char[] destino = new char[prefijo.length() + LONGITUD_FECHA + LONGITUD_SUFIJO + 2];
+        int posicion = prefijo.length();
+        prefijo.getChars(0, posicion, destino, 0);
+        destino[posicion++] = '-';
+
+        posicion = escribirDigitos(fecha >>> 26, 4, destino, posicion);
+        posicion = escribirDigitos((fecha >>> 22) & 0xF, 2, destino, posicion);
+        posicion = escribirDigitos((fecha >>> 17) & 0x1F, 2, destino, posicion);
+        posicion = escribirDigitos((fecha >>> 12) & 0x1F, 2, destino, posicion);
+        posicion = escribirDigitos((fecha >>> 6) & 0x3F, 2, destino, posicion);
+        posicion = escribirDigitos(fecha & 0x3F, 2, destino, posicion);
+        destino[posicion++] = '-';
+
+        for (int i = destino.length - 1; i >= posicion; i--) {
+            destino[i] = HEX[(int) (bajo & 0xF)];
+            bajo >>>= 4;
+        }
+        return new String(destino);
+    }
+
+    /**
+     * Obtiene la fecha de creación (hora local) codificada en la parte alta.
+     */
+    public static LocalDateTime fecha(long alto) {
+        long fecha = alto >>> 16;
+        return LocalDateTime.of((int) (fecha >>> 26), (int) ((fecha >>> 22) & 0xF), (int) ((fecha >>> 17) & 0x1F),
+            (int) ((fecha >>> 12) & 0x1F), (int) ((fecha >>> 6) & 0x3F), (int) (fecha & 0x3F));
+    }
+
+    /**
+     * Obtiene la menor parte alta posible para una fecha, útil como límite de recorridos por rango:
+     * todo código creado en o después de {@code desde} tiene una parte alta mayor o igual.
+     *
+     * @throws IllegalArgumentException si la fecha es null o su año no tiene cuatro dígitos
+     */
+    public static long altoMinimo(LocalDateTime desde) {
+        if (desde == null) {
+            throw new IllegalArgumentException("La fecha no puede ser null");
+        }
+        if (desde.getYear() < 0 || desde.getYear() > ANIO_MAXIMO) {
+            throw new IllegalArgumentException("El año debe estar entre 0 y " + ANIO_MAXIMO + ": " + desde);
+        }
+        long fecha = ((long) desde.getYear() << 26) | ((long) desde.getMonthValue() << 22)
+            | ((long) desde.getDayOfMonth() << 17) | ((long) desde.getHour() << 12)
+            | ((long) desde.getMinute() << 6) | desde.getSecond();
+        return fecha << 16;
+    }
+
+    private static void validar(CharSequence codigo) {
+        if (!esValido(codigo)) {
+            throw new IllegalArgumentException("Código inválido: " + codigo);
+        }
+    }
+
+    /**
+     * Índice (1 en adelante) del prefijo conocido del código, o 0 si no tiene uno.
+     */
+    private static int tipoPrefijo(CharSequence codigo) {
+        int limite = Math.min(codigo.length(), LONGITUD_MAXIMA_PREFIJO + 1);
+        int guion = -1;
+        for (int i = 0; i < limite; i++) {
+            if (codigo.charAt(i) == '-') {
+                guion = i;
+                break;
+            }
+        }
+        if (guion < 0) {
+            return 0;
+        }
+        for (int tipo = 0; tipo < CodigoUtils.PREFIJOS.length; tipo++) {
+            String prefijo = CodigoUtils.PREFIJOS[tipo];
+            if (prefijo.length() == guion && regionIgual(codigo, prefijo, guion)) {
+                return tipo + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean regionIgual(CharSequence codigo, String prefijo, int longitud) {
+        for (int i = 0; i < longitud; i++) {
+            if (codigo.charAt(i) != prefijo.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Empaqueta {@code yyyyMMddHHmmss} en 40 bits, o devuelve -1 si no es una fecha existente.
+     */
+    private static long empaquetarFecha(CharSequence codigo, int desde) {
+        int anio = leerDigitos(codigo, desde, 4);
+        int mes = leerDigitos(codigo, desde + 4, 2);
+        int dia = leerDigitos(codigo, desde + 6, 2);
+        int hora = leerDigitos(codigo, desde + 8, 2);
+        int minuto = leerDigitos(codigo, desde + 10, 2);
+        int segundo = leerDigitos(codigo, desde + 12, 2);
+        if (!fechaValida(anio, mes, dia, hora, minuto, segundo)) {
+            return -1;
+        }
+        return ((long) anio << 26) | ((long) mes << 22) | ((long) dia << 17)
+            | ((long) hora << 12) | ((long) minuto << 6) | segundo;
+    }
+
+    private static boolean fechaValida(int anio, int mes, int dia, int hora, int minuto, int segundo) {
+        return anio >= 0 && anio <= ANIO_MAXIMO && mes >= 1 && mes <= 12 && dia >= 1 && dia <= diasDelMes(anio, mes)
+            && hora >= 0 && hora <= 23 && minuto >= 0 && minuto <= 59 && segundo >= 0 && segundo <= 59;
+    }
+
+    private static int diasDelMes(int anio, int mes) {
+        switch (mes) {
+            case 2:
+                boolean bisiesto = (anio % 4 == 0 && anio % 100 != 0) || anio % 400 == 0;
+                return bisiesto ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int leerDigitos(CharSequence codigo, int desde, int cantidad) {
+        int valor = 0;
+        for (int i = desde; i < desde + cantidad; i++) {
+            char c = codigo.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+
+    private static long leerHex(CharSequence codigo, int desde) {
+        long valor = 0;
+        for (int i = desde; i < desde + LONGITUD_SUFIJO; i++) {
+            char c = codigo.charAt(i);
+            int digito;
+            if (c >= '0' && c <= '9') {
+                digito = c - '0';
+            } else if (c >= 'A' && c <= 'F') {
+                digito = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            valor = (valor << 4) | digito;
+        }
+        return valor;
+    }
+
+    private static int escribirDigitos(long valor, int ancho, char[] destino, int desde) {
+        for (int i = desde + ancho - 1; i >= desde; i--) {
+            destino[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        return desde + ancho;
+    }
+
+    private static int compararPorFecha(CharSequence a, CharSequence b) {
+        // Un prefijo conocido no basta: truncados y compactos no tienen las regiones que se comparan
+        if (!esValido(a) || !esValido(b)) {
+            throw new IllegalArgumentException("Solo se pueden comparar códigos válidos");
+        }
+        int tipoA = tipoPrefijo(a);
+        int tipoB = tipoPrefijo(b);
+        int fechaA = CodigoUtils.PREFIJOS[tipoA - 1].length() + 1;
+        int fechaB = CodigoUtils.PREFIJOS[tipoB - 1].length() + 1;
+
+        int resultado = compararRegion(a, fechaA, b, fechaB, LONGITUD_FECHA);
+        if (resultado != 0) {
+            return resultado;
+        }
+        resultado = Integer.compare(tipoA, tipoB);
+        if (resultado != 0) {
+            return resultado;
+        }
+        return compararRegion(a, fechaA + LONGITUD_FECHA + 1, b, fechaB + LONGITUD_FECHA + 1, LONGITUD_SUFIJO);
+    }
+
+    private static int compararRegion(CharSequence a, int desdeA, CharSequence b, int desdeB, int longitud) {
+        for (int i = 0; i < longitud; i++) {
+            int diferencia = a.charAt(desdeA + i) - b.charAt(desdeB + i);
+            if (diferencia != 0) {
+                return diferencia;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.logistica.componentec.utils;
+
+import java.util.UUID;
+
+/**
+ * Utilidades para generación de códigos únicos en el sistema de logística.
+ * Proporciona métodos para generar identificadores únicos para diferentes entidades.
+ */
+public class CodigoUtils {
+
+    /**
+     * Tipos de entidad con su prefijo. Es la única fuente del mapeo: el orden forma parte del
+     * formato binario de {@link CodigoCodec}, así que los tipos nuevos se agregan antes de GENERICO
+     * solo junto con una nueva versión del formato.
+     */
+    private enum TipoEntidad {
+        CLIENTE("CLI"),
+        PEDIDO("PED"),
+        PROVEEDOR("PROV"),
+        FACTURA("FACT"),
+        USUARIO("USR"),
+        PRODUCTO("PROD"),
+        GENERICO("GEN");
+
+        private static final TipoEntidad[] VALORES = values();
+
+        private final String prefijo;
+
+        TipoEntidad(String prefijo) {
+            this.prefijo = prefijo;
+        }
+    }
+
+    /** Prefijos conocidos de {@link #obtenerPrefijo(String)}, en el orden usado por {@link CodigoCodec}. */
+    static final String[] PREFIJOS = prefijos();
+
+    private static String[] prefijos() {
+        String[] prefijos = new String[TipoEntidad.VALORES.length];
+        for (TipoEntidad tipo : TipoEntidad.VALORES) {
+            prefijos[tipo.ordinal()] = tipo.prefijo;
+        }
+        return prefijos;
+    }
+
+    /**
+     * Genera un código único basado en el tipo de entidad, con la forma
+     * {@code PREFIJO-yyyyMMddHHmmss-XXXXXXXX}. El sufijo se deriva de {@link GeneradorIds},
+     * por lo que no se repite dentro del mismo nodo.
+     * 
+     * @param tipoEntidad Tipo de entidad (CLIENTE, PEDIDO, PROVEEDOR, FACTURA)
+     * @return Código único generado
+     * @throws IllegalArgumentException si el tipo de entidad es null o vacío
+     */
+    public static String generarCodigoUnico(String tipoEntidad) {
+        if (tipoEntidad == null || tipoEntidad.trim().isEmpty()) {
+            throw new IllegalArgumentException("El tipo de entidad no puede ser null o vacío");
+        }
+
+        String prefijo = obtenerPrefijo(tipoEntidad.toUpperCase());
+        return GeneradorIds.formatearCodigo(prefijo, GeneradorIds.predeterminado().siguiente());
+    }
+
+    /**
+     * Genera un código único compacto y ordenable, con la forma {@code PREFIJO-XXXXXXXXXXXXX}
+     * (13 caracteres Base32 de Crockford).
+     *
+     * @param tipoEntidad Tipo de entidad (CLIENTE, PEDIDO, PROVEEDOR, FACTURA)
+     * @return Código único compacto
+     * @throws IllegalArgumentException si el tipo de entidad es null o vacío
+     */
+    public static String generarCodigoCompacto(String tipoEntidad) {
+        if (tipoEntidad == null || tipoEntidad.trim().isEmpty()) {
+            throw new IllegalArgumentException("El tipo de entidad no puede ser null o vacío");
+        }
+
+        String prefijo = obtenerPrefijo(tipoEntidad.toUpperCase());
+        return prefijo + "-" + GeneradorIds.aBase32(GeneradorIds.predeterminado().siguiente());
+    }
+
+    /**
+     * Genera códigos únicos en bloque para un tipo de entidad.
+     * Reserva todos los identificadores con una sola operación atómica y resuelve el prefijo
+     * y la fecha una sola vez, por lo que cada código cuesta solo la escritura de su sufijo.
+     *
+     * @param tipoEntidad Tipo de entidad (CLIENTE, PEDIDO, PROVEEDOR, FACTURA)
+     * @param cantidad Cantidad de códigos a generar
+     * @return Códigos generados, en orden de generación
+     * @throws IllegalArgumentException si el tipo de entidad es null o vacío, o la cantidad es negativa
+     */
+    public static String[] generarCodigos(String tipoEntidad, int cantidad) {
+        validarTipoEntidad(tipoEntidad);
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("La cantidad no puede ser negativa");
+        }
+        String[] codigos = new String[cantidad];
+        generarCodigos(tipoEntidad, codigos, 0, cantidad);
+        return codigos;
+    }
+
+    /**
+     * Genera códigos únicos en bloque dentro de un arreglo preasignado.
+     *
+     * @param tipoEntidad Tipo de entidad
+     * @param destino Arreglo destino
+     * @param desde Posición inicial en el destino
+     * @param cantidad Cantidad de códigos a generar
+     */
+    public static void generarCodigos(String tipoEntidad, String[] destino, int desde, int cantidad) {
+        String prefijo = obtenerPrefijo(validarTipoEntidad(tipoEntidad).toUpperCase());
+        if (destino == null) {
+            throw new IllegalArgumentException("El destino no puede ser null");
+        }
+        if (desde < 0 || cantidad < 0 || desde > destino.length - cantidad) {
+            throw new IndexOutOfBoundsException("Rango inválido para el destino de " + destino.length + " posiciones");
+        }
+        if (cantidad == 0) {
+            return;
+        }
+
+        char[] buffer = new char[longitudConPrefijo(prefijo)];
+        GeneradorIds.BloqueIds bloque = GeneradorIds.predeterminado().reservar(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            GeneradorIds.escribirCodigo(prefijo, bloque.id(i), buffer, 0);
+            destino[desde + i] = new String(buffer);
+        }
+    }
+
+    /**
+     * Escribe códigos únicos consecutivos en un búfer de caracteres, sin crear objetos por código.
+     * Todos los códigos tienen la longitud {@link #longitudCodigo(String)} del tipo de entidad
+     * y se escriben uno tras otro sin separador.
+     *
+     * @param tipoEntidad Tipo de entidad
+     * @param cantidad Cantidad de códigos a escribir
+     * @param destino Búfer destino
+     * @param desde Posición inicial en el búfer
+     * @return Posición siguiente al último carácter escrito
+     */
+    public static int escribirCodigos(String tipoEntidad, int cantidad, char[] destino, int desde) {
+        String prefijo = obtenerPrefijo(validarTipoEntidad(tipoEntidad).toUpperCase());
+        int longitud = longitudConPrefijo(prefijo);
+        if (destino == null) {
+            throw new IllegalArgumentException("El destino no puede ser null");
+        }
+        if (desde < 0 || cantidad < 0 || (long) desde + (long) cantidad * longitud > destino.length) {
+            throw new IndexOutOfBoundsException("El búfer no tiene espacio para " + cantidad + " códigos");
+        }
+        if (cantidad == 0) {
+            return desde;
+        }
+
+        GeneradorIds.BloqueIds bloque = GeneradorIds.predeterminado().reservar(cantidad);
+        int posicion = desde;
+        for (int i = 0; i < cantidad; i++) {
+            posicion = GeneradorIds.escribirCodigo(prefijo, bloque.id(i), destino, posicion);
+        }
+        return posicion;
+    }
+
+    /**
+     * Obtiene la longitud de los códigos únicos de un tipo de entidad.
+     */
+    public static int longitudCodigo(String tipoEntidad) {
+        return longitudConPrefijo(obtenerPrefijo(validarTipoEntidad(tipoEntidad).toUpperCase()));
+    }
+
+    private static int longitudConPrefijo(String prefijo) {
+        return prefijo.length() + GeneradorIds.LONGITUD_FECHA + GeneradorIds.LONGITUD_SUFIJO + 2;
+    }
+
+    private static String validarTipoEntidad(String tipoEntidad) {
+        if (tipoEntidad == null || tipoEntidad.trim().isEmpty()) {
+            throw new IllegalArgumentException("El tipo de entidad no puede ser null o vacío");
+        }
+        return tipoEntidad;
+    }
+
+    /**
+     * Genera un código único simple usando UUID.
+     * 
+     * @return Código UUID sin guiones
+     */
+    public static String generarCodigoSimple() {
+        return UUID.randomUUID().toString().replace("-", "").toUpperCase();
+    }
+
+    /**
+     * Genera un código con prefijo personalizado.
+     * 
+     * @param prefijo Prefijo personalizado
+     * @return Código con prefijo
+     */
+    public static String generarCodigoConPrefijo(String prefijo) {
+        if (prefijo == null || prefijo.trim().isEmpty()) {
+            throw new IllegalArgumentException("El prefijo no puede ser null o vacío");
+        }
+        
+        return prefijo.toUpperCase() + "-" + GeneradorIds.fechaActual();
+    }
+
+    /**
+     * Obtiene el prefijo correspondiente según el tipo de entidad.
+     * 
+     * @param tipoEntidad Tipo de entidad
+     * @return Prefijo correspondiente
+     */
+    private static String obtenerPrefijo(String tipoEntidad) {
+        for (TipoEntidad tipo : TipoEntidad.VALORES) {
+            if (tipo.name().equals(tipoEntidad)) {
+                return tipo.prefijo;
+            }
+        }
+        return TipoEntidad.GENERICO.prefijo;
+    }
+}
\ No newline at end of file
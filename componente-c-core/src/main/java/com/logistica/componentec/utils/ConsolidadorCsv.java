@@ -0,0 +1,468 @@
+package com.logistica.componentec.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Consolidación de exportaciones CSV de envíos o facturas: aplica a cada línea el descuento
+ * escalonado y el IVA de {@link ReglasCalculo} y acumula totales generales y por columna clave
+ * (ej: cliente o código de proyecto).
+ * <p>
+ * El archivo se mapea en memoria y se divide en fragmentos alineados a fin de línea que se
+ * procesan en paralelo con fork/join. Los montos se leen directamente de los bytes a centavos
+ * y las claves se agrupan en una tabla hash sobre bytes, sin crear objetos por línea. Cada línea
+ * se acumula con {@link AcumuladorExacto}, sin redondeo, por lo que los totales son idénticos a la
+ * suma de {@link CalculadoraUtils#calcularTotalEmpresarial(BigDecimal, ReglasCalculo)} por línea.
+ * Los montos con más de dos decimales significativos o que no caben en un long de centavos se
+ * leen como BigDecimal y siguen ese mismo cálculo, fuera de la ruta rápida.
+ * <p>
+ * Admite campos entre comillas dobles, fin de línea {@code \n} o {@code \r\n} y una línea de
+ * encabezado opcional; no admite saltos de línea dentro de un campo. Las líneas cuyo monto no es
+ * un decimal ({@code [+-]?[0-9]*([separador decimal][0-9]*)?}, sin exponente ni separador de
+ * miles) se descartan y se cuentan.
+ */
+public final class ConsolidadorCsv {
+
+    /** Tamaño máximo predeterminado de cada fragmento procesado por una tarea. */
+    static final int TAMANIO_FRAGMENTO = 16 * 1024 * 1024;
+
+    /** Tamaño mínimo de fragmento al repartir automáticamente archivos pequeños entre núcleos. */
+    static final int TAMANIO_FRAGMENTO_MINIMO = 1024 * 1024;
+
+    /** Fragmentos por hilo del pool al repartir automáticamente, para equilibrar la carga. */
+    private static final int FRAGMENTOS_POR_HILO = 4;
+
+    static final long MONTO_INVALIDO = TextoDecimal.INVALIDO;
+
+    private static final int TAMANIO_FRAGMENTO_MAXIMO = 1 << 30;
+
+    private static final int BLOQUE_BUSQUEDA = 8 * 1024;
+
+    private final int columnaClave;
+    private final int columnaMonto;
+    private final byte separador;
+    private final byte separadorDecimal;
+    private final boolean encabezado;
+    private final ReglasCalculo reglas;
+    private final int tamanioFragmento;
+    private final ForkJoinPool pool;
+
+    private ConsolidadorCsv(Builder builder) {
+        this.columnaClave = builder.columnaClave;
+        this.columnaMonto = builder.columnaMonto;
+        this.separador = (byte) builder.separador;
+        this.separadorDecimal = (byte) builder.separadorDecimal;
+        this.encabezado = builder.encabezado;
+        this.reglas = builder.reglas != null ? builder.reglas : CalculadoraUtils.obtenerReglas();
+        this.tamanioFragmento = builder.tamanioFragmento;
+        this.pool = builder.pool != null ? builder.pool : ForkJoinPool.commonPool();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Consolida el archivo indicado.
+     *
+     * @param archivo Archivo CSV
+     * @return Totales generales y por clave
+     * @throws IOException si el archivo no se puede leer
+     */
+    public ResultadoConsolidacion consolidar(Path archivo) throws IOException {
+        if (archivo == null) {
+            throw new IllegalArgumentException("El archivo no puede ser null");
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long[] limites = limites(canal);
+            Parcial parcial;
+            if (limites.length < 2) {
+                parcial = new Parcial(reglas);
+            } else {
+                try {
+                    parcial = pool.invoke(new TareaFragmentos(this, canal, limites, 0, limites.length - 1));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            return new ResultadoConsolidacion(parcial.tabla.totales(),
+                columnaClave >= 0 ? parcial.tabla.porClave() : Collections.emptyMap(),
+                parcial.invalidas, parcial.primeraInvalida);
+        }
+    }
+
+    /**
+     * Calcula los límites de los fragmentos: cada uno termina justo después de un salto de línea.
+     */
+    private long[] limites(FileChannel canal) throws IOException {
+        long tamanio = canal.size();
+        long tamanioFragmento = this.tamanioFragmento > 0 ? this.tamanioFragmento
+            : Math.min(TAMANIO_FRAGMENTO, Math.max(TAMANIO_FRAGMENTO_MINIMO,
+                tamanio / ((long) pool.getParallelism() * FRAGMENTOS_POR_HILO)));
+        long[] limites = new long[(int) Math.min(Integer.MAX_VALUE - 8, tamanio / tamanioFragmento + 2)];
+        int cantidad = 0;
+        if (tamanio > 0) {
+            limites[cantidad++] = 0;
+        }
+        ByteBuffer bloque = ByteBuffer.allocate(BLOQUE_BUSQUEDA);
+        long inicio = 0;
+        while (inicio < tamanio) {
+            long fin = inicio + tamanioFragmento >= tamanio ? tamanio : siguienteLinea(canal, inicio + tamanioFragmento, tamanio, bloque);
+            if (cantidad == limites.length) {
+                limites = Arrays.copyOf(limites, cantidad * 2);
+            }
+            limites[cantidad++] = fin;
+            inicio = fin;
+        }
+        return Arrays.copyOf(limites, cantidad);
+    }
+
+    /**
+     * Posición siguiente al primer salto de línea a partir de {@code desde - 1}, o el final del archivo.
+     */
+    private static long siguienteLinea(FileChannel canal, long desde, long tamanio, ByteBuffer bloque) throws IOException {
+        long posicion = desde - 1;
+        while (posicion < tamanio) {
+            bloque.clear();
+            int leidos = canal.read(bloque, posicion);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                if (bloque.get(i) == '\n') {
+                    return posicion + i + 1;
+                }
+            }
+            posicion += leidos;
+        }
+        return tamanio;
+    }
+
+    /**
+     * Procesa un fragmento mapeado completo.
+     */
+    private Parcial procesar(MappedByteBuffer datos, long desplazamiento, boolean primero) {
+        Parcial parcial = new Parcial(reglas);
+        TablaGrupos tabla = parcial.tabla;
+        int ultimaColumna = Math.max(columnaClave, columnaMonto);
+        int limite = datos.limit();
+        int posicion = 0;
+        if (primero && encabezado) {
+            while (posicion < limite && datos.get(posicion) != '\n') {
+                posicion++;
+            }
+            posicion++;
+        }
+
+        while (posicion < limite) {
+            int inicioLinea = posicion;
+            int columna = 0;
+            int inicioCampo = posicion;
+            int claveDesde = -1;
+            int claveHasta = -1;
+            int montoDesde = -1;
+            int montoHasta = -1;
+            boolean comillas = false;
+            byte b;
+            while (posicion < limite && (b = datos.get(posicion)) != '\n') {
+                if (b == '"') {
+                    comillas = !comillas;
+                } else if (b == separador && !comillas && columna <= ultimaColumna) {
+                    if (columna == columnaClave) {
+                        claveDesde = inicioCampo;
+                        claveHasta = posicion;
+                    }
+                    if (columna == columnaMonto) {
+                        montoDesde = inicioCampo;
+                        montoHasta = posicion;
+                    }
+                    columna++;
+                    inicioCampo = posicion + 1;
+                }
+                posicion++;
+            }
+            int finLinea = posicion > inicioLinea && datos.get(posicion - 1) == '\r' ? posicion - 1 : posicion;
+            posicion++;
+            if (finLinea == inicioLinea) {
+                continue;
+            }
+            if (columna == columnaClave) {
+                claveDesde = inicioCampo;
+                claveHasta = finLinea;
+            }
+            if (columna == columnaMonto) {
+                montoDesde = inicioCampo;
+                montoHasta = finLinea;
+            }
+
+            boolean completa = montoDesde >= 0 && (columnaClave < 0 || claveDesde >= 0);
+            long centavos = completa ? parsearCentavos(datos, montoDesde, montoHasta, separadorDecimal) : MONTO_INVALIDO;
+            BigDecimal decimal = null;
+            if (centavos == MONTO_INVALIDO) {
+                decimal = completa ? parsearDecimal(datos, montoDesde, montoHasta, separadorDecimal) : null;
+                if (decimal == null) {
+                    parcial.invalida(desplazamiento + inicioLinea);
+                    continue;
+                }
+            }
+            AcumuladorExacto grupo;
+            if (columnaClave >= 0) {
+                // Sin espacios ni comillas alrededor de la clave
+                while (claveDesde < claveHasta && datos.get(claveDesde) == ' ') {
+                    claveDesde++;
+                }
+                while (claveHasta > claveDesde && datos.get(claveHasta - 1) == ' ') {
+                    claveHasta--;
+                }
+                if (claveHasta - claveDesde >= 2 && datos.get(claveDesde) == '"' && datos.get(claveHasta - 1) == '"') {
+                    claveDesde++;
+                    claveHasta--;
+                }
+                grupo = tabla.grupo(datos, claveDesde, claveHasta);
+            } else {
+                grupo = tabla.grupo(datos, 0, 0);
+            }
+            if (decimal != null) {
+                grupo.agregar(decimal);
+            } else {
+                grupo.agregar(centavos);
+            }
+        }
+        return parcial;
+    }
+
+    /**
+     * Lee un monto decimal de {@code datos[desde, hasta)} como centavos, admitiendo espacios y
+     * comillas alrededor y un signo. Devuelve {@link #MONTO_INVALIDO} si no es un monto válido.
+     */
+    static long parsearCentavos(ByteBuffer datos, int desde, int hasta, byte separadorDecimal) {
+        while (desde < hasta && datos.get(desde) == ' ') {
+            desde++;
+        }
+        while (hasta > desde && datos.get(hasta - 1) == ' ') {
+            hasta--;
+        }
+        if (hasta - desde >= 2 && datos.get(desde) == '"' && datos.get(hasta - 1) == '"') {
+            desde++;
+            hasta--;
+        }
+        return TextoDecimal.leer(datos, desde, hasta, Money.ESCALA_CENTAVOS, separadorDecimal);
+    }
+
+    /**
+     * Lee un monto decimal de cualquier escala, con el mismo formato que
+     * {@link #parsearCentavos(ByteBuffer, int, int, byte)}. Ruta lenta para los montos que no
+     * caben en centavos. Devuelve null si no es un monto válido.
+     */
+    static BigDecimal parsearDecimal(ByteBuffer datos, int desde, int hasta, byte separadorDecimal) {
+        while (desde < hasta && datos.get(desde) == ' ') {
+            desde++;
+        }
+        while (hasta > desde && datos.get(hasta - 1) == ' ') {
+            hasta--;
+        }
+        if (hasta - desde >= 2 && datos.get(desde) == '"' && datos.get(hasta - 1) == '"') {
+            desde++;
+            hasta--;
+        }
+        char[] texto = new char[hasta - desde];
+        boolean separador = false;
+        boolean digitos = false;
+        for (int i = desde; i < hasta; i++) {
+            byte b = datos.get(i);
+            if (b >= '0' && b <= '9') {
+                texto[i - desde] = (char) b;
+                digitos = true;
+            } else if (b == separadorDecimal && !separador) {
+                texto[i - desde] = '.';
+                separador = true;
+            } else if (i == desde && (b == '-' || b == '+')) {
+                texto[i - desde] = (char) b;
+            } else {
+                return null;
+            }
+        }
+        return digitos ? new BigDecimal(texto) : null;
+    }
+
+    /**
+     * Resultado parcial de uno o varios fragmentos.
+     */
+    private static final class Parcial {
+        private final TablaGrupos tabla;
+        private long invalidas;
+        private long primeraInvalida = -1;
+
+        Parcial(ReglasCalculo reglas) {
+            this.tabla = new TablaGrupos(reglas);
+        }
+
+        void invalida(long posicion) {
+            if (invalidas++ == 0) {
+                primeraInvalida = posicion;
+            }
+        }
+
+        /**
+         * Combina un parcial de fragmentos posteriores a los de este.
+         */
+        Parcial combinar(Parcial siguiente) {
+            tabla.combinar(siguiente.tabla);
+            if (invalidas == 0) {
+                primeraInvalida = siguiente.primeraInvalida;
+            }
+            invalidas += siguiente.invalidas;
+            return this;
+        }
+    }
+
+    private static final class TareaFragmentos extends RecursiveTask<Parcial> {
+        private static final long serialVersionUID = 1L;
+
+        private final ConsolidadorCsv consolidador;
+        private final FileChannel canal;
+        private final long[] limites;
+        private final int desde;
+        private final int hasta;
+
+        TareaFragmentos(ConsolidadorCsv consolidador, FileChannel canal, long[] limites, int desde, int hasta) {
+            this.consolidador = consolidador;
+            this.canal = canal;
+            this.limites = limites;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Parcial compute() {
+            if (hasta - desde == 1) {
+                long inicio = limites[desde];
+                try {
+                    MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, inicio, limites[hasta] - inicio);
+                    return consolidador.procesar(datos, inicio, desde == 0);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaFragmentos derecha = new TareaFragmentos(consolidador, canal, limites, medio, hasta);
+            derecha.fork();
+            Parcial izquierda = new TareaFragmentos(consolidador, canal, limites, desde, medio).compute();
+            return izquierda.combinar(derecha.join());
+        }
+    }
+
+    /**
+     * Builder del consolidador. La columna del monto es obligatoria; las columnas se cuentan desde 0.
+     */
+    public static final class Builder {
+        private int columnaClave = -1;
+        private int columnaMonto = -1;
+        private char separador = ',';
+        private char separadorDecimal = '.';
+        private boolean encabezado;
+        private ReglasCalculo reglas;
+        private int tamanioFragmento;
+        private ForkJoinPool pool;
+
+        private Builder() {
+        }
+
+        /**
+         * Columna por la que se agrupan los totales. Sin ella solo se calculan totales generales.
+         */
+        public Builder columnaClave(int columna) {
+            if (columna < 0) {
+                throw new IllegalArgumentException("La columna clave no puede ser negativa");
+            }
+            this.columnaClave = columna;
+            return this;
+        }
+
+        public Builder columnaMonto(int columna) {
+            if (columna < 0) {
+                throw new IllegalArgumentException("La columna del monto no puede ser negativa");
+            }
+            this.columnaMonto = columna;
+            return this;
+        }
+
+        public Builder separador(char separador) {
+            this.separador = validarAscii(separador, "El separador");
+            return this;
+        }
+
+        public Builder separadorDecimal(char separadorDecimal) {
+            this.separadorDecimal = validarAscii(separadorDecimal, "El separador decimal");
+            return this;
+        }
+
+        /** Indica si la primera línea del archivo es un encabezado. */
+        public Builder encabezado(boolean encabezado) {
+            this.encabezado = encabezado;
+            return this;
+        }
+
+        /** Reglas de cálculo; por defecto las vigentes en {@link CalculadoraUtils} al construir. */
+        public Builder reglas(ReglasCalculo reglas) {
+            if (reglas == null) {
+                throw new IllegalArgumentException("Las reglas no pueden ser null");
+            }
+            this.reglas = reglas;
+            return this;
+        }
+
+        /**
+         * Tamaño aproximado en bytes de cada fragmento; se extiende hasta el siguiente fin de línea.
+         * Por defecto se reparte el archivo en varios fragmentos por hilo del pool, de entre
+         * {@value ConsolidadorCsv#TAMANIO_FRAGMENTO_MINIMO} y {@value ConsolidadorCsv#TAMANIO_FRAGMENTO} bytes.
+         */
+        public Builder tamanioFragmento(int bytes) {
+            if (bytes < 1 || bytes > TAMANIO_FRAGMENTO_MAXIMO) {
+                throw new IllegalArgumentException("El tamaño de fragmento debe estar entre 1 y " + TAMANIO_FRAGMENTO_MAXIMO);
+            }
+            this.tamanioFragmento = bytes;
+            return this;
+        }
+
+        /** Pool que procesa los fragmentos; por defecto el pool común. */
+        public Builder pool(ForkJoinPool pool) {
+            if (pool == null) {
+                throw new IllegalArgumentException("El pool no puede ser null");
+            }
+            this.pool = pool;
+            return this;
+        }
+
+        public ConsolidadorCsv build() {
+            if (columnaMonto < 0) {
+                throw new IllegalArgumentException("Debe indicarse la columna del monto");
+            }
+            if (columnaMonto == columnaClave) {
+                throw new IllegalArgumentException("La columna clave y la del monto deben ser distintas");
+            }
+            if (separador == separadorDecimal || separador == '"' || separadorDecimal == '"') {
+                throw new IllegalArgumentException("Separadores incompatibles");
+            }
+            return new ConsolidadorCsv(this);
+        }
+
+        private static char validarAscii(char caracter, String nombre) {
+            if (caracter == '\n' || caracter == '\r' || caracter > 0x7F) {
+                throw new IllegalArgumentException(nombre + " debe ser un carácter ASCII distinto del fin de línea");
+            }
+            return caracter;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.logistica.componentec.utils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de identificadores de 63 bits ordenados por tiempo, al estilo Snowflake.
+ * Distribución de bits (de mayor a menor): 41 de milisegundos desde {@link #EPOCA},
+ * 12 de secuencia y 10 de nodo.
+ * El estado (milisegundo y secuencia) vive en un único AtomicLong que se actualiza con CAS,
+ * por lo que el generador no usa bloqueos y es estrictamente monótono dentro del nodo.
+ * Si la secuencia se agota en un milisegundo, o si el reloj retrocede, el generador toma
+ * prestado el milisegundo siguiente en lugar de esperar.
+ * <p>
+ * Los identificadores solo son únicos entre procesos si cada proceso usa un nodo distinto.
+ * Configure {@value #PROPIEDAD_NODO} por proceso; sin ella, {@link #predeterminado()} deriva
+ * el nodo del host y del PID, lo que distingue procesos del mismo host pero no garantiza
+ * unicidad entre hosts, y lo advierte en el log.
+ */
+public final class GeneradorIds {
+
+    /** Época del generador: 2020-01-01T00:00:00Z. */
+    public static final long EPOCA = 1_577_836_800_000L;
+
+    /** Propiedad de sistema con el identificador de nodo (0 a 1023). */
+    public static final String PROPIEDAD_NODO = "componentec.nodo";
+
+    static final int BITS_NODO = 10;
+    static final int BITS_SECUENCIA = 12;
+    static final long MAXIMO_NODO = (1L << BITS_NODO) - 1;
+    static final long MASCARA_SECUENCIA = (1L << BITS_SECUENCIA) - 1;
+
+    /** Longitud del sufijo hexadecimal y de la marca de tiempo en los códigos. */
+    static final int LONGITUD_SUFIJO = 8;
+    static final int LONGITUD_FECHA = 14;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static volatile GeneradorIds predeterminado;
+
+    private static volatile SegundoFormateado ultimoSegundo = new SegundoFormateado(Long.MIN_VALUE, null);
+
+    private final long nodo;
+    private final AtomicLong estado = new AtomicLong();
+
+    /**
+     * Crea un generador para un nodo.
+     *
+     * @param nodo Identificador de nodo entre 0 y 1023, único por proceso generador
+     */
+    public GeneradorIds(int nodo) {
+        if (nodo < 0 || nodo > MAXIMO_NODO) {
+            throw new IllegalArgumentException("El nodo debe estar entre 0 y " + MAXIMO_NODO);
+        }
+        this.nodo = nodo;
+    }
+
+    /**
+     * Genera el siguiente identificador.
+     *
+     * @return Identificador positivo, mayor que todos los anteriores de este generador
+     */
+    public long siguiente() {
+        long ahora = System.currentTimeMillis() - EPOCA;
+        long actual;
+        long nuevo;
+        do {
+            actual = estado.get();
+            nuevo = ahora > (actual >>> BITS_SECUENCIA) ? ahora << BITS_SECUENCIA : actual + 1;
+        } while (!estado.compareAndSet(actual, nuevo));
+        return (nuevo << BITS_NODO) | nodo;
+    }
+
+    /**
+     * Reserva un bloque de identificadores consecutivos con una sola operación atómica.
+     * Si el bloque no cabe en la secuencia del milisegundo actual, continúa en los siguientes.
+     *
+     * @param cantidad Cantidad de identificadores a reservar (mayor que 0)
+     * @return Bloque reservado, para uso de un solo hilo
+     */
+    public BloqueIds reservar(int cantidad) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor que 0");
+        }
+
+        long ahora = System.currentTimeMillis() - EPOCA;
+        long actual;
+        long inicio;
+        do {
+            actual = estado.get();
+            inicio = ahora > (actual >>> BITS_SECUENCIA) ? ahora << BITS_SECUENCIA : actual + 1;
+        } while (!estado.compareAndSet(actual, inicio + cantidad - 1));
+        return new BloqueIds(inicio, cantidad, nodo);
+    }
+
+    public int getNodo() {
+        return (int) nodo;
+    }
+
+    /**
+     * Obtiene el generador compartido del proceso, creado en el primer uso. El nodo se toma de
+     * {@value #PROPIEDAD_NODO} o, si no está configurada, se deriva del host y del PID.
+     *
+     * @throws IllegalArgumentException si {@value #PROPIEDAD_NODO} no es un entero entre 0 y 1023
+     */
+    public static GeneradorIds predeterminado() {
+        GeneradorIds generador = predeterminado;
+        if (generador == null) {
+            synchronized (GeneradorIds.class) {
+                generador = predeterminado;
+                if (generador == null) {
+                    generador = new GeneradorIds(nodoPredeterminado());
+                    predeterminado = generador;
+                }
+            }
+        }
+        return generador;
+    }
+
+    /**
+     * Rango de identificadores reservado por {@link #reservar(int)}.
+     * No es seguro para hilos: cada hilo reserva y consume su propio bloque.
+     */
+    public static final class BloqueIds {
+        private final long inicio;
+        private final int cantidad;
+        private final long nodo;
+        private int consumidos;
+
+        private BloqueIds(long inicio, int cantidad, long nodo) {
+            this.inicio = inicio;
+            this.cantidad = cantidad;
+            this.nodo = nodo;
+        }
+
+        /**
+         * Obtiene el identificador en la posición indicada del bloque.
+         */
+        public long id(int indice) {
+            if (indice < 0 || indice >= cantidad) {
+                throw new IndexOutOfBoundsException("Índice " + indice + " fuera del bloque de " + cantidad);
+            }
+            return ((inicio + indice) << BITS_NODO) | nodo;
+        }
+
+        /**
+         * Consume el siguiente identificador del bloque.
+         *
+         * @throws IllegalStateException si el bloque está agotado
+         */
+        public long siguiente() {
+            if (consumidos >= cantidad) {
+                throw new IllegalStateException("El bloque de identificadores está agotado");
+            }
+            return ((inicio + consumidos++) << BITS_NODO) | nodo;
+        }
+
+        public int cantidad() { return cantidad; }
+        public int restantes() { return cantidad - consumidos; }
+    }
+
+    // Descomposición de identificadores
+
+    /**
+     * Obtiene el instante en milisegundos (época Unix) de un identificador.
+     */
+    public static long milisegundos(long id) {
+        return (id >>> (BITS_NODO + BITS_SECUENCIA)) + EPOCA;
+    }
+
+    /**
+     * Obtiene la secuencia dentro del milisegundo de un identificador.
+     */
+    public static int secuencia(long id) {
+        return (int) ((id >>> BITS_NODO) & MASCARA_SECUENCIA);
+    }
+
+    /**
+     * Obtiene el nodo que generó un identificador.
+     */
+    public static int nodo(long id) {
+        return (int) (id & MAXIMO_NODO);
+    }
+
+    /**
+     * Sufijo de 32 bits único dentro del segundo: milisegundo (10 bits), secuencia (12) y nodo (10).
+     */
+    static long sufijo(long id) {
+        long milisegundoDelSegundo = Math.floorMod(milisegundos(id), 1000L);
+        return (milisegundoDelSegundo << (BITS_SECUENCIA + BITS_NODO)) | (id & ((1L << (BITS_SECUENCIA + BITS_NODO)) - 1));
+    }
+
+    // Representaciones de texto
+
+    /**
+     * Formatea un identificador con la forma {@code PREFIJO-yyyyMMddHHmmss-XXXXXXXX}
+     * usada por {@link CodigoUtils#generarCodigoUnico(String)}. La fecha es la hora local del sistema;
+     * en la hora repetida al salir del horario de verano, {@link #aBase32(long)} es la forma
+     * que garantiza unicidad estricta.
+     *
+     * @param prefijo Prefijo del código
+     * @param id Identificador generado
+     * @return Código formateado
+     */
+    public static String formatearCodigo(String prefijo, long id) {
+        char[] destino = new char[prefijo.length() + LONGITUD_FECHA + LONGITUD_SUFIJO + 2];
+        escribirCodigo(prefijo, id, destino, 0);
+        return new String(destino);
+    }
+
+    /**
+     * Escribe el código de un identificador en un búfer de caracteres.
+     *
+     * @return Posición siguiente al último carácter escrito
+     */
+    static int escribirCodigo(String prefijo, long id, char[] destino, int desde) {
+        int posicion = desde;
+        int longitudPrefijo = prefijo.length();
+        prefijo.getChars(0, longitudPrefijo, destino, posicion);
+        posicion += longitudPrefijo;
+        destino[posicion++] = '-';
+        posicion = escribirFecha(Math.floorDiv(milisegundos(id), 1000L), destino, posicion);
+        destino[posicion++] = '-';
+        return escribirHex(sufijo(id), LONGITUD_SUFIJO, destino, posicion);
+    }
+
+    /**
+     * Escribe un segundo de época como {@code yyyyMMddHHmmss} en hora local del sistema.
+     * El último segundo formateado se reutiliza entre llamadas e hilos.
+     */
+    static int escribirFecha(long segundoEpoca, char[] destino, int desde) {
+        SegundoFormateado cache = ultimoSegundo;
+        if (cache.segundo != segundoEpoca) {
+            cache = new SegundoFormateado(segundoEpoca, formatearFecha(segundoEpoca));
+            ultimoSegundo = cache;
+        }
+        System.arraycopy(cache.digitos, 0, destino, desde, LONGITUD_FECHA);
+        return desde + LONGITUD_FECHA;
+    }
+
+    /**
+     * Formatea el segundo actual como {@code yyyyMMddHHmmss} en hora local del sistema.
+     */
+    static String fechaActual() {
+        char[] digitos = new char[LONGITUD_FECHA];
+        escribirFecha(Math.floorDiv(System.currentTimeMillis(), 1000L), digitos, 0);
+        return new String(digitos);
+    }
+
+    private static char[] formatearFecha(long segundoEpoca) {
+        ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(segundoEpoca));
+        LocalDateTime fecha = LocalDateTime.ofEpochSecond(segundoEpoca, 0, offset);
+        char[] digitos = new char[LONGITUD_FECHA];
+        escribirDigitos(fecha.getYear(), 4, digitos, 0);
+        escribirDigitos(fecha.getMonthValue(), 2, digitos, 4);
+        escribirDigitos(fecha.getDayOfMonth(), 2, digitos, 6);
+        escribirDigitos(fecha.getHour(), 2, digitos, 8);
+        escribirDigitos(fecha.getMinute(), 2, digitos, 10);
+        escribirDigitos(fecha.getSecond(), 2, digitos, 12);
+        return digitos;
+    }
+
+    private static void escribirDigitos(int valor, int ancho, char[] destino, int desde) {
+        for (int i = desde + ancho - 1; i >= desde; i--) {
+            destino[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+
+    static int escribirHex(long valor, int ancho, char[] destino, int desde) {
+        for (int i = desde + ancho - 1; i >= desde; i--) {
+            destino[i] = HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+        return desde + ancho;
+    }
+
+    /**
+     * Representación compacta de 13 caracteres en Base32 de Crockford.
+     * Tiene ancho fijo, por lo que el orden lexicográfico coincide con el orden de generación.
+     */
+    public static String aBase32(long id) {
+        char[] destino = new char[13];
+        for (int i = 12; i >= 0; i--) {
+            destino[i] = BASE32[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(destino);
+    }
+
+    private static int nodoPredeterminado() {
+        String configurado = System.getProperty(PROPIEDAD_NODO);
+        if (configurado != null && !configurado.isBlank()) {
+            return nodoConfigurado(configurado);
+        }
+
+        int nodo = nodoDerivado(huellaHost(), ProcessHandle.current().pid());
+        System.getLogger(GeneradorIds.class.getName()).log(System.Logger.Level.WARNING,
+            "{0} no está configurado; se usa el nodo {1} derivado del host y del PID. Configure un nodo "
+                + "distinto por proceso para garantizar identificadores únicos entre hosts.",
+            PROPIEDAD_NODO, nodo);
+        return nodo;
+    }
+
+    /**
+     * Interpreta el valor de {@value #PROPIEDAD_NODO}.
+     *
+     * @throws IllegalArgumentException si no es un entero entre 0 y 1023
+     */
+    static int nodoConfigurado(String valor) {
+        int nodo;
+        try {
+            nodo = Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + PROPIEDAD_NODO + ": " + valor, e);
+        }
+        if (nodo < 0 || nodo > MAXIMO_NODO) {
+            throw new IllegalArgumentException(
+                PROPIEDAD_NODO + " debe estar entre 0 y " + MAXIMO_NODO + ": " + valor);
+        }
+        return nodo;
+    }
+
+    /**
+     * Combina la huella del host con el PID. En un mismo host, dos procesos reciben nodos
+     * distintos salvo que sus PID coincidan módulo 1024.
+     */
+    static int nodoDerivado(long huellaHost, long pid) {
+        long plegada = huellaHost ^ (huellaHost >>> 10) ^ (huellaHost >>> 20) ^ (huellaHost >>> 30)
+            ^ (huellaHost >>> 40) ^ (huellaHost >>> 50) ^ (huellaHost >>> 60);
+        return (int) ((pid ^ plegada) & MAXIMO_NODO);
+    }
+
+    /**
+     * Huella del host: la primera dirección MAC disponible o, si no hay, el nombre del host.
+     */
+    private static long huellaHost() {
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface interfaz = interfaces.nextElement();
+                byte[] mac = interfaz.isLoopback() ? null : interfaz.getHardwareAddress();
+                if (mac != null && mac.length > 0) {
+                    return Arrays.hashCode(mac) * 0x9E3779B97F4A7C15L;
+                }
+            }
+        } catch (IOException | SecurityException e) {
+            // Se intenta con el nombre del host
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName().hashCode() * 0x9E3779B97F4A7C15L;
+        } catch (IOException | SecurityException e) {
+            return 0;
+        }
+    }
+
+    private static final class SegundoFormateado {
+        private final long segundo;
+        private final char[] digitos;
+
+        SegundoFormateado(long segundo, char[] digitos) {
+            this.segundo = segundo;
+            this.digitos = digitos;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.logistica.componentec.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetario de punto fijo respaldado por un {@code long} de unidades menores
+ * (ej: centavos) con una escala de moneda explícita.
+ * Los porcentajes se expresan en puntos base (1500 = 15.00%) y todo redondeo es HALF_EVEN.
+ * Los métodos estáticos sobre {@code long} no crean objetos y son los usados en rutas calientes;
+ * la conversión a y desde BigDecimal se reserva para los bordes del sistema.
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Escala de moneda por defecto (centavos). */
+    public static final int ESCALA_CENTAVOS = 2;
+
+    /** Denominador de los porcentajes expresados en puntos base. */
+    public static final long PUNTOS_BASE = 10_000L;
+
+    private static final int ESCALA_MAXIMA = 18;
+
+    private final long unidadesMenores;
+    private final int escala;
+
+    private Money(long unidadesMenores, int escala) {
+        this.unidadesMenores = unidadesMenores;
+        this.escala = escala;
+    }
+
+    /**
+     * Crea un valor a partir de unidades menores y escala.
+     *
+     * @param unidadesMenores Cantidad en unidades menores (ej: 1050 = 10.50 con escala 2)
+     * @param escala Número de decimales de la moneda (0 a 18)
+     * @return Valor monetario
+     */
+    public static Money of(long unidadesMenores, int escala) {
+        validarEscala(escala);
+        return new Money(unidadesMenores, escala);
+    }
+
+    /**
+     * Crea un valor en centavos (escala 2).
+     */
+    public static Money deCentavos(long centavos) {
+        return new Money(centavos, ESCALA_CENTAVOS);
+    }
+
+    /**
+     * Convierte un BigDecimal sin pérdida a la escala indicada.
+     *
+     * @param valor Valor a convertir
+     * @param escala Escala de la moneda
+     * @return Valor monetario equivalente
+     * @throws IllegalArgumentException si el valor es null
+     * @throws ArithmeticException si el valor tiene más decimales que la escala o no cabe en un long
+     */
+    public static Money deBigDecimal(BigDecimal valor, int escala) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+        validarEscala(escala);
+        return new Money(valor.setScale(escala, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), escala);
+    }
+
+    /**
+     * Convierte un BigDecimal a la escala indicada redondeando HALF_EVEN.
+     *
+     * @throws ArithmeticException si el valor no cabe en un long
+     */
+    public static Money deBigDecimalRedondeado(BigDecimal valor, int escala) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+        validarEscala(escala);
+        return new Money(valor.setScale(escala, RoundingMode.HALF_EVEN).unscaledValue().longValueExact(), escala);
+    }
+
+    /**
+     * Convierte un porcentaje (ej: 15.00) a puntos base (ej: 1500) sin pérdida.
+     *
+     * @throws ArithmeticException si el porcentaje tiene más de dos decimales
+     */
+    public static long aPuntosBase(BigDecimal porcentaje) {
+        if (porcentaje == null) {
+            throw new IllegalArgumentException("El porcentaje no puede ser null");
+        }
+        return porcentaje.movePointRight(2).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+    }
+
+    /**
+     * Convierte puntos base a porcentaje con dos decimales (ej: 1500 a 15.00).
+     */
+    public static BigDecimal dePuntosBase(long puntosBase) {
+        return BigDecimal.valueOf(puntosBase, 2);
+    }
+
+    // Núcleos primitivos: sin asignaciones, usados por CalculadoraUtils
+
+    /**
+     * Calcula el porcentaje de una cantidad de unidades menores, redondeando HALF_EVEN
+     * a la misma escala de la cantidad.
+     *
+     * @param unidadesMenores Cantidad base
+     * @param puntosBase Porcentaje en puntos base
+     * @return Porcentaje calculado en unidades menores
+     * @throws ArithmeticException si el producto desborda un long
+     */
+    public static long porcentaje(long unidadesMenores, long puntosBase) {
+        return dividirHalfEven(Math.multiplyExact(unidadesMenores, puntosBase), PUNTOS_BASE);
+    }
+
+    /**
+     * Aplica un descuento en puntos base a una cantidad de unidades menores.
+     */
+    public static long aplicarDescuento(long unidadesMenores, long puntosBase) {
+        return Math.subtractExact(unidadesMenores, porcentaje(unidadesMenores, puntosBase));
+    }
+
+    /**
+     * Suma un impuesto en puntos base a una cantidad de unidades menores.
+     */
+    public static long sumarImpuesto(long unidadesMenores, long puntosBase) {
+        return Math.addExact(unidadesMenores, porcentaje(unidadesMenores, puntosBase));
+    }
+
+    /**
+     * División entera con redondeo HALF_EVEN.
+     */
+    static long dividirHalfEven(long dividendo, long divisor) {
+        long cociente = dividendo / divisor;
+        long resto = dividendo % divisor;
+        if (resto == 0) {
+            return cociente;
+        }
+        long dobleResto = Math.abs(resto) << 1;
+        long divisorAbs = Math.abs(divisor);
+        if (dobleResto > divisorAbs || (dobleResto == divisorAbs && (cociente & 1) != 0)) {
+            return (dividendo ^ divisor) < 0 ? cociente - 1 : cociente + 1;
+        }
+        return cociente;
+    }
+
+    // Operaciones de valor
+
+    public Money sumar(Money otro) {
+        validarMismaEscala(otro);
+        return new Money(Math.addExact(unidadesMenores, otro.unidadesMenores), escala);
+    }
+
+    public Money restar(Money otro) {
+        validarMismaEscala(otro);
+        return new Money(Math.subtractExact(unidadesMenores, otro.unidadesMenores), escala);
+    }
+
+    /**
+     * Calcula el porcentaje indicado en puntos base de este valor.
+     */
+    public Money porcentaje(long puntosBase) {
+        return new Money(porcentaje(unidadesMenores, puntosBase), escala);
+    }
+
+    /**
+     * Aplica un descuento en puntos base a este valor.
+     */
+    public Money aplicarDescuento(long puntosBase) {
+        return new Money(aplicarDescuento(unidadesMenores, puntosBase), escala);
+    }
+
+    /**
+     * Suma un impuesto en puntos base a este valor.
+     */
+    public Money sumarImpuesto(long puntosBase) {
+        return new Money(sumarImpuesto(unidadesMenores, puntosBase), escala);
+    }
+
+    /**
+     * Convierte el valor a BigDecimal sin pérdida.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unidadesMenores, escala);
+    }
+
+    public long getUnidadesMenores() { return unidadesMenores; }
+    public int getEscala() { return escala; }
+
+    @Override
+    public int compareTo(Money otro) {
+        validarMismaEscala(otro);
+        return Long.compare(unidadesMenores, otro.unidadesMenores);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money otro = (Money) o;
+        return unidadesMenores == otro.unidadesMenores && escala == otro.escala;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(unidadesMenores) + escala;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private void validarMismaEscala(Money otro) {
+        if (otro == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+        if (otro.escala != escala) {
+            throw new IllegalArgumentException("Escalas distintas: " + escala + " y " + otro.escala);
+        }
+    }
+
+    private static void validarEscala(int escala) {
+        if (escala < 0 || escala > ESCALA_MAXIMA) {
+            throw new IllegalArgumentException("La escala debe estar entre 0 y " + ESCALA_MAXIMA);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.logistica.componentec.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Tabla compilada de tramos de descuento e IVA empresarial.
+ * Los umbrales se guardan ordenados en un arreglo primitivo de centavos y se buscan por
+ * búsqueda binaria (O(log n), sin asignaciones); los porcentajes se precalculan en puntos
+ * base y como factores BigDecimal ya divididos entre 100.
+ * Un monto menor al primer umbral recibe el porcentaje del primer tramo.
+ * Las instancias son inmutables y se pueden compartir entre hilos.
+ */
+public final class ReglasCalculo {
+
+    private static final String CLAVE_IVA = "iva";
+    private static final String PREFIJO_DESCUENTO = "descuento.";
+    private static final BigDecimal CIEN = BigDecimal.valueOf(100);
+
+    /** Reglas empresariales por defecto: 5% / 10% desde $1,000 / 15% desde $5,000 e IVA 15%. */
+    public static final ReglasCalculo PREDETERMINADAS = builder()
+        .iva(new BigDecimal("15.00"))
+        .tramo(new BigDecimal("0.00"), new BigDecimal("5.00"))
+        .tramo(new BigDecimal("1000.00"), new BigDecimal("10.00"))
+        .tramo(new BigDecimal("5000.00"), new BigDecimal("15.00"))
+        .build();
+
+    private final long[] umbralesCentavos;
+    private final long[] descuentosPb;
+    private final BigDecimal[] umbrales;
+    private final BigDecimal[] descuentos;
+    private final BigDecimal[] factoresDescuento;
+    private final BigDecimal iva;
+    private final BigDecimal factorIva;
+    private final long ivaPb;
+
+    private ReglasCalculo(BigDecimal iva, TreeMap<BigDecimal, BigDecimal> tramos) {
+        int n = tramos.size();
+        this.umbralesCentavos = new long[n];
+        this.descuentosPb = new long[n];
+        this.umbrales = new BigDecimal[n];
+        this.descuentos = new BigDecimal[n];
+        this.factoresDescuento = new BigDecimal[n];
+
+        int i = 0;
+        for (Map.Entry<BigDecimal, BigDecimal> tramo : tramos.entrySet()) {
+            umbrales[i] = tramo.getKey();
+            descuentos[i] = tramo.getValue();
+            umbralesCentavos[i] = Money.deBigDecimal(tramo.getKey(), Money.ESCALA_CENTAVOS).getUnidadesMenores();
+            descuentosPb[i] = Money.aPuntosBase(tramo.getValue());
+            factoresDescuento[i] = tramo.getValue().divide(CIEN);
+            i++;
+        }
+
+        this.iva = iva;
+        this.factorIva = iva.divide(CIEN);
+        this.ivaPb = Money.aPuntosBase(iva);
+    }
+
+    /**
+     * Obtiene el porcentaje de descuento en puntos base para un monto en centavos.
+     */
+    public long porcentajeDescuentoPb(long montoCentavos) {
+        return descuentosPb[indiceTramo(montoCentavos)];
+    }
+
+    /**
+     * Obtiene el porcentaje de descuento (ej: 10.00) para un monto.
+     */
+    public BigDecimal porcentajeDescuento(BigDecimal monto) {
+        return descuentos[indiceTramo(monto)];
+    }
+
+    /**
+     * Obtiene el factor de descuento ya dividido entre 100 (ej: 0.10) para un monto.
+     */
+    public BigDecimal factorDescuento(BigDecimal monto) {
+        return factoresDescuento[indiceTramo(monto)];
+    }
+
+    private int indiceTramo(long montoCentavos) {
+        int indice = Arrays.binarySearch(umbralesCentavos, montoCentavos);
+        if (indice < 0) {
+            indice = -indice - 2;
+        }
+        return Math.max(indice, 0);
+    }
+
+    private int indiceTramo(BigDecimal monto) {
+        int bajo = 0;
+        int alto = umbrales.length - 1;
+        int resultado = 0;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (umbrales[medio].compareTo(monto) <= 0) {
+                resultado = medio;
+                bajo = medio + 1;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        return resultado;
+    }
+
+    public BigDecimal getIva() { return iva; }
+    public BigDecimal getFactorIva() { return factorIva; }
+    public long getIvaPb() { return ivaPb; }
+    public int getCantidadTramos() { return umbrales.length; }
+
+    /**
+     * Carga reglas desde un archivo de propiedades con el formato:
+     * <pre>
+     * iva=15.00
+     * descuento.0.00=5.00
+     * descuento.1000.00=10.00
+     * descuento.5000.00=15.00
+     * </pre>
+     *
+     * @param archivo Ruta del archivo
+     * @return Reglas compiladas
+     * @throws IOException si el archivo no se puede leer
+     * @throws IllegalArgumentException si el contenido es inválido
+     */
+    public static ReglasCalculo cargar(Path archivo) throws IOException {
+        try (Reader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            Properties propiedades = new Properties();
+            propiedades.load(reader);
+            return desdePropiedades(propiedades);
+        }
+    }
+
+    /**
+     * Carga reglas desde un flujo de propiedades (ver {@link #cargar(Path)}).
+     */
+    public static ReglasCalculo cargar(InputStream entrada) throws IOException {
+        Properties propiedades = new Properties();
+        propiedades.load(entrada);
+        return desdePropiedades(propiedades);
+    }
+
+    private static ReglasCalculo desdePropiedades(Properties propiedades) {
+        Builder builder = builder();
+        for (String clave : propiedades.stringPropertyNames()) {
+            String valor = propiedades.getProperty(clave).trim();
+            try {
+                if (CLAVE_IVA.equals(clave)) {
+                    builder.iva(new BigDecimal(valor));
+                } else if (clave.startsWith(PREFIJO_DESCUENTO)) {
+                    builder.tramo(new BigDecimal(clave.substring(PREFIJO_DESCUENTO.length())), new BigDecimal(valor));
+                } else {
+                    throw new IllegalArgumentException("Clave de regla desconocida: " + clave);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor numérico inválido en la regla " + clave, e);
+            }
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Constructor de reglas. Umbrales y porcentajes admiten a lo sumo dos decimales.
+     */
+    public static final class Builder {
+        private final TreeMap<BigDecimal, BigDecimal> tramos = new TreeMap<>();
+        private BigDecimal iva;
+
+        private Builder() {
+        }
+
+        public Builder iva(BigDecimal porcentajeIva) {
+            this.iva = validarPorcentaje(porcentajeIva, "IVA");
+            return this;
+        }
+
+        public Builder tramo(BigDecimal umbral, BigDecimal porcentajeDescuento) {
+            if (umbral == null) {
+                throw new IllegalArgumentException("El umbral no puede ser null");
+            }
+            if (umbral.stripTrailingZeros().scale() > Money.ESCALA_CENTAVOS) {
+                throw new IllegalArgumentException("El umbral admite a lo sumo dos decimales: " + umbral);
+            }
+            if (tramos.containsKey(umbral)) {
+                throw new IllegalArgumentException("Umbral duplicado: " + umbral);
+            }
+            tramos.put(umbral, validarPorcentaje(porcentajeDescuento, "descuento"));
+            return this;
+        }
+
+        public ReglasCalculo build() {
+            if (iva == null) {
+                throw new IllegalArgumentException("Las reglas deben definir el IVA");
+            }
+            if (tramos.isEmpty()) {
+                throw new IllegalArgumentException("Las reglas deben definir al menos un tramo de descuento");
+            }
+            return new ReglasCalculo(iva, tramos);
+        }
+
+        private static BigDecimal validarPorcentaje(BigDecimal porcentaje, String nombre) {
+            if (porcentaje == null) {
+                throw new IllegalArgumentException("El porcentaje de " + nombre + " no puede ser null");
+            }
+            if (porcentaje.signum() < 0 || porcentaje.compareTo(CIEN) > 0) {
+                throw new IllegalArgumentException("El porcentaje de " + nombre + " debe estar entre 0 y 100");
+            }
+            if (porcentaje.stripTrailingZeros().scale() > 2) {
+                throw new IllegalArgumentException("El porcentaje de " + nombre + " admite a lo sumo dos decimales");
+            }
+            return porcentaje;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.logistica.componentec.utils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Resultado de {@link ConsolidadorCsv}: totales generales, totales por clave y líneas descartadas.
+ */
+public final class ResultadoConsolidacion {
+
+    private final AcumuladorExacto totales;
+    private final Map<String, AcumuladorExacto> porClave;
+    private final long lineasInvalidas;
+    private final long posicionPrimeraInvalida;
+
+    ResultadoConsolidacion(AcumuladorExacto totales, Map<String, AcumuladorExacto> porClave,
+                           long lineasInvalidas, long posicionPrimeraInvalida) {
+        this.totales = totales;
+        this.porClave = Collections.unmodifiableMap(porClave);
+        this.lineasInvalidas = lineasInvalidas;
+        this.posicionPrimeraInvalida = posicionPrimeraInvalida;
+    }
+
+    /** Totales de todas las líneas válidas. */
+    public AcumuladorExacto getTotales() { return totales; }
+
+    /** Totales por valor de la columna clave, ordenados por clave; vacío si no hay columna clave. */
+    public Map<String, AcumuladorExacto> getPorClave() { return porClave; }
+
+    /** Líneas descartadas por monto inválido o columnas faltantes. */
+    public long getLineasInvalidas() { return lineasInvalidas; }
+
+    /** Posición en bytes del inicio de la primera línea descartada, o -1 si no hay. */
+    public long getPosicionPrimeraInvalida() { return posicionPrimeraInvalida; }
+
+    @Override
+    public String toString() {
+        return "ResultadoConsolidacion{totales=" + totales + ", grupos=" + porClave.size()
+            + ", lineasInvalidas=" + lineasInvalidas + "}";
+    }
+}
@@ -0,0 +1,156 @@
+package com.logistica.componentec.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tabla hash de direccionamiento abierto de claves en bytes a acumuladores por grupo.
+ * Las claves se buscan directamente sobre los bytes del buffer de origen y solo se copian
+ * a un arreglo propio la primera vez que aparecen: no se crea un String por línea.
+ * No es segura para hilos; cada fragmento usa la suya y luego se combinan.
+ */
+final class TablaGrupos {
+
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    private final ReglasCalculo reglas;
+    // Por ranura: índice del grupo + 1 (0 = vacía) y hash de su clave
+    private int[] ranuras = new int[CAPACIDAD_INICIAL];
+    private int[] hashes = new int[CAPACIDAD_INICIAL];
+    // Por grupo: posición y longitud de la clave en el arreglo de claves
+    private int[] inicios = new int[CAPACIDAD_INICIAL / 2];
+    private int[] longitudes = new int[CAPACIDAD_INICIAL / 2];
+    private AcumuladorExacto[] grupos = new AcumuladorExacto[CAPACIDAD_INICIAL / 2];
+    private byte[] claves = new byte[1024];
+    private int cantidadGrupos;
+    private int usoClaves;
+
+    TablaGrupos(ReglasCalculo reglas) {
+        this.reglas = reglas;
+    }
+
+    /**
+     * Devuelve el acumulador de la clave {@code origen[desde, hasta)}, creándolo si no existe.
+     */
+    AcumuladorExacto grupo(ByteBuffer origen, int desde, int hasta) {
+        int hash = hash(origen, desde, hasta);
+        int mascara = ranuras.length - 1;
+        for (int ranura = hash & mascara; ; ranura = (ranura + 1) & mascara) {
+            int indice = ranuras[ranura] - 1;
+            if (indice < 0) {
+                return insertar(ranura, hash, origen, desde, hasta);
+            }
+            if (hashes[ranura] == hash && iguales(indice, origen, desde, hasta)) {
+                return grupos[indice];
+            }
+        }
+    }
+
+    /**
+     * Combina los grupos de otra tabla en esta.
+     */
+    TablaGrupos combinar(TablaGrupos otra) {
+        ByteBuffer clavesOtra = ByteBuffer.wrap(otra.claves);
+        for (int i = 0; i < otra.cantidadGrupos; i++) {
+            grupo(clavesOtra, otra.inicios[i], otra.inicios[i] + otra.longitudes[i]).combinar(otra.grupos[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Totales de todos los grupos.
+     */
+    AcumuladorExacto totales() {
+        AcumuladorExacto totales = new AcumuladorExacto(reglas);
+        for (int i = 0; i < cantidadGrupos; i++) {
+            totales.combinar(grupos[i]);
+        }
+        return totales;
+    }
+
+    /**
+     * Grupos por clave decodificada como UTF-8, ordenados por clave.
+     */
+    Map<String, AcumuladorExacto> porClave() {
+        Map<String, AcumuladorExacto> porClave = new TreeMap<>();
+        for (int i = 0; i < cantidadGrupos; i++) {
+            porClave.put(new String(claves, inicios[i], longitudes[i], StandardCharsets.UTF_8), grupos[i]);
+        }
+        return porClave;
+    }
+
+    int getCantidadGrupos() {
+        return cantidadGrupos;
+    }
+
+    private AcumuladorExacto insertar(int ranura, int hash, ByteBuffer origen, int desde, int hasta) {
+        int longitud = hasta - desde;
+        if (usoClaves + longitud > claves.length) {
+            claves = Arrays.copyOf(claves, Math.max(claves.length * 2, usoClaves + longitud));
+        }
+        origen.get(desde, claves, usoClaves, longitud);
+        if (cantidadGrupos == grupos.length) {
+            inicios = Arrays.copyOf(inicios, grupos.length * 2);
+            longitudes = Arrays.copyOf(longitudes, grupos.length * 2);
+            grupos = Arrays.copyOf(grupos, grupos.length * 2);
+        }
+
+        int indice = cantidadGrupos++;
+        AcumuladorExacto grupo = new AcumuladorExacto(reglas);
+        inicios[indice] = usoClaves;
+        longitudes[indice] = longitud;
+        grupos[indice] = grupo;
+        usoClaves += longitud;
+        ranuras[ranura] = indice + 1;
+        hashes[ranura] = hash;
+        // Factor de carga máximo 1/2
+        if (cantidadGrupos * 2 > ranuras.length) {
+            redimensionar();
+        }
+        return grupo;
+    }
+
+    private void redimensionar() {
+        int[] nuevasRanuras = new int[ranuras.length * 2];
+        int[] nuevosHashes = new int[ranuras.length * 2];
+        int mascara = nuevasRanuras.length - 1;
+        for (int i = 0; i < ranuras.length; i++) {
+            if (ranuras[i] != 0) {
+                int ranura = hashes[i] & mascara;
+                while (nuevasRanuras[ranura] != 0) {
+                    ranura = (ranura + 1) & mascara;
+                }
+                nuevasRanuras[ranura] = ranuras[i];
+                nuevosHashes[ranura] = hashes[i];
+            }
+        }
+        ranuras = nuevasRanuras;
+        hashes = nuevosHashes;
+    }
+
+    private boolean iguales(int indice, ByteBuffer origen, int desde, int hasta) {
+        int longitud = hasta - desde;
+        if (longitudes[indice] != longitud) {
+            return false;
+        }
+        int inicio = inicios[indice];
+        for (int i = 0; i < longitud; i++) {
+            if (claves[inicio + i] != origen.get(desde + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(ByteBuffer origen, int desde, int hasta) {
+        int hash = 0x811C9DC5;
+        for (int i = desde; i < hasta; i++) {
+            hash = (hash ^ origen.get(i)) * 0x01000193;
+        }
+        // Mezcla final: el direccionamiento usa los bits bajos
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,405 @@
+package com.logistica.componentec.utils;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversión entre texto decimal y unidades menores en un {@code long} con escala fija
+ * (ej: "1250.75" con escala 2 = 125075), sin pasar por BigDecimal ni crear objetos.
+ * <p>
+ * El formato aceptado es estricto: signo opcional, dígitos ASCII y a lo sumo un separador
+ * decimal, con al menos un dígito ({@code [+-]?[0-9]*(\.[0-9]*)?}). No se admiten espacios,
+ * exponentes ni separadores de miles. Los decimales que excedan la escala solo se aceptan si
+ * son ceros, por lo que nunca se redondea.
+ * <p>
+ * Los métodos {@code parsear} lanzan excepción; los métodos {@code leer} devuelven
+ * {@link #INVALIDO} y son los usados en rutas calientes. El resultado cubre
+ * ±{@link Long#MAX_VALUE}: {@link Long#MIN_VALUE} se reserva para {@link #INVALIDO}.
+ */
+public final class TextoDecimal {
+
+    /** Resultado de {@code leer} cuando el texto no es un decimal válido para la escala. */
+    public static final long INVALIDO = Long.MIN_VALUE;
+
+    /** Separador decimal por defecto. */
+    public static final char PUNTO = '.';
+
+    /** Longitud máxima de un valor formateado: signo, 19 dígitos y separador. */
+    public static final int LONGITUD_MAXIMA = 21;
+
+    private static final int ESCALA_MAXIMA = 18;
+
+    private static final long LIMITE = Long.MAX_VALUE / 10;
+
+    private TextoDecimal() {
+    }
+
+    // Lectura sin excepciones
+
+    /**
+     * Lee {@code texto[desde, hasta)} como unidades menores con la escala indicada.
+     *
+     * @return Unidades menores, o {@link #INVALIDO} si el texto está mal formado, tiene decimales
+     *         significativos de más o no cabe en un long
+     */
+    public static long leer(CharSequence texto, int desde, int hasta, int escala, char separadorDecimal) {
+        validarEscala(escala);
+        int i = desde;
+        boolean negativo = false;
+        if (i < hasta && (texto.charAt(i) == '-' || texto.charAt(i) == '+')) {
+            negativo = texto.charAt(i) == '-';
+            i++;
+        }
+        long valor = 0;
+        int digitos = 0;
+        for (; i < hasta; i++) {
+            int digito = texto.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                break;
+            }
+            if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                return INVALIDO;
+            }
+            digitos++;
+        }
+        int decimales = 0;
+        if (i < hasta && texto.charAt(i) == separadorDecimal) {
+            for (i++; i < hasta; i++) {
+                int digito = texto.charAt(i) - '0';
+                if (digito < 0 || digito > 9) {
+                    return INVALIDO;
+                }
+                if (decimales < escala) {
+                    if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                        return INVALIDO;
+                    }
+                    decimales++;
+                } else if (digito != 0) {
+                    return INVALIDO;
+                }
+                digitos++;
+            }
+        }
+        if (i != hasta || digitos == 0) {
+            return INVALIDO;
+        }
+        return escalar(valor, escala - decimales, negativo);
+    }
+
+    /**
+     * Lee {@code datos[desde, hasta)} como unidades menores con la escala indicada.
+     * Los bytes se interpretan como ASCII.
+     *
+     * @return Unidades menores, o {@link #INVALIDO} si el texto no es válido
+     */
+    public static long leer(byte[] datos, int desde, int hasta, int escala, byte separadorDecimal) {
+        validarEscala(escala);
+        int i = desde;
+        boolean negativo = false;
+        if (i < hasta && (datos[i] == '-' || datos[i] == '+')) {
+            negativo = datos[i] == '-';
+            i++;
+        }
+        long valor = 0;
+        int digitos = 0;
+        for (; i < hasta; i++) {
+            int digito = datos[i] - '0';
+            if (digito < 0 || digito > 9) {
+                break;
+            }
+            if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                return INVALIDO;
+            }
+            digitos++;
+        }
+        int decimales = 0;
+        if (i < hasta && datos[i] == separadorDecimal) {
+            for (i++; i < hasta; i++) {
+                int digito = datos[i] - '0';
+                if (digito < 0 || digito > 9) {
+                    return INVALIDO;
+                }
+                if (decimales < escala) {
+                    if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                        return INVALIDO;
+                    }
+                    decimales++;
+                } else if (digito != 0) {
+                    return INVALIDO;
+                }
+                digitos++;
+            }
+        }
+        if (i != hasta || digitos == 0) {
+            return INVALIDO;
+        }
+        return escalar(valor, escala - decimales, negativo);
+    }
+
+    /**
+     * Lee {@code datos[desde, hasta)}, con índices absolutos del buffer y sin mover su posición,
+     * como unidades menores con la escala indicada. Los bytes se interpretan como ASCII.
+     *
+     * @return Unidades menores, o {@link #INVALIDO} si el texto no es válido
+     */
+    public static long leer(ByteBuffer datos, int desde, int hasta, int escala, byte separadorDecimal) {
+        if (datos.hasArray()) {
+            return leer(datos.array(), datos.arrayOffset() + desde, datos.arrayOffset() + hasta, escala, separadorDecimal);
+        }
+        validarEscala(escala);
+        int i = desde;
+        boolean negativo = false;
+        if (i < hasta && (datos.get(i) == '-' || datos.get(i) == '+')) {
+            negativo = datos.get(i) == '-';
+            i++;
+        }
+        long valor = 0;
+        int digitos = 0;
+        for (; i < hasta; i++) {
+            int digito = datos.get(i) - '0';
+            if (digito < 0 || digito > 9) {
+                break;
+            }
+            if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                return INVALIDO;
+            }
+            digitos++;
+        }
+        int decimales = 0;
+        if (i < hasta && datos.get(i) == separadorDecimal) {
+            for (i++; i < hasta; i++) {
+                int digito = datos.get(i) - '0';
+                if (digito < 0 || digito > 9) {
+                    return INVALIDO;
+                }
+                if (decimales < escala) {
+                    if (valor > LIMITE || (valor = valor * 10 + digito) < 0) {
+                        return INVALIDO;
+                    }
+                    decimales++;
+                } else if (digito != 0) {
+                    return INVALIDO;
+                }
+                digitos++;
+            }
+        }
+        if (i != hasta || digitos == 0) {
+            return INVALIDO;
+        }
+        return escalar(valor, escala - decimales, negativo);
+    }
+
+    // Lectura con excepciones
+
+    /**
+     * Convierte el texto completo, con punto decimal, a unidades menores.
+     *
+     * @throws IllegalArgumentException si el texto es null
+     * @throws NumberFormatException si el texto no es un decimal bien formado
+     * @throws ArithmeticException si tiene decimales significativos de más o no cabe en un long
+     */
+    public static long parsear(CharSequence texto, int escala) {
+        if (texto == null) {
+            throw new IllegalArgumentException("El texto no puede ser null");
+        }
+        return parsear(texto, 0, texto.length(), escala, PUNTO);
+    }
+
+    /**
+     * Convierte {@code texto[desde, hasta)} a unidades menores.
+     *
+     * @throws NumberFormatException si el texto no es un decimal bien formado
+     * @throws ArithmeticException si tiene decimales significativos de más o no cabe en un long
+     */
+    public static long parsear(CharSequence texto, int desde, int hasta, int escala, char separadorDecimal) {
+        verificarRango(desde, hasta, texto.length());
+        long valor = leer(texto, desde, hasta, escala, separadorDecimal);
+        if (valor == INVALIDO) {
+            throw error(texto.subSequence(desde, hasta).toString(), escala, separadorDecimal);
+        }
+        return valor;
+    }
+
+    /**
+     * Convierte {@code datos[desde, hasta)} a unidades menores.
+     *
+     * @throws NumberFormatException si el texto no es un decimal bien formado
+     * @throws ArithmeticException si tiene decimales significativos de más o no cabe en un long
+     */
+    public static long parsear(byte[] datos, int desde, int hasta, int escala, byte separadorDecimal) {
+        verificarRango(desde, hasta, datos.length);
+        long valor = leer(datos, desde, hasta, escala, separadorDecimal);
+        if (valor == INVALIDO) {
+            throw error(new String(datos, desde, hasta - desde, StandardCharsets.ISO_8859_1), escala, (char) separadorDecimal);
+        }
+        return valor;
+    }
+
+    /**
+     * Convierte {@code datos[desde, hasta)}, con índices absolutos, a unidades menores.
+     *
+     * @throws NumberFormatException si el texto no es un decimal bien formado
+     * @throws ArithmeticException si tiene decimales significativos de más o no cabe en un long
+     */
+    public static long parsear(ByteBuffer datos, int desde, int hasta, int escala, byte separadorDecimal) {
+        verificarRango(desde, hasta, datos.limit());
+        long valor = leer(datos, desde, hasta, escala, separadorDecimal);
+        if (valor == INVALIDO) {
+            throw error(ascii(datos, desde, hasta), escala, (char) separadorDecimal);
+        }
+        return valor;
+    }
+
+    // Formato
+
+    /**
+     * Cantidad de caracteres de {@code valor} formateado con la escala indicada.
+     */
+    public static int longitud(long valor, int escala) {
+        validarEscala(escala);
+        int digitos = 1;
+        for (long resto = valor < 0 ? valor : -valor; resto <= -10; resto /= 10) {
+            digitos++;
+        }
+        return (valor < 0 ? 1 : 0) + Math.max(digitos, escala + 1) + (escala > 0 ? 1 : 0);
+    }
+
+    /**
+     * Escribe el valor con la escala completa y punto decimal, como
+     * {@code BigDecimal.valueOf(valor, escala).toPlainString()} (ej: 5 con escala 2 = "0.05").
+     *
+     * @param destino Arreglo con al menos {@link #longitud(long, int)} posiciones libres desde {@code posicion}
+     * @return Posición siguiente al último carácter escrito
+     */
+    public static int formatear(long valor, int escala, byte[] destino, int posicion) {
+        int fin = posicion + longitud(valor, escala);
+        if (posicion < 0 || fin > destino.length) {
+            throw new IndexOutOfBoundsException("El destino no tiene espacio para " + (fin - posicion) + " caracteres");
+        }
+        long resto = valor < 0 ? valor : -valor;
+        for (int i = fin - 1, decimales = 0; i >= posicion; i--, decimales++) {
+            if (decimales == escala && escala > 0) {
+                destino[i] = (byte) PUNTO;
+            } else if (i == posicion && valor < 0) {
+                destino[i] = '-';
+            } else {
+                destino[i] = (byte) ('0' - resto % 10);
+                resto /= 10;
+            }
+        }
+        return fin;
+    }
+
+    /**
+     * Escribe el valor formateado en la posición actual del buffer y la avanza.
+     *
+     * @throws BufferOverflowException si no hay {@link #longitud(long, int)} bytes libres
+     */
+    public static void formatear(long valor, int escala, ByteBuffer destino) {
+        if (destino.hasArray()) {
+            int inicio = destino.arrayOffset() + destino.position();
+            if (destino.remaining() < longitud(valor, escala)) {
+                throw new BufferOverflowException();
+            }
+            destino.position(formatear(valor, escala, destino.array(), inicio) - destino.arrayOffset());
+            return;
+        }
+        int posicion = destino.position();
+        int fin = posicion + longitud(valor, escala);
+        if (fin > destino.limit()) {
+            throw new BufferOverflowException();
+        }
+        long resto = valor < 0 ? valor : -valor;
+        for (int i = fin - 1, decimales = 0; i >= posicion; i--, decimales++) {
+            if (decimales == escala && escala > 0) {
+                destino.put(i, (byte) PUNTO);
+            } else if (i == posicion && valor < 0) {
+                destino.put(i, (byte) '-');
+            } else {
+                destino.put(i, (byte) ('0' - resto % 10));
+                resto /= 10;
+            }
+        }
+        destino.position(fin);
+    }
+
+    /**
+     * Agrega el valor formateado al final del destino.
+     *
+     * @return El mismo destino
+     */
+    public static StringBuilder formatear(long valor, int escala, StringBuilder destino) {
+        int posicion = destino.length();
+        int fin = posicion + longitud(valor, escala);
+        destino.setLength(fin);
+        long resto = valor < 0 ? valor : -valor;
+        for (int i = fin - 1, decimales = 0; i >= posicion; i--, decimales++) {
+            if (decimales == escala && escala > 0) {
+                destino.setCharAt(i, PUNTO);
+            } else if (i == posicion && valor < 0) {
+                destino.setCharAt(i, '-');
+            } else {
+                destino.setCharAt(i, (char) ('0' - resto % 10));
+                resto /= 10;
+            }
+        }
+        return destino;
+    }
+
+    /**
+     * Valor formateado como texto nuevo.
+     */
+    public static String formatear(long valor, int escala) {
+        return formatear(valor, escala, new StringBuilder(LONGITUD_MAXIMA)).toString();
+    }
+
+    private static long escalar(long valor, int ceros, boolean negativo) {
+        for (; ceros > 0; ceros--) {
+            if (valor > LIMITE || (valor *= 10) < 0) {
+                return INVALIDO;
+            }
+        }
+        return negativo ? -valor : valor;
+    }
+
+    private static RuntimeException error(String texto, int escala, char separadorDecimal) {
+        // Ruta lenta: distingue formato inválido de escala o rango excedidos
+        int digitos = 0;
+        int separadores = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos++;
+            } else if (c == separadorDecimal && separadores == 0) {
+                separadores++;
+            } else if (i != 0 || (c != '-' && c != '+')) {
+                return new NumberFormatException("Decimal inválido: \"" + texto + "\"");
+            }
+        }
+        if (digitos == 0) {
+            return new NumberFormatException("Decimal inválido: \"" + texto + "\"");
+        }
+        return new ArithmeticException("El decimal " + texto + " excede la escala " + escala + " o el rango de un long");
+    }
+
+    private static String ascii(ByteBuffer datos, int desde, int hasta) {
+        char[] caracteres = new char[hasta - desde];
+        for (int i = desde; i < hasta; i++) {
+            caracteres[i - desde] = (char) (datos.get(i) & 0xFF);
+        }
+        return new String(caracteres);
+    }
+
+    private static void verificarRango(int desde, int hasta, int longitud) {
+        if (desde < 0 || hasta > longitud || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango [" + desde + ", " + hasta + ") fuera de 0.." + longitud);
+        }
+    }
+
+    private static void validarEscala(int escala) {
+        if (escala < 0 || escala > ESCALA_MAXIMA) {
+            throw new IllegalArgumentException("La escala debe estar entre 0 y " + ESCALA_MAXIMA);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.exception.SolicitudInvalidaException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Esquema de validación de un tipo, compilado una sola vez a partir de anotaciones
+ * {@link Validar} o de un {@link Builder}.
+ * <p>
+ * Las reglas se compilan a una cadena de {@link MethodHandle}: por cada campo y regla, la lectura
+ * del campo (su getter público, el propio campo si no hay getter, o la función del builder)
+ * seguida de {@link ReglaValidacion} como constante. La JVM especializa la cadena tras las primeras
+ * invocaciones y la compila en línea como código escrito a mano; validar no usa reflexión.
+ * <p>
+ * {@link #validar(Object)} y {@link #esValido(Object)} se detienen en la primera regla
+ * incumplida; {@link #errores(Object)} reporta la primera incumplida de cada campo. El esquema
+ * también produce un {@link ValidadorLote} con las mismas reglas para validar listas completas.
+ *
+ * <pre>
+ * EsquemaValidacion&lt;ClienteDTO&gt; esquema = EsquemaValidacion.de(ClienteDTO.class);
+ * esquema.validar(cliente);   // SolicitudInvalidaException con el primer campo inválido
+ * </pre>
+ *
+ * @param <T> Tipo validado
+ */
+public final class EsquemaValidacion<T> {
+
+    private static final ClassValue<EsquemaValidacion<?>> COMPILADOS = new ClassValue<>() {
+        @Override
+        protected EsquemaValidacion<?> computeValue(Class<?> tipo) {
+            return compilar(tipo);
+        }
+    };
+
+    private static final MethodType LECTOR = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType PRUEBA = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodHandle APLICAR;
+    private static final MethodHandle EVALUAR;
+    private static final MethodHandle ACEPTA;
+    private static final MethodHandle ES_NULL;
+    private static final MethodHandle VERDADERO = MethodHandles.dropArguments(
+        MethodHandles.constant(boolean.class, true), 0, Object.class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            APLICAR = lookup.findVirtual(Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+            EVALUAR = lookup.findVirtual(ReglaValidacion.class, "evaluar", PRUEBA);
+            ACEPTA = lookup.findVirtual(ReglaValidacion.class, "acepta", PRUEBA);
+            ES_NULL = lookup.findStatic(Objects.class, "isNull", PRUEBA);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String[] campos;
+    private final MethodHandle[] lectores;
+    private final ReglaValidacion[][] reglas;
+    private final boolean[] opcionales;
+    // Por par (campo, regla) en orden de evaluación: la cadena que empieza en el par, de tipo
+    // (Object)int, devuelve el primer par incumplido desde ahí o -1
+    private final MethodHandle[] cadenas;
+    private final int[] campoDePar;
+    private final int[] reglaDePar;
+    // Primer par de cada campo; la posición extra es el total de pares
+    private final int[] primerPar;
+
+    private EsquemaValidacion(List<CampoEsquema> definicion) {
+        int n = definicion.size();
+        this.campos = new String[n];
+        this.lectores = new MethodHandle[n];
+        this.reglas = new ReglaValidacion[n][];
+        this.opcionales = new boolean[n];
+        this.primerPar = new int[n + 1];
+        int pares = 0;
+        for (int i = 0; i < n; i++) {
+            CampoEsquema campo = definicion.get(i);
+            campos[i] = campo.nombre;
+            lectores[i] = campo.lector;
+            reglas[i] = campo.reglas;
+            opcionales[i] = campo.opcional;
+            primerPar[i] = pares;
+            pares += campo.reglas.length;
+        }
+        primerPar[n] = pares;
+
+        this.campoDePar = new int[pares];
+        this.reglaDePar = new int[pares];
+        this.cadenas = new MethodHandle[pares];
+        MethodHandle siguiente = MethodHandles.dropArguments(MethodHandles.constant(int.class, -1), 0, Object.class);
+        for (int i = n - 1; i >= 0; i--) {
+            CampoEsquema campo = definicion.get(i);
+            for (int r = campo.reglas.length - 1; r >= 0; r--) {
+                int par = primerPar[i] + r;
+                campoDePar[par] = i;
+                reglaDePar[par] = r;
+                MethodHandle prueba = MethodHandles.filterReturnValue(campo.lector,
+                    (campo.tipado ? EVALUAR : ACEPTA).bindTo(campo.reglas[r]));
+                if (campo.opcional) {
+                    prueba = MethodHandles.guardWithTest(MethodHandles.filterReturnValue(campo.lector, ES_NULL),
+                        VERDADERO, prueba);
+                }
+                siguiente = MethodHandles.guardWithTest(prueba, siguiente,
+                    MethodHandles.dropArguments(MethodHandles.constant(int.class, par), 0, Object.class));
+                cadenas[par] = siguiente;
+            }
+        }
+    }
+
+    /**
+     * Esquema del tipo según sus campos anotados con {@link Validar}, incluidos los heredados.
+     * Se compila la primera vez y luego se reutiliza.
+     *
+     * @throws IllegalArgumentException si el tipo no tiene campos anotados, una regla no es
+     *         aplicable al tipo de un campo o un campo no es accesible
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EsquemaValidacion<T> de(Class<T> tipo) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo no puede ser null");
+        }
+        return (EsquemaValidacion<T>) COMPILADOS.get(tipo);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Valida el valor y lanza la excepción del primer campo inválido.
+     *
+     * @throws SolicitudInvalidaException con campo, valor y motivo de la primera regla incumplida
+     */
+    public void validar(T valor) {
+        if (valor == null) {
+            throw new SolicitudInvalidaException("fila", null, ValidadorLote.MOTIVO_FILA_NULL);
+        }
+        int par = primerIncumplido(0, valor);
+        if (par >= 0) {
+            int campo = campoDePar[par];
+            throw new SolicitudInvalidaException(campos[campo], leer(campo, valor),
+                reglas[campo][reglaDePar[par]].getMotivo());
+        }
+    }
+
+    /**
+     * Indica si el valor cumple todas las reglas; se detiene en la primera incumplida.
+     */
+    public boolean esValido(T valor) {
+        return valor != null && primerIncumplido(0, valor) < 0;
+    }
+
+    /**
+     * Evalúa todos los campos y devuelve un detalle {@code "campo: motivo"} por cada uno inválido,
+     * en el formato de {@link SolicitudInvalidaException#getDetalles()}. Solo crea la lista si hay errores.
+     */
+    public List<String> errores(T valor) {
+        if (valor == null) {
+            return List.of("fila: " + ValidadorLote.MOTIVO_FILA_NULL);
+        }
+        List<String> errores = null;
+        int pares = cadenas.length;
+        for (int par = pares > 0 ? primerIncumplido(0, valor) : -1; par >= 0; ) {
+            int campo = campoDePar[par];
+            if (errores == null) {
+                errores = new ArrayList<>();
+            }
+            errores.add(campos[campo] + ": " + reglas[campo][reglaDePar[par]].getMotivo());
+            // Las demás reglas del campo no se evalúan
+            int siguiente = primerPar[campo + 1];
+            par = siguiente < pares ? primerIncumplido(siguiente, valor) : -1;
+        }
+        return errores == null ? Collections.emptyList() : errores;
+    }
+
+    /**
+     * Validador por lotes con las mismas reglas, una por campo y regla.
+     *
+     * @param primerErrorPorFila Si es true, cada fila se detiene en su primer error
+     */
+    public ValidadorLote<T> validadorLote(boolean primerErrorPorFila) {
+        ValidadorLote.Builder<T> builder = ValidadorLote.builder();
+        for (int i = 0; i < campos.length; i++) {
+            int campo = i;
+            Function<T, Object> acceso = valor -> leer(campo, valor);
+            for (ReglaValidacion regla : reglas[i]) {
+                if (opcionales[i]) {
+                    builder.campo(campos[i], acceso, valor -> valor == null || regla.acepta(valor), regla.getMotivo());
+                } else {
+                    builder.campo(campos[i], acceso, regla);
+                }
+            }
+        }
+        if (primerErrorPorFila) {
+            builder.primerErrorPorFila();
+        }
+        return builder.build();
+    }
+
+    /** Nombres de los campos validados, en orden de evaluación. */
+    public List<String> getCampos() {
+        return List.of(campos);
+    }
+
+    private int primerIncumplido(int desde, T valor) {
+        try {
+            return (int) cadenas[desde].invokeExact((Object) valor);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object leer(int campo, T valor) {
+        try {
+            return lectores[campo].invokeExact((Object) valor);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Compilación desde anotaciones
+
+    private static <T> EsquemaValidacion<T> compilar(Class<T> tipo) {
+        Deque<Class<?>> jerarquia = new ArrayDeque<>();
+        for (Class<?> clase = tipo; clase != null && clase != Object.class; clase = clase.getSuperclass()) {
+            jerarquia.push(clase);
+        }
+
+        List<CampoEsquema> definicion = new ArrayList<>();
+        for (Class<?> clase : jerarquia) {
+            for (Field campo : clase.getDeclaredFields()) {
+                Validar anotacion = campo.getAnnotation(Validar.class);
+                if (anotacion == null || Modifier.isStatic(campo.getModifiers())) {
+                    continue;
+                }
+                String nombre = anotacion.campo().isEmpty() ? campo.getName() : anotacion.campo();
+                Class<?> tipoCampo = MethodType.methodType(campo.getType()).wrap().returnType();
+                for (ReglaValidacion regla : anotacion.value()) {
+                    if (!regla.getTipoValor().isAssignableFrom(tipoCampo)) {
+                        throw new IllegalArgumentException("La regla " + regla + " no aplica al campo " + nombre
+                            + " de tipo " + campo.getType().getSimpleName());
+                    }
+                }
+                definicion.add(new CampoEsquema(nombre, lector(tipo, campo), anotacion.value().clone(),
+                    anotacion.opcional(), true));
+            }
+        }
+        if (definicion.isEmpty()) {
+            throw new IllegalArgumentException("El tipo " + tipo.getName() + " no tiene campos anotados con @Validar");
+        }
+        return new EsquemaValidacion<>(definicion);
+    }
+
+    /**
+     * Lector {@code (Object)Object} de un campo: su getter público o, si no hay, el propio campo.
+     */
+    private static MethodHandle lector(Class<?> tipo, Field campo) {
+        Method getter = getter(campo);
+        if (getter != null) {
+            try {
+                return MethodHandles.publicLookup().unreflect(getter).asType(LECTOR);
+            } catch (IllegalAccessException e) {
+                // Getter público en un tipo no accesible (ej: anidado en una clase privada): se lee el campo
+            }
+        }
+        try {
+            return MethodHandles.privateLookupIn(campo.getDeclaringClass(), MethodHandles.lookup())
+                .unreflectGetter(campo)
+                .asType(LECTOR);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw new IllegalArgumentException("El campo " + campo.getName() + " de " + tipo.getName()
+                + " no tiene getter público y su paquete no está abierto a com.logistica.componentec.core", e);
+        }
+    }
+
+    private static Method getter(Field campo) {
+        Class<?> clase = campo.getDeclaringClass();
+        if (!Modifier.isPublic(clase.getModifiers())) {
+            return null;
+        }
+        String nombre = campo.getName();
+        String capitalizado = Character.toUpperCase(nombre.charAt(0)) + nombre.substring(1);
+        List<String> candidatos = new ArrayList<>(3);
+        if (clase.isRecord()) {
+            candidatos.add(nombre);
+        }
+        candidatos.add("get" + capitalizado);
+        if (campo.getType() == boolean.class || campo.getType() == Boolean.class) {
+            candidatos.add("is" + capitalizado);
+        }
+        for (String candidato : candidatos) {
+            try {
+                Method metodo = clase.getMethod(candidato);
+                if (metodo.getReturnType() == campo.getType() && !Modifier.isStatic(metodo.getModifiers())) {
+                    return metodo;
+                }
+            } catch (NoSuchMethodException e) {
+                // Siguiente candidato
+            }
+        }
+        return null;
+    }
+
+    private static final class CampoEsquema {
+        private final String nombre;
+        private final MethodHandle lector;
+        private final ReglaValidacion[] reglas;
+        private final boolean opcional;
+        // Tipo del campo verificado al compilar: la regla se evalúa sin volver a comprobarlo
+        private final boolean tipado;
+
+        CampoEsquema(String nombre, MethodHandle lector, ReglaValidacion[] reglas, boolean opcional, boolean tipado) {
+            this.nombre = nombre;
+            this.lector = lector;
+            this.reglas = reglas;
+            this.opcional = opcional;
+            this.tipado = tipado;
+        }
+    }
+
+    /**
+     * Constructor de esquemas sin anotaciones, con accesos explícitos a los campos.
+     */
+    public static final class Builder<T> {
+        private final List<CampoEsquema> campos = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Agrega un campo obligatorio con sus reglas, evaluadas en orden.
+         */
+        public Builder<T> campo(String campo, Function<? super T, ?> acceso, ReglaValidacion... reglas) {
+            return agregar(campo, acceso, reglas, false);
+        }
+
+        /**
+         * Agrega un campo que puede ser null; si no lo es, debe cumplir las reglas.
+         */
+        public Builder<T> campoOpcional(String campo, Function<? super T, ?> acceso, ReglaValidacion... reglas) {
+            return agregar(campo, acceso, reglas, true);
+        }
+
+        public EsquemaValidacion<T> build() {
+            if (campos.isEmpty()) {
+                throw new IllegalArgumentException("El esquema debe tener al menos un campo");
+            }
+            return new EsquemaValidacion<>(campos);
+        }
+
+        private Builder<T> agregar(String campo, Function<? super T, ?> acceso, ReglaValidacion[] reglas, boolean opcional) {
+            if (campo == null || acceso == null) {
+                throw new IllegalArgumentException("El campo y su acceso no pueden ser null");
+            }
+            if (reglas == null || reglas.length == 0) {
+                throw new IllegalArgumentException("El campo " + campo + " debe tener al menos una regla");
+            }
+            for (ReglaValidacion regla : reglas) {
+                if (regla == null) {
+                    throw new IllegalArgumentException("La regla no puede ser null");
+                }
+            }
+            campos.add(new CampoEsquema(campo, APLICAR.bindTo(acceso), reglas.clone(), opcional, false));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.metricas.Contador;
+import com.logistica.componentec.metricas.RegistroMetricas;
+
+/**
+ * Contadores de rechazos por regla, publicados como {@code validacion.rechazos.<REGLA>} en el
+ * registro predeterminado. Se cuentan tanto las llamadas directas a {@link ValidacionUtils}
+ * como las evaluaciones de {@link ReglaValidacion}, una vez por valor rechazado.
+ */
+final class RechazosValidacion {
+
+    private static final Contador[] POR_REGLA;
+
+    static {
+        ReglaValidacion[] reglas = ReglaValidacion.values();
+        POR_REGLA = new Contador[reglas.length];
+        for (ReglaValidacion regla : reglas) {
+            POR_REGLA[regla.ordinal()] = RegistroMetricas.PREDETERMINADO.contador("validacion.rechazos." + regla.name());
+        }
+    }
+
+    private RechazosValidacion() {
+    }
+
+    /**
+     * Cuenta el rechazo si el valor no es válido y devuelve el mismo resultado.
+     */
+    static boolean contar(boolean valido, ReglaValidacion regla) {
+        if (!valido) {
+            POR_REGLA[regla.ordinal()].incrementar();
+        }
+        return valido;
+    }
+
+    static long rechazos(ReglaValidacion regla) {
+        return POR_REGLA[regla.ordinal()].getValor();
+    }
+}
@@ -0,0 +1,110 @@
+package com.logistica.componentec.validation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reglas de validación empresarial reutilizables, implementadas sobre {@link ValidacionUtils}.
+ * Cada regla conoce el tipo de valor que acepta y el motivo de rechazo; un valor de otro tipo
+ * se considera inválido en lugar de lanzar una excepción.
+ */
+public enum ReglaValidacion {
+
+    EMAIL(CharSequence.class, ValidacionUtils.MOTIVO_EMAIL) {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarEmail((CharSequence) valor);
+        }
+    },
+    TELEFONO(CharSequence.class, "formato de teléfono inválido") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarTelefono((CharSequence) valor);
+        }
+    },
+    CODIGO_POSTAL(CharSequence.class, "formato de código postal inválido") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarCodigoPostal((CharSequence) valor);
+        }
+    },
+    CODIGO_PROYECTO(CharSequence.class, "formato de código de proyecto inválido") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarCodigoProyecto((CharSequence) valor);
+        }
+    },
+    TEXTO_NO_VACIO(String.class, "no puede estar vacío") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarTextoNoVacio((String) valor);
+        }
+    },
+    NOMBRE_EMPRESARIAL(String.class, ValidacionUtils.MOTIVO_NOMBRE_EMPRESARIAL) {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarNombreEmpresarial((String) valor);
+        }
+    },
+    MONTO_POSITIVO(BigDecimal.class, "debe ser un monto positivo") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarMontoPositivo((BigDecimal) valor);
+        }
+    },
+    MONTO_EMPRESARIAL(BigDecimal.class, ValidacionUtils.MOTIVO_MONTO_EMPRESARIAL) {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarMontoEmpresarial((BigDecimal) valor);
+        }
+    },
+    ID(Long.class, ValidacionUtils.MOTIVO_ID) {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarId((Long) valor);
+        }
+    },
+    FECHA_NO_FUTURA(LocalDate.class, "no puede ser una fecha futura") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarFechaNoFutura((LocalDate) valor);
+        }
+    },
+    FECHA_FUTURA(LocalDate.class, "debe ser una fecha futura") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarFechaFutura((LocalDate) valor);
+        }
+    },
+    LISTA_NO_VACIA(List.class, "no puede estar vacía") {
+        @Override
+        boolean evaluar(Object valor) {
+            return ValidacionUtils.validarListaNoVacia((List<?>) valor);
+        }
+    };
+
+    private final Class<?> tipoValor;
+    private final String motivo;
+
+    ReglaValidacion(Class<?> tipoValor, String motivo) {
+        this.tipoValor = tipoValor;
+        this.motivo = motivo;
+    }
+
+    /**
+     * Evalúa la regla sobre un valor; null y valores de otro tipo se rechazan.
+     */
+    public boolean acepta(Object valor) {
+        if (valor == null || !tipoValor.isInstance(valor)) {
+            return RechazosValidacion.contar(false, this);
+        }
+        // evaluar delega en ValidacionUtils, que ya cuenta el rechazo
+        return evaluar(valor);
+    }
+
+    abstract boolean evaluar(Object valor);
+
+    public Class<?> getTipoValor() { return tipoValor; }
+    public String getMotivo() { return motivo; }
+}
@@ -0,0 +1,112 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.dto.ErrorResponseDTO;
+import com.logistica.componentec.exception.SolicitudInvalidaException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado compacto de {@link ValidadorLote}: cada error es un par (fila, regla) guardado en
+ * arreglos primitivos, ordenado por fila. Los {@link ErrorResponseDTO} se construyen solo bajo
+ * demanda y solo para las filas con errores.
+ */
+public final class ReporteValidacion {
+
+    private final int[] filas;
+    private final int[] reglas;
+    private final int cantidad;
+    private final String[] campos;
+    private final String[] motivos;
+
+    ReporteValidacion(int[] filas, int[] reglas, int cantidad, String[] campos, String[] motivos) {
+        this.filas = filas;
+        this.reglas = reglas;
+        this.cantidad = cantidad;
+        this.campos = campos;
+        this.motivos = motivos;
+    }
+
+    public boolean esValido() { return cantidad == 0; }
+    public int getCantidadErrores() { return cantidad; }
+
+    /** Fila (índice en la lista validada) del error i. */
+    public int getFila(int i) { return filas[verificar(i)]; }
+
+    /** Nombre del campo del error i. */
+    public String getCampo(int i) { return campos[reglas[verificar(i)]]; }
+
+    /** Motivo de rechazo del error i. */
+    public String getMotivo(int i) { return motivos[reglas[verificar(i)]]; }
+
+    /**
+     * Obtiene las filas con al menos un error, en orden ascendente y sin repetidos.
+     */
+    public int[] filasConError() {
+        int[] resultado = new int[cantidad];
+        int n = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (n == 0 || resultado[n - 1] != filas[i]) {
+                resultado[n++] = filas[i];
+            }
+        }
+        return Arrays.copyOf(resultado, n);
+    }
+
+    /**
+     * Construye la respuesta de error de una fila, o null si la fila no tiene errores.
+     */
+    public ErrorResponseDTO aErrorResponse(int fila) {
+        int inicio = primerError(fila);
+        if (inicio < 0) {
+            return null;
+        }
+        List<String> detalles = new ArrayList<>();
+        for (int i = inicio; i < cantidad && filas[i] == fila; i++) {
+            detalles.add(campos[reglas[i]] + ": " + motivos[reglas[i]]);
+        }
+        return new ErrorResponseDTO(SolicitudInvalidaException.ESTADO, SolicitudInvalidaException.CODIGO,
+            "La fila " + fila + " tiene " + detalles.size() + " campo(s) inválido(s)",
+            detalles, System.currentTimeMillis());
+    }
+
+    /**
+     * Construye las respuestas de error de todas las filas con errores.
+     */
+    public List<ErrorResponseDTO> aErrorResponses() {
+        if (cantidad == 0) {
+            return Collections.emptyList();
+        }
+        int[] filasError = filasConError();
+        List<ErrorResponseDTO> respuestas = new ArrayList<>(filasError.length);
+        for (int fila : filasError) {
+            respuestas.add(aErrorResponse(fila));
+        }
+        return respuestas;
+    }
+
+    private int primerError(int fila) {
+        int indice = Arrays.binarySearch(filas, 0, cantidad, fila);
+        if (indice < 0) {
+            return -1;
+        }
+        while (indice > 0 && filas[indice - 1] == fila) {
+            indice--;
+        }
+        return indice;
+    }
+
+    private int verificar(int i) {
+        if (i < 0 || i >= cantidad) {
+            throw new IndexOutOfBoundsException("Índice " + i + " fuera del reporte de " + cantidad + " errores");
+        }
+        return i;
+    }
+
+    @Override
+    public String toString() {
+        return "ReporteValidacion{errores=" + cantidad + "}";
+    }
+}
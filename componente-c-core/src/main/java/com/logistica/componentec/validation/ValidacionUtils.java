@@ -0,0 +1,342 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.exception.SolicitudInvalidaException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Utilidades de validación empresarial para el sistema de logística.
+ * Proporciona métodos reutilizables para validar datos empresariales.
+ * Los formatos se validan con recorridos de una sola pasada sobre {@link CharSequence},
+ * sin expresiones regulares ni subcadenas; cada método documenta el patrón equivalente.
+ * Los rechazos de cada regla se cuentan en {@code validacion.rechazos.<REGLA>}.
+ */
+public class ValidacionUtils {
+
+    // Constantes de validación empresarial
+    private static final BigDecimal MONTO_MINIMO_PROYECTO = new BigDecimal("100.00");
+    private static final BigDecimal MONTO_MAXIMO_PROYECTO = new BigDecimal("1000000.00");
+    private static final long MONTO_MINIMO_PROYECTO_CENTAVOS = 10_000L;
+    private static final long MONTO_MAXIMO_PROYECTO_CENTAVOS = 100_000_000L;
+    private static final int LONGITUD_MINIMA_NOMBRE = 2;
+    private static final int LONGITUD_MAXIMA_NOMBRE = 100;
+
+    // Motivos de rechazo, compartidos con ReglaValidacion
+    static final String MOTIVO_EMAIL = "formato de email inválido";
+    static final String MOTIVO_MONTO_EMPRESARIAL =
+        "debe estar entre " + MONTO_MINIMO_PROYECTO + " y " + MONTO_MAXIMO_PROYECTO;
+    static final String MOTIVO_NOMBRE_EMPRESARIAL =
+        "debe tener entre " + LONGITUD_MINIMA_NOMBRE + " y " + LONGITUD_MAXIMA_NOMBRE + " caracteres";
+    static final String MOTIVO_ID = "debe ser un número positivo";
+
+    /**
+     * Valida si un email tiene formato correcto.
+     */
+    public static boolean validarEmail(String email) {
+        return validarEmail((CharSequence) email);
+    }
+
+    /**
+     * Valida si un email tiene formato correcto, ignorando espacios al inicio y al final.
+     * Equivale a {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$} sobre el texto recortado.
+     */
+    public static boolean validarEmail(CharSequence email) {
+        return RechazosValidacion.contar(esEmail(email), ReglaValidacion.EMAIL);
+    }
+
+    private static boolean esEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int fin = finSinEspacios(email);
+        int i = inicioSinEspacios(email, fin);
+
+        int inicioLocal = i;
+        while (i < fin && esCaracterLocalEmail(email.charAt(i))) {
+            i++;
+        }
+        if (i == inicioLocal || i == fin || email.charAt(i) != '@') {
+            return false;
+        }
+
+        // El dominio termina en el último punto seguido solo de letras (al menos dos)
+        int inicioDominio = ++i;
+        int ultimoPunto = -1;
+        for (; i < fin; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                ultimoPunto = i;
+            } else if (!esLetraAscii(c) && !esDigitoAscii(c) && c != '-') {
+                return false;
+            }
+        }
+        if (ultimoPunto <= inicioDominio || fin - ultimoPunto - 1 < 2) {
+            return false;
+        }
+        for (i = ultimoPunto + 1; i < fin; i++) {
+            if (!esLetraAscii(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Valida email y lanza excepción si es inválido.
+     */
+    public static void validarEmailObligatorio(String email, String nombreCampo) {
+        if (!validarEmail(email)) {
+            throw new SolicitudInvalidaException(nombreCampo, email, MOTIVO_EMAIL);
+        }
+    }
+
+    /**
+     * Valida si un teléfono tiene formato correcto.
+     */
+    public static boolean validarTelefono(String telefono) {
+        return validarTelefono((CharSequence) telefono);
+    }
+
+    /**
+     * Valida si un teléfono tiene formato correcto. Equivale a {@code ^[+]?[0-9]{7,15}$}.
+     */
+    public static boolean validarTelefono(CharSequence telefono) {
+        boolean valido = false;
+        if (telefono != null) {
+            int inicio = telefono.length() > 0 && telefono.charAt(0) == '+' ? 1 : 0;
+            valido = soloDigitos(telefono, inicio, telefono.length(), 7, 15);
+        }
+        return RechazosValidacion.contar(valido, ReglaValidacion.TELEFONO);
+    }
+
+    /**
+     * Valida si un código postal tiene formato correcto.
+     */
+    public static boolean validarCodigoPostal(String codigoPostal) {
+        return validarCodigoPostal((CharSequence) codigoPostal);
+    }
+
+    /**
+     * Valida si un código postal tiene formato correcto. Equivale a {@code ^[0-9]{5,10}$}.
+     */
+    public static boolean validarCodigoPostal(CharSequence codigoPostal) {
+        return RechazosValidacion.contar(
+            codigoPostal != null && soloDigitos(codigoPostal, 0, codigoPostal.length(), 5, 10),
+            ReglaValidacion.CODIGO_POSTAL);
+    }
+
+    /**
+     * Valida si un código de proyecto tiene formato correcto (ej: PR-001234).
+     */
+    public static boolean validarCodigoProyecto(String codigo) {
+        return validarCodigoProyecto((CharSequence) codigo);
+    }
+
+    /**
+     * Valida si un código de proyecto tiene formato correcto. Equivale a {@code ^[A-Z]{2,3}-[0-9]{4,6}$}.
+     */
+    public static boolean validarCodigoProyecto(CharSequence codigo) {
+        return RechazosValidacion.contar(esCodigoProyecto(codigo), ReglaValidacion.CODIGO_PROYECTO);
+    }
+
+    private static boolean esCodigoProyecto(CharSequence codigo) {
+        if (codigo == null) {
+            return false;
+        }
+        int longitud = codigo.length();
+        int i = 0;
+        while (i < longitud && i < 4 && codigo.charAt(i) >= 'A' && codigo.charAt(i) <= 'Z') {
+            i++;
+        }
+        if (i < 2 || i > 3 || i == longitud || codigo.charAt(i) != '-') {
+            return false;
+        }
+        return soloDigitos(codigo, i + 1, longitud, 4, 6);
+    }
+
+    /**
+     * Valida si un monto es positivo.
+     */
+    public static boolean validarMontoPositivo(BigDecimal monto) {
+        return RechazosValidacion.contar(monto != null && monto.compareTo(BigDecimal.ZERO) > 0,
+            ReglaValidacion.MONTO_POSITIVO);
+    }
+
+    /**
+     * Valida si un monto en centavos es positivo.
+     */
+    public static boolean validarMontoPositivo(long centavos) {
+        return RechazosValidacion.contar(centavos > 0, ReglaValidacion.MONTO_POSITIVO);
+    }
+
+    /**
+     * Valida si un monto está dentro del rango empresarial válido.
+     */
+    public static boolean validarMontoEmpresarial(BigDecimal monto) {
+        return RechazosValidacion.contar(monto != null &&
+               monto.compareTo(MONTO_MINIMO_PROYECTO) >= 0 &&
+               monto.compareTo(MONTO_MAXIMO_PROYECTO) <= 0, ReglaValidacion.MONTO_EMPRESARIAL);
+    }
+
+    /**
+     * Valida si un monto en centavos está dentro del rango empresarial válido, sin crear objetos.
+     * Usar con montos leídos con {@link com.logistica.componentec.utils.TextoDecimal}.
+     */
+    public static boolean validarMontoEmpresarial(long centavos) {
+        return RechazosValidacion.contar(centavos >= MONTO_MINIMO_PROYECTO_CENTAVOS &&
+               centavos <= MONTO_MAXIMO_PROYECTO_CENTAVOS, ReglaValidacion.MONTO_EMPRESARIAL);
+    }
+
+    /**
+     * Valida monto empresarial y lanza excepción si es inválido.
+     */
+    public static void validarMontoEmpresarialObligatorio(BigDecimal monto, String nombreCampo) {
+        if (!validarMontoEmpresarial(monto)) {
+            throw new SolicitudInvalidaException(nombreCampo, monto, MOTIVO_MONTO_EMPRESARIAL);
+        }
+    }
+
+    /**
+     * Valida si una cadena no es null ni vacía.
+     */
+    public static boolean validarTextoNoVacio(String texto) {
+        return RechazosValidacion.contar(texto != null && finSinEspacios(texto) > 0,
+            ReglaValidacion.TEXTO_NO_VACIO);
+    }
+
+    /**
+     * Valida longitud de texto dentro de rangos empresariales.
+     */
+    public static boolean validarLongitudTexto(String texto, int minimo, int maximo) {
+        if (texto == null) return false;
+        int fin = finSinEspacios(texto);
+        int longitud = fin - inicioSinEspacios(texto, fin);
+        return longitud > 0 && longitud >= minimo && longitud <= maximo;
+    }
+
+    /**
+     * Valida nombre empresarial (2-100 caracteres).
+     */
+    public static boolean validarNombreEmpresarial(String nombre) {
+        return RechazosValidacion.contar(validarLongitudTexto(nombre, LONGITUD_MINIMA_NOMBRE, LONGITUD_MAXIMA_NOMBRE),
+            ReglaValidacion.NOMBRE_EMPRESARIAL);
+    }
+
+    /**
+     * Valida nombre empresarial y lanza excepción si es inválido.
+     */
+    public static void validarNombreEmpresarialObligatorio(String nombre, String nombreCampo) {
+        if (!validarNombreEmpresarial(nombre)) {
+            throw new SolicitudInvalidaException(nombreCampo, nombre, MOTIVO_NOMBRE_EMPRESARIAL);
+        }
+    }
+
+    /**
+     * Valida que una fecha no sea nula ni futura.
+     */
+    public static boolean validarFechaNoFutura(LocalDate fecha) {
+        return RechazosValidacion.contar(fecha != null && !fecha.isAfter(LocalDate.now()),
+            ReglaValidacion.FECHA_NO_FUTURA);
+    }
+
+    /**
+     * Valida que una fecha esté en el futuro.
+     */
+    public static boolean validarFechaFutura(LocalDate fecha) {
+        return RechazosValidacion.contar(fecha != null && fecha.isAfter(LocalDate.now()),
+            ReglaValidacion.FECHA_FUTURA);
+    }
+
+    /**
+     * Valida que una fecha de fin sea posterior a fecha de inicio.
+     */
+    public static boolean validarRangoFechas(LocalDate fechaInicio, LocalDate fechaFin) {
+        return fechaInicio != null && fechaFin != null && fechaFin.isAfter(fechaInicio);
+    }
+
+    /**
+     * Valida rango de fechas y lanza excepción si es inválido.
+     */
+    public static void validarRangoFechasObligatorio(LocalDate fechaInicio, LocalDate fechaFin) {
+        if (!validarRangoFechas(fechaInicio, fechaFin)) {
+            throw new SolicitudInvalidaException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+    }
+
+    /**
+     * Valida que una lista no sea nula ni vacía.
+     */
+    public static <T> boolean validarListaNoVacia(List<T> lista) {
+        return RechazosValidacion.contar(lista != null && !lista.isEmpty(), ReglaValidacion.LISTA_NO_VACIA);
+    }
+
+    /**
+     * Valida que un ID sea válido (positivo).
+     */
+    public static boolean validarId(Long id) {
+        return RechazosValidacion.contar(id != null && id > 0, ReglaValidacion.ID);
+    }
+
+    /**
+     * Valida ID y lanza excepción si es inválido.
+     */
+    public static void validarIdObligatorio(Long id, String nombreEntidad) {
+        if (!validarId(id)) {
+            throw new SolicitudInvalidaException("ID de " + nombreEntidad, id, MOTIVO_ID);
+        }
+    }
+
+    // Recorridos de caracteres sin asignaciones
+
+    /**
+     * Fin del texto sin los caracteres finales que String.trim() eliminaría (código menor o igual a espacio).
+     */
+    private static int finSinEspacios(CharSequence texto) {
+        int fin = texto.length();
+        while (fin > 0 && texto.charAt(fin - 1) <= ' ') {
+            fin--;
+        }
+        return fin;
+    }
+
+    /**
+     * Inicio del texto sin los caracteres iniciales que String.trim() eliminaría.
+     */
+    private static int inicioSinEspacios(CharSequence texto, int fin) {
+        int inicio = 0;
+        while (inicio < fin && texto.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        return inicio;
+    }
+
+    /**
+     * Verifica que el rango contenga solo dígitos ASCII y tenga entre minimo y maximo caracteres.
+     */
+    private static boolean soloDigitos(CharSequence texto, int desde, int hasta, int minimo, int maximo) {
+        int longitud = hasta - desde;
+        if (longitud < minimo || longitud > maximo) {
+            return false;
+        }
+        for (int i = desde; i < hasta; i++) {
+            if (!esDigitoAscii(texto.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esCaracterLocalEmail(char c) {
+        return esLetraAscii(c) || esDigitoAscii(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean esLetraAscii(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean esDigitoAscii(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,271 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.exception.SolicitudInvalidaException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Motor de validación por lotes que acumula errores en lugar de lanzar excepciones.
+ * Las reglas se declaran una vez por tipo de fila con {@link #builder()} y se aplican a
+ * listas completas; el resultado es un {@link ReporteValidacion} compacto con fila, campo
+ * y motivo de cada error. Los lotes grandes se dividen entre núcleos con fork/join.
+ * Una regla que lanza IllegalArgumentException o SolicitudInvalidaException cuenta como error del
+ * campo; cualquier otra excepción, del acceso o de la regla, se propaga.
+ *
+ * <pre>
+ * ValidadorLote&lt;ClienteDTO&gt; validador = ValidadorLote.&lt;ClienteDTO&gt;builder()
+ *     .campo("email", ClienteDTO::getEmail, ReglaValidacion.EMAIL)
+ *     .campo("nombre", ClienteDTO::getNombre, ReglaValidacion.NOMBRE_EMPRESARIAL)
+ *     .build();
+ * ReporteValidacion reporte = validador.validar(filas);
+ * </pre>
+ *
+ * @param <T> Tipo de fila
+ */
+public final class ValidadorLote<T> {
+
+    /** Cantidad de filas a partir de la cual se divide el trabajo entre núcleos. */
+    static final int UMBRAL_PARALELO = 4_096;
+
+    static final String MOTIVO_FILA_NULL = "la fila no puede ser null";
+
+    private final ReglaCampo<T>[] reglas;
+    private final String[] campos;
+    private final String[] motivos;
+    private final boolean primerErrorPorFila;
+
+    private ValidadorLote(List<ReglaCampo<T>> reglas, boolean primerErrorPorFila) {
+        @SuppressWarnings("unchecked")
+        ReglaCampo<T>[] arreglo = (ReglaCampo<T>[]) reglas.toArray(new ReglaCampo<?>[0]);
+        this.reglas = arreglo;
+        // La posición extra al final corresponde a una fila null
+        this.campos = new String[arreglo.length + 1];
+        this.motivos = new String[arreglo.length + 1];
+        for (int i = 0; i < arreglo.length; i++) {
+            campos[i] = arreglo[i].campo;
+            motivos[i] = arreglo[i].motivo;
+        }
+        campos[arreglo.length] = "fila";
+        motivos[arreglo.length] = MOTIVO_FILA_NULL;
+        this.primerErrorPorFila = primerErrorPorFila;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Valida todas las filas sin lanzar excepciones por datos inválidos.
+     *
+     * @param filas Filas a validar
+     * @return Reporte con los errores en orden de fila
+     */
+    public ReporteValidacion validar(List<? extends T> filas) {
+        if (filas == null) {
+            throw new IllegalArgumentException("La lista de filas no puede ser null");
+        }
+
+        Errores errores;
+        if (filas.size() >= UMBRAL_PARALELO && filas instanceof RandomAccess) {
+            errores = ForkJoinPool.commonPool().invoke(new TareaValidacion<>(this, filas, 0, filas.size()));
+        } else {
+            errores = new Errores();
+            int fila = 0;
+            for (T valor : filas) {
+                validarFila(valor, fila++, errores);
+            }
+        }
+        return new ReporteValidacion(errores.filas, errores.reglas, errores.cantidad, campos, motivos);
+    }
+
+    /**
+     * Valida una sola fila.
+     *
+     * @return true si la fila cumple todas las reglas
+     */
+    public boolean esValida(T fila) {
+        if (fila == null) {
+            return false;
+        }
+        for (ReglaCampo<T> regla : reglas) {
+            if (!regla.acepta(fila)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void validarFila(T fila, int indice, Errores errores) {
+        if (fila == null) {
+            errores.agregar(indice, reglas.length);
+            return;
+        }
+        for (int r = 0; r < reglas.length; r++) {
+            if (!reglas[r].acepta(fila)) {
+                errores.agregar(indice, r);
+                if (primerErrorPorFila) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class TareaValidacion<T> extends RecursiveTask<Errores> {
+        private static final long serialVersionUID = 1L;
+
+        private final ValidadorLote<T> validador;
+        private final List<? extends T> filas;
+        private final int desde;
+        private final int hasta;
+
+        TareaValidacion(ValidadorLote<T> validador, List<? extends T> filas, int desde, int hasta) {
+            this.validador = validador;
+            this.filas = filas;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Errores compute() {
+            if (hasta - desde <= UMBRAL_PARALELO) {
+                Errores errores = new Errores();
+                for (int i = desde; i < hasta; i++) {
+                    validador.validarFila(filas.get(i), i, errores);
+                }
+                return errores;
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaValidacion<T> derecha = new TareaValidacion<>(validador, filas, medio, hasta);
+            derecha.fork();
+            Errores izquierda = new TareaValidacion<>(validador, filas, desde, medio).compute();
+            return izquierda.concatenar(derecha.join());
+        }
+    }
+
+    /**
+     * Errores acumulados como dos columnas primitivas: fila e índice de regla.
+     */
+    private static final class Errores {
+        private int[] filas = new int[16];
+        private int[] reglas = new int[16];
+        private int cantidad;
+
+        void agregar(int fila, int regla) {
+            if (cantidad == filas.length) {
+                filas = Arrays.copyOf(filas, cantidad * 2);
+                reglas = Arrays.copyOf(reglas, cantidad * 2);
+            }
+            filas[cantidad] = fila;
+            reglas[cantidad] = regla;
+            cantidad++;
+        }
+
+        Errores concatenar(Errores siguiente) {
+            if (siguiente.cantidad == 0) {
+                return this;
+            }
+            if (cantidad == 0) {
+                return siguiente;
+            }
+            int total = cantidad + siguiente.cantidad;
+            filas = Arrays.copyOf(filas, total);
+            reglas = Arrays.copyOf(reglas, total);
+            System.arraycopy(siguiente.filas, 0, filas, cantidad, siguiente.cantidad);
+            System.arraycopy(siguiente.reglas, 0, reglas, cantidad, siguiente.cantidad);
+            cantidad = total;
+            return this;
+        }
+    }
+
+    /**
+     * Regla aplicada a un campo de la fila.
+     */
+    private static final class ReglaCampo<T> {
+        private final String campo;
+        private final Function<? super T, ?> acceso;
+        private final Predicate<Object> prueba;
+        private final String motivo;
+
+        ReglaCampo(String campo, Function<? super T, ?> acceso, Predicate<Object> prueba, String motivo) {
+            this.campo = campo;
+            this.acceso = acceso;
+            this.prueba = prueba;
+            this.motivo = motivo;
+        }
+
+        boolean acepta(T fila) {
+            // Los errores del acceso (NPE, ClassCastException...) son fallas del programa y se propagan
+            Object valor = acceso.apply(fila);
+            try {
+                return prueba.test(valor);
+            } catch (IllegalArgumentException | SolicitudInvalidaException e) {
+                // Una regla que rechaza el valor lanzando su excepción de validación lo marca como inválido
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Constructor de validadores por lotes.
+     */
+    public static final class Builder<T> {
+        private final List<ReglaCampo<T>> reglas = new ArrayList<>();
+        private boolean primerErrorPorFila;
+
+        private Builder() {
+        }
+
+        /**
+         * Agrega una regla predefinida sobre un campo.
+         */
+        public Builder<T> campo(String campo, Function<? super T, ?> acceso, ReglaValidacion regla) {
+            if (regla == null) {
+                throw new IllegalArgumentException("La regla no puede ser null");
+            }
+            return agregar(campo, acceso, regla::acepta, regla.getMotivo());
+        }
+
+        /**
+         * Agrega una regla personalizada sobre un campo.
+         */
+        public <V> Builder<T> campo(String campo, Function<? super T, ? extends V> acceso,
+                                    Predicate<? super V> prueba, String motivo) {
+            if (prueba == null || motivo == null) {
+                throw new IllegalArgumentException("La prueba y el motivo no pueden ser null");
+            }
+            @SuppressWarnings("unchecked")
+            Predicate<Object> pruebaObjeto = valor -> prueba.test((V) valor);
+            return agregar(campo, acceso, pruebaObjeto, motivo);
+        }
+
+        /**
+         * Detiene la validación de cada fila en su primer error.
+         */
+        public Builder<T> primerErrorPorFila() {
+            this.primerErrorPorFila = true;
+            return this;
+        }
+
+        public ValidadorLote<T> build() {
+            if (reglas.isEmpty()) {
+                throw new IllegalArgumentException("El validador debe tener al menos una regla");
+            }
+            return new ValidadorLote<>(reglas, primerErrorPorFila);
+        }
+
+        private Builder<T> agregar(String campo, Function<? super T, ?> acceso, Predicate<Object> prueba, String motivo) {
+            if (campo == null || acceso == null) {
+                throw new IllegalArgumentException("El campo y su acceso no pueden ser null");
+            }
+            reglas.add(new ReglaCampo<>(campo, acceso, prueba, motivo));
+            return this;
+        }
+    }
+}
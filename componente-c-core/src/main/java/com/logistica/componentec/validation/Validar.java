@@ -0,0 +1,33 @@
+package com.logistica.componentec.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara las reglas de un campo para {@link EsquemaValidacion#de(Class)}.
+ * En un record se anota el componente.
+ *
+ * <pre>
+ * public record ClienteDTO(
+ *     &#64;Validar(ReglaValidacion.ID) Long id,
+ *     &#64;Validar(ReglaValidacion.NOMBRE_EMPRESARIAL) String nombre,
+ *     &#64;Validar(value = ReglaValidacion.EMAIL, opcional = true) String email) { }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Validar {
+
+    /** Reglas que debe cumplir el valor, evaluadas en orden. */
+    ReglaValidacion[] value();
+
+    /** Si es true, un valor null se acepta sin evaluar las reglas. */
+    boolean opcional() default false;
+
+    /** Nombre con el que se reporta el campo; por defecto el nombre del campo. */
+    String campo() default "";
+}
@@ -0,0 +1,16 @@
+/**
+ * Núcleo de Componente C: cálculos de punto fijo, códigos, validaciones, excepciones, DTO y
+ * métricas. Solo depende del JDK; {@code java.management} expone las métricas por JMX.
+ */
+module com.logistica.componentec.core {
+    requires transitive java.management;
+
+    exports com.logistica.componentec.dto;
+    exports com.logistica.componentec.exception;
+    exports com.logistica.componentec.metricas;
+    exports com.logistica.componentec.utils;
+    exports com.logistica.componentec.validation;
+
+    // Los DTO se serializan por reflexión (Jackson u otro) sin que el núcleo dependa de ellos
+    opens com.logistica.componentec.dto;
+}
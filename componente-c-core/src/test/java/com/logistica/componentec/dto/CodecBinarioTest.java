@@ -0,0 +1,106 @@
+package com.logistica.componentec.dto;
+
+import com.logistica.componentec.utils.CalculadoraUtils;
+import com.logistica.componentec.utils.ReglasCalculo;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+class CodecBinarioTest {
+
+    private static final ReglasCalculo REGLAS = CalculadoraUtils.obtenerReglas();
+
+    @Test
+    void testCalculoCoincideConCentavos() {
+        for (long centavos : new long[] {0, 1, 99_999, 100_000, 500_000, 1_000_001, 123_456_789}) {
+            CalculoEmpresarialDTO calculo = CalculoEmpresarialDTO.deCentavos(centavos, REGLAS);
+            assertEquals(CalculadoraUtils.calcularTotalEmpresarialCentavos(centavos), calculo.getTotal());
+            assertEquals(centavos, calculo.getMontoDescuento() + calculo.getSubtotal());
+            assertEquals(calculo.getTotal(), calculo.getSubtotal() + calculo.getMontoIva());
+            assertEquals(BigDecimal.valueOf(calculo.getTotal(), 2), calculo.aDecimal(calculo.getTotal()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CalculoEmpresarialDTO(19, 0, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void testIdaYVueltaCalculo() {
+        CalculoEmpresarialDTO calculo = CalculoEmpresarialDTO.deCentavos(1_250_075, REGLAS);
+        byte[] bytes = CodecBinario.codificar(calculo, CodecBinario.CALCULO_EMPRESARIAL);
+        assertEquals(CodecBinario.CALCULO_EMPRESARIAL.tamanio(calculo), bytes.length);
+        assertTrue(bytes.length < 30, "bytes " + bytes.length);
+        assertEquals(calculo, CodecBinario.decodificar(bytes, CodecBinario.CALCULO_EMPRESARIAL));
+
+        CalculoEmpresarialDTO negativo = new CalculoEmpresarialDTO(4, -5, 0, Long.MIN_VALUE, Long.MAX_VALUE, 1500, -1, 0);
+        assertEquals(negativo, CodecBinario.decodificar(
+            CodecBinario.codificar(negativo, CodecBinario.CALCULO_EMPRESARIAL), CodecBinario.CALCULO_EMPRESARIAL));
+    }
+
+    @Test
+    void testIdaYVueltaError() {
+        ErrorResponseDTO error = new ErrorResponseDTO(400, "SOLICITUD_INVALIDA", "Datos inválidos ñ €",
+            List.of("email: formato", "código: 😀"), 1_700_000_000_000L);
+        byte[] bytes = CodecBinario.codificar(error, CodecBinario.ERROR_RESPUESTA);
+        assertEquals(error, CodecBinario.decodificar(bytes, CodecBinario.ERROR_RESPUESTA));
+
+        ErrorResponseDTO sinDetalles = new ErrorResponseDTO(500, null, null, null, 0);
+        assertEquals(sinDetalles, CodecBinario.decodificar(
+            CodecBinario.codificar(sinDetalles, CodecBinario.ERROR_RESPUESTA), CodecBinario.ERROR_RESPUESTA));
+    }
+
+    @Test
+    void testRespuestaAnidadaEnBufferDirecto() {
+        CodecDTO<RespuestaExitosaDTO<CalculoEmpresarialDTO>> codec =
+            CodecBinario.respuestaExitosa(CodecBinario.CALCULO_EMPRESARIAL);
+        RespuestaExitosaDTO<CalculoEmpresarialDTO> respuesta =
+            new RespuestaExitosaDTO<>(201, "Creado", CalculoEmpresarialDTO.deCentavos(10_000, REGLAS), 42L);
+        RespuestaExitosaDTO<CalculoEmpresarialDTO> vacia = new RespuestaExitosaDTO<>(204, null, null, 43L);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256).order(ByteOrder.LITTLE_ENDIAN);
+        codec.escribir(respuesta, buffer);
+        codec.escribir(vacia, buffer);
+        assertEquals(codec.tamanio(respuesta) + codec.tamanio(vacia), buffer.position());
+        buffer.flip();
+        assertEquals(respuesta, codec.leer(buffer));
+        assertEquals(vacia, codec.leer(buffer));
+        assertFalse(buffer.hasRemaining());
+        assertThrows(IllegalArgumentException.class, () -> new RespuestaExitosaDTO<>(404, null, null, 0));
+    }
+
+    @Test
+    void testRechazaTipoVersionYTruncado() {
+        byte[] bytes = CodecBinario.codificar(CalculoEmpresarialDTO.deCentavos(500, REGLAS),
+            CodecBinario.CALCULO_EMPRESARIAL);
+        assertThrows(IllegalArgumentException.class, () -> CodecBinario.decodificar(bytes, CodecBinario.ERROR_RESPUESTA));
+
+        byte[] futura = bytes.clone();
+        futura[1] = (byte) (CodecBinario.VERSION + 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> CodecBinario.decodificar(futura, CodecBinario.CALCULO_EMPRESARIAL));
+
+        byte[] truncado = java.util.Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> CodecBinario.decodificar(truncado, CodecBinario.CALCULO_EMPRESARIAL));
+
+        byte[] sobrante = java.util.Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> CodecBinario.decodificar(sobrante, CodecBinario.CALCULO_EMPRESARIAL));
+    }
+
+    @Test
+    void testVarints() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        for (long valor : new long[] {0, 1, 127, 128, 16_383, 16_384, Long.MAX_VALUE, -1, Long.MIN_VALUE}) {
+            buffer.clear();
+            CodecBinario.escribirVarint(buffer, valor);
+            assertEquals(CodecBinario.tamanioVarint(valor), buffer.position(), "valor " + valor);
+            buffer.flip();
+            assertEquals(valor, CodecBinario.leerVarint(buffer));
+            assertEquals(valor, CodecBinario.dezigzag(CodecBinario.zigzag(valor)));
+        }
+        assertEquals(1, CodecBinario.tamanioVarint(CodecBinario.zigzag(-1)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.logistica.componentec.exception;
+
+import com.logistica.componentec.dto.ErrorResponseDTO;
+import com.logistica.componentec.validation.ValidacionUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class LogisticaExceptionTest {
+
+    @Test
+    void testSolicitudInvalidaMensajePerezoso() {
+        SolicitudInvalidaException e = new SolicitudInvalidaException("email", "x", "formato de email inválido");
+        assertEquals("email", e.getCampo());
+        assertEquals("x", e.getValor());
+        assertEquals("Campo 'email' inválido (valor: x): formato de email inválido", e.getMessage());
+        assertSame(e.getMessage(), e.getMessage());
+        assertEquals(List.of("email: formato de email inválido"), e.getDetalles());
+    }
+
+    @Test
+    void testSinTrazaNoCapturaPila() {
+        SolicitudInvalidaException e = SolicitudInvalidaException.sinTraza("monto", BigDecimal.ONE, "muy bajo");
+        assertEquals(0, e.getStackTrace().length);
+        e.addSuppressed(new IllegalStateException());
+        assertEquals(0, e.getSuppressed().length);
+
+        assertEquals(0, RecursoNoEncontradoException.sinTraza("Proyecto", 7L).getStackTrace().length);
+        assertEquals(0, ConflictoNegocioException.sinTraza("duplicado").getStackTrace().length);
+        assertTrue(new ConflictoNegocioException("duplicado").getStackTrace().length > 0);
+    }
+
+    @Test
+    void testConfiguracionGlobalDeTrazas() {
+        assertTrue(LogisticaException.trazasHabilitadas());
+        try {
+            LogisticaException.configurarTrazas(false);
+            SolicitudInvalidaException e = assertThrows(SolicitudInvalidaException.class,
+                () -> ValidacionUtils.validarIdObligatorio(-1L, "Proyecto"));
+            assertEquals(0, e.getStackTrace().length);
+            assertEquals(-1L, e.getValor());
+        } finally {
+            LogisticaException.configurarTrazas(true);
+        }
+    }
+
+    @Test
+    void testAErrorResponse() {
+        ErrorResponseDTO respuesta = new RecursoNoEncontradoException("Proyecto", 42L).aErrorResponse();
+        assertEquals(404, respuesta.getEstado());
+        assertEquals("RECURSO_NO_ENCONTRADO", respuesta.getCodigo());
+        assertEquals("Proyecto con ID 42 no encontrado", respuesta.getMensaje());
+        assertTrue(respuesta.getDetalles().isEmpty());
+
+        respuesta = new SolicitudInvalidaException("La fecha de fin debe ser posterior").aErrorResponse();
+        assertEquals(400, respuesta.getEstado());
+        assertEquals("SOLICITUD_INVALIDA", respuesta.getCodigo());
+        assertEquals("La fecha de fin debe ser posterior", respuesta.getMensaje());
+
+        IllegalStateException causa = new IllegalStateException("versión");
+        ConflictoNegocioException conflicto = new ConflictoNegocioException("Proyecto modificado", causa);
+        assertSame(causa, conflicto.getCause());
+        assertEquals(409, conflicto.aErrorResponse().getEstado());
+        assertEquals("CONFLICTO_NEGOCIO", conflicto.getCodigo());
+    }
+}
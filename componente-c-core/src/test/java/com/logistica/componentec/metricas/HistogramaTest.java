@@ -0,0 +1,53 @@
+package com.logistica.componentec.metricas;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+class HistogramaTest {
+
+    @Test
+    void testCubetasContiguasYAcotadas() {
+        for (int i = 0; i < Histograma.CUBETAS - 1; i++) {
+            assertEquals(i, Histograma.indice(Histograma.limiteInferior(i)));
+            assertEquals(i, Histograma.indice(Histograma.limiteSuperior(i)));
+            assertEquals(Histograma.limiteSuperior(i) + 1, Histograma.limiteInferior(i + 1));
+        }
+        assertEquals(Histograma.CUBETAS - 1, Histograma.indice(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testErrorRelativoMenorAlOctavo() {
+        for (int i = 0; i < 100_000; i++) {
+            long valor = ThreadLocalRandom.current().nextLong(1L << Histograma.EXPONENTE_MAXIMO);
+            int indice = Histograma.indice(valor);
+            long inferior = Histograma.limiteInferior(indice);
+            long superior = Histograma.limiteSuperior(indice);
+            assertTrue(valor >= inferior && valor <= superior);
+            assertTrue(superior - inferior <= Math.max(1, inferior / Histograma.SUBCUBETAS), "valor " + valor);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        Histograma histograma = new Histograma();
+        for (int i = 1; i <= 1000; i++) {
+            histograma.registrar(i * 1_000L);
+        }
+        histograma.registrar(-5);
+
+        InstantaneaHistograma instantanea = histograma.instantanea();
+        assertEquals(1001, instantanea.getCantidad());
+        assertEquals(1_000_000, instantanea.getMaximo());
+        assertEquals(500_500_000, instantanea.getSuma());
+        assertEquals(0, instantanea.percentil(0));
+        long p50 = instantanea.percentil(0.5);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 " + p50);
+        long p99 = instantanea.percentil(0.99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(1_000_000, instantanea.percentil(1));
+        assertThrows(IllegalArgumentException.class, () -> instantanea.percentil(1.5));
+        assertEquals(0, new Histograma().instantanea().percentil(0.99));
+    }
+}
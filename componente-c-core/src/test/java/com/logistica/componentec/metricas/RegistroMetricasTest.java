@@ -0,0 +1,125 @@
+package com.logistica.componentec.metricas;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+class RegistroMetricasTest {
+
+    @Test
+    void testMismaMetricaPorNombre() {
+        RegistroMetricas registro = new RegistroMetricas();
+        assertSame(registro.contador("a"), registro.contador("a"));
+        assertSame(registro.histograma("h"), registro.histograma("h"));
+        assertSame(registro.endpoint("e"), registro.endpoint("e"));
+        assertThrows(IllegalArgumentException.class, () -> registro.contador(" "));
+        assertThrows(IllegalArgumentException.class, () -> registro.temporizador("t", 3));
+    }
+
+    @Test
+    void testInstantaneaAplanaEndpointsYTemporizadores() {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.contador("c").sumar(3);
+        MetricasEndpoint endpoint = registro.endpoint("integracion.X");
+        endpoint.registrarRespuesta(200, 120);
+        endpoint.registrarRespuesta(200, -1);
+        endpoint.registrarRespuesta(503, 10);
+        endpoint.registrarError();
+        endpoint.registrarEnvio(40);
+        endpoint.registrarLatencia(1_000);
+        TemporizadorMuestreado temporizador = registro.temporizador("lote", 1);
+        temporizador.terminar(temporizador.iniciar());
+
+        InstantaneaMetricas instantanea = registro.instantanea();
+        Map<String, Long> contadores = instantanea.getContadores();
+        assertEquals(3L, contadores.get("c"));
+        assertEquals(2L, contadores.get("integracion.X.respuestas.200"));
+        assertEquals(1L, contadores.get("integracion.X.respuestas.503"));
+        assertFalse(contadores.containsKey("integracion.X.respuestas.404"));
+        assertEquals(1L, contadores.get("integracion.X.errores"));
+        assertEquals(130L, contadores.get("integracion.X.bytesRecibidos"));
+        assertEquals(40L, contadores.get("integracion.X.bytesEnviados"));
+        assertEquals(1L, contadores.get("lote.llamadas"));
+        assertEquals(1, instantanea.getHistogramas().get("lote.duracion").getCantidad());
+        assertEquals(1, instantanea.getHistogramas().get("integracion.X.latencia").getCantidad());
+    }
+
+    @Test
+    void testDesactivadasNoRegistran() {
+        RegistroMetricas registro = new RegistroMetricas();
+        Contador contador = registro.contador("c");
+        TemporizadorMuestreado temporizador = registro.temporizador("t", 1);
+        RegistroMetricas.configurar(false);
+        try {
+            contador.incrementar();
+            registro.histograma("h").registrar(5);
+            temporizador.terminar(temporizador.iniciar());
+        } finally {
+            RegistroMetricas.configurar(true);
+        }
+        assertEquals(0, contador.getValor());
+        assertEquals(0, registro.histograma("h").instantanea().getCantidad());
+        assertEquals(0, temporizador.getLlamadas());
+        assertEquals(0, temporizador.getDuracion().getCantidad());
+    }
+
+    @Test
+    void testMuestreoMideUnaFraccion() {
+        RegistroMetricas registro = new RegistroMetricas();
+        TemporizadorMuestreado temporizador = registro.temporizador("t", 16);
+        for (int i = 0; i < 16_000; i++) {
+            temporizador.terminar(temporizador.iniciar());
+        }
+        assertEquals(16_000, temporizador.getLlamadas());
+        long medidas = temporizador.getDuracion().getCantidad();
+        assertTrue(medidas > 700 && medidas < 1_300, "medidas " + medidas);
+    }
+
+    @Test
+    void testPublicaMXBean() throws Exception {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.contador("validacion.rechazos.EMAIL").sumar(2);
+        registro.histograma("latencia").registrar(100);
+        ObjectName nombre = registro.registrarMBean("prueba-" + System.nanoTime());
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            TabularData contadores = (TabularData) servidor.getAttribute(nombre, "Contadores");
+            CompositeData fila = contadores.get(new Object[] {"validacion.rechazos.EMAIL"});
+            assertEquals(2L, fila.get("value"));
+            TabularData percentiles = (TabularData) servidor.getAttribute(nombre, "Percentiles");
+            assertEquals(100L, percentiles.get(new Object[] {"latencia.p99"}).get("value"));
+            assertEquals(Boolean.TRUE, servidor.getAttribute(nombre, "Activas"));
+        } finally {
+            servidor.unregisterMBean(nombre);
+        }
+    }
+
+    @Test
+    void testExportadorPeriodicoSobreviveErrores() throws Exception {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.contador("c").incrementar();
+        CountDownLatch exportaciones = new CountDownLatch(3);
+        try (Closeable exportacion = registro.exportarPeriodicamente(instantanea -> {
+            exportaciones.countDown();
+            if (exportaciones.getCount() == 2) {
+                throw new IOException("destino caído");
+            }
+            assertEquals(1L, instantanea.getContadores().get("c"));
+        }, Duration.ofMillis(20))) {
+            assertTrue(exportaciones.await(5, TimeUnit.SECONDS));
+        }
+        assertTrue(registro.contador("metricas.exportaciones.fallidas").getValor() >= 1);
+        assertThrows(IllegalArgumentException.class, () -> registro.exportarPeriodicamente(i -> { }, Duration.ZERO));
+    }
+}
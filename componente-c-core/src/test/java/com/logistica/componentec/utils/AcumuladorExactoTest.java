@@ -0,0 +1,60 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+class AcumuladorExactoTest {
+
+    private static void assertMismoValor(BigDecimal esperado, BigDecimal obtenido) {
+        assertEquals(0, esperado.compareTo(obtenido), "esperado " + esperado + ", obtenido " + obtenido);
+    }
+
+    @Test
+    void testCoincideConCalculoEscalarSinRedondear() {
+        // 10.05 - 5% = 9.5475 y su IVA 1.432125: AcumuladorTotales los redondea, este no
+        CalculadoraUtils.ResultadoCalculoEmpresarial escalar = CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal("10.05"));
+        AcumuladorExacto acumulador = new AcumuladorExacto().agregar(1_005);
+
+        assertMismoValor(escalar.getMontoDescuento(), acumulador.getDescuento());
+        assertMismoValor(escalar.getSubtotal(), acumulador.getSubtotal());
+        assertMismoValor(escalar.getMontoIVA(), acumulador.getIva());
+        assertMismoValor(escalar.getTotal(), acumulador.getTotal());
+        assertMismoValor(new BigDecimal("10.979625"), acumulador.getTotal());
+    }
+
+    @Test
+    void testMontosFueraDeLaRutaEnCentavos() {
+        String[] montos = {"0.001", "1000.0001", "92233720368547758.07", "-5"};
+        AcumuladorExacto acumulador = new AcumuladorExacto();
+        BigDecimal total = BigDecimal.ZERO;
+        for (String monto : montos) {
+            acumulador.agregar(new BigDecimal(monto));
+            total = total.add(CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal(monto)).getTotal());
+        }
+        acumulador.agregar((BigDecimal) null);
+
+        assertEquals(4, acumulador.getCantidad());
+        assertMismoValor(total, acumulador.getTotal());
+    }
+
+    @Test
+    void testSumaQueDesbordaSeVuelcaSinPerderValor() {
+        // Cada total ronda 4.9e18 unidades de escala 10: la segunda línea ya desborda un long
+        long monto = 50_000_000_000L;
+        AcumuladorExacto acumulador = new AcumuladorExacto();
+        AcumuladorExacto otro = new AcumuladorExacto();
+        for (int i = 0; i < 10; i++) {
+            acumulador.agregar(monto);
+            otro.agregar(monto);
+        }
+        acumulador.combinar(otro);
+
+        BigDecimal totalLinea = CalculadoraUtils.calcularTotalEmpresarial(BigDecimal.valueOf(monto, 2)).getTotal();
+        assertEquals(20, acumulador.getCantidad());
+        assertMismoValor(totalLinea.multiply(BigDecimal.valueOf(20)), acumulador.getTotal());
+        assertMismoValor(BigDecimal.valueOf(monto * 20, 2), acumulador.getBruto());
+        assertThrows(IllegalArgumentException.class, () -> acumulador.combinar(null));
+    }
+}
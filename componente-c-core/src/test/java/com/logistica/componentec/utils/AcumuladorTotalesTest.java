@@ -0,0 +1,66 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+class AcumuladorTotalesTest {
+
+    @Test
+    void testAgregarIgnoraNulls() {
+        List<BigDecimal> valores = Arrays.asList(
+            new BigDecimal("10.50"),
+            null,
+            new BigDecimal("25.30")
+        );
+
+        AcumuladorTotales acumulador = valores.stream().collect(AcumuladorTotales.coleccionar());
+
+        assertEquals(2, acumulador.getCantidad());
+        assertEquals(CalculadoraUtils.calcularTotal(valores), acumulador.getBruto());
+    }
+
+    @Test
+    void testAgregarRedondeaMontosConMasDeDosDecimales() {
+        AcumuladorTotales acumulador = new AcumuladorTotales()
+            .agregar(new BigDecimal("10.005"))
+            .agregar(new BigDecimal("10.015"))
+            .agregar(new BigDecimal("0.123456"));
+
+        assertEquals(3, acumulador.getCantidad());
+        assertEquals(2_014L, acumulador.getBrutoCentavos());
+        assertEquals(new AcumuladorTotales().agregar(1_000L).agregar(1_002L).agregar(12L).getTotalCentavos(),
+            acumulador.getTotalCentavos());
+    }
+
+    @Test
+    void testStreamParaleloCoincideConLote() {
+        long[] montos = LongStream.range(0, 200_000).map(i -> (i * 7919) % 900_000).toArray();
+
+        AcumuladorTotales paralelo = Arrays.stream(montos).boxed().parallel()
+            .collect(AcumuladorTotales.coleccionarCentavos());
+        CalculadoraLote.ResultadoLote lote = CalculadoraLote.calcularTotalEmpresarial(montos);
+
+        assertEquals(montos.length, paralelo.getCantidad());
+        assertEquals(CalculadoraUtils.calcularTotalCentavos(montos), paralelo.getBrutoCentavos());
+        assertEquals(CalculadoraUtils.calcularTotalCentavos(lote.columnaMontoDescuento()), paralelo.getDescuentoCentavos());
+        assertEquals(CalculadoraUtils.calcularTotalCentavos(lote.columnaMontoIVA()), paralelo.getIvaCentavos());
+        assertEquals(CalculadoraUtils.calcularTotalCentavos(lote.columnaTotal()), paralelo.getTotalCentavos());
+    }
+
+    @Test
+    void testCombinarPorBloques() {
+        long[] montos = {10_000L, 150_000L, 600_000L, 99_999L};
+
+        AcumuladorTotales completo = new AcumuladorTotales().agregar(montos, 0, montos.length);
+        AcumuladorTotales combinado = new AcumuladorTotales().agregar(montos, 0, 2)
+            .combinar(new AcumuladorTotales().agregar(montos, 2, 4));
+
+        assertEquals(completo.getTotalCentavos(), combinado.getTotalCentavos());
+        assertEquals(completo.getSubtotalCentavos(), combinado.getSubtotalCentavos());
+    }
+}
@@ -0,0 +1,99 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class CalculadoraLoteTest {
+
+    @Test
+    void testLoteCoincideConCalculoEscalar() {
+        Random random = new Random(42);
+        long[] montos = new long[100_000];
+        for (int i = 0; i < montos.length; i++) {
+            montos[i] = random.nextInt(2_000_000) - 1_000;
+        }
+
+        CalculadoraLote.ResultadoLote lote = CalculadoraLote.calcularTotalEmpresarial(montos);
+
+        assertEquals(montos.length, lote.tamanio());
+        for (int i = 0; i < montos.length; i += 97) {
+            CalculadoraUtils.ResultadoCalculoEmpresarial escalar =
+                CalculadoraUtils.calcularTotalEmpresarial(Money.deCentavos(montos[i]));
+            assertEquals(escalar.getPorcentajeDescuento(), Money.dePuntosBase(lote.getPorcentajeDescuentoPb(i)));
+            assertEquals(escalar.getMontoDescuento(), BigDecimal.valueOf(lote.getMontoDescuento(i), 2));
+            assertEquals(escalar.getSubtotal(), BigDecimal.valueOf(lote.getSubtotal(i), 2));
+            assertEquals(escalar.getMontoIVA(), BigDecimal.valueOf(lote.getMontoIVA(i), 2));
+            assertEquals(escalar.getTotal(), BigDecimal.valueOf(lote.getTotal(i), 2));
+        }
+    }
+
+    @Test
+    void testLoteDesdeBigDecimal() {
+        CalculadoraLote.ResultadoLote lote = CalculadoraLote.calcularTotalEmpresarial(Arrays.asList(
+            new BigDecimal("100.00"),
+            new BigDecimal("1000"),
+            new BigDecimal("5000.5")
+        ));
+
+        assertEquals(500L, lote.getPorcentajeDescuentoPb(0));
+        assertEquals(1000L, lote.getPorcentajeDescuentoPb(1));
+        assertEquals(1500L, lote.getPorcentajeDescuentoPb(2));
+        assertEquals(0, new BigDecimal("1035.00").compareTo(lote.getTotalDecimal(1)));
+        assertEquals(0, new BigDecimal("10.935925").compareTo(
+            CalculadoraLote.calcularTotalEmpresarial(Arrays.asList(new BigDecimal("10.01"))).getTotalDecimal(0)));
+    }
+
+    @Test
+    void testLoteDesdeBigDecimalCoincideConCalculoBigDecimal() {
+        Random random = new Random(7);
+        List<BigDecimal> montos = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            montos.add(BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000, random.nextInt(3)));
+        }
+
+        CalculadoraLote.ResultadoLote lote = CalculadoraLote.calcularTotalEmpresarial(montos);
+
+        for (int i = 0; i < montos.size(); i++) {
+            CalculadoraUtils.ResultadoCalculoEmpresarial escalar =
+                CalculadoraUtils.calcularTotalEmpresarial(montos.get(i));
+            assertEquals(0, escalar.getPorcentajeDescuento().compareTo(Money.dePuntosBase(lote.getPorcentajeDescuentoPb(i))));
+            assertEquals(0, escalar.getMontoDescuento().compareTo(lote.getMontoDescuentoDecimal(i)));
+            assertEquals(0, escalar.getSubtotal().compareTo(lote.getSubtotalDecimal(i)));
+            assertEquals(0, escalar.getMontoIVA().compareTo(lote.getMontoIVADecimal(i)));
+            assertEquals(0, escalar.getTotal().compareTo(lote.getTotalDecimal(i)), "monto " + montos.get(i));
+        }
+    }
+
+    @Test
+    void testLoteEnCentavosDifiereDelCalculoBigDecimalEnALoSumoUnCentavo() {
+        Random random = new Random(11);
+        long[] montos = new long[20_000];
+        for (int i = 0; i < montos.length; i++) {
+            montos[i] = random.nextInt(2_000_000) - 1_000;
+        }
+
+        CalculadoraLote.ResultadoLote lote = CalculadoraLote.calcularTotalEmpresarial(montos);
+
+        BigDecimal unCentavo = new BigDecimal("0.01");
+        for (int i = 0; i < montos.length; i++) {
+            BigDecimal exacto = CalculadoraUtils.calcularTotalEmpresarial(BigDecimal.valueOf(montos[i], 2)).getTotal()
+                .setScale(2, RoundingMode.HALF_EVEN);
+            BigDecimal diferencia = lote.getTotalDecimal(i).subtract(exacto).abs();
+            assertTrue(diferencia.compareTo(unCentavo) <= 0, "monto " + montos[i] + " difiere en " + diferencia);
+        }
+    }
+
+    @Test
+    void testDestinoSinCapacidad() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            CalculadoraLote.calcularTotalEmpresarial(new long[10], new CalculadoraLote.ResultadoLote(5));
+        });
+    }
+}
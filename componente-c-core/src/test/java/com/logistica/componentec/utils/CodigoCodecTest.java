@@ -0,0 +1,119 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CodigoCodecTest {
+
+    @Test
+    void testIdaYVueltaCodigosGenerados() {
+        ByteBuffer buffer = ByteBuffer.allocate(CodigoCodec.BYTES);
+        for (String tipo : Arrays.asList("CLIENTE", "PEDIDO", "PROVEEDOR", "FACTURA", "USUARIO", "PRODUCTO", "OTRO")) {
+            String codigo = CodigoUtils.generarCodigoUnico(tipo);
+
+            assertTrue(CodigoCodec.esValido(codigo), codigo);
+            assertEquals(codigo, CodigoCodec.decodificar(CodigoCodec.codificarAlto(codigo), CodigoCodec.codificarBajo(codigo)));
+
+            buffer.clear();
+            CodigoCodec.codificar(codigo, buffer);
+            buffer.flip();
+            assertEquals(codigo, CodigoCodec.decodificar(buffer));
+        }
+    }
+
+    @Test
+    void testValidacionSinRegex() {
+        assertTrue(CodigoCodec.esValido("PED-20240229235959-1A2B3C4D"));
+        assertFalse(CodigoCodec.esValido("PED-20230229120000-1A2B3C4D"));
+        assertFalse(CodigoCodec.esValido("PED-20261316120000-1A2B3C4D"));
+        assertFalse(CodigoCodec.esValido("PED-20261016240000-1A2B3C4D"));
+        assertFalse(CodigoCodec.esValido("PED-20261016120000-1a2b3c4d"));
+        assertFalse(CodigoCodec.esValido("XYZ-20261016120000-1A2B3C4D"));
+        assertFalse(CodigoCodec.esValido("PED-20261016120000-1A2B3C4"));
+        assertFalse(CodigoCodec.esValido("PED-2026101612000-01A2B3C4D"));
+        assertFalse(CodigoCodec.esValido(""));
+        assertFalse(CodigoCodec.esValido(null));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.codificarAlto("PED-123"));
+    }
+
+    @Test
+    void testOrdenPorFechaCoincideConOrdenBinario() {
+        List<String> codigos = new ArrayList<>(Arrays.asList(
+            "FACT-20261016120000-00000001",
+            "CLI-20261016120000-FFFFFFFF",
+            "PED-20251231235959-00000000",
+            "PROV-20261016115959-AAAAAAAA",
+            "CLI-20261016120000-0000000F"
+        ));
+
+        codigos.sort(CodigoCodec.POR_FECHA);
+
+        assertEquals("PED-20251231235959-00000000", codigos.get(0));
+        assertEquals("PROV-20261016115959-AAAAAAAA", codigos.get(1));
+        assertEquals("CLI-20261016120000-0000000F", codigos.get(2));
+        for (int i = 1; i < codigos.size(); i++) {
+            long altoAnterior = CodigoCodec.codificarAlto(codigos.get(i - 1));
+            long alto = CodigoCodec.codificarAlto(codigos.get(i));
+            assertTrue(altoAnterior < alto
+                || (altoAnterior == alto && CodigoCodec.codificarBajo(codigos.get(i - 1)) < CodigoCodec.codificarBajo(codigos.get(i))));
+        }
+    }
+
+    @Test
+    void testOrdenPorFechaRechazaCodigosConPrefijoValidoPeroMalFormados() {
+        String valido = "PED-20261016120000-1A2B3C4D";
+        String truncado = "PED-2026101612";
+        String compacto = CodigoUtils.generarCodigoCompacto("PEDIDO");
+
+        assertTrue(compacto.startsWith("PED-"));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.POR_FECHA.compare(valido, truncado));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.POR_FECHA.compare(truncado, valido));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.POR_FECHA.compare(compacto, valido));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.POR_FECHA.compare(valido, compacto));
+    }
+
+    @Test
+    void testRangoPorFecha() {
+        long alto = CodigoCodec.codificarAlto("PED-20261016120000-1A2B3C4D");
+
+        assertEquals(LocalDateTime.of(2026, 10, 16, 12, 0, 0), CodigoCodec.fecha(alto));
+        assertTrue(alto >= CodigoCodec.altoMinimo(LocalDateTime.of(2026, 10, 16, 12, 0, 0)));
+        assertTrue(alto < CodigoCodec.altoMinimo(LocalDateTime.of(2026, 10, 16, 12, 0, 1)));
+    }
+
+    @Test
+    void testDecodificarRechazaFechasInvalidas() {
+        long alto = CodigoCodec.codificarAlto("PED-20261016120000-1A2B3C4D");
+        long sinFecha = alto & 0xFFFF;
+
+        // 30 de febrero
+        long febrero30 = ((2026L << 26) | (2L << 22) | (30L << 17)) << 16;
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.decodificar(febrero30 | sinFecha, 0));
+        // mes 0 y hora 25
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.decodificar((((2026L << 26) | (1L << 17)) << 16) | sinFecha, 0));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.decodificar(alto | (25L << 28), 0));
+        // año de cinco dígitos y bits por encima de la fecha
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.decodificar(alto | (10_000L << 42), 0));
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.decodificar(alto | (1L << 56), 0));
+    }
+
+    @Test
+    void testAltoMinimoNulo() {
+        assertThrows(IllegalArgumentException.class, () -> CodigoCodec.altoMinimo(null));
+    }
+
+    @Test
+    void testPrefijosCoincidenConLosCodigosGenerados() {
+        String[] tipos = {"CLIENTE", "PEDIDO", "PROVEEDOR", "FACTURA", "USUARIO", "PRODUCTO", "GENERICO"};
+        assertEquals(tipos.length, CodigoUtils.PREFIJOS.length);
+        for (int i = 0; i < tipos.length; i++) {
+            assertTrue(CodigoUtils.generarCodigoUnico(tipos[i]).startsWith(CodigoUtils.PREFIJOS[i] + "-"), tipos[i]);
+        }
+    }
+}
@@ -27,6 +27,50 @@ class CodigoUtilsTest {
         assertTrue(codigoFactura.startsWith("FACT-"));
     }
 
+    @Test
+    void testGenerarCodigoUnicoFormato() {
+        String codigo = CodigoUtils.generarCodigoUnico("PEDIDO");
+
+        assertTrue(codigo.matches("PED-\\d{14}-[0-9A-F]{8}"), codigo);
+        assertNotEquals(codigo, CodigoUtils.generarCodigoUnico("PEDIDO"));
+    }
+
+    @Test
+    void testGenerarCodigoCompacto() {
+        String codigo = CodigoUtils.generarCodigoCompacto("FACTURA");
+
+        assertTrue(codigo.matches("FACT-[0-9A-HJKMNP-TV-Z]{13}"), codigo);
+    }
+
+    @Test
+    void testGenerarCodigosEnBloque() {
+        String[] codigos = CodigoUtils.generarCodigos("PEDIDO", 20_000);
+
+        assertEquals(20_000, java.util.Set.of(codigos).size());
+        for (String codigo : codigos) {
+            assertTrue(codigo.matches("PED-\\d{14}-[0-9A-F]{8}"), codigo);
+        }
+    }
+
+    @Test
+    void testGenerarCodigosCantidadNegativa() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            CodigoUtils.generarCodigos("PEDIDO", -1);
+        });
+        assertEquals(0, CodigoUtils.generarCodigos("PEDIDO", 0).length);
+    }
+
+    @Test
+    void testEscribirCodigosEnBuffer() {
+        int longitud = CodigoUtils.longitudCodigo("FACTURA");
+        char[] buffer = new char[longitud * 3];
+
+        int fin = CodigoUtils.escribirCodigos("FACTURA", 3, buffer, 0);
+
+        assertEquals(buffer.length, fin);
+        assertTrue(new String(buffer, longitud * 2, longitud).startsWith("FACT-"));
+    }
+
     @Test
     void testGenerarCodigoSimple() {
         String codigo = CodigoUtils.generarCodigoSimple();
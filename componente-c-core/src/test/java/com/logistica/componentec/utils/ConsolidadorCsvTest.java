@@ -0,0 +1,212 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ConsolidadorCsvTest {
+
+    @TempDir
+    Path directorio;
+
+    private Path escribir(String contenido) throws IOException {
+        return Files.writeString(directorio.resolve("libro.csv"), contenido, StandardCharsets.UTF_8);
+    }
+
+    private static void assertMismoValor(BigDecimal esperado, BigDecimal obtenido, String mensaje) {
+        assertEquals(0, esperado.compareTo(obtenido), mensaje + ": esperado " + esperado + ", obtenido " + obtenido);
+    }
+
+    /** Suma de totales de la ruta escalar BigDecimal, sin redondear, como en el proceso nocturno. */
+    private static BigDecimal totalEscalar(String... montos) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (String monto : montos) {
+            total = total.add(CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal(monto)).getTotal());
+        }
+        return total;
+    }
+
+    private static BigDecimal decimal(String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.US_ASCII);
+        return ConsolidadorCsv.parsearDecimal(ByteBuffer.wrap(bytes), 0, bytes.length, (byte) ',');
+    }
+
+    private static long centavos(String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.US_ASCII);
+        return ConsolidadorCsv.parsearCentavos(ByteBuffer.wrap(bytes), 0, bytes.length, (byte) '.');
+    }
+
+    @Test
+    void testParsearCentavos() {
+        assertEquals(12_345, centavos("123.45"));
+        assertEquals(12_340, centavos("123.4"));
+        assertEquals(12_300, centavos("123"));
+        assertEquals(12_300, centavos("123."));
+        assertEquals(50, centavos(".5"));
+        assertEquals(-1_050, centavos(" \"-10.50\" "));
+        assertEquals(1_050, centavos("+10.500"));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("10.505"));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos(""));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("-"));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("."));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("1,5"));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("12a"));
+        assertEquals(ConsolidadorCsv.MONTO_INVALIDO, centavos("99999999999999999999"));
+        assertEquals(Long.MAX_VALUE / 100 * 100, centavos(Long.toString(Long.MAX_VALUE / 100)));
+    }
+
+    @Test
+    void testParsearDecimal() {
+        assertEquals(new BigDecimal("10.505"), decimal("10,505"));
+        assertEquals(new BigDecimal("-0.0001"), decimal(" \"-,0001\" "));
+        assertEquals(new BigDecimal("99999999999999999999"), decimal("+99999999999999999999"));
+        assertEquals(new BigDecimal("5"), decimal("5,"));
+        assertNull(decimal(""));
+        assertNull(decimal("-"));
+        assertNull(decimal(","));
+        assertNull(decimal("1,5,0"));
+        assertNull(decimal("1.5"));
+        assertNull(decimal("1e3"));
+        assertNull(decimal("1-"));
+    }
+
+    @Test
+    void testAgrupaPorClave() throws IOException {
+        Path archivo = escribir("cliente;fecha;monto\r\n"
+            + "\"ACME; S.A.\";2024-01-01;1500,00\r\n"
+            + "BETA;2024-01-02;  250,5\r\n"
+            + "\r\n"
+            + "ACME; S.A.;2024-01-03;1000,00\r\n"
+            + "\"ACME; S.A.\";2024-01-03;sin monto\r\n"
+            + "BETA;2024-01-04;200000\n"
+            + "GAMA");
+        ResultadoConsolidacion resultado = ConsolidadorCsv.builder()
+            .columnaClave(0)
+            .columnaMonto(2)
+            .separador(';')
+            .separadorDecimal(',')
+            .encabezado(true)
+            .build()
+            .consolidar(archivo);
+
+        // "ACME; S.A.;..." sin comillas tiene una columna más: su monto es la fecha
+        assertEquals(3, resultado.getLineasInvalidas());
+        assertEquals(Files.readString(archivo).indexOf("ACME; S.A.;"), resultado.getPosicionPrimeraInvalida());
+        assertEquals(Map.of("ACME; S.A.", 1L, "BETA", 2L),
+            Map.of("ACME; S.A.", resultado.getPorClave().get("ACME; S.A.").getCantidad(),
+                "BETA", resultado.getPorClave().get("BETA").getCantidad()));
+        assertEquals(2, resultado.getPorClave().size());
+
+        assertMismoValor(totalEscalar("1500.00", "250.5", "200000"), resultado.getTotales().getTotal(), "total");
+        assertMismoValor(totalEscalar("250.5", "200000"), resultado.getPorClave().get("BETA").getTotal(), "BETA");
+    }
+
+    @Test
+    void testMontosConMasDecimalesSiguenElCalculoEscalar() throws IOException {
+        String[] montos = {"0.005", "999.999", "1000.0001", "4999.9950", "-12.3456", "99999999999999999999.99", "10.10"};
+        ResultadoConsolidacion resultado = ConsolidadorCsv.builder()
+            .columnaMonto(0)
+            .build()
+            .consolidar(escribir(String.join("\n", montos) + "\n1.2.3\n"));
+
+        assertEquals(1, resultado.getLineasInvalidas());
+        AcumuladorExacto totales = resultado.getTotales();
+        assertEquals(montos.length, totales.getCantidad());
+        BigDecimal bruto = BigDecimal.ZERO;
+        BigDecimal descuento = BigDecimal.ZERO;
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal iva = BigDecimal.ZERO;
+        for (String monto : montos) {
+            CalculadoraUtils.ResultadoCalculoEmpresarial escalar = CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal(monto));
+            bruto = bruto.add(escalar.getMontoOriginal());
+            descuento = descuento.add(escalar.getMontoDescuento());
+            subtotal = subtotal.add(escalar.getSubtotal());
+            iva = iva.add(escalar.getMontoIVA());
+        }
+        assertMismoValor(bruto, totales.getBruto(), "bruto");
+        assertMismoValor(descuento, totales.getDescuento(), "descuento");
+        assertMismoValor(subtotal, totales.getSubtotal(), "subtotal");
+        assertMismoValor(iva, totales.getIva(), "iva");
+        assertMismoValor(totalEscalar(montos), totales.getTotal(), "total");
+    }
+
+    @Test
+    void testCoincideConCalculoEscalarEnParalelo() throws IOException {
+        Random aleatorio = new Random(7);
+        StringBuilder csv = new StringBuilder("proyecto,monto,descripcion\n");
+        Map<String, BigDecimal> esperados = new HashMap<>();
+        Map<String, Long> cantidades = new HashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < 20_000; i++) {
+            String proyecto = "PR-" + String.format("%06d", aleatorio.nextInt(300));
+            long unidades = aleatorio.nextInt(5) == 0 ? aleatorio.nextInt(100_000_000) : aleatorio.nextInt(2_000_000);
+            // Uno de cada diez con cuatro decimales, fuera de la ruta en centavos
+            String monto = aleatorio.nextInt(10) == 0 ? BigDecimal.valueOf(unidades * 100 + aleatorio.nextInt(100), 4).toPlainString()
+                : BigDecimal.valueOf(unidades, 2).toPlainString();
+            csv.append(proyecto).append(',').append(monto).append(",\"envío, lote ").append(i).append("\"\n");
+            BigDecimal totalLinea = CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal(monto)).getTotal();
+            esperados.merge(proyecto, totalLinea, BigDecimal::add);
+            cantidades.merge(proyecto, 1L, Long::sum);
+            total = total.add(totalLinea);
+        }
+        Path archivo = escribir(csv.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ResultadoConsolidacion resultado = ConsolidadorCsv.builder()
+                .columnaClave(0)
+                .columnaMonto(1)
+                .encabezado(true)
+                .tamanioFragmento(4096)
+                .pool(pool)
+                .build()
+                .consolidar(archivo);
+
+            assertEquals(0, resultado.getLineasInvalidas());
+            assertEquals(-1, resultado.getPosicionPrimeraInvalida());
+            assertEquals(esperados.keySet(), resultado.getPorClave().keySet());
+            esperados.forEach((proyecto, esperado) -> {
+                AcumuladorExacto obtenido = resultado.getPorClave().get(proyecto);
+                assertEquals(cantidades.get(proyecto), obtenido.getCantidad(), proyecto);
+                assertMismoValor(esperado, obtenido.getTotal(), proyecto);
+            });
+            assertEquals(20_000, resultado.getTotales().getCantidad());
+            assertMismoValor(total, resultado.getTotales().getTotal(), "total");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSinClaveYArchivoVacio() throws IOException {
+        ConsolidadorCsv consolidador = ConsolidadorCsv.builder().columnaMonto(0).build();
+        ResultadoConsolidacion resultado = consolidador.consolidar(escribir("100\n200.50\n"));
+        assertTrue(resultado.getPorClave().isEmpty());
+        assertEquals(2, resultado.getTotales().getCantidad());
+        assertMismoValor(totalEscalar("100", "200.50"), resultado.getTotales().getTotal(), "total");
+
+        ResultadoConsolidacion vacio = consolidador.consolidar(escribir(""));
+        assertEquals(0, vacio.getTotales().getCantidad());
+    }
+
+    @Test
+    void testBuilderValida() {
+        assertThrows(IllegalArgumentException.class, () -> ConsolidadorCsv.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> ConsolidadorCsv.builder().columnaClave(1).columnaMonto(1).build());
+        assertThrows(IllegalArgumentException.class, () -> ConsolidadorCsv.builder().separador('\n'));
+        assertThrows(IllegalArgumentException.class,
+            () -> ConsolidadorCsv.builder().columnaMonto(0).separador('.').build());
+        assertThrows(IllegalArgumentException.class, () -> ConsolidadorCsv.builder().tamanioFragmento(0));
+    }
+}
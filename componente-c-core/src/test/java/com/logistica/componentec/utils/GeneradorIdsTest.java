@@ -0,0 +1,120 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class GeneradorIdsTest {
+
+    @Test
+    void testMonotonoEnUnNodo() {
+        GeneradorIds generador = new GeneradorIds(7);
+        long anterior = generador.siguiente();
+        for (int i = 0; i < 100_000; i++) {
+            long actual = generador.siguiente();
+            assertTrue(actual > anterior);
+            assertEquals(7, GeneradorIds.nodo(actual));
+            anterior = actual;
+        }
+    }
+
+    @Test
+    void testSinColisionesEntreHilos() throws Exception {
+        GeneradorIds generador = new GeneradorIds(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < 8; h++) {
+                tareas.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(generador.siguiente());
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            ejecutor.shutdown();
+        }
+
+        assertEquals(8 * 50_000, ids.size());
+    }
+
+    @Test
+    void testCodigosFormateadosUnicos() {
+        GeneradorIds generador = new GeneradorIds(3);
+        Set<String> codigos = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            String codigo = GeneradorIds.formatearCodigo("PED", generador.siguiente());
+            assertTrue(codigos.add(codigo), codigo);
+        }
+        assertTrue(codigos.iterator().next().matches("PED-\\d{14}-[0-9A-F]{8}"));
+    }
+
+    @Test
+    void testBase32Ordenable() {
+        GeneradorIds generador = new GeneradorIds(0);
+        String anterior = GeneradorIds.aBase32(generador.siguiente());
+        for (int i = 0; i < 10_000; i++) {
+            String actual = GeneradorIds.aBase32(generador.siguiente());
+            assertEquals(13, actual.length());
+            assertTrue(actual.compareTo(anterior) > 0);
+            anterior = actual;
+        }
+    }
+
+    @Test
+    void testReservarBloque() {
+        GeneradorIds generador = new GeneradorIds(5);
+        long anterior = generador.siguiente();
+
+        GeneradorIds.BloqueIds bloque = generador.reservar(10_000);
+        for (int i = 0; i < bloque.cantidad(); i++) {
+            long id = bloque.siguiente();
+            assertTrue(id > anterior);
+            anterior = id;
+        }
+
+        assertEquals(0, bloque.restantes());
+        assertTrue(generador.siguiente() > anterior);
+        assertThrows(IllegalStateException.class, bloque::siguiente);
+    }
+
+    @Test
+    void testNodoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new GeneradorIds(1024));
+    }
+
+    @Test
+    void testNodoConfiguradoInvalido() {
+        assertEquals(12, GeneradorIds.nodoConfigurado(" 12 "));
+        IllegalArgumentException fueraDeRango = assertThrows(IllegalArgumentException.class, () -> {
+            GeneradorIds.nodoConfigurado("5000");
+        });
+        assertTrue(fueraDeRango.getMessage().contains(GeneradorIds.PROPIEDAD_NODO));
+        assertThrows(IllegalArgumentException.class, () -> GeneradorIds.nodoConfigurado("-1"));
+        assertThrows(IllegalArgumentException.class, () -> GeneradorIds.nodoConfigurado("uno"));
+    }
+
+    @Test
+    void testNodoDerivadoDistingueProcesosDelMismoHost() {
+        long huella = 0x1234_5678_9ABC_DEF0L;
+        Set<Integer> nodos = new HashSet<>();
+        for (long pid = 4_000; pid < 5_024; pid++) {
+            int nodo = GeneradorIds.nodoDerivado(huella, pid);
+            assertTrue(nodo >= 0 && nodo <= GeneradorIds.MAXIMO_NODO);
+            assertTrue(nodos.add(nodo), "pid " + pid);
+        }
+        assertEquals(GeneradorIds.nodoDerivado(huella, 4_321), GeneradorIds.nodoDerivado(huella, 4_321));
+    }
+}
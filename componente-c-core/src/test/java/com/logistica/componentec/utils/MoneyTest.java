@@ -0,0 +1,66 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+class MoneyTest {
+
+    @Test
+    void testConversionBigDecimalSinPerdida() {
+        Money money = Money.deBigDecimal(new BigDecimal("10.5"), 2);
+
+        assertEquals(1050L, money.getUnidadesMenores());
+        assertEquals(new BigDecimal("10.50"), money.toBigDecimal());
+    }
+
+    @Test
+    void testConversionConDecimalesDeMas() {
+        assertThrows(ArithmeticException.class, () -> {
+            Money.deBigDecimal(new BigDecimal("10.505"), 2);
+        });
+    }
+
+    @Test
+    void testPorcentajeRedondeoHalfEven() {
+        // 0.25 * 10% = 0.025 -> 0.02 ; 0.35 * 10% = 0.035 -> 0.04
+        assertEquals(2L, Money.porcentaje(25L, 1000L));
+        assertEquals(4L, Money.porcentaje(35L, 1000L));
+        assertEquals(-2L, Money.porcentaje(-25L, 1000L));
+    }
+
+    @Test
+    void testPorcentajeCoincideConBigDecimal() {
+        for (long centavos = -20_000; centavos <= 20_000; centavos += 7) {
+            BigDecimal esperado = BigDecimal.valueOf(centavos, 2)
+                .multiply(new BigDecimal("0.15"))
+                .setScale(2, RoundingMode.HALF_EVEN);
+            assertEquals(esperado, BigDecimal.valueOf(Money.porcentaje(centavos, 1500L), 2));
+        }
+    }
+
+    @Test
+    void testDesbordamiento() {
+        assertThrows(ArithmeticException.class, () -> {
+            Money.porcentaje(Long.MAX_VALUE / 2, 1500L);
+        });
+    }
+
+    @Test
+    void testCalculadoraEnCentavos() {
+        assertEquals(9000L, CalculadoraUtils.aplicarDescuentoCentavos(10_000L, 1000L));
+        assertEquals(11_200L, CalculadoraUtils.calcularTotalConIvaCentavos(10_000L, 1200L));
+        assertEquals(1000L, CalculadoraUtils.calcularPorcentajeDescuentoEscalonadoPb(100_000L));
+        assertEquals(1500L, CalculadoraUtils.calcularIVACentavos(10_000L));
+        assertEquals(11_500L, CalculadoraUtils.calcularTotalConIVACentavos(10_000L));
+        assertEquals(90_000L, CalculadoraUtils.aplicarDescuentoEscalonadoCentavos(100_000L));
+
+        CalculadoraUtils.ResultadoCalculoEmpresarial resultado =
+            CalculadoraUtils.calcularTotalEmpresarial(Money.deCentavos(100_000L));
+        assertEquals(new BigDecimal("900.00"), resultado.getSubtotal());
+        assertEquals(new BigDecimal("1035.00"), resultado.getTotal());
+        assertEquals(103_500L, CalculadoraUtils.calcularTotalEmpresarialCentavos(100_000L));
+    }
+}
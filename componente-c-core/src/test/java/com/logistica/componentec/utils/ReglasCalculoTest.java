@@ -0,0 +1,85 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+class ReglasCalculoTest {
+
+    @Test
+    void testReglasPredeterminadas() {
+        ReglasCalculo reglas = ReglasCalculo.PREDETERMINADAS;
+
+        assertEquals(500L, reglas.porcentajeDescuentoPb(-10_000L));
+        assertEquals(500L, reglas.porcentajeDescuentoPb(99_999L));
+        assertEquals(1000L, reglas.porcentajeDescuentoPb(100_000L));
+        assertEquals(1500L, reglas.porcentajeDescuentoPb(500_000L));
+        assertEquals(new BigDecimal("10.00"), reglas.porcentajeDescuento(new BigDecimal("4999.999")));
+        assertEquals(new BigDecimal("15.00"), reglas.getIva());
+    }
+
+    @Test
+    void testCargarDesdePropiedades() throws IOException {
+        String contenido = "iva=12.00\n"
+            + "descuento.0=0\n"
+            + "descuento.250.50=2.50\n"
+            + "descuento.10000=7.25\n";
+
+        ReglasCalculo reglas = ReglasCalculo.cargar(
+            new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, reglas.getCantidadTramos());
+        assertEquals(1200L, reglas.getIvaPb());
+        assertEquals(0L, reglas.porcentajeDescuentoPb(25_049L));
+        assertEquals(250L, reglas.porcentajeDescuentoPb(25_050L));
+        assertEquals(725L, reglas.porcentajeDescuentoPb(1_000_000L));
+    }
+
+    @Test
+    void testBusquedaConMuchosTramos() {
+        ReglasCalculo.Builder builder = ReglasCalculo.builder().iva(new BigDecimal("15"));
+        for (int i = 0; i < 60; i++) {
+            builder.tramo(BigDecimal.valueOf(i * 100L), BigDecimal.valueOf(i, 1));
+        }
+        ReglasCalculo reglas = builder.build();
+
+        for (long centavos = -100; centavos < 700_000; centavos += 13) {
+            long tramo = Math.min(59, Math.max(0, centavos / 10_000));
+            assertEquals(tramo * 10, reglas.porcentajeDescuentoPb(centavos));
+        }
+    }
+
+    @Test
+    void testReglasInvalidas() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            ReglasCalculo.builder().tramo(BigDecimal.ZERO, new BigDecimal("5")).build();
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            ReglasCalculo.builder().iva(new BigDecimal("15")).tramo(new BigDecimal("0.001"), BigDecimal.ONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            ReglasCalculo.cargar(new ByteArrayInputStream("iva=15\notro=1\n".getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    @Test
+    void testConfigurarReglasEnCalculadora() {
+        ReglasCalculo originales = CalculadoraUtils.obtenerReglas();
+        try {
+            CalculadoraUtils.configurarReglas(ReglasCalculo.builder()
+                .iva(new BigDecimal("10.00"))
+                .tramo(BigDecimal.ZERO, BigDecimal.ZERO)
+                .build());
+
+            assertEquals(0, new BigDecimal("110.00")
+                .compareTo(CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal("100.00")).getTotal()));
+            assertEquals(11_000L, CalculadoraUtils.calcularTotalEmpresarialCentavos(10_000L));
+        } finally {
+            CalculadoraUtils.configurarReglas(originales);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.logistica.componentec.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+class TextoDecimalTest {
+
+    @Test
+    void testParsearFormatosValidos() {
+        assertEquals(125_075L, TextoDecimal.parsear("1250.75", 2));
+        assertEquals(125_070L, TextoDecimal.parsear("1250.7", 2));
+        assertEquals(125_000L, TextoDecimal.parsear("1250", 2));
+        assertEquals(125_000L, TextoDecimal.parsear("1250.", 2));
+        assertEquals(50L, TextoDecimal.parsear(".5", 2));
+        assertEquals(-1_050L, TextoDecimal.parsear("-10.50", 2));
+        assertEquals(1_050L, TextoDecimal.parsear("+10.5000", 2));
+        assertEquals(7L, TextoDecimal.parsear("7", 0));
+        assertEquals(1_500L, TextoDecimal.parsear("15.000", 2),
+            "los decimales de más en cero no cambian el valor");
+    }
+
+    @Test
+    void testRechazaFormatosInvalidos() {
+        for (String texto : new String[] {"", "-", "+", ".", "1,5", "12a", " 1", "1 ", "1e3", "1.2.3", "--1", "0x10"}) {
+            assertEquals(TextoDecimal.INVALIDO, TextoDecimal.leer(texto, 0, texto.length(), 2, '.'), texto);
+            assertThrows(NumberFormatException.class, () -> TextoDecimal.parsear(texto, 2), texto);
+        }
+    }
+
+    @Test
+    void testRechazaEscalaYDesbordamiento() {
+        assertThrows(ArithmeticException.class, () -> TextoDecimal.parsear("10.505", 2));
+        assertThrows(ArithmeticException.class, () -> TextoDecimal.parsear("92233720368547758.08", 2));
+        assertThrows(ArithmeticException.class, () -> TextoDecimal.parsear("99999999999999999999", 0));
+        assertThrows(ArithmeticException.class, () -> TextoDecimal.parsear("-9223372036854775808", 0),
+            "Long.MIN_VALUE está reservado para INVALIDO");
+
+        assertEquals(Long.MAX_VALUE, TextoDecimal.parsear("92233720368547758.07", 2));
+        assertEquals(-Long.MAX_VALUE, TextoDecimal.parsear("-9.223372036854775807", 18));
+        assertThrows(IllegalArgumentException.class, () -> TextoDecimal.parsear("1", 19));
+    }
+
+    @Test
+    void testLeerRangosDeBytesYBuffers() {
+        byte[] linea = "ACME;1500,25;x".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(150_025L, TextoDecimal.leer(linea, 5, 12, 2, (byte) ','));
+        assertEquals(150_025L, TextoDecimal.parsear(ByteBuffer.wrap(linea), 5, 12, 2, (byte) ','));
+
+        ByteBuffer directo = ByteBuffer.allocateDirect(linea.length).put(linea);
+        assertEquals(150_025L, TextoDecimal.leer(directo, 5, 12, 2, (byte) ','));
+        assertEquals(linea.length, directo.position(), "la lectura no mueve la posición");
+
+        assertEquals(150_025L, TextoDecimal.parsear("ACME;1500,25;x", 5, 12, 2, ','));
+        assertThrows(NumberFormatException.class, () -> TextoDecimal.parsear(linea, 0, 12, 2, (byte) ','));
+        assertThrows(IndexOutOfBoundsException.class, () -> TextoDecimal.parsear(linea, 5, 40, 2, (byte) ','));
+    }
+
+    @Test
+    void testFormatear() {
+        assertEquals("1250.75", TextoDecimal.formatear(125_075L, 2));
+        assertEquals("0.05", TextoDecimal.formatear(5L, 2));
+        assertEquals("-0.05", TextoDecimal.formatear(-5L, 2));
+        assertEquals("0.00", TextoDecimal.formatear(0L, 2));
+        assertEquals("42", TextoDecimal.formatear(42L, 0));
+        assertEquals("-9.223372036854775808", TextoDecimal.formatear(Long.MIN_VALUE, 18));
+        assertEquals(TextoDecimal.LONGITUD_MAXIMA, TextoDecimal.longitud(Long.MIN_VALUE, 18));
+
+        StringBuilder texto = new StringBuilder("total=");
+        assertEquals("total=-12.30", TextoDecimal.formatear(-1_230L, 2, texto).toString());
+
+        byte[] destino = new byte[16];
+        int fin = TextoDecimal.formatear(99L, 3, destino, 2);
+        assertEquals("0.099", new String(destino, 2, fin - 2, StandardCharsets.US_ASCII));
+        assertThrows(IndexOutOfBoundsException.class, () -> TextoDecimal.formatear(Long.MAX_VALUE, 2, destino, 0));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put((byte) '#');
+        TextoDecimal.formatear(1_050L, 2, buffer);
+        assertEquals(6, buffer.position());
+        assertEquals('1', buffer.get(1));
+        assertEquals('0', buffer.get(5));
+    }
+
+    @Test
+    void testIdaYVueltaCoincideConBigDecimal() {
+        Random aleatorio = new Random(23);
+        for (int i = 0; i < 20_000; i++) {
+            int escala = aleatorio.nextInt(19);
+            long valor = i % 2 == 0 ? aleatorio.nextLong() : aleatorio.nextInt(2_000_001) - 1_000_000;
+            if (valor == TextoDecimal.INVALIDO) {
+                continue;
+            }
+            String texto = BigDecimal.valueOf(valor, escala).toPlainString();
+
+            assertEquals(texto, TextoDecimal.formatear(valor, escala));
+            assertEquals(valor, TextoDecimal.parsear(texto, escala));
+            byte[] bytes = texto.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(valor, TextoDecimal.leer(bytes, 0, bytes.length, escala, (byte) '.'));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.exception.SolicitudInvalidaException;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+class EsquemaValidacionTest {
+
+    record Envio(@Validar(ReglaValidacion.CODIGO_PROYECTO) String proyecto,
+                 @Validar(ReglaValidacion.FECHA_NO_FUTURA) LocalDate fecha,
+                 String observaciones) {
+    }
+
+    static class Base {
+        @Validar(ReglaValidacion.ID)
+        private Long id;
+    }
+
+    static class Derivada extends Base {
+        @Validar(ReglaValidacion.TELEFONO)
+        private String telefono;
+
+        Derivada(Long id, String telefono) {
+            ((Base) this).id = id;
+            this.telefono = telefono;
+        }
+    }
+
+    static class SinAnotaciones {
+        String nombre;
+    }
+
+    static class ReglaIncompatible {
+        @Validar(ReglaValidacion.EMAIL)
+        private BigDecimal monto;
+    }
+
+    private static final ProveedorPrueba VALIDO =
+        new ProveedorPrueba(7, "Transportes Andinos", null, new BigDecimal("5000.00"));
+
+    @Test
+    void testCompilaDesdeAnotacionesConGetters() {
+        EsquemaValidacion<ProveedorPrueba> esquema = EsquemaValidacion.de(ProveedorPrueba.class);
+        assertSame(esquema, EsquemaValidacion.de(ProveedorPrueba.class));
+        assertEquals(List.of("id", "razonSocial", "email", "credito"), esquema.getCampos());
+
+        assertTrue(esquema.esValido(VALIDO));
+        esquema.validar(VALIDO);
+        assertTrue(esquema.errores(VALIDO).isEmpty());
+
+        ProveedorPrueba invalido = new ProveedorPrueba(0, " ", "sin-arroba", new BigDecimal("5000.00"));
+        assertFalse(esquema.esValido(invalido));
+        SolicitudInvalidaException error = assertThrows(SolicitudInvalidaException.class, () -> esquema.validar(invalido));
+        assertEquals("id", error.getCampo());
+        assertEquals(0L, error.getValor());
+        assertEquals(List.of("id: " + ValidacionUtils.MOTIVO_ID, "razonSocial: no puede estar vacío",
+            "email: " + ValidacionUtils.MOTIVO_EMAIL), esquema.errores(invalido));
+    }
+
+    @Test
+    void testRecordsYCamposHeredadosSinGetter() {
+        EsquemaValidacion<Envio> envios = EsquemaValidacion.de(Envio.class);
+        assertEquals(List.of("proyecto", "fecha"), envios.getCampos());
+        assertTrue(envios.esValido(new Envio("PR-001234", LocalDate.now(), null)));
+        assertEquals(List.of("fecha: no puede ser una fecha futura"),
+            envios.errores(new Envio("PR-001234", LocalDate.now().plusDays(1), "x")));
+
+        EsquemaValidacion<Derivada> derivadas = EsquemaValidacion.de(Derivada.class);
+        assertEquals(List.of("id", "telefono"), derivadas.getCampos());
+        assertTrue(derivadas.esValido(new Derivada(1L, "+593987654321")));
+        assertEquals("telefono",
+            assertThrows(SolicitudInvalidaException.class, () -> derivadas.validar(new Derivada(1L, "abc"))).getCampo());
+        assertFalse(derivadas.esValido(null));
+        assertEquals(List.of("fila: " + ValidadorLote.MOTIVO_FILA_NULL), derivadas.errores(null));
+    }
+
+    @Test
+    void testRechazaDefinicionesInvalidas() {
+        assertThrows(IllegalArgumentException.class, () -> EsquemaValidacion.de(SinAnotaciones.class));
+        IllegalArgumentException error =
+            assertThrows(IllegalArgumentException.class, () -> EsquemaValidacion.de(ReglaIncompatible.class));
+        assertTrue(error.getMessage().contains("monto"));
+        assertThrows(IllegalArgumentException.class, () -> EsquemaValidacion.<Envio>builder().build());
+        assertThrows(IllegalArgumentException.class, () -> EsquemaValidacion.<Envio>builder().campo("x", Envio::proyecto));
+    }
+
+    @Test
+    void testBuilderYValidadorLote() {
+        EsquemaValidacion<ProveedorPrueba> esquema = EsquemaValidacion.<ProveedorPrueba>builder()
+            .campo("nombre", ProveedorPrueba::getNombre, ReglaValidacion.NOMBRE_EMPRESARIAL)
+            .campoOpcional("email", ProveedorPrueba::getEmail, ReglaValidacion.EMAIL)
+            .build();
+        assertTrue(esquema.esValido(VALIDO));
+
+        List<ProveedorPrueba> filas = Arrays.asList(VALIDO,
+            new ProveedorPrueba(1, "X", "mal", BigDecimal.ONE), null,
+            new ProveedorPrueba(2, "Logística Norte", "ventas@norte.com", BigDecimal.ONE));
+        ReporteValidacion reporte = esquema.validadorLote(false).validar(filas);
+        assertEquals(3, reporte.getCantidadErrores());
+        assertEquals(2, esquema.validadorLote(true).validar(filas).getCantidadErrores());
+    }
+}
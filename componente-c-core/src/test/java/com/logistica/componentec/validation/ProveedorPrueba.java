@@ -0,0 +1,33 @@
+package com.logistica.componentec.validation;
+
+import java.math.BigDecimal;
+
+/**
+ * Tipo público con getters para probar la lectura por getter de {@link EsquemaValidacion}.
+ */
+public class ProveedorPrueba {
+
+    @Validar(ReglaValidacion.ID)
+    private final long id;
+
+    @Validar(value = {ReglaValidacion.TEXTO_NO_VACIO, ReglaValidacion.NOMBRE_EMPRESARIAL}, campo = "razonSocial")
+    private final String nombre;
+
+    @Validar(value = ReglaValidacion.EMAIL, opcional = true)
+    private final String email;
+
+    @Validar(ReglaValidacion.MONTO_EMPRESARIAL)
+    private final BigDecimal credito;
+
+    public ProveedorPrueba(long id, String nombre, String email, BigDecimal credito) {
+        this.id = id;
+        this.nombre = nombre;
+        this.email = email;
+        this.credito = credito;
+    }
+
+    public long getId() { return id; }
+    public String getNombre() { return nombre; }
+    public String getEmail() { return email; }
+    public BigDecimal getCredito() { return credito; }
+}
@@ -0,0 +1,141 @@
+package com.logistica.componentec.validation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Pruebas basadas en propiedades: los validadores sin regex aceptan y rechazan exactamente
+ * las mismas entradas que los patrones originales.
+ */
+class ValidacionUtilsTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final Pattern TELEFONO_PATTERN = Pattern.compile("^[+]?[0-9]{7,15}$");
+    private static final Pattern CODIGO_POSTAL_PATTERN = Pattern.compile("^[0-9]{5,10}$");
+    private static final Pattern CODIGO_PROYECTO_PATTERN = Pattern.compile("^[A-Z]{2,3}-[0-9]{4,6}$");
+
+    private static final String ALFABETO = "aZz09.@-+_%. \t\n\r\u0000 ñÑé٣AZ-@..";
+    private static final int CASOS = 200_000;
+
+    @Test
+    void testEmailEquivalenteAlPatron() {
+        verificarEquivalencia(
+            email -> email != null && !email.trim().isEmpty() && EMAIL_PATTERN.matcher(email.trim()).matches(),
+            ValidacionUtils::validarEmail,
+            new String[] {" ops.norte@logistica.com.ec ", "a@b.co", "a@.co", "a@b.c", "a@b..co", "a@b.c0", "@b.co",
+                "a@@b.co", "a@b-.co", "a.b%c+d-e_f@x-y.z.museum", "a@b.co\n", "\na@b.co", "a@b.co "},
+            "abcXYZ019._%+-@.", 1, 24);
+    }
+
+    @Test
+    void testTelefonoEquivalenteAlPatron() {
+        verificarEquivalencia(
+            telefono -> telefono != null && TELEFONO_PATTERN.matcher(telefono).matches(),
+            ValidacionUtils::validarTelefono,
+            new String[] {"+5939876543", "1234567", "123456", "123456789012345", "1234567890123456", "++1234567",
+                "1234567\n", " 1234567", "+", ""},
+            "0123456789+ ", 0, 18);
+    }
+
+    @Test
+    void testCodigoPostalEquivalenteAlPatron() {
+        verificarEquivalencia(
+            codigo -> codigo != null && CODIGO_POSTAL_PATTERN.matcher(codigo).matches(),
+            ValidacionUtils::validarCodigoPostal,
+            new String[] {"12345", "1234", "1234567890", "12345678901", "12345\n", "٣٣٣٣٣"},
+            "0123456789a", 0, 12);
+    }
+
+    @Test
+    void testCodigoProyectoEquivalenteAlPatron() {
+        verificarEquivalencia(
+            codigo -> codigo != null && CODIGO_PROYECTO_PATTERN.matcher(codigo).matches(),
+            ValidacionUtils::validarCodigoProyecto,
+            new String[] {"PR-001234", "PRY-1234", "P-1234", "PROY-1234", "PR-123", "PR-1234567", "pr-1234",
+                "PR--1234", "PR-1234\n", "PR1234"},
+            "ABZ-0129a", 0, 11);
+    }
+
+    @Test
+    void testTextoNoVacioYLongitud() {
+        assertFalse(ValidacionUtils.validarTextoNoVacio(null));
+        assertFalse(ValidacionUtils.validarTextoNoVacio(" \t\n"));
+        assertTrue(ValidacionUtils.validarTextoNoVacio(" a "));
+        assertTrue(ValidacionUtils.validarNombreEmpresarial("  Ab  "));
+        assertFalse(ValidacionUtils.validarNombreEmpresarial("  A  "));
+        assertFalse(ValidacionUtils.validarNombreEmpresarial("x".repeat(101)));
+    }
+
+    @Test
+    void testMontoEmpresarialEnCentavosEquivalenteABigDecimal() {
+        for (long centavos = 9_990; centavos <= 10_010; centavos++) {
+            assertEquals(ValidacionUtils.validarMontoEmpresarial(BigDecimal.valueOf(centavos, 2)),
+                ValidacionUtils.validarMontoEmpresarial(centavos));
+        }
+        assertTrue(ValidacionUtils.validarMontoEmpresarial(100_000_000L));
+        assertFalse(ValidacionUtils.validarMontoEmpresarial(100_000_001L));
+        assertTrue(ValidacionUtils.validarMontoPositivo(1L));
+        assertFalse(ValidacionUtils.validarMontoPositivo(0L));
+    }
+
+    private static void verificarEquivalencia(Predicate<String> referencia, Predicate<String> validador,
+                                              String[] ejemplos, String alfabetoFormato,
+                                              int longitudMinima, int longitudMaxima) {
+        assertEquals(referencia.test(null), validador.test(null));
+        for (String ejemplo : ejemplos) {
+            assertEquals(referencia.test(ejemplo), validador.test(ejemplo), () -> "Entrada: [" + ejemplo + "]");
+        }
+
+        Random random = new Random(20261016L);
+        for (int caso = 0; caso < CASOS; caso++) {
+            String entrada;
+            if (caso % 3 == 0) {
+                entrada = mutar(ejemplos[random.nextInt(ejemplos.length)], random);
+            } else {
+                String alfabeto = caso % 3 == 1 ? alfabetoFormato : ALFABETO;
+                entrada = aleatoria(random, alfabeto, longitudMinima, longitudMaxima);
+            }
+            String valor = entrada;
+            assertEquals(referencia.test(valor), validador.test(valor), () -> "Entrada: [" + valor + "]");
+        }
+    }
+
+    private static String aleatoria(Random random, String alfabeto, int minimo, int maximo) {
+        int longitud = minimo + random.nextInt(maximo - minimo + 1);
+        StringBuilder texto = new StringBuilder(longitud);
+        for (int i = 0; i < longitud; i++) {
+            texto.append(alfabeto.charAt(random.nextInt(alfabeto.length())));
+        }
+        return texto.toString();
+    }
+
+    private static String mutar(String base, Random random) {
+        StringBuilder texto = new StringBuilder(base);
+        int cambios = 1 + random.nextInt(2);
+        for (int i = 0; i < cambios; i++) {
+            int posicion = texto.length() == 0 ? 0 : random.nextInt(texto.length());
+            char c = ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    texto.insert(posicion, c);
+                    break;
+                case 1:
+                    if (texto.length() > 0) {
+                        texto.deleteCharAt(posicion);
+                    }
+                    break;
+                default:
+                    if (texto.length() > 0) {
+                        texto.setCharAt(posicion, c);
+                    }
+                    break;
+            }
+        }
+        return texto.toString();
+    }
+}
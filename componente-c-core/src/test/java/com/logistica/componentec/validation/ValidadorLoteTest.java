@@ -0,0 +1,177 @@
+package com.logistica.componentec.validation;
+
+import com.logistica.componentec.dto.ErrorResponseDTO;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ValidadorLoteTest {
+
+    private static final class Fila {
+        final String email;
+        final String nombre;
+        final BigDecimal monto;
+
+        Fila(String email, String nombre, BigDecimal monto) {
+            this.email = email;
+            this.nombre = nombre;
+            this.monto = monto;
+        }
+
+        String getEmail() { return email; }
+        String getNombre() { return nombre; }
+        BigDecimal getMonto() { return monto; }
+    }
+
+    private static final ValidadorLote<Fila> VALIDADOR = ValidadorLote.<Fila>builder()
+        .campo("email", Fila::getEmail, ReglaValidacion.EMAIL)
+        .campo("nombre", Fila::getNombre, ReglaValidacion.NOMBRE_EMPRESARIAL)
+        .campo("monto", Fila::getMonto, ReglaValidacion.MONTO_EMPRESARIAL)
+        .build();
+
+    private static Fila valida(int i) {
+        return new Fila("cliente" + i + "@logistica.com.ec", "Empresa " + i, new BigDecimal("500.00"));
+    }
+
+    @Test
+    void testLoteValido() {
+        ReporteValidacion reporte = VALIDADOR.validar(Arrays.asList(valida(0), valida(1)));
+        assertTrue(reporte.esValido());
+        assertEquals(0, reporte.getCantidadErrores());
+        assertEquals(0, reporte.filasConError().length);
+        assertTrue(reporte.aErrorResponses().isEmpty());
+    }
+
+    @Test
+    void testAcumulaErroresSinLanzar() {
+        List<Fila> filas = Arrays.asList(
+            valida(0),
+            new Fila("sin-arroba", "X", new BigDecimal("50")),
+            null,
+            new Fila("ok@logistica.com", "Empresa", null));
+
+        ReporteValidacion reporte = VALIDADOR.validar(filas);
+
+        assertEquals(5, reporte.getCantidadErrores());
+        assertArrayEquals(new int[] {1, 2, 3}, reporte.filasConError());
+        assertEquals(1, reporte.getFila(0));
+        assertEquals("email", reporte.getCampo(0));
+        assertEquals(ValidacionUtils.MOTIVO_EMAIL, reporte.getMotivo(0));
+        assertEquals("nombre", reporte.getCampo(1));
+        assertEquals("monto", reporte.getCampo(2));
+        assertEquals("fila", reporte.getCampo(3));
+        assertEquals("monto", reporte.getCampo(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> reporte.getFila(5));
+    }
+
+    @Test
+    void testPrimerErrorPorFila() {
+        ValidadorLote<Fila> validador = ValidadorLote.<Fila>builder()
+            .campo("email", Fila::getEmail, ReglaValidacion.EMAIL)
+            .campo("nombre", Fila::getNombre, ReglaValidacion.NOMBRE_EMPRESARIAL)
+            .primerErrorPorFila()
+            .build();
+
+        ReporteValidacion reporte = validador.validar(List.of(new Fila("x", "Y", null)));
+        assertEquals(1, reporte.getCantidadErrores());
+        assertEquals("email", reporte.getCampo(0));
+    }
+
+    @Test
+    void testReglaPersonalizadaYExcepcionEnAccesoSePropaga() {
+        ValidadorLote<Fila> validador = ValidadorLote.<Fila>builder()
+            .campo("nombre", Fila::getNombre, (String nombre) -> nombre.startsWith("Empresa"), "debe empezar con Empresa")
+            .campo("largo", fila -> fila.getEmail().substring(0, 40), ReglaValidacion.TEXTO_NO_VACIO)
+            .build();
+
+        // Un error del acceso es una falla del programa, no un campo inválido
+        assertThrows(StringIndexOutOfBoundsException.class,
+            () -> validador.validar(List.of(new Fila("a@b.co", "Otra", null))));
+
+        ReporteValidacion reporte = validador.validar(
+            List.of(new Fila("cliente.con.correo.largo@logistica.com.ec", "Otra", null)));
+        assertEquals(1, reporte.getCantidadErrores());
+        assertEquals("debe empezar con Empresa", reporte.getMotivo(0));
+    }
+
+    @Test
+    void testTipoIncorrectoEsInvalido() {
+        assertFalse(ReglaValidacion.MONTO_EMPRESARIAL.acepta("500.00"));
+        assertFalse(ReglaValidacion.EMAIL.acepta(null));
+        assertTrue(ReglaValidacion.EMAIL.acepta(new StringBuilder("a@b.co")));
+    }
+
+    @Test
+    void testErrorResponsePorFila() {
+        ReporteValidacion reporte = VALIDADOR.validar(Arrays.asList(valida(0), new Fila("x", "Empresa", new BigDecimal("1"))));
+
+        assertNull(reporte.aErrorResponse(0));
+        ErrorResponseDTO respuesta = reporte.aErrorResponse(1);
+        assertEquals(400, respuesta.getEstado());
+        assertEquals("SOLICITUD_INVALIDA", respuesta.getCodigo());
+        assertEquals(List.of("email: " + ValidacionUtils.MOTIVO_EMAIL, "monto: " + ValidacionUtils.MOTIVO_MONTO_EMPRESARIAL),
+            respuesta.getDetalles());
+        assertEquals(1, reporte.aErrorResponses().size());
+    }
+
+    @Test
+    void testLoteParaleloConservaOrden() {
+        int tamanio = ValidadorLote.UMBRAL_PARALELO * 5 + 17;
+        List<Fila> filas = new ArrayList<>(tamanio);
+        List<Integer> esperadas = new ArrayList<>();
+        for (int i = 0; i < tamanio; i++) {
+            if (i % 97 == 0) {
+                filas.add(new Fila("invalido", "Empresa", new BigDecimal("500")));
+                esperadas.add(i);
+            } else {
+                filas.add(valida(i));
+            }
+        }
+
+        ReporteValidacion reporte = VALIDADOR.validar(filas);
+        assertEquals(esperadas.size(), reporte.getCantidadErrores());
+        for (int i = 0; i < esperadas.size(); i++) {
+            assertEquals(esperadas.get(i), reporte.getFila(i));
+        }
+    }
+
+    @Test
+    void testCuentaRechazosPorRegla() {
+        long email = RechazosValidacion.rechazos(ReglaValidacion.EMAIL);
+        long id = RechazosValidacion.rechazos(ReglaValidacion.ID);
+
+        ValidacionUtils.validarEmail("sin-arroba");
+        ValidacionUtils.validarEmail("ok@logistica.com");
+        ReglaValidacion.EMAIL.acepta(null);
+        assertThrows(RuntimeException.class, () -> ValidacionUtils.validarIdObligatorio(-1L, "proyecto"));
+
+        assertEquals(email + 2, RechazosValidacion.rechazos(ReglaValidacion.EMAIL));
+        assertEquals(id + 1, RechazosValidacion.rechazos(ReglaValidacion.ID));
+    }
+
+    @Test
+    void testExcepcionDeValidacionEnReglaCuentaComoError() {
+        ValidadorLote<Fila> conRegla = ValidadorLote.<Fila>builder()
+            .campo("monto", Fila::getMonto, (BigDecimal monto) -> {
+                if (monto.signum() < 0) {
+                    throw new IllegalArgumentException("monto negativo");
+                }
+                return true;
+            }, "monto negativo")
+            .build();
+        ReporteValidacion reporte = conRegla.validar(Arrays.asList(valida(0),
+            new Fila("ok@logistica.com", "Empresa", new BigDecimal("-1"))));
+        assertArrayEquals(new int[] {1}, reporte.filasConError());
+        assertEquals("monto negativo", reporte.getMotivo(0));
+    }
+
+    @Test
+    void testBuilderSinReglas() {
+        assertThrows(IllegalArgumentException.class, () -> ValidadorLote.<Fila>builder().build());
+        assertThrows(IllegalArgumentException.class, () -> VALIDADOR.validar(null));
+    }
+}
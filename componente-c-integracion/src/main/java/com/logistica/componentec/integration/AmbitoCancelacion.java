@@ -0,0 +1,101 @@
+package com.logistica.componentec.integration;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solicitudes HTTP de una llamada con plazo, para cancelarlas cuando el plazo vence.
+ * <p>
+ * La llamada corre con el ámbito asociado a su hilo; quien crea una solicitud lee
+ * {@link #actual()} en ese hilo y la registra con {@link #registrar(AmbitoCancelacion, HttpUriRequestBase)},
+ * incluso si la solicitud se envía desde otro hilo (coberturas). Al cancelar, las solicitudes en
+ * curso se abortan, lo que libera su hilo y su conexión del pool, y las que se registren después
+ * se abortan al nacer. Sin ámbito (llamadas sin plazo o recargas de la caché en segundo plano)
+ * no se registra nada.
+ */
+final class AmbitoCancelacion {
+
+    private static final ThreadLocal<AmbitoCancelacion> ACTUAL = new ThreadLocal<>();
+
+    private final List<HttpUriRequestBase> solicitudes = new ArrayList<>(2);
+    private boolean cancelado;
+
+    /**
+     * Obtiene el ámbito de la llamada que corre en el hilo actual, o null si no tiene plazo.
+     */
+    static AmbitoCancelacion actual() {
+        return ACTUAL.get();
+    }
+
+    /**
+     * Indica si la llamada del hilo actual fue cancelada; en ese caso no se debe reintentar.
+     */
+    static boolean canceladoEnHiloActual() {
+        AmbitoCancelacion ambito = ACTUAL.get();
+        return ambito != null && ambito.isCancelado();
+    }
+
+    /**
+     * Registra una solicitud en un ámbito, si lo hay.
+     *
+     * @return La misma solicitud, ya abortada si el ámbito estaba cancelado
+     */
+    static HttpUriRequestBase registrar(AmbitoCancelacion ambito, HttpUriRequestBase solicitud) {
+        if (ambito != null) {
+            ambito.agregar(solicitud);
+        }
+        return solicitud;
+    }
+
+    /**
+     * Ejecuta una llamada con este ámbito asociado al hilo actual.
+     */
+    <T> T ejecutar(IntegracionClient.LlamadaRemota<T> llamada) throws IOException {
+        AmbitoCancelacion anterior = ACTUAL.get();
+        ACTUAL.set(this);
+        try {
+            return llamada.ejecutar();
+        } finally {
+            if (anterior == null) {
+                ACTUAL.remove();
+            } else {
+                ACTUAL.set(anterior);
+            }
+        }
+    }
+
+    /**
+     * Aborta las solicitudes registradas y las que se registren en adelante.
+     */
+    void cancelar() {
+        HttpUriRequestBase[] enCurso;
+        synchronized (this) {
+            if (cancelado) {
+                return;
+            }
+            cancelado = true;
+            enCurso = solicitudes.toArray(new HttpUriRequestBase[0]);
+            solicitudes.clear();
+        }
+        for (HttpUriRequestBase solicitud : enCurso) {
+            solicitud.cancel();
+        }
+    }
+
+    synchronized boolean isCancelado() {
+        return cancelado;
+    }
+
+    private void agregar(HttpUriRequestBase solicitud) {
+        synchronized (this) {
+            if (!cancelado) {
+                solicitudes.add(solicitud);
+                return;
+            }
+        }
+        solicitud.cancel();
+    }
+}
@@ -0,0 +1,220 @@
+package com.logistica.componentec.integration;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché LRU con expiración de respuestas GET, con revalidación en segundo plano
+ * (stale-while-revalidate) y revalidación condicional por ETag.
+ * <p>
+ * Una entrada es fresca durante el TTL y se sirve sin ir a la red. Después, y durante el
+ * período de obsolescencia, se sigue sirviendo mientras una única tarea en segundo plano la
+ * revalida con {@code If-None-Match}; un 304 renueva la entrada sin volver a decodificar el
+ * cuerpo. Pasado ese período, la lectura vuelve a ser síncrona.
+ * <p>
+ * Las cargas síncronas de una misma clave se agrupan: solo una va a la red y las lecturas
+ * simultáneas esperan su resultado, igual que en {@link VerificadorExistencia}.
+ */
+final class CacheRespuestas {
+
+    /**
+     * Carga una respuesta; recibe el ETag de la entrada anterior o null si no hay.
+     */
+    @FunctionalInterface
+    interface Cargador {
+        Respuesta cargar(String etag) throws IOException;
+    }
+
+    /**
+     * Resultado de una carga: un valor nuevo con su ETag, o la indicación de que no cambió (304).
+     */
+    static final class Respuesta {
+        private static final Respuesta NO_MODIFICADA = new Respuesta(null, null, true);
+
+        private final Object valor;
+        private final String etag;
+        private final boolean noModificada;
+
+        private Respuesta(Object valor, String etag, boolean noModificada) {
+            this.valor = valor;
+            this.etag = etag;
+            this.noModificada = noModificada;
+        }
+
+        static Respuesta nueva(Object valor, String etag) {
+            return new Respuesta(valor, etag, false);
+        }
+
+        static Respuesta noModificada() {
+            return NO_MODIFICADA;
+        }
+    }
+
+    private static final class Entrada {
+        private final Object valor;
+        private final String etag;
+        private final long frescaHasta;
+        private final long utilizableHasta;
+        private final AtomicBoolean revalidando = new AtomicBoolean();
+
+        Entrada(Object valor, String etag, long frescaHasta, long utilizableHasta) {
+            this.valor = valor;
+            this.etag = etag;
+            this.frescaHasta = frescaHasta;
+            this.utilizableHasta = utilizableHasta;
+        }
+    }
+
+    private final long ttlNanos;
+    private final long obsolescenciaNanos;
+    private final Executor executor;
+    private final Map<String, Entrada> entradas;
+    private final ConcurrentHashMap<String, CompletableFuture<Entrada>> enCurso = new ConcurrentHashMap<>();
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder aciertosObsoletos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder revalidaciones = new LongAdder();
+    private final LongAdder noModificadas = new LongAdder();
+
+    CacheRespuestas(long ttlNanos, long obsolescenciaNanos, int maximoEntradas, Executor executor) {
+        this.ttlNanos = ttlNanos;
+        this.obsolescenciaNanos = obsolescenciaNanos;
+        this.executor = executor;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> mayor) {
+                return size() > maximoEntradas;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el valor de una clave desde la caché o con el cargador.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T obtener(String clave, Cargador cargador) throws IOException {
+        Entrada entrada;
+        synchronized (entradas) {
+            entrada = entradas.get(clave);
+        }
+        if (entrada != null) {
+            long ahora = System.nanoTime();
+            if (ahora - entrada.frescaHasta < 0) {
+                aciertos.increment();
+                return (T) entrada.valor;
+            }
+            if (ahora - entrada.utilizableHasta < 0) {
+                aciertosObsoletos.increment();
+                if (entrada.revalidando.compareAndSet(false, true)) {
+                    revalidarEnSegundoPlano(clave, entrada, cargador);
+                }
+                return (T) entrada.valor;
+            }
+        }
+        fallos.increment();
+        return (T) cargarAgrupado(clave, entrada, cargador).valor;
+    }
+
+    private Entrada cargarAgrupado(String clave, Entrada anterior, Cargador cargador) throws IOException {
+        CompletableFuture<Entrada> propio = new CompletableFuture<>();
+        CompletableFuture<Entrada> existente = enCurso.putIfAbsent(clave, propio);
+        if (existente != null) {
+            return esperar(existente);
+        }
+        try {
+            // Otra carga pudo terminar entre la lectura de la caché y la reserva de la clave
+            Entrada reciente;
+            synchronized (entradas) {
+                reciente = entradas.get(clave);
+            }
+            if (reciente != null && reciente != anterior && System.nanoTime() - reciente.frescaHasta < 0) {
+                propio.complete(reciente);
+                return reciente;
+            }
+            // cargar guarda la entrada antes de retirar la carga en curso, sin dejar un hueco sin resultado
+            Entrada nueva = cargar(clave, anterior, cargador);
+            propio.complete(nueva);
+            return nueva;
+        } catch (IOException | RuntimeException e) {
+            propio.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(clave, propio);
+        }
+    }
+
+    private Entrada cargar(String clave, Entrada anterior, Cargador cargador) throws IOException {
+        Respuesta respuesta = cargador.cargar(anterior != null ? anterior.etag : null);
+        long ahora = System.nanoTime();
+        Entrada nueva;
+        if (respuesta.noModificada) {
+            if (anterior == null) {
+                throw new IOException("Respuesta 304 sin entrada en caché");
+            }
+            noModificadas.increment();
+            nueva = new Entrada(anterior.valor, anterior.etag, ahora + ttlNanos, ahora + ttlNanos + obsolescenciaNanos);
+        } else {
+            nueva = new Entrada(respuesta.valor, respuesta.etag, ahora + ttlNanos, ahora + ttlNanos + obsolescenciaNanos);
+        }
+        synchronized (entradas) {
+            entradas.put(clave, nueva);
+        }
+        return nueva;
+    }
+
+    private void revalidarEnSegundoPlano(String clave, Entrada entrada, Cargador cargador) {
+        revalidaciones.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    cargar(clave, entrada, cargador);
+                } catch (IOException | RuntimeException e) {
+                    // Se sigue sirviendo el valor obsoleto hasta que venza el período de obsolescencia
+                } finally {
+                    entrada.revalidando.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entrada.revalidando.set(false);
+        }
+    }
+
+    private static Entrada esperar(CompletableFuture<Entrada> futuro) throws IOException {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException) {
+                throw new IOException(causa.getMessage(), causa);
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw e;
+        }
+    }
+
+    void limpiar() {
+        synchronized (entradas) {
+            entradas.clear();
+        }
+    }
+
+    EstadisticasCache estadisticas() {
+        int tamanio;
+        synchronized (entradas) {
+            tamanio = entradas.size();
+        }
+        return new EstadisticasCache(aciertos.sum(), aciertosObsoletos.sum(), fallos.sum(),
+            revalidaciones.sum(), noModificadas.sum(), tamanio);
+    }
+}
@@ -0,0 +1,122 @@
+package com.logistica.componentec.integration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuito de un componente remoto. Evalúa las últimas {@code ventana} llamadas y se abre cuando
+ * la proporción de fallos alcanza el umbral; abierto, rechaza las llamadas hasta que vence el
+ * tiempo de apertura y luego deja pasar una sola llamada de prueba.
+ * <p>
+ * El estado se lee sin bloqueo en el camino común (circuito cerrado); los resultados se
+ * registran bajo el monitor, ya que cada uno corresponde a una llamada de red.
+ */
+final class Circuito {
+
+    private final String componente;
+    private final int ventana;
+    private final int fallosParaAbrir;
+    private final long tiempoAbiertoNanos;
+
+    // Anillo con el resultado de las últimas llamadas (true = fallo); protegido por this
+    private final boolean[] resultados;
+    private int posicion;
+    private int registrados;
+    private int fallos;
+    private boolean pruebaEnCurso;
+
+    private volatile EstadoCircuito estado = EstadoCircuito.CERRADO;
+    private volatile long abiertoHasta;
+
+    Circuito(String componente, double umbralFallos, int ventana, long tiempoAbiertoNanos) {
+        this.componente = componente;
+        this.ventana = ventana;
+        this.fallosParaAbrir = Math.max(1, (int) Math.ceil(umbralFallos * ventana));
+        this.tiempoAbiertoNanos = tiempoAbiertoNanos;
+        this.resultados = new boolean[ventana];
+    }
+
+    /**
+     * Autoriza una llamada.
+     *
+     * @return true si la llamada es la prueba del circuito semiabierto
+     * @throws CircuitoAbiertoException si el circuito no admite llamadas ahora
+     */
+    boolean permitir() throws CircuitoAbiertoException {
+        if (estado == EstadoCircuito.CERRADO) {
+            return false;
+        }
+        synchronized (this) {
+            if (estado == EstadoCircuito.CERRADO) {
+                return false;
+            }
+            if (estado == EstadoCircuito.ABIERTO) {
+                long restante = abiertoHasta - System.nanoTime();
+                if (restante > 0) {
+                    throw new CircuitoAbiertoException(componente,
+                        Math.max(1, TimeUnit.NANOSECONDS.toMillis(restante)));
+                }
+                estado = EstadoCircuito.SEMIABIERTO;
+            }
+            if (pruebaEnCurso) {
+                throw new CircuitoAbiertoException(componente, 0);
+            }
+            pruebaEnCurso = true;
+            return true;
+        }
+    }
+
+    /**
+     * Registra el resultado de una llamada autorizada por {@link #permitir()}.
+     */
+    synchronized void registrar(boolean exito, boolean prueba) {
+        if (prueba) {
+            pruebaEnCurso = false;
+            if (exito) {
+                cerrar();
+            } else {
+                abrir();
+            }
+            return;
+        }
+        if (estado != EstadoCircuito.CERRADO) {
+            // Llamadas autorizadas antes de abrir el circuito: ya no cambian su estado
+            return;
+        }
+        boolean fallo = !exito;
+        if (registrados == ventana) {
+            if (resultados[posicion]) {
+                fallos--;
+            }
+        } else {
+            registrados++;
+        }
+        resultados[posicion] = fallo;
+        if (fallo) {
+            fallos++;
+        }
+        posicion = (posicion + 1) % ventana;
+        if (registrados == ventana && fallos >= fallosParaAbrir) {
+            abrir();
+        }
+    }
+
+    EstadoCircuito getEstado() {
+        EstadoCircuito actual = estado;
+        if (actual == EstadoCircuito.ABIERTO && abiertoHasta - System.nanoTime() <= 0) {
+            return EstadoCircuito.SEMIABIERTO;
+        }
+        return actual;
+    }
+
+    private void abrir() {
+        abiertoHasta = System.nanoTime() + tiempoAbiertoNanos;
+        estado = EstadoCircuito.ABIERTO;
+    }
+
+    private void cerrar() {
+        registrados = 0;
+        fallos = 0;
+        posicion = 0;
+        estado = EstadoCircuito.CERRADO;
+    }
+}
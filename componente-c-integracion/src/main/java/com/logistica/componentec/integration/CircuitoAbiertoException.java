@@ -0,0 +1,27 @@
+package com.logistica.componentec.integration;
+
+import java.io.IOException;
+
+/**
+ * Llamada rechazada sin contactar al componente porque su circuito está abierto.
+ */
+public class CircuitoAbiertoException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String componente;
+    private final long reintentarEnMs;
+
+    public CircuitoAbiertoException(String componente, long reintentarEnMs) {
+        super(reintentarEnMs > 0
+            ? "Circuito abierto para " + componente + "; reintente en " + reintentarEnMs + " ms"
+            : "Circuito abierto para " + componente + "; prueba de recuperación en curso");
+        this.componente = componente;
+        this.reintentarEnMs = reintentarEnMs;
+    }
+
+    public String getComponente() { return componente; }
+
+    /** Milisegundos hasta que el circuito admita una llamada de prueba (0 si ya hay una en curso). */
+    public long getReintentarEnMs() { return reintentarEnMs; }
+}
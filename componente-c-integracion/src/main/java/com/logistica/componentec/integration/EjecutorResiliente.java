@@ -0,0 +1,233 @@
+package com.logistica.componentec.integration;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Aplica a cada llamada de {@link IntegracionClient} el circuito y el presupuesto de reintentos
+ * de su componente, y los reintentos y la cobertura de su endpoint.
+ * <p>
+ * Cuentan como fallo para el circuito los errores de red, los tiempos agotados y las respuestas
+ * transitorias ({@link RespuestaHttpException#esTransitorio(int)}); un 404 o un 400 indican que el
+ * componente responde bien.
+ */
+final class EjecutorResiliente {
+
+    private static final double PERCENTIL_COBERTURA = 0.95;
+    private static final long ESPERA_MAXIMA_MS = 2_000;
+
+    @FunctionalInterface
+    interface Intento<T> {
+        T ejecutar(HttpUriRequestBase solicitud) throws IOException;
+    }
+
+    private final Map<OperacionRemota, PoliticaResiliencia> politicas;
+    private final Circuito[] circuitos;
+    private final PresupuestoReintentos[] presupuestos;
+    private final EstimadorLatencia[] latencias;
+    private final Executor executor;
+
+    private final LongAdder reintentos = new LongAdder();
+    private final LongAdder reintentosSinPresupuesto = new LongAdder();
+    private final LongAdder coberturas = new LongAdder();
+    private final LongAdder coberturasGanadoras = new LongAdder();
+    private final LongAdder rechazosCircuito = new LongAdder();
+
+    EjecutorResiliente(Map<OperacionRemota, PoliticaResiliencia> politicas, double umbralFallos, int ventana,
+                       long tiempoAbiertoNanos, double proporcionReintentos, int minimoReintentosPorSegundo,
+                       Executor executor) {
+        this.politicas = new EnumMap<>(OperacionRemota.class);
+        for (OperacionRemota operacion : OperacionRemota.values()) {
+            this.politicas.put(operacion, politicas.getOrDefault(operacion, PoliticaResiliencia.PREDETERMINADA));
+        }
+        OperacionRemota.Componente[] componentes = OperacionRemota.Componente.values();
+        this.circuitos = new Circuito[componentes.length];
+        this.presupuestos = new PresupuestoReintentos[componentes.length];
+        for (OperacionRemota.Componente componente : componentes) {
+            circuitos[componente.ordinal()] = new Circuito(componente.getNombre(), umbralFallos, ventana,
+                tiempoAbiertoNanos);
+            presupuestos[componente.ordinal()] = new PresupuestoReintentos(proporcionReintentos,
+                minimoReintentosPorSegundo);
+        }
+        this.latencias = new EstimadorLatencia[OperacionRemota.values().length];
+        for (int i = 0; i < latencias.length; i++) {
+            latencias[i] = new EstimadorLatencia(PERCENTIL_COBERTURA);
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Ejecuta una llamada con las políticas de su operación.
+     *
+     * @param solicitud Crea una solicitud nueva por intento; una solicitud cancelada no se reutiliza
+     * @param intento Envía la solicitud y procesa la respuesta
+     */
+    <T> T ejecutar(OperacionRemota operacion, Supplier<HttpUriRequestBase> solicitud, Intento<T> intento)
+            throws IOException {
+        PoliticaResiliencia politica = politicas.get(operacion);
+        int componente = operacion.getComponente().ordinal();
+        Circuito circuito = circuitos[componente];
+        PresupuestoReintentos presupuesto = presupuestos[componente];
+        EstimadorLatencia latencia = latencias[operacion.ordinal()];
+        presupuesto.depositar();
+
+        IOException anterior = null;
+        for (int numero = 0; ; numero++) {
+            boolean prueba;
+            try {
+                prueba = circuito.permitir();
+            } catch (CircuitoAbiertoException e) {
+                rechazosCircuito.increment();
+                if (anterior != null) {
+                    e.addSuppressed(anterior);
+                }
+                throw e;
+            }
+            boolean exito = false;
+            try {
+                T valor = politica.tieneCobertura()
+                    ? conCobertura(politica, solicitud, intento, latencia, presupuesto)
+                    : medir(solicitud.get(), intento, latencia);
+                exito = true;
+                return valor;
+            } catch (IOException e) {
+                exito = !esFallo(e);
+                if (exito || numero >= politica.getReintentos() || AmbitoCancelacion.canceladoEnHiloActual()) {
+                    throw e;
+                }
+                if (!presupuesto.retirar()) {
+                    reintentosSinPresupuesto.increment();
+                    throw e;
+                }
+                anterior = e;
+            } finally {
+                circuito.registrar(exito, prueba);
+            }
+            reintentos.increment();
+            esperar(politica.getEsperaReintento().toMillis(), numero);
+        }
+    }
+
+    /**
+     * Envía la solicitud y, si no termina antes del percentil 95 del endpoint, lanza una segunda
+     * igual; gana la primera respuesta y la otra se cancela.
+     */
+    private <T> T conCobertura(PoliticaResiliencia politica, Supplier<HttpUriRequestBase> fabrica, Intento<T> intento,
+                               EstimadorLatencia latencia, PresupuestoReintentos presupuesto) throws IOException {
+        HttpUriRequestBase principal = fabrica.get();
+        long percentil = latencia.percentil();
+        if (percentil < 0) {
+            // Sin muestras suficientes no hay un retraso razonable
+            return medir(principal, intento, latencia);
+        }
+        long retraso = Math.max(percentil, politica.getRetrasoMinimoCobertura().toNanos());
+
+        CompletableFuture<T> respaldo = new CompletableFuture<>();
+        AtomicReference<HttpUriRequestBase> solicitudRespaldo = new AtomicReference<>();
+        AtomicBoolean resuelta = new AtomicBoolean();
+        Executor diferido = CompletableFuture.delayedExecutor(retraso, TimeUnit.NANOSECONDS, tarea -> {
+            try {
+                executor.execute(tarea);
+            } catch (RejectedExecutionException e) {
+                respaldo.cancel(false);
+            }
+        });
+        diferido.execute(() -> {
+            if (resuelta.get()) {
+                respaldo.cancel(false);
+                return;
+            }
+            if (!presupuesto.retirar()) {
+                reintentosSinPresupuesto.increment();
+                respaldo.cancel(false);
+                return;
+            }
+            coberturas.increment();
+            HttpUriRequestBase segunda = fabrica.get();
+            solicitudRespaldo.set(segunda);
+            try {
+                T valor = medir(segunda, intento, latencia);
+                if (respaldo.complete(valor)) {
+                    principal.cancel();
+                }
+            } catch (Throwable e) {
+                respaldo.completeExceptionally(e);
+            }
+        });
+
+        try {
+            T valor = medir(principal, intento, latencia);
+            resuelta.set(true);
+            HttpUriRequestBase segunda = solicitudRespaldo.get();
+            if (segunda != null && !respaldo.isDone()) {
+                segunda.cancel();
+            }
+            return valor;
+        } catch (IOException | RuntimeException e) {
+            resuelta.set(true);
+            if (solicitudRespaldo.get() == null && !respaldo.isDone()) {
+                throw e;
+            }
+            // La original falló o fue cancelada: la respuesta de la cobertura decide
+            try {
+                T valor = respaldo.get();
+                coberturasGanadoras.increment();
+                return valor;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw e;
+            } catch (ExecutionException | CancellationException ee) {
+                throw e;
+            }
+        }
+    }
+
+    private static <T> T medir(HttpUriRequestBase solicitud, Intento<T> intento, EstimadorLatencia latencia)
+            throws IOException {
+        long inicio = System.nanoTime();
+        T valor = intento.ejecutar(solicitud);
+        latencia.registrar(System.nanoTime() - inicio);
+        return valor;
+    }
+
+    private static boolean esFallo(IOException e) {
+        return !(e instanceof RespuestaHttpException) || ((RespuestaHttpException) e).esTransitoria();
+    }
+
+    private static void esperar(long baseMs, int numero) throws InterruptedIOException {
+        if (baseMs <= 0) {
+            return;
+        }
+        long espera = Math.min(ESPERA_MAXIMA_MS, baseMs << Math.min(numero, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(espera / 2, espera + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Reintento interrumpido");
+        }
+    }
+
+    EstadoCircuito estado(OperacionRemota.Componente componente) {
+        return circuitos[componente.ordinal()].getEstado();
+    }
+
+    EstadisticasResiliencia estadisticas() {
+        return new EstadisticasResiliencia(reintentos.sum(), reintentosSinPresupuesto.sum(), coberturas.sum(),
+            coberturasGanadoras.sum(), rechazosCircuito.sum());
+    }
+}
@@ -0,0 +1,49 @@
+package com.logistica.componentec.integration;
+
+/**
+ * Contadores de la caché de respuestas de {@link IntegracionClient}, tomados en un instante.
+ */
+public final class EstadisticasCache {
+
+    private final long aciertos;
+    private final long aciertosObsoletos;
+    private final long fallos;
+    private final long revalidaciones;
+    private final long noModificadas;
+    private final int entradas;
+
+    EstadisticasCache(long aciertos, long aciertosObsoletos, long fallos, long revalidaciones,
+                      long noModificadas, int entradas) {
+        this.aciertos = aciertos;
+        this.aciertosObsoletos = aciertosObsoletos;
+        this.fallos = fallos;
+        this.revalidaciones = revalidaciones;
+        this.noModificadas = noModificadas;
+        this.entradas = entradas;
+    }
+
+    /** Lecturas servidas con una entrada fresca. */
+    public long getAciertos() { return aciertos; }
+
+    /** Lecturas servidas con una entrada vencida mientras se revalidaba. */
+    public long getAciertosObsoletos() { return aciertosObsoletos; }
+
+    /** Lecturas que tuvieron que esperar una respuesta de red. */
+    public long getFallos() { return fallos; }
+
+    /** Revalidaciones iniciadas en segundo plano. */
+    public long getRevalidaciones() { return revalidaciones; }
+
+    /** Respuestas 304 que renovaron una entrada sin transferir el cuerpo. */
+    public long getNoModificadas() { return noModificadas; }
+
+    /** Entradas actualmente en caché. */
+    public int getEntradas() { return entradas; }
+
+    @Override
+    public String toString() {
+        return "EstadisticasCache{aciertos=" + aciertos + ", aciertosObsoletos=" + aciertosObsoletos
+            + ", fallos=" + fallos + ", revalidaciones=" + revalidaciones + ", noModificadas=" + noModificadas
+            + ", entradas=" + entradas + "}";
+    }
+}
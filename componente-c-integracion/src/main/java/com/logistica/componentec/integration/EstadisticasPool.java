@@ -0,0 +1,37 @@
+package com.logistica.componentec.integration;
+
+/**
+ * Estado del pool de conexiones de {@link IntegracionClient}, tomado en un instante.
+ */
+public final class EstadisticasPool {
+
+    private final int enUso;
+    private final int disponibles;
+    private final int pendientes;
+    private final int maximo;
+
+    EstadisticasPool(int enUso, int disponibles, int pendientes, int maximo) {
+        this.enUso = enUso;
+        this.disponibles = disponibles;
+        this.pendientes = pendientes;
+        this.maximo = maximo;
+    }
+
+    /** Conexiones prestadas a solicitudes en curso. */
+    public int getEnUso() { return enUso; }
+
+    /** Conexiones abiertas y libres para reutilizar. */
+    public int getDisponibles() { return disponibles; }
+
+    /** Solicitudes esperando una conexión. */
+    public int getPendientes() { return pendientes; }
+
+    /** Máximo de conexiones del pool. */
+    public int getMaximo() { return maximo; }
+
+    @Override
+    public String toString() {
+        return "EstadisticasPool{enUso=" + enUso + ", disponibles=" + disponibles
+            + ", pendientes=" + pendientes + ", maximo=" + maximo + "}";
+    }
+}
@@ -0,0 +1,44 @@
+package com.logistica.componentec.integration;
+
+/**
+ * Contadores de las políticas de resiliencia de {@link IntegracionClient}, tomados en un instante.
+ */
+public final class EstadisticasResiliencia {
+
+    private final long reintentos;
+    private final long reintentosSinPresupuesto;
+    private final long coberturas;
+    private final long coberturasGanadoras;
+    private final long rechazosCircuito;
+
+    EstadisticasResiliencia(long reintentos, long reintentosSinPresupuesto, long coberturas,
+                            long coberturasGanadoras, long rechazosCircuito) {
+        this.reintentos = reintentos;
+        this.reintentosSinPresupuesto = reintentosSinPresupuesto;
+        this.coberturas = coberturas;
+        this.coberturasGanadoras = coberturasGanadoras;
+        this.rechazosCircuito = rechazosCircuito;
+    }
+
+    /** Reintentos realizados tras un fallo transitorio. */
+    public long getReintentos() { return reintentos; }
+
+    /** Reintentos o coberturas que no se hicieron por falta de presupuesto. */
+    public long getReintentosSinPresupuesto() { return reintentosSinPresupuesto; }
+
+    /** Solicitudes de cobertura lanzadas. */
+    public long getCoberturas() { return coberturas; }
+
+    /** Llamadas resueltas por la solicitud de cobertura en lugar de la original. */
+    public long getCoberturasGanadoras() { return coberturasGanadoras; }
+
+    /** Llamadas rechazadas de inmediato por un circuito abierto. */
+    public long getRechazosCircuito() { return rechazosCircuito; }
+
+    @Override
+    public String toString() {
+        return "EstadisticasResiliencia{reintentos=" + reintentos + ", reintentosSinPresupuesto="
+            + reintentosSinPresupuesto + ", coberturas=" + coberturas + ", coberturasGanadoras="
+            + coberturasGanadoras + ", rechazosCircuito=" + rechazosCircuito + "}";
+    }
+}
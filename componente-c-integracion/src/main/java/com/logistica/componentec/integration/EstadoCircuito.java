@@ -0,0 +1,13 @@
+package com.logistica.componentec.integration;
+
+/**
+ * Estado del circuito de un componente remoto.
+ */
+public enum EstadoCircuito {
+    /** Las llamadas pasan y se cuentan sus fallos. */
+    CERRADO,
+    /** Las llamadas fallan de inmediato con {@link CircuitoAbiertoException}. */
+    ABIERTO,
+    /** Pasa una sola llamada de prueba; su resultado cierra o vuelve a abrir el circuito. */
+    SEMIABIERTO
+}
@@ -0,0 +1,52 @@
+package com.logistica.componentec.integration;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentil de latencia de un endpoint sobre sus últimas {@value #MUESTRAS} llamadas exitosas.
+ * El percentil se recalcula cada {@value #RECALCULO} muestras, de modo que consultarlo no cuesta
+ * más que una lectura volátil.
+ */
+final class EstimadorLatencia {
+
+    static final int MUESTRAS = 128;
+    static final int MINIMO_MUESTRAS = 20;
+    private static final int RECALCULO = 16;
+
+    private final double percentil;
+    private final AtomicLongArray muestras = new AtomicLongArray(MUESTRAS);
+    private final AtomicLong registradas = new AtomicLong();
+    private volatile long valor = -1;
+
+    EstimadorLatencia(double percentil) {
+        this.percentil = percentil;
+    }
+
+    void registrar(long nanos) {
+        long n = registradas.getAndIncrement();
+        muestras.set((int) (n % MUESTRAS), nanos);
+        long total = n + 1;
+        if (total >= MINIMO_MUESTRAS && (total == MINIMO_MUESTRAS || total % RECALCULO == 0)) {
+            valor = calcular((int) Math.min(total, MUESTRAS));
+        }
+    }
+
+    /**
+     * Obtiene el percentil en nanosegundos, o -1 si aún no hay muestras suficientes.
+     */
+    long percentil() {
+        return valor;
+    }
+
+    private long calcular(int cantidad) {
+        long[] copia = new long[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            copia[i] = muestras.get(i);
+        }
+        Arrays.sort(copia);
+        int indice = (int) Math.ceil(percentil * cantidad) - 1;
+        return copia[Math.max(0, Math.min(cantidad - 1, indice))];
+    }
+}
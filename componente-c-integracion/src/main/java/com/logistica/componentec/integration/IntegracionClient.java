@@ -0,0 +1,1060 @@
+package com.logistica.componentec.integration;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.logistica.componentec.dto.EstadisticasDocumentosDTO;
+import com.logistica.componentec.dto.EstadisticasProyectosDTO;
+import com.logistica.componentec.dto.ProyectoDTO;
+import com.logistica.componentec.metricas.MetricasEndpoint;
+import com.logistica.componentec.metricas.RegistroMetricas;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cliente de integración empresarial para comunicación entre microservicios.
+ * Proporciona métodos para invocar endpoints de los otros componentes con manejo de errores.
+ * <p>
+ * Las conexiones salen de un pool configurable con {@link #builder()}; el constructor sin
+ * argumentos usa los valores por defecto del builder. El cliente es seguro para hilos y debe
+ * compartirse: cada instancia mantiene su propio pool.
+ * <p>
+ * Los métodos {@code ...Async} ejecutan la llamada bloqueante en un executor (por defecto uno
+ * propio con tantos hilos como conexiones del pool) y devuelven {@link CompletableFuture}s que
+ * fallan con la misma {@link IOException} que el método síncrono.
+ * <p>
+ * Las estadísticas de ambos componentes pueden guardarse en caché con
+ * {@link Builder#cacheEstadisticas(Duration, Duration, int)}. Con la caché activa, los valores
+ * devueltos se comparten entre llamadas y no deben modificarse.
+ * <p>
+ * Con {@link Builder#outboxNotificaciones(Path)}, {@link #notificarDocumentoCreado} escribe la
+ * notificación en un journal local y vuelve de inmediato; el envío ocurre en segundo plano
+ * (ver {@link OutboxNotificaciones}).
+ * <p>
+ * Cada componente tiene su circuito y su presupuesto de reintentos: si un componente falla
+ * de forma sostenida, las llamadas a él fallan de inmediato con {@link CircuitoAbiertoException}
+ * en lugar de esperar los tiempos de espera. Los reintentos y las solicitudes de cobertura se
+ * activan por endpoint con {@link Builder#politica(OperacionRemota, PoliticaResiliencia)}.
+ * <p>
+ * Cada endpoint registra respuestas por código, errores, bytes y latencia en el
+ * {@link RegistroMetricas} del builder, con el nombre {@code integracion.<OPERACION>}.
+ */
+public class IntegracionClient {
+
+    private static final String COMPONENTE_A_BASE_URL = "http://localhost:8080/api";
+    private static final String COMPONENTE_B_BASE_URL = "http://localhost:8081/api";
+
+    /** Encabezado con la clave de idempotencia de las notificaciones de la bandeja de salida. */
+    public static final String ENCABEZADO_IDEMPOTENCIA = "Idempotency-Key";
+
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader lectorMapa;
+    private final ObjectReader lectorEstadisticasProyectos;
+    private final ObjectReader lectorEstadisticasDocumentos;
+    private final ObjectReader lectorProyecto;
+    private final String componenteABaseUrl;
+    private final String componenteBBaseUrl;
+    private final Executor executor;
+    private final ExecutorService executorPropio;
+    private final long plazoDashboardMs;
+    private final CacheRespuestas cache;
+    private final VerificadorExistencia existenciaProyectos;
+    private final int concurrenciaExistencia;
+    private final OutboxNotificaciones outbox;
+    private final EjecutorResiliente resiliencia;
+    private final MetricasEndpoint[] metricas;
+
+    public IntegracionClient() {
+        this(builder());
+    }
+
+    private IntegracionClient(Builder builder) {
+        this.componenteABaseUrl = builder.componenteABaseUrl;
+        this.componenteBBaseUrl = builder.componenteBBaseUrl;
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : new ObjectMapper();
+        // Lectores inmutables y reutilizables; los DTO ignoran campos que aún no modelan
+        this.lectorMapa = objectMapper.readerFor(new TypeReference<Map<String, Object>>() { });
+        this.lectorEstadisticasProyectos = objectMapper.readerFor(EstadisticasProyectosDTO.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.lectorEstadisticasDocumentos = objectMapper.readerFor(EstadisticasDocumentosDTO.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.lectorProyecto = objectMapper.readerFor(ProyectoDTO.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.plazoDashboardMs = builder.plazoDashboard.toMillis();
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.executorPropio = null;
+        } else {
+            this.executorPropio = crearExecutor(builder.maximoConexiones);
+            this.executor = executorPropio;
+        }
+        this.cache = builder.cacheTtl == null ? null : new CacheRespuestas(builder.cacheTtl.toNanos(),
+            builder.cacheObsolescencia.toNanos(), builder.cacheMaximoEntradas, executor);
+        this.existenciaProyectos = new VerificadorExistencia(builder.existenciaTtlPositivo.toNanos(),
+            builder.existenciaTtlNegativo.toNanos(), builder.existenciaMaximoEntradas);
+        this.concurrenciaExistencia = builder.concurrenciaExistencia;
+        this.resiliencia = new EjecutorResiliente(builder.politicas, builder.circuitoUmbralFallos,
+            builder.circuitoVentana, builder.circuitoTiempoAbierto.toNanos(), builder.presupuestoProporcion,
+            builder.presupuestoMinimoPorSegundo, executor);
+        OperacionRemota[] operaciones = OperacionRemota.values();
+        this.metricas = new MetricasEndpoint[operaciones.length];
+        for (OperacionRemota operacion : operaciones) {
+            metricas[operacion.ordinal()] = builder.metricas.endpoint("integracion." + operacion.name());
+        }
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(builder.maximoConexiones)
+            .setMaxConnPerRoute(builder.maximoConexionesPorRuta)
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setTcpNoDelay(true)
+                .setSoTimeout(Timeout.of(builder.tiempoRespuesta))
+                .build())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(builder.tiempoConexion))
+                .setSocketTimeout(Timeout.of(builder.tiempoRespuesta))
+                .setTimeToLive(TimeValue.of(builder.tiempoVida))
+                .setValidateAfterInactivity(TimeValue.of(builder.validarTrasInactividad))
+                .build())
+            .build();
+
+        TimeValue keepAlive = TimeValue.of(builder.keepAlive);
+        ConnectionKeepAliveStrategy estrategiaKeepAlive = (response, context) -> {
+            // Respeta el Keep-Alive del servidor, pero nunca más allá del máximo configurado
+            TimeValue servidor = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(servidor) && servidor.compareTo(keepAlive) < 0 ? servidor : keepAlive;
+        };
+
+        CloseableHttpClient cliente = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(estrategiaKeepAlive)
+            .setRetryStrategy(new ReintentoTransporte())
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(builder.tiempoEsperaPool))
+                .setResponseTimeout(Timeout.of(builder.tiempoRespuesta))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(builder.tiempoInactividad))
+            .build();
+        this.httpClient = cliente;
+
+        if (builder.outboxArchivo != null) {
+            try {
+                this.outbox = new OutboxNotificaciones(builder.outboxArchivo, builder.outboxCapacidad,
+                    builder.outboxTamanioLote, builder.outboxMaximoEnVuelo, builder.outboxPlazo,
+                    this::enviarNotificacion, executor);
+            } catch (IOException e) {
+                cerrarSinErrores(cliente);
+                if (executorPropio != null) {
+                    executorPropio.shutdown();
+                }
+                throw new UncheckedIOException("No se pudo abrir el journal de notificaciones", e);
+            }
+        } else {
+            this.outbox = null;
+        }
+    }
+
+    /**
+     * Conserva el reintento único ante conexiones del pool cerradas por el servidor, pero no
+     * reintenta por código de estado (429, 503): de eso se encarga {@link EjecutorResiliente},
+     * dentro del presupuesto de reintentos. Un POST con clave de idempotencia se trata como GET.
+     */
+    private static final class ReintentoTransporte extends DefaultHttpRequestRetryStrategy {
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            return false;
+        }
+
+        @Override
+        protected boolean handleAsIdempotent(HttpRequest request) {
+            return super.handleAsIdempotent(request) || request.containsHeader(ENCABEZADO_IDEMPOTENCIA);
+        }
+    }
+
+    private static void cerrarSinErrores(CloseableHttpClient cliente) {
+        try {
+            cliente.close();
+        } catch (IOException e) {
+            // El cliente recién creado no tiene conexiones que perder
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configuración del cliente: pool de conexiones, tiempos de espera y URLs base.
+     */
+    public static final class Builder {
+        private String componenteABaseUrl = COMPONENTE_A_BASE_URL;
+        private String componenteBBaseUrl = COMPONENTE_B_BASE_URL;
+        private ObjectMapper objectMapper;
+        private int maximoConexiones = 200;
+        private int maximoConexionesPorRuta = 50;
+        private Duration tiempoConexion = Duration.ofSeconds(2);
+        private Duration tiempoEsperaPool = Duration.ofSeconds(2);
+        private Duration tiempoRespuesta = Duration.ofSeconds(10);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration tiempoInactividad = Duration.ofSeconds(30);
+        private Duration tiempoVida = Duration.ofMinutes(5);
+        private Duration validarTrasInactividad = Duration.ofSeconds(2);
+        private Executor executor;
+        private Duration plazoDashboard = Duration.ofSeconds(5);
+        private Duration cacheTtl;
+        private Duration cacheObsolescencia;
+        private int cacheMaximoEntradas;
+        private Duration existenciaTtlPositivo = Duration.ZERO;
+        private Duration existenciaTtlNegativo = Duration.ZERO;
+        private int existenciaMaximoEntradas;
+        private int concurrenciaExistencia = 8;
+        private Path outboxArchivo;
+        private int outboxCapacidad = 16 * 1024 * 1024;
+        private int outboxTamanioLote = 64;
+        private int outboxMaximoEnVuelo = 16;
+        private Duration outboxPlazo = Duration.ofSeconds(30);
+        private final Map<OperacionRemota, PoliticaResiliencia> politicas = new EnumMap<>(OperacionRemota.class);
+        private double circuitoUmbralFallos = 0.5;
+        private int circuitoVentana = 20;
+        private Duration circuitoTiempoAbierto = Duration.ofSeconds(10);
+        private double presupuestoProporcion = 0.1;
+        private int presupuestoMinimoPorSegundo = 10;
+        private RegistroMetricas metricas = RegistroMetricas.PREDETERMINADO;
+
+        private Builder() {
+        }
+
+        /** URL base del Componente A (por defecto http://localhost:8080/api). */
+        public Builder componenteABaseUrl(String url) {
+            this.componenteABaseUrl = normalizarUrl(url);
+            return this;
+        }
+
+        /** URL base del Componente B (por defecto http://localhost:8081/api). */
+        public Builder componenteBBaseUrl(String url) {
+            this.componenteBBaseUrl = normalizarUrl(url);
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /** Máximo de conexiones abiertas entre todas las rutas (por defecto 200). */
+        public Builder maximoConexiones(int maximo) {
+            this.maximoConexiones = positivo(maximo, "El máximo de conexiones");
+            return this;
+        }
+
+        /** Máximo de conexiones por servidor de destino (por defecto 50). */
+        public Builder maximoConexionesPorRuta(int maximo) {
+            this.maximoConexionesPorRuta = positivo(maximo, "El máximo de conexiones por ruta");
+            return this;
+        }
+
+        /** Tiempo máximo para establecer la conexión TCP (por defecto 2 s). */
+        public Builder tiempoConexion(Duration tiempo) {
+            this.tiempoConexion = duracion(tiempo);
+            return this;
+        }
+
+        /** Tiempo máximo de espera por una conexión libre del pool (por defecto 2 s). */
+        public Builder tiempoEsperaPool(Duration tiempo) {
+            this.tiempoEsperaPool = duracion(tiempo);
+            return this;
+        }
+
+        /** Tiempo máximo de espera de la respuesta y entre paquetes (por defecto 10 s). */
+        public Builder tiempoRespuesta(Duration tiempo) {
+            this.tiempoRespuesta = duracion(tiempo);
+            return this;
+        }
+
+        /** Máximo tiempo que una conexión se reutiliza tras una respuesta (por defecto 30 s). */
+        public Builder keepAlive(Duration tiempo) {
+            this.keepAlive = duracion(tiempo);
+            return this;
+        }
+
+        /** Tiempo tras el cual se cierran las conexiones inactivas (por defecto 30 s). */
+        public Builder tiempoInactividad(Duration tiempo) {
+            this.tiempoInactividad = duracion(tiempo);
+            return this;
+        }
+
+        /** Vida máxima de una conexión, útil tras balanceadores o cambios de DNS (por defecto 5 min). */
+        public Builder tiempoVida(Duration tiempo) {
+            this.tiempoVida = duracion(tiempo);
+            return this;
+        }
+
+        /** Inactividad tras la cual se verifica una conexión antes de reutilizarla (por defecto 2 s). */
+        public Builder validarTrasInactividad(Duration tiempo) {
+            this.validarTrasInactividad = duracion(tiempo);
+            return this;
+        }
+
+        /**
+         * Executor para los métodos asíncronos. Si no se indica, el cliente crea uno propio
+         * que se detiene en {@link IntegracionClient#cerrar()}.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /** Plazo de cada llamada del dashboard integrado (por defecto 5 s). */
+        public Builder plazoDashboard(Duration plazo) {
+            this.plazoDashboard = duracion(plazo);
+            return this;
+        }
+
+        /**
+         * Activa la caché de estadísticas de proyectos y documentos.
+         *
+         * @param ttl Tiempo durante el que una respuesta se sirve sin consultar al componente
+         * @param obsolescencia Tiempo adicional durante el que se sirve la respuesta vencida
+         *                      mientras se revalida en segundo plano (puede ser cero)
+         * @param maximoEntradas Máximo de respuestas guardadas; se descarta la menos usada
+         */
+        public Builder cacheEstadisticas(Duration ttl, Duration obsolescencia, int maximoEntradas) {
+            if (obsolescencia == null || obsolescencia.isNegative()) {
+                throw new IllegalArgumentException("La obsolescencia no puede ser negativa");
+            }
+            this.cacheTtl = duracion(ttl);
+            this.cacheObsolescencia = obsolescencia;
+            this.cacheMaximoEntradas = positivo(maximoEntradas, "El máximo de entradas en caché");
+            return this;
+        }
+
+        /**
+         * Activa la caché de existencia de proyectos. Los proyectos inexistentes (404) pueden
+         * guardarse menos tiempo, ya que podrían crearse en cualquier momento.
+         *
+         * @param ttlPositivo Vigencia de un resultado "existe"
+         * @param ttlNegativo Vigencia de un resultado "no existe"
+         * @param maximoEntradas Máximo de identificadores guardados; se descarta el menos usado
+         */
+        public Builder cacheExistencia(Duration ttlPositivo, Duration ttlNegativo, int maximoEntradas) {
+            this.existenciaTtlPositivo = duracion(ttlPositivo);
+            this.existenciaTtlNegativo = duracion(ttlNegativo);
+            this.existenciaMaximoEntradas = positivo(maximoEntradas, "El máximo de entradas de existencia");
+            return this;
+        }
+
+        /** Máximo de consultas simultáneas de {@link IntegracionClient#validarExistenciaProyectos} (por defecto 8). */
+        public Builder concurrenciaExistencia(int maximo) {
+            this.concurrenciaExistencia = positivo(maximo, "La concurrencia de existencia");
+            return this;
+        }
+
+        /**
+         * Activa el envío asíncrono de notificaciones a través de un journal local.
+         *
+         * @param archivo Archivo del journal; se crea si no existe y se reanuda si ya existe
+         */
+        public Builder outboxNotificaciones(Path archivo) {
+            if (archivo == null) {
+                throw new IllegalArgumentException("El archivo del journal no puede ser null");
+            }
+            this.outboxArchivo = archivo;
+            return this;
+        }
+
+        /**
+         * Ajusta el envío asíncrono de notificaciones.
+         *
+         * @param capacidadBytes Tamaño del journal al crearlo; uno existente conserva el suyo (por defecto 16 MB)
+         * @param tamanioLote Notificaciones despachadas por ciclo (por defecto 64)
+         * @param maximoEnVuelo Envíos simultáneos (por defecto 16)
+         * @param plazo Plazo de vaciado al cerrar y de espera cuando el journal está lleno (por defecto 30 s)
+         */
+        public Builder ajustesOutbox(int capacidadBytes, int tamanioLote, int maximoEnVuelo, Duration plazo) {
+            this.outboxCapacidad = positivo(capacidadBytes, "La capacidad del journal");
+            this.outboxTamanioLote = positivo(tamanioLote, "El tamaño de lote");
+            this.outboxMaximoEnVuelo = positivo(maximoEnVuelo, "El máximo de envíos en vuelo");
+            this.outboxPlazo = duracion(plazo);
+            return this;
+        }
+
+        /**
+         * Reintentos y cobertura de un endpoint. Solo las operaciones idempotentes los admiten.
+         */
+        public Builder politica(OperacionRemota operacion, PoliticaResiliencia politica) {
+            if (operacion == null || politica == null) {
+                throw new IllegalArgumentException("La operación y la política no pueden ser null");
+            }
+            if (!operacion.esIdempotente() && (politica.getReintentos() > 0 || politica.tieneCobertura())) {
+                throw new IllegalArgumentException("La operación " + operacion
+                    + " no es idempotente y no admite reintentos ni cobertura");
+            }
+            this.politicas.put(operacion, politica);
+            return this;
+        }
+
+        /**
+         * Ajusta el circuito de cada componente (por defecto 50 % de fallos en 20 llamadas, 10 s abierto).
+         *
+         * @param umbralFallos Proporción de fallos, entre 0 y 1, que abre el circuito
+         * @param ventana Llamadas recientes evaluadas; el circuito no se abre con menos
+         * @param tiempoAbierto Tiempo que el circuito rechaza llamadas antes de probar de nuevo
+         */
+        public Builder circuito(double umbralFallos, int ventana, Duration tiempoAbierto) {
+            if (!(umbralFallos > 0 && umbralFallos <= 1)) {
+                throw new IllegalArgumentException("El umbral de fallos debe estar entre 0 y 1");
+            }
+            this.circuitoVentana = positivo(ventana, "La ventana del circuito");
+            this.circuitoTiempoAbierto = duracion(tiempoAbierto);
+            this.circuitoUmbralFallos = umbralFallos;
+            return this;
+        }
+
+        /**
+         * Limita los reintentos y coberturas de cada componente (por defecto 10 % del tráfico y
+         * 10 por segundo como mínimo).
+         *
+         * @param proporcion Reintentos permitidos por llamada original, entre 0 y 1
+         * @param minimoPorSegundo Reintentos permitidos por segundo aunque haya poco tráfico
+         */
+        public Builder presupuestoReintentos(double proporcion, int minimoPorSegundo) {
+            if (!(proporcion >= 0 && proporcion <= 1)) {
+                throw new IllegalArgumentException("La proporción de reintentos debe estar entre 0 y 1");
+            }
+            if (minimoPorSegundo < 0) {
+                throw new IllegalArgumentException("El mínimo de reintentos no puede ser negativo");
+            }
+            this.presupuestoProporcion = proporcion;
+            this.presupuestoMinimoPorSegundo = minimoPorSegundo;
+            return this;
+        }
+
+        /** Registro donde se publican las métricas por endpoint (por defecto el predeterminado). */
+        public Builder metricas(RegistroMetricas registro) {
+            if (registro == null) {
+                throw new IllegalArgumentException("El registro de métricas no puede ser null");
+            }
+            this.metricas = registro;
+            return this;
+        }
+
+        public IntegracionClient build() {
+            if (maximoConexionesPorRuta > maximoConexiones) {
+                throw new IllegalArgumentException("El máximo por ruta no puede superar el máximo de conexiones");
+            }
+            return new IntegracionClient(this);
+        }
+
+        private static String normalizarUrl(String url) {
+            if (url == null || url.isBlank()) {
+                throw new IllegalArgumentException("La URL base no puede estar vacía");
+            }
+            String limpia = url.trim();
+            return limpia.endsWith("/") ? limpia.substring(0, limpia.length() - 1) : limpia;
+        }
+
+        private static int positivo(int valor, String nombre) {
+            if (valor <= 0) {
+                throw new IllegalArgumentException(nombre + " debe ser mayor que 0");
+            }
+            return valor;
+        }
+
+        private static Duration duracion(Duration tiempo) {
+            if (tiempo == null || tiempo.isNegative() || tiempo.isZero()) {
+                throw new IllegalArgumentException("La duración debe ser positiva");
+            }
+            return tiempo;
+        }
+    }
+
+    public String getComponenteABaseUrl() { return componenteABaseUrl; }
+    public String getComponenteBBaseUrl() { return componenteBBaseUrl; }
+
+    /**
+     * Obtiene los contadores de la caché de estadísticas, o null si la caché no está activa.
+     */
+    public EstadisticasCache getEstadisticasCache() {
+        return cache != null ? cache.estadisticas() : null;
+    }
+
+    /**
+     * Descarta todas las respuestas en caché.
+     */
+    public void limpiarCache() {
+        if (cache != null) {
+            cache.limpiar();
+        }
+    }
+
+    /** Estado del circuito del Componente A. */
+    public EstadoCircuito getEstadoCircuitoA() {
+        return resiliencia.estado(OperacionRemota.Componente.A);
+    }
+
+    /** Estado del circuito del Componente B. */
+    public EstadoCircuito getEstadoCircuitoB() {
+        return resiliencia.estado(OperacionRemota.Componente.B);
+    }
+
+    /**
+     * Obtiene los contadores de reintentos, coberturas y rechazos por circuito abierto.
+     */
+    public EstadisticasResiliencia getEstadisticasResiliencia() {
+        return resiliencia.estadisticas();
+    }
+
+    /**
+     * Obtiene el estado actual del pool (conexiones en uso, libres y solicitudes en espera).
+     */
+    public EstadisticasPool getEstadisticasPool() {
+        PoolStats estado = connectionManager.getTotalStats();
+        return new EstadisticasPool(estado.getLeased(), estado.getAvailable(), estado.getPending(), estado.getMax());
+    }
+
+    /**
+     * Obtiene estadísticas de proyectos del Componente A (Operaciones).
+     *
+     * @return Mapa con estadísticas de proyectos
+     * @throws IOException si hay error en la comunicación
+     */
+    public Map<String, Object> obtenerEstadisticasProyectos() throws IOException {
+        return obtenerEstadisticas(OperacionRemota.ESTADISTICAS_PROYECTOS,
+            componenteABaseUrl + "/proyectos/estadisticas", lectorMapa, "Error al obtener estadísticas de proyectos");
+    }
+
+    /**
+     * Obtiene estadísticas de proyectos del Componente A como DTO tipado.
+     */
+    public EstadisticasProyectosDTO obtenerEstadisticasProyectosDTO() throws IOException {
+        return obtenerEstadisticas(OperacionRemota.ESTADISTICAS_PROYECTOS,
+            componenteABaseUrl + "/proyectos/estadisticas", lectorEstadisticasProyectos,
+            "Error al obtener estadísticas de proyectos");
+    }
+
+    /**
+     * Obtiene información de un proyecto específico del Componente A.
+     *
+     * @return Mapa con el proyecto, o null si no existe
+     */
+    public Map<String, Object> obtenerProyecto(Long proyectoId) throws IOException {
+        return obtenerJson(OperacionRemota.PROYECTO, componenteABaseUrl + "/proyectos/" + proyectoId, lectorMapa,
+            "Error al obtener proyecto", true);
+    }
+
+    /**
+     * Obtiene un proyecto del Componente A como DTO tipado.
+     *
+     * @return Proyecto, o null si no existe
+     */
+    public ProyectoDTO obtenerProyectoDTO(Long proyectoId) throws IOException {
+        return obtenerJson(OperacionRemota.PROYECTO, componenteABaseUrl + "/proyectos/" + proyectoId,
+            lectorProyecto, "Error al obtener proyecto", true);
+    }
+
+    /**
+     * Obtiene estadísticas de documentos del Componente B.
+     */
+    public Map<String, Object> obtenerEstadisticasDocumentos() throws IOException {
+        return obtenerEstadisticas(OperacionRemota.ESTADISTICAS_DOCUMENTOS,
+            componenteBBaseUrl + "/documentos/estadisticas", lectorMapa, "Error al obtener estadísticas de documentos");
+    }
+
+    /**
+     * Obtiene estadísticas de documentos del Componente B como DTO tipado.
+     */
+    public EstadisticasDocumentosDTO obtenerEstadisticasDocumentosDTO() throws IOException {
+        return obtenerEstadisticas(OperacionRemota.ESTADISTICAS_DOCUMENTOS,
+            componenteBBaseUrl + "/documentos/estadisticas", lectorEstadisticasDocumentos,
+            "Error al obtener estadísticas de documentos");
+    }
+
+    /**
+     * Valida existencia de proyecto en Componente A desde Componente B.
+     * Las validaciones simultáneas del mismo proyecto comparten una sola consulta, y el
+     * resultado se guarda si la caché de existencia está activa.
+     */
+    public boolean validarExistenciaProyecto(Long proyectoId) throws IOException {
+        validarIdProyecto(proyectoId);
+        try {
+            return existenciaProyectos.existe(proyectoId, this::consultarExistenciaProyecto);
+        } catch (IOException e) {
+            throw new IOException("Error al validar existencia de proyecto: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Valida la existencia de varios proyectos. Los identificadores repetidos se consultan una
+     * vez y las consultas se reparten en paralelo, como máximo
+     * {@link Builder#concurrenciaExistencia(int)} a la vez.
+     *
+     * @param proyectoIds Identificadores a validar
+     * @return Existencia por identificador, en el orden de la primera aparición
+     * @throws IOException si alguna consulta falla
+     */
+    public Map<Long, Boolean> validarExistenciaProyectos(Collection<Long> proyectoIds) throws IOException {
+        if (proyectoIds == null) {
+            throw new IllegalArgumentException("La colección de proyectos no puede ser null");
+        }
+
+        Map<Long, Boolean> resultado = new LinkedHashMap<>();
+        Queue<Long> pendientes = new ConcurrentLinkedQueue<>();
+        for (Long id : proyectoIds) {
+            validarIdProyecto(id);
+            if (!resultado.containsKey(id)) {
+                Boolean conocido = existenciaProyectos.enCache(id);
+                resultado.put(id, conocido);
+                if (conocido == null) {
+                    pendientes.add(id);
+                }
+            }
+        }
+        if (pendientes.isEmpty()) {
+            return resultado;
+        }
+
+        // El hilo llamador es uno de los trabajadores, así siempre hay progreso aunque el executor esté ocupado
+        Map<Long, Boolean> consultados = new ConcurrentHashMap<>();
+        int trabajadores = Math.min(concurrenciaExistencia, pendientes.size());
+        List<CompletableFuture<Void>> adicionales = new ArrayList<>(trabajadores - 1);
+        for (int i = 1; i < trabajadores; i++) {
+            adicionales.add(enSegundoPlano(() -> {
+                consultarPendientes(pendientes, consultados);
+                return null;
+            }));
+        }
+        Throwable error = null;
+        try {
+            consultarPendientes(pendientes, consultados);
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        }
+        for (CompletableFuture<Void> adicional : adicionales) {
+            try {
+                adicional.join();
+            } catch (CompletionException e) {
+                if (error == null) {
+                    error = e.getCause();
+                }
+            }
+        }
+        if (error != null) {
+            throw new IOException("Error al validar existencia de proyectos: " + error.getMessage(), error);
+        }
+
+        resultado.replaceAll((id, existe) -> existe != null ? existe : consultados.get(id));
+        return resultado;
+    }
+
+    private void consultarPendientes(Queue<Long> pendientes, Map<Long, Boolean> consultados) throws IOException {
+        try {
+            Long id;
+            while ((id = pendientes.poll()) != null) {
+                consultados.put(id, existenciaProyectos.existe(id, this::consultarExistenciaProyecto));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Ante el primer error los demás trabajadores dejan de tomar identificadores
+            pendientes.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Consulta si un proyecto existe leyendo solo el código de estado; el cuerpo se descarta.
+     */
+    private boolean consultarExistenciaProyecto(Long proyectoId) throws IOException {
+        String url = componenteABaseUrl + "/proyectos/" + proyectoId;
+        return resiliencia.ejecutar(OperacionRemota.PROYECTO, () -> new HttpGet(url),
+            solicitud -> ejecutarHttp(OperacionRemota.PROYECTO, solicitud, response -> {
+                EntityUtils.consume(response.getEntity());
+                if (response.getCode() == 200) {
+                    return true;
+                }
+                if (response.getCode() == 404) {
+                    return false;
+                }
+                throw new RespuestaHttpException("Error al obtener proyecto: " + response.getCode(), response.getCode());
+            }));
+    }
+
+    private static void validarIdProyecto(Long proyectoId) {
+        if (proyectoId == null) {
+            throw new IllegalArgumentException("El ID de proyecto no puede ser null");
+        }
+    }
+
+    /**
+     * Notifica al Componente A sobre creación de documento en Componente B.
+     * Con la bandeja de salida activa, solo registra la notificación en el journal.
+     */
+    public void notificarDocumentoCreado(Long proyectoId, Long documentoId, String tipoDocumento) throws IOException {
+        byte[] cuerpo = cuerpoNotificacion(documentoId, tipoDocumento);
+        if (outbox != null) {
+            validarIdProyecto(proyectoId);
+            outbox.registrar(proyectoId, cuerpo);
+            return;
+        }
+
+        String url = componenteABaseUrl + "/proyectos/" + proyectoId + "/notificar-documento";
+        resiliencia.ejecutar(OperacionRemota.NOTIFICACION, () -> notificacion(url, cuerpo),
+            solicitud -> ejecutarHttp(OperacionRemota.NOTIFICACION, solicitud, response -> {
+                EntityUtils.consume(response.getEntity());
+                if (response.getCode() != 200 && response.getCode() != 204) {
+                    throw new RespuestaHttpException("Error al notificar documento creado: " + response.getCode(),
+                        response.getCode());
+                }
+                return null;
+            }));
+    }
+
+    /**
+     * Obtiene la bandeja de salida de notificaciones, o null si no está activa.
+     */
+    public OutboxNotificaciones getOutbox() {
+        return outbox;
+    }
+
+    /**
+     * Envío usado por la bandeja de salida; la clave de idempotencia se repite en cada reintento.
+     */
+    private int enviarNotificacion(long proyectoId, byte[] cuerpo, String claveIdempotencia) throws IOException {
+        String url = componenteABaseUrl + "/proyectos/" + proyectoId + "/notificar-documento";
+        try {
+            return resiliencia.ejecutar(OperacionRemota.NOTIFICACION, () -> {
+                HttpPost request = notificacion(url, cuerpo);
+                request.setHeader(ENCABEZADO_IDEMPOTENCIA, claveIdempotencia);
+                return request;
+            }, solicitud -> ejecutarHttp(OperacionRemota.NOTIFICACION, solicitud, response -> {
+                EntityUtils.consume(response.getEntity());
+                if (RespuestaHttpException.esTransitorio(response.getCode())) {
+                    // Como excepción, para que cuente como fallo en el circuito
+                    throw new RespuestaHttpException("Error al notificar documento creado: " + response.getCode(),
+                        response.getCode());
+                }
+                return response.getCode();
+            }));
+        } catch (RespuestaHttpException e) {
+            return e.getCodigo();
+        }
+    }
+
+    private static HttpPost notificacion(String url, byte[] cuerpo) {
+        HttpPost request = new HttpPost(url);
+        request.setEntity(new ByteArrayEntity(cuerpo, ContentType.APPLICATION_JSON));
+        return request;
+    }
+
+    /**
+     * Arma el JSON de la notificación sin mapas intermedios.
+     */
+    static byte[] cuerpoNotificacion(Long documentoId, String tipoDocumento) {
+        StringBuilder json = new StringBuilder(80).append("{\"documentoId\":").append(documentoId)
+            .append(",\"tipoDocumento\":");
+        if (tipoDocumento == null) {
+            json.append("null");
+        } else {
+            json.append('"');
+            JsonStringEncoder.getInstance().quoteAsString(tipoDocumento, json);
+            json.append('"');
+        }
+        return json.append(",\"accion\":\"CREADO\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Obtiene estadísticas pasando por la caché cuando está activa.
+     * La clave incluye el tipo de destino porque el mismo cuerpo se decodifica como Map o como DTO.
+     */
+    private <T> T obtenerEstadisticas(OperacionRemota operacion, String url, ObjectReader lector, String error)
+            throws IOException {
+        if (cache == null) {
+            return obtenerJson(operacion, url, lector, error, false);
+        }
+        String clave = url + '#' + lector.getValueType().toCanonical();
+        return cache.obtener(clave, etag -> obtenerJsonCondicional(operacion, url, lector, error, etag));
+    }
+
+    /**
+     * GET condicional: con un ETag previo envía If-None-Match y un 304 se informa sin cuerpo.
+     */
+    private CacheRespuestas.Respuesta obtenerJsonCondicional(OperacionRemota operacion, String url,
+                                                             ObjectReader lector, String error,
+                                                             String etag) throws IOException {
+        AmbitoCancelacion ambito = AmbitoCancelacion.actual();
+        return resiliencia.ejecutar(operacion, () -> {
+            HttpGet request = new HttpGet(url);
+            if (etag != null) {
+                request.setHeader(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            return AmbitoCancelacion.registrar(ambito, request);
+        }, solicitud -> ejecutarHttp(operacion, solicitud, response -> {
+            HttpEntity entidad = response.getEntity();
+            int codigo = response.getCode();
+            if (codigo == 304 && etag != null) {
+                EntityUtils.consume(entidad);
+                return CacheRespuestas.Respuesta.noModificada();
+            }
+            if (codigo != 200) {
+                EntityUtils.consume(entidad);
+                throw new RespuestaHttpException(error + ": " + codigo, codigo);
+            }
+            Header etagNuevo = response.getFirstHeader(HttpHeaders.ETAG);
+            return CacheRespuestas.Respuesta.nueva(leerCuerpo(entidad, lector, error),
+                etagNuevo != null ? etagNuevo.getValue() : null);
+        }));
+    }
+
+    /**
+     * Ejecuta un GET y decodifica el cuerpo directamente desde el flujo de la respuesta,
+     * sin copiarlo a un byte[] ni a un String. La conexión vuelve al pool al terminar.
+     *
+     * @param nullSiNoExiste true para devolver null ante un 404 en lugar de fallar
+     */
+    private <T> T obtenerJson(OperacionRemota operacion, String url, ObjectReader lector, String error,
+                              boolean nullSiNoExiste) throws IOException {
+        AmbitoCancelacion ambito = AmbitoCancelacion.actual();
+        return resiliencia.ejecutar(operacion, () -> AmbitoCancelacion.registrar(ambito, new HttpGet(url)),
+            solicitud -> ejecutarHttp(operacion, solicitud, response -> {
+                HttpEntity entidad = response.getEntity();
+                int codigo = response.getCode();
+                if (codigo != 200) {
+                    EntityUtils.consume(entidad);
+                    if (codigo == 404 && nullSiNoExiste) {
+                        return null;
+                    }
+                    throw new RespuestaHttpException(error + ": " + codigo, codigo);
+                }
+                return leerCuerpo(entidad, lector, error);
+            }));
+    }
+
+    /**
+     * Ejecuta una solicitud registrando sus métricas: código y longitud de la respuesta, bytes
+     * enviados, latencia total (incluida la lectura del cuerpo) y, si no hubo respuesta
+     * utilizable, un error. Un código inesperado ya cuenta en las respuestas, no como error.
+     */
+    private <T> T ejecutarHttp(OperacionRemota operacion, HttpUriRequestBase solicitud,
+                               HttpClientResponseHandler<T> manejador) throws IOException {
+        MetricasEndpoint medidor = metricas[operacion.ordinal()];
+        HttpEntity enviada = solicitud.getEntity();
+        if (enviada != null) {
+            medidor.registrarEnvio(enviada.getContentLength());
+        }
+        long inicio = System.nanoTime();
+        try {
+            return httpClient.execute(solicitud, response -> {
+                HttpEntity entidad = response.getEntity();
+                medidor.registrarRespuesta(response.getCode(), entidad != null ? entidad.getContentLength() : 0);
+                return manejador.handleResponse(response);
+            });
+        } catch (RespuestaHttpException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            medidor.registrarError();
+            throw e;
+        } finally {
+            medidor.registrarLatencia(System.nanoTime() - inicio);
+        }
+    }
+
+    private static <T> T leerCuerpo(HttpEntity entidad, ObjectReader lector, String error) throws IOException {
+        if (entidad == null) {
+            throw new IOException(error + ": respuesta sin cuerpo");
+        }
+        try (InputStream contenido = entidad.getContent()) {
+            return lector.readValue(contenido);
+        }
+    }
+
+    /**
+     * Obtiene dashboard integrado de ambos componentes.
+     * Ambas llamadas se hacen en paralelo; ver {@link #obtenerDashboardIntegradoAsync()}.
+     */
+    public Map<String, Object> obtenerDashboardIntegrado() throws IOException {
+        return obtenerDashboardIntegradoAsync().join();
+    }
+
+    // Variantes asíncronas
+
+    public CompletableFuture<Map<String, Object>> obtenerEstadisticasProyectosAsync() {
+        return enSegundoPlano(this::obtenerEstadisticasProyectos);
+    }
+
+    public CompletableFuture<Map<String, Object>> obtenerProyectoAsync(Long proyectoId) {
+        return enSegundoPlano(() -> obtenerProyecto(proyectoId));
+    }
+
+    public CompletableFuture<Map<String, Object>> obtenerEstadisticasDocumentosAsync() {
+        return enSegundoPlano(this::obtenerEstadisticasDocumentos);
+    }
+
+    /**
+     * Obtiene el dashboard integrado consultando ambos componentes a la vez, cada uno con el
+     * plazo configurado en {@link Builder#plazoDashboard(Duration)}. El resultado nunca falla:
+     * conserva lo que respondió cada componente y, por cada uno que falló, agrega
+     * {@code errorProyectos} o {@code errorDocumentos} además del resumen en {@code error}.
+     * Al vencer el plazo, la solicitud en curso se aborta, de modo que su hilo y su conexión
+     * vuelven de inmediato al executor y al pool.
+     */
+    public CompletableFuture<Map<String, Object>> obtenerDashboardIntegradoAsync() {
+        CompletableFuture<Map<String, Object>> proyectos =
+            conPlazo(this::obtenerEstadisticasProyectos, plazoDashboardMs);
+        CompletableFuture<Map<String, Object>> documentos =
+            conPlazo(this::obtenerEstadisticasDocumentos, plazoDashboardMs);
+
+        return CompletableFuture.allOf(proyectos, documentos).handle((ignorado, fallo) -> {
+            Map<String, Object> dashboard = new HashMap<>();
+            List<String> errores = new ArrayList<>(2);
+            agregarComponente(dashboard, errores, "proyectos", "errorProyectos", proyectos);
+            agregarComponente(dashboard, errores, "documentos", "errorDocumentos", documentos);
+            dashboard.put("timestamp", System.currentTimeMillis());
+            if (!errores.isEmpty()) {
+                dashboard.put("error", "Error al obtener algunas estadísticas: " + String.join("; ", errores));
+            }
+            return dashboard;
+        });
+    }
+
+    private void agregarComponente(Map<String, Object> dashboard, List<String> errores, String clave,
+                                   String claveError, CompletableFuture<Map<String, Object>> futuro) {
+        try {
+            dashboard.put(clave, futuro.join());
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            String mensaje = causa instanceof TimeoutException
+                ? "tiempo de espera agotado (" + plazoDashboardMs + " ms)"
+                : causa.getMessage();
+            dashboard.put(claveError, mensaje);
+            errores.add(clave + ": " + mensaje);
+        }
+    }
+
+    @FunctionalInterface
+    interface LlamadaRemota<T> {
+        T ejecutar() throws IOException;
+    }
+
+    private <T> CompletableFuture<T> enSegundoPlano(LlamadaRemota<T> llamada) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    futuro.complete(llamada.ejecutar());
+                } catch (Throwable e) {
+                    futuro.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            futuro.completeExceptionally(new IOException("Cliente de integración cerrado", e));
+        }
+        return futuro;
+    }
+
+    /**
+     * Ejecuta una llamada en segundo plano con un plazo; al vencer, el futuro falla con
+     * TimeoutException y las solicitudes HTTP de la llamada se abortan.
+     */
+    private <T> CompletableFuture<T> conPlazo(LlamadaRemota<T> llamada, long plazoMs) {
+        AmbitoCancelacion ambito = new AmbitoCancelacion();
+        CompletableFuture<T> futuro = enSegundoPlano(() -> {
+            if (ambito.isCancelado()) {
+                throw new IOException("Llamada cancelada antes de iniciar: plazo vencido");
+            }
+            return ambito.ejecutar(llamada);
+        }).orTimeout(plazoMs, TimeUnit.MILLISECONDS);
+        futuro.whenComplete((valor, error) -> {
+            if (error instanceof TimeoutException) {
+                ambito.cancelar();
+            }
+        });
+        return futuro;
+    }
+
+    private static ExecutorService crearExecutor(int hilos) {
+        AtomicInteger contador = new AtomicInteger();
+        ThreadFactory fabrica = tarea -> {
+            Thread hilo = new Thread(tarea, "integracion-cliente-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+        // Tantos hilos como conexiones: más hilos solo esperarían una conexión libre del pool
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), fabrica);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Cierra la bandeja de salida (esperando las notificaciones pendientes hasta su plazo),
+     * el executor propio, si lo hay, y el cliente HTTP.
+     */
+    public void cerrar() throws IOException {
+        try {
+            if (outbox != null) {
+                outbox.close();
+            }
+        } finally {
+            if (executorPropio != null) {
+                executorPropio.shutdown();
+            }
+            if (httpClient != null) {
+                httpClient.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.logistica.componentec.integration;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistica.componentec.dto.CalculoEmpresarialDTO;
+import com.logistica.componentec.dto.CodecBinario;
+import com.logistica.componentec.dto.CodecDTO;
+import com.logistica.componentec.dto.ErrorResponseDTO;
+import com.logistica.componentec.dto.RespuestaExitosaDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Negociación del formato de los DTO intercambiados entre componentes: el binario de
+ * {@link CodecBinario} cuando la otra parte lo acepta y JSON como respaldo.
+ * <p>
+ * Los DTO son inmutables y no dependen de Jackson; las anotaciones necesarias para leerlos se
+ * agregan como mixins con {@link #registrarMixins(ObjectMapper)}.
+ */
+public final class IntercambioDTO {
+
+    /** Tipo de contenido del formato binario. */
+    public static final String TIPO_BINARIO = "application/vnd.logistica.componentec+binary";
+
+    /** Tipo de contenido JSON. */
+    public static final String TIPO_JSON = "application/json";
+
+    /** Valor de {@code Accept} que prefiere el binario y admite JSON. */
+    public static final String ACEPTAR = TIPO_BINARIO + ", " + TIPO_JSON + ";q=0.5";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper Mapper base; se usa una copia con los mixins registrados
+     */
+    public IntercambioDTO(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("El ObjectMapper no puede ser null");
+        }
+        this.objectMapper = registrarMixins(objectMapper.copy());
+    }
+
+    /**
+     * Registra en el mapper los mixins de {@link CalculoEmpresarialDTO}, {@link ErrorResponseDTO}
+     * y {@link RespuestaExitosaDTO}.
+     *
+     * @return El mismo mapper
+     */
+    public static ObjectMapper registrarMixins(ObjectMapper objectMapper) {
+        return objectMapper
+            .addMixIn(CalculoEmpresarialDTO.class, MixinCalculo.class)
+            .addMixIn(ErrorResponseDTO.class, MixinError.class)
+            .addMixIn(RespuestaExitosaDTO.class, MixinRespuesta.class);
+    }
+
+    /**
+     * Indica si un encabezado {@code Accept} admite el formato binario.
+     */
+    public static boolean aceptaBinario(String aceptar) {
+        return aceptar != null && aceptar.contains(TIPO_BINARIO);
+    }
+
+    /**
+     * Codifica el valor en binario si {@code aceptar} lo admite y en JSON si no.
+     * El tipo de contenido correspondiente lo da {@link #tipoContenido(String)}.
+     */
+    public <T> byte[] codificar(T valor, CodecDTO<T> codec, String aceptar) throws JsonProcessingException {
+        return aceptaBinario(aceptar) ? CodecBinario.codificar(valor, codec) : objectMapper.writeValueAsBytes(valor);
+    }
+
+    /**
+     * Tipo de contenido con el que {@link #codificar(Object, CodecDTO, String)} responde a {@code aceptar}.
+     */
+    public static String tipoContenido(String aceptar) {
+        return aceptaBinario(aceptar) ? TIPO_BINARIO : TIPO_JSON;
+    }
+
+    /**
+     * Decodifica un cuerpo según su tipo de contenido.
+     *
+     * @param tipoContenido Valor de {@code Content-Type}; cualquier otro que no sea el binario se lee como JSON
+     * @throws IOException si el cuerpo no corresponde al tipo esperado
+     */
+    public <T> T decodificar(byte[] cuerpo, String tipoContenido, CodecDTO<T> codec, TypeReference<T> tipo)
+            throws IOException {
+        if (tipoContenido != null && tipoContenido.startsWith(TIPO_BINARIO)) {
+            try {
+                return CodecBinario.decodificar(cuerpo, codec);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Cuerpo binario inválido: " + e.getMessage(), e);
+            }
+        }
+        return objectMapper.readValue(cuerpo, tipo);
+    }
+
+    // Mixins
+
+    private abstract static class MixinCalculo {
+        @JsonCreator
+        MixinCalculo(@JsonProperty("escala") int escala,
+                     @JsonProperty("montoOriginal") long montoOriginal,
+                     @JsonProperty("porcentajeDescuentoPb") long porcentajeDescuentoPb,
+                     @JsonProperty("montoDescuento") long montoDescuento,
+                     @JsonProperty("subtotal") long subtotal,
+                     @JsonProperty("porcentajeIvaPb") long porcentajeIvaPb,
+                     @JsonProperty("montoIva") long montoIva,
+                     @JsonProperty("total") long total) {
+        }
+    }
+
+    private abstract static class MixinError {
+        @JsonCreator
+        MixinError(@JsonProperty("estado") int estado,
+                   @JsonProperty("codigo") String codigo,
+                   @JsonProperty("mensaje") String mensaje,
+                   @JsonProperty("detalles") List<String> detalles,
+                   @JsonProperty("timestamp") long timestamp) {
+        }
+    }
+
+    private abstract static class MixinRespuesta {
+        @JsonCreator
+        MixinRespuesta(@JsonProperty("estado") int estado,
+                       @JsonProperty("mensaje") String mensaje,
+                       @JsonProperty("datos") Object datos,
+                       @JsonProperty("timestamp") long timestamp) {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.logistica.componentec.integration;
+
+/**
+ * Endpoints que invoca {@link IntegracionClient}, para configurar su política de resiliencia.
+ */
+public enum OperacionRemota {
+    /** GET de estadísticas de proyectos del Componente A. */
+    ESTADISTICAS_PROYECTOS(Componente.A, true),
+    /** GET de un proyecto del Componente A, incluida la validación de existencia. */
+    PROYECTO(Componente.A, true),
+    /** GET de estadísticas de documentos del Componente B. */
+    ESTADISTICAS_DOCUMENTOS(Componente.B, true),
+    /** POST de notificación de documento creado al Componente A. */
+    NOTIFICACION(Componente.A, false);
+
+    enum Componente {
+        A("Componente A"),
+        B("Componente B");
+
+        private final String nombre;
+
+        Componente(String nombre) {
+            this.nombre = nombre;
+        }
+
+        String getNombre() { return nombre; }
+    }
+
+    private final Componente componente;
+    private final boolean idempotente;
+
+    OperacionRemota(Componente componente, boolean idempotente) {
+        this.componente = componente;
+        this.idempotente = idempotente;
+    }
+
+    Componente getComponente() { return componente; }
+
+    /** Solo las operaciones idempotentes admiten reintentos y solicitudes de cobertura. */
+    public boolean esIdempotente() { return idempotente; }
+}
@@ -0,0 +1,549 @@
+package com.logistica.componentec.integration;
+
+import com.logistica.componentec.utils.GeneradorIds;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Bandeja de salida de notificaciones respaldada por un journal de solo escritura al final,
+ * mapeado en memoria. Registrar una notificación solo la escribe en el journal; un hilo en
+ * segundo plano las envía por lotes, con un máximo de solicitudes en vuelo, y las reintenta con
+ * espera exponencial hasta recibir una respuesta 2xx (entrega al menos una vez).
+ * <p>
+ * Cada notificación lleva una clave de idempotencia generada con {@link GeneradorIds} y guardada
+ * en el journal, de modo que los reintentos, también tras un reinicio, repiten la misma clave.
+ * La cabecera del journal guarda la última secuencia confirmada; al abrirlo se reenvían las
+ * posteriores.
+ * <p>
+ * El journal es circular y los registros nunca se mueven: al llegar al final se sigue escribiendo
+ * tras la cabecera, en el espacio de los ya confirmados. Compactar solo avanza el puntero de inicio,
+ * que se guarda alternando entre dos ranuras con generación y CRC, y se sincroniza con el disco
+ * antes de reutilizar el espacio liberado; una caída a mitad de la escritura del puntero deja
+ * vigente el anterior, que sigue apuntando a registros intactos. Si no hay espacio contiguo, el
+ * registro espera confirmaciones (contrapresión).
+ * <p>
+ * Formato: cabecera de {@value #CABECERA} bytes (marca, versión, secuencia confirmada y dos ranuras
+ * {@code [generación][secuencia][posición][crc32]} con el primer registro vigente) seguida de
+ * registros {@code [longitud][crc32][secuencia][proyectoId][clave][cuerpo]} de secuencias
+ * consecutivas. La longitud se escribe al final, así un registro a medio escribir termina el
+ * recorrido al abrir el journal; una longitud {@value #VUELTA} marca que el siguiente registro está
+ * tras la cabecera. El tamaño del journal se fija al crearlo.
+ */
+public final class OutboxNotificaciones implements Flushable, Closeable {
+
+    static final int MAGIA = 0x4F42_4E31;
+    static final int VERSION = 2;
+    static final int CABECERA = 64;
+    static final int CABECERA_REGISTRO = 32;
+    static final int PUNTEROS = 16;
+    static final int TAMANIO_PUNTERO = 24;
+    static final int VUELTA = -1;
+
+    private static final int POSICION_CONFIRMADA = 8;
+    private static final long ESPERA_BASE_MS = 100;
+    private static final long ESPERA_MAXIMA_MS = 30_000;
+
+    /**
+     * Envía una notificación y devuelve el código de estado HTTP.
+     */
+    @FunctionalInterface
+    interface Enviador {
+        int enviar(long proyectoId, byte[] cuerpo, String claveIdempotencia) throws IOException;
+    }
+
+    private static final class Notificacion {
+        private final long secuencia;
+        private final long proyectoId;
+        private final long clave;
+        private final byte[] cuerpo;
+        private int intentos;
+
+        Notificacion(long secuencia, long proyectoId, long clave, byte[] cuerpo) {
+            this.secuencia = secuencia;
+            this.proyectoId = proyectoId;
+            this.clave = clave;
+            this.cuerpo = cuerpo;
+        }
+    }
+
+    private final FileChannel canal;
+    private final MappedByteBuffer journal;
+    private final int capacidad;
+    private final int tamanioLote;
+    private final long plazoNanos;
+    private final Enviador enviador;
+    private final Executor executor;
+    private final Semaphore enVuelo;
+    private final BlockingQueue<Notificacion> cola = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService programador;
+    private final Thread remitente;
+
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition confirmacion = cerrojo.newCondition();
+    // Protegidos por cerrojo: {secuencia, posición} de cada registro en el journal, en orden
+    private final ArrayDeque<long[]> registros = new ArrayDeque<>();
+    private final Set<Long> confirmadasFueraDeOrden = new HashSet<>();
+    // Primer registro que puede seguir sin confirmar, según el puntero vigente de la cabecera
+    private int inicio;
+    private int ranura;
+    private long generacion;
+    private int escritura;
+    private long siguienteSecuencia;
+    private long ultimaRegistrada;
+    private long confirmada;
+    private boolean cerrado;
+    private volatile boolean activo = true;
+
+    private final LongAdder enviadas = new LongAdder();
+    private final LongAdder reintentos = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+
+    /**
+     * Abre o crea el journal y reanuda el envío de las notificaciones pendientes.
+     *
+     * @param archivo Archivo del journal
+     * @param capacidad Tamaño del journal en bytes al crearlo; uno existente conserva el suyo
+     * @param tamanioLote Máximo de notificaciones tomadas de la cola por ciclo
+     * @param maximoEnVuelo Máximo de envíos simultáneos
+     * @param plazo Plazo de {@link #flush()}, de {@link #close()} y de espera por espacio al registrar
+     */
+    OutboxNotificaciones(Path archivo, int capacidad, int tamanioLote, int maximoEnVuelo, Duration plazo,
+                         Enviador enviador, Executor executor) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Los registros dan la vuelta en el final del archivo: cambiarlo rompería el recorrido
+            this.capacidad = canal.size() > 0 ? (int) canal.size() : capacidad;
+            this.journal = canal.map(FileChannel.MapMode.READ_WRITE, 0, this.capacidad);
+            recuperar();
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        this.tamanioLote = tamanioLote;
+        this.plazoNanos = plazo.toNanos();
+        this.enviador = enviador;
+        this.executor = executor;
+        this.enVuelo = new Semaphore(maximoEnVuelo);
+        this.programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "outbox-reintentos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.remitente = new Thread(this::despachar, "outbox-remitente");
+        this.remitente.setDaemon(true);
+        this.remitente.start();
+    }
+
+    /**
+     * Lee la cabecera y encola los registros posteriores a la última secuencia confirmada,
+     * recorriendo el journal desde el puntero de inicio vigente.
+     */
+    private void recuperar() throws IOException {
+        int marca = journal.getInt(0);
+        if (marca == 0) {
+            journal.putInt(0, MAGIA);
+            journal.putInt(4, VERSION);
+            journal.putLong(POSICION_CONFIRMADA, 0);
+            escribirPuntero(0, 1, 1, CABECERA);
+        } else if (marca != MAGIA || journal.getInt(4) != VERSION) {
+            throw new IOException("El archivo no es un journal de notificaciones compatible");
+        }
+
+        confirmada = journal.getLong(POSICION_CONFIRMADA);
+        ranura = punteroVigente();
+        if (ranura < 0) {
+            throw new IOException("El journal de notificaciones no tiene un puntero de inicio válido");
+        }
+        int base = PUNTEROS + ranura * TAMANIO_PUNTERO;
+        generacion = journal.getLong(base);
+        long esperada = journal.getLong(base + 8);
+        inicio = journal.getInt(base + 16);
+
+        int posicion = inicio;
+        boolean envuelto = false;
+        while (true) {
+            if (posicion + CABECERA_REGISTRO > capacidad || journal.getInt(posicion) == VUELTA) {
+                if (envuelto || inicio == CABECERA) {
+                    break;
+                }
+                envuelto = true;
+                posicion = CABECERA;
+                continue;
+            }
+            // Dado la vuelta, los registros terminan antes del inicio sin llegar a tocarlo
+            int limite = envuelto ? inicio - 1 : capacidad;
+            int longitud = journal.getInt(posicion);
+            if (longitud < CABECERA_REGISTRO || posicion + longitud > limite
+                    || journal.getInt(posicion + 4) != crc(posicion, longitud)
+                    || journal.getLong(posicion + 8) != esperada) {
+                break;
+            }
+            if (esperada > confirmada) {
+                byte[] cuerpo = new byte[longitud - CABECERA_REGISTRO];
+                journal.get(posicion + CABECERA_REGISTRO, cuerpo);
+                cola.add(new Notificacion(esperada, journal.getLong(posicion + 16), journal.getLong(posicion + 24), cuerpo));
+                registros.addLast(new long[] {esperada, posicion});
+            }
+            esperada++;
+            posicion += longitud;
+        }
+        escritura = posicion;
+        // Restos de un registro incompleto no deben confundirse con registros futuros
+        borrar(escritura, Math.min(envuelto ? inicio : capacidad, escritura + CABECERA_REGISTRO));
+        siguienteSecuencia = Math.max(esperada, confirmada + 1);
+        ultimaRegistrada = siguienteSecuencia - 1;
+    }
+
+    /**
+     * Elige la ranura válida de mayor generación, o -1 si ninguna lo es.
+     */
+    private int punteroVigente() {
+        int vigente = -1;
+        long mayor = 0;
+        for (int i = 0; i < 2; i++) {
+            int base = PUNTEROS + i * TAMANIO_PUNTERO;
+            long generacionRanura = journal.getLong(base);
+            int posicion = journal.getInt(base + 16);
+            if (generacionRanura > mayor && posicion >= CABECERA && posicion < capacidad
+                    && journal.getInt(base + 20) == crcDe(base, base + 20)) {
+                vigente = i;
+                mayor = generacionRanura;
+            }
+        }
+        return vigente;
+    }
+
+    private void escribirPuntero(int indice, long generacionNueva, long secuencia, int posicion) {
+        int base = PUNTEROS + indice * TAMANIO_PUNTERO;
+        journal.putLong(base, generacionNueva);
+        journal.putLong(base + 8, secuencia);
+        journal.putInt(base + 16, posicion);
+        journal.putInt(base + 20, crcDe(base, base + 20));
+    }
+
+    /**
+     * Registra una notificación para envío asíncrono. Vuelve en cuanto está escrita en el journal.
+     *
+     * @throws IOException si el journal está cerrado o sigue lleno tras el plazo configurado
+     */
+    public void registrar(long proyectoId, byte[] cuerpo) throws IOException {
+        int longitud = CABECERA_REGISTRO + cuerpo.length;
+        if (longitud > capacidad - CABECERA) {
+            throw new IllegalArgumentException("La notificación no cabe en el journal");
+        }
+
+        Notificacion notificacion;
+        cerrojo.lock();
+        try {
+            if (cerrado) {
+                throw new IOException("La bandeja de notificaciones está cerrada");
+            }
+            int posicion = reservar(longitud);
+            if (posicion != escritura && escritura + CABECERA_REGISTRO <= capacidad) {
+                journal.putInt(escritura, VUELTA);
+            }
+            long secuencia = siguienteSecuencia++;
+            long clave = GeneradorIds.predeterminado().siguiente();
+            journal.putLong(posicion + 8, secuencia);
+            journal.putLong(posicion + 16, proyectoId);
+            journal.putLong(posicion + 24, clave);
+            journal.put(posicion + CABECERA_REGISTRO, cuerpo);
+            journal.putInt(posicion + 4, crc(posicion, longitud));
+            journal.putInt(posicion, longitud);
+            escritura = posicion + longitud;
+            registros.addLast(new long[] {secuencia, posicion});
+            ultimaRegistrada = secuencia;
+            notificacion = new Notificacion(secuencia, proyectoId, clave, cuerpo);
+        } finally {
+            cerrojo.unlock();
+        }
+        cola.add(notificacion);
+    }
+
+    /**
+     * Obtiene la posición del siguiente registro, compactando o esperando confirmaciones si no
+     * hay espacio. Se llama con el cerrojo tomado.
+     */
+    private int reservar(int longitud) throws IOException {
+        long restante = plazoNanos;
+        while (true) {
+            int posicion = posicionLibre(longitud);
+            if (posicion < 0) {
+                compactar();
+                posicion = posicionLibre(longitud);
+            }
+            if (posicion >= 0) {
+                return posicion;
+            }
+            if (restante <= 0) {
+                throw new IOException("Journal de notificaciones lleno: " + pendientes() + " pendientes");
+            }
+            try {
+                restante = confirmacion.awaitNanos(restante);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrumpido esperando espacio en el journal", e);
+            }
+        }
+    }
+
+    /**
+     * Posición donde cabe un registro sin pisar los vigentes, o -1. Dado la vuelta, la escritura
+     * nunca alcanza el inicio, así escritura == inicio siempre significa journal vacío.
+     */
+    private int posicionLibre(int longitud) {
+        if (escritura < inicio) {
+            return escritura + longitud < inicio ? escritura : -1;
+        }
+        if (escritura + longitud <= capacidad) {
+            return escritura;
+        }
+        return CABECERA + longitud < inicio ? CABECERA : -1;
+    }
+
+    /**
+     * Avanza el puntero de inicio hasta el primer registro sin confirmar, o lo devuelve tras la
+     * cabecera si no queda ninguno. Se llama con el cerrojo tomado.
+     */
+    private void compactar() {
+        while (!registros.isEmpty() && registros.peekFirst()[0] <= confirmada) {
+            registros.pollFirst();
+        }
+        long[] primero = registros.peekFirst();
+        int nuevoInicio = primero != null ? (int) primero[1] : CABECERA;
+        if (nuevoInicio == inicio && (primero != null || escritura == CABECERA)) {
+            return;
+        }
+
+        int nuevaRanura = 1 - ranura;
+        escribirPuntero(nuevaRanura, generacion + 1, primero != null ? primero[0] : siguienteSecuencia, nuevoInicio);
+        // El puntero debe llegar al disco antes de escribir sobre los registros que deja atrás
+        journal.force(0, CABECERA);
+        ranura = nuevaRanura;
+        generacion++;
+        inicio = nuevoInicio;
+        if (primero == null) {
+            escritura = CABECERA;
+        }
+    }
+
+    private void borrar(int desde, int hasta) {
+        for (int posicion = desde; posicion < hasta; posicion++) {
+            journal.put(posicion, (byte) 0);
+        }
+    }
+
+    private int crc(int inicio, int longitud) {
+        return crcDe(inicio + 8, inicio + longitud);
+    }
+
+    private int crcDe(int desde, int hasta) {
+        CRC32 crc = new CRC32();
+        ByteBuffer vista = journal.duplicate();
+        vista.position(desde).limit(hasta);
+        crc.update(vista);
+        return (int) crc.getValue();
+    }
+
+    // Envío
+
+    private void despachar() {
+        List<Notificacion> lote = new ArrayList<>(tamanioLote);
+        while (activo) {
+            try {
+                Notificacion primera = cola.poll(100, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                cola.drainTo(lote, tamanioLote - 1);
+                for (Notificacion notificacion : lote) {
+                    enVuelo.acquire();
+                    try {
+                        executor.execute(() -> enviar(notificacion));
+                    } catch (RejectedExecutionException e) {
+                        enVuelo.release();
+                        programarReintento(notificacion);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // close() interrumpe al remitente; lo no enviado sigue en el journal
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void enviar(Notificacion notificacion) {
+        try {
+            int estado = enviador.enviar(notificacion.proyectoId, notificacion.cuerpo,
+                GeneradorIds.aBase32(notificacion.clave));
+            if (estado >= 200 && estado < 300) {
+                enviadas.increment();
+                confirmar(notificacion.secuencia);
+            } else if (RespuestaHttpException.esTransitorio(estado)) {
+                programarReintento(notificacion);
+            } else {
+                // Un rechazo del cliente no se resolverá reintentando
+                descartadas.increment();
+                confirmar(notificacion.secuencia);
+            }
+        } catch (IOException | RuntimeException e) {
+            programarReintento(notificacion);
+        } finally {
+            enVuelo.release();
+        }
+    }
+
+    private void programarReintento(Notificacion notificacion) {
+        reintentos.increment();
+        int intentos = ++notificacion.intentos;
+        long espera = Math.min(ESPERA_MAXIMA_MS, ESPERA_BASE_MS << Math.min(intentos - 1, 16));
+        espera = ThreadLocalRandom.current().nextLong(espera / 2, espera + 1);
+        try {
+            programador.schedule(() -> {
+                cola.add(notificacion);
+            }, espera, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Cerrando: la notificación sigue en el journal y se reenviará al reabrirlo
+        }
+    }
+
+    private void confirmar(long secuencia) {
+        cerrojo.lock();
+        try {
+            if (secuencia != confirmada + 1) {
+                confirmadasFueraDeOrden.add(secuencia);
+                return;
+            }
+            confirmada = secuencia;
+            while (confirmadasFueraDeOrden.remove(confirmada + 1)) {
+                confirmada++;
+            }
+            journal.putLong(POSICION_CONFIRMADA, confirmada);
+            confirmacion.signalAll();
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    // Vaciado y cierre
+
+    /**
+     * Espera a que se confirmen todas las notificaciones registradas hasta ahora y sincroniza
+     * el journal con el disco.
+     *
+     * @return false si venció el plazo con notificaciones pendientes
+     */
+    public boolean flush(Duration plazo) throws IOException {
+        cerrojo.lock();
+        try {
+            long objetivo = ultimaRegistrada;
+            long restante = plazo.toNanos();
+            while (confirmada < objetivo) {
+                if (restante <= 0) {
+                    return false;
+                }
+                restante = confirmacion.awaitNanos(restante);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrumpido esperando confirmaciones", e);
+        } finally {
+            cerrojo.unlock();
+        }
+        journal.force();
+        return true;
+    }
+
+    /**
+     * Espera, hasta el plazo configurado, a que se confirmen todas las notificaciones registradas.
+     *
+     * @throws IOException si vence el plazo con notificaciones pendientes
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!flush(Duration.ofNanos(plazoNanos))) {
+            throw new IOException("Quedan " + pendientes() + " notificaciones sin confirmar");
+        }
+    }
+
+    /**
+     * Deja de aceptar notificaciones, espera las pendientes hasta el plazo configurado y libera
+     * el journal. Lo que no se confirmó a tiempo se reenvía la próxima vez que se abra.
+     */
+    @Override
+    public void close() throws IOException {
+        cerrojo.lock();
+        try {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+        } finally {
+            cerrojo.unlock();
+        }
+        try {
+            flush(Duration.ofNanos(plazoNanos));
+        } finally {
+            activo = false;
+            remitente.interrupt();
+            try {
+                remitente.join(TimeUnit.NANOSECONDS.toMillis(plazoNanos) + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            programador.shutdownNow();
+            cerrojo.lock();
+            try {
+                journal.force();
+            } finally {
+                cerrojo.unlock();
+            }
+            canal.close();
+        }
+    }
+
+    /** Notificaciones registradas que aún no se confirman. */
+    public long pendientes() {
+        cerrojo.lock();
+        try {
+            return ultimaRegistrada - confirmada;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    public long getEnviadas() { return enviadas.sum(); }
+    public long getReintentos() { return reintentos.sum(); }
+
+    /** Notificaciones rechazadas por el componente con un 4xx definitivo y no reintentadas. */
+    public long getDescartadas() { return descartadas.sum(); }
+}
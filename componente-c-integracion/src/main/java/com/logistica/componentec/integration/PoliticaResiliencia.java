@@ -0,0 +1,88 @@
+package com.logistica.componentec.integration;
+
+import java.time.Duration;
+
+/**
+ * Reintentos y solicitudes de cobertura de un endpoint de {@link IntegracionClient}.
+ * <p>
+ * Los reintentos se hacen solo ante fallos transitorios (red, tiempo agotado, 408, 429, 5xx),
+ * con espera exponencial y siempre que el presupuesto de reintentos del componente lo permita.
+ * La cobertura lanza una segunda solicitud idéntica si la primera tarda más que el percentil 95
+ * de las latencias recientes del endpoint, y se queda con la primera respuesta.
+ */
+public final class PoliticaResiliencia {
+
+    /** Sin reintentos ni cobertura. */
+    public static final PoliticaResiliencia PREDETERMINADA = builder().build();
+
+    private final int reintentos;
+    private final Duration esperaReintento;
+    private final Duration retrasoMinimoCobertura;
+
+    private PoliticaResiliencia(Builder builder) {
+        this.reintentos = builder.reintentos;
+        this.esperaReintento = builder.esperaReintento;
+        this.retrasoMinimoCobertura = builder.retrasoMinimoCobertura;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getReintentos() { return reintentos; }
+    public Duration getEsperaReintento() { return esperaReintento; }
+
+    /** Retraso mínimo antes de la solicitud de cobertura, o null si la cobertura está desactivada. */
+    public Duration getRetrasoMinimoCobertura() { return retrasoMinimoCobertura; }
+
+    public boolean tieneCobertura() { return retrasoMinimoCobertura != null; }
+
+    public static final class Builder {
+        private int reintentos;
+        private Duration esperaReintento = Duration.ofMillis(50);
+        private Duration retrasoMinimoCobertura;
+
+        private Builder() {
+        }
+
+        /** Reintentos como máximo por llamada (por defecto 0). */
+        public Builder reintentos(int reintentos) {
+            if (reintentos < 0) {
+                throw new IllegalArgumentException("Los reintentos no pueden ser negativos");
+            }
+            this.reintentos = reintentos;
+            return this;
+        }
+
+        /** Espera antes del primer reintento; se duplica en cada uno (por defecto 50 ms). */
+        public Builder esperaReintento(Duration espera) {
+            if (espera == null || espera.isNegative()) {
+                throw new IllegalArgumentException("La espera entre reintentos no puede ser negativa");
+            }
+            this.esperaReintento = espera;
+            return this;
+        }
+
+        /**
+         * Activa las solicitudes de cobertura. La segunda solicitud sale tras el percentil 95 de
+         * latencia del endpoint, pero nunca antes del retraso mínimo indicado.
+         */
+        public Builder cobertura(Duration retrasoMinimo) {
+            if (retrasoMinimo == null || retrasoMinimo.isNegative() || retrasoMinimo.isZero()) {
+                throw new IllegalArgumentException("El retraso mínimo de cobertura debe ser positivo");
+            }
+            this.retrasoMinimoCobertura = retrasoMinimo;
+            return this;
+        }
+
+        public PoliticaResiliencia build() {
+            return new PoliticaResiliencia(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PoliticaResiliencia{reintentos=" + reintentos + ", esperaReintento=" + esperaReintento
+            + ", retrasoMinimoCobertura=" + retrasoMinimoCobertura + "}";
+    }
+}
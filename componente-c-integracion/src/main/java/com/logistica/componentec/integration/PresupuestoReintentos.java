@@ -0,0 +1,91 @@
+package com.logistica.componentec.integration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cubeta de fichas que limita los reintentos a una proporción del tráfico: cada llamada deposita
+ * {@code proporcion} fichas y cada reintento (o solicitud de cobertura) retira una. Además se
+ * recargan {@code minimoPorSegundo} fichas por segundo para que un tráfico bajo pueda reintentar.
+ * <p>
+ * Durante una caída, el saldo se agota y las llamadas fallan sin multiplicar la carga del
+ * componente. Las fichas se guardan en milésimas para operar con un solo {@link AtomicLong}.
+ */
+final class PresupuestoReintentos {
+
+    private static final long UNIDAD = 1000;
+
+    private final long deposito;
+    private final long recargaPorSegundo;
+    private final long maximo;
+    // Tiempo que tarda la recarga mínima en llenar el saldo; no se cobra más que eso
+    private final long llenadoNanos;
+    private final AtomicLong fichas;
+    private final AtomicLong ultimaRecarga;
+
+    PresupuestoReintentos(double proporcion, int minimoPorSegundo) {
+        this(proporcion, minimoPorSegundo, System.nanoTime());
+    }
+
+    /**
+     * @param ultimaRecarga Instante de {@link System#nanoTime()} desde el que se cuenta la recarga
+     */
+    PresupuestoReintentos(double proporcion, int minimoPorSegundo, long ultimaRecarga) {
+        this.deposito = Math.round(proporcion * UNIDAD);
+        this.recargaPorSegundo = minimoPorSegundo * UNIDAD;
+        // El saldo no pasa de diez segundos de recarga mínima (y al menos diez reintentos)
+        this.maximo = UNIDAD * Math.max(10, 10L * minimoPorSegundo);
+        this.llenadoNanos = recargaPorSegundo == 0 ? 0
+            : (maximo + recargaPorSegundo - 1) / recargaPorSegundo * 1_000_000_000L;
+        this.fichas = new AtomicLong(recargaPorSegundo);
+        this.ultimaRecarga = new AtomicLong(ultimaRecarga);
+    }
+
+    /** Registra una llamada original. */
+    void depositar() {
+        if (deposito > 0) {
+            acumular(deposito);
+        }
+    }
+
+    /**
+     * Intenta pagar un reintento.
+     *
+     * @return false si no quedan fichas
+     */
+    boolean retirar() {
+        recargar();
+        long actual;
+        do {
+            actual = fichas.get();
+            if (actual < UNIDAD) {
+                return false;
+            }
+        } while (!fichas.compareAndSet(actual, actual - UNIDAD));
+        return true;
+    }
+
+    /** Reintentos disponibles ahora mismo. */
+    long disponibles() {
+        recargar();
+        return fichas.get() / UNIDAD;
+    }
+
+    private void recargar() {
+        if (recargaPorSegundo == 0) {
+            return;
+        }
+        long ahora = System.nanoTime();
+        long anterior = ultimaRecarga.get();
+        // Sin acotar, el producto desborda tras unos días sin reintentos y la recarga se detiene
+        long transcurrido = Math.min(ahora - anterior, llenadoNanos);
+        long recarga = recargaPorSegundo * transcurrido / 1_000_000_000L;
+        // Solo un hilo cobra cada intervalo transcurrido
+        if (recarga > 0 && ultimaRecarga.compareAndSet(anterior, ahora)) {
+            acumular(recarga);
+        }
+    }
+
+    private void acumular(long cantidad) {
+        fichas.accumulateAndGet(cantidad, (actual, suma) -> Math.min(maximo, actual + suma));
+    }
+}
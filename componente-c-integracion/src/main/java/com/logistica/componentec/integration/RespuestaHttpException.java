@@ -0,0 +1,33 @@
+package com.logistica.componentec.integration;
+
+import java.io.IOException;
+
+/**
+ * Respuesta de un componente con un código de estado inesperado.
+ */
+public class RespuestaHttpException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int codigo;
+
+    public RespuestaHttpException(String mensaje, int codigo) {
+        super(mensaje);
+        this.codigo = codigo;
+    }
+
+    public int getCodigo() { return codigo; }
+
+    /** Indica si el error puede resolverse reintentando; ver {@link #esTransitorio(int)}. */
+    public boolean esTransitoria() {
+        return esTransitorio(codigo);
+    }
+
+    /**
+     * Indica si un código de estado refleja un problema pasajero del servidor (408, 429 o 5xx)
+     * y no un rechazo de la solicitud.
+     */
+    public static boolean esTransitorio(int codigo) {
+        return codigo == 408 || codigo == 429 || codigo >= 500;
+    }
+}
@@ -0,0 +1,124 @@
+package com.logistica.componentec.integration;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verificación de existencia por identificador con consultas agrupadas (single-flight) y una
+ * caché LRU opcional de resultados positivos y negativos con expiración independiente.
+ * <p>
+ * Mientras hay una consulta en curso para un identificador, las demás consultas del mismo
+ * identificador esperan su resultado en lugar de ir a la red.
+ */
+final class VerificadorExistencia {
+
+    @FunctionalInterface
+    interface Consulta {
+        boolean existe(Long id) throws IOException;
+    }
+
+    private static final class Entrada {
+        private final boolean existe;
+        private final long vence;
+
+        Entrada(boolean existe, long vence) {
+            this.existe = existe;
+            this.vence = vence;
+        }
+    }
+
+    private final long ttlPositivoNanos;
+    private final long ttlNegativoNanos;
+    private final int maximoEntradas;
+    private final Map<Long, Entrada> entradas;
+    private final ConcurrentHashMap<Long, CompletableFuture<Boolean>> enCurso = new ConcurrentHashMap<>();
+
+    /**
+     * @param maximoEntradas Máximo de resultados en caché; 0 para solo agrupar consultas
+     */
+    VerificadorExistencia(long ttlPositivoNanos, long ttlNegativoNanos, int maximoEntradas) {
+        this.ttlPositivoNanos = ttlPositivoNanos;
+        this.ttlNegativoNanos = ttlNegativoNanos;
+        this.maximoEntradas = maximoEntradas;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entrada> mayor) {
+                return size() > VerificadorExistencia.this.maximoEntradas;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el resultado vigente en caché, o null si no hay uno.
+     */
+    Boolean enCache(Long id) {
+        if (maximoEntradas == 0) {
+            return null;
+        }
+        Entrada entrada;
+        synchronized (entradas) {
+            entrada = entradas.get(id);
+        }
+        return entrada != null && System.nanoTime() - entrada.vence < 0 ? entrada.existe : null;
+    }
+
+    boolean existe(Long id, Consulta consulta) throws IOException {
+        Boolean conocido = enCache(id);
+        if (conocido != null) {
+            return conocido;
+        }
+
+        CompletableFuture<Boolean> propio = new CompletableFuture<>();
+        CompletableFuture<Boolean> existente = enCurso.putIfAbsent(id, propio);
+        if (existente != null) {
+            return esperar(existente);
+        }
+        try {
+            // Otra consulta pudo terminar entre la lectura de la caché y la reserva del id
+            Boolean reciente = enCache(id);
+            if (reciente != null) {
+                propio.complete(reciente);
+                return reciente;
+            }
+            boolean existe = consulta.existe(id);
+            // Se guarda antes de retirar la consulta en curso para no dejar un hueco sin resultado
+            guardar(id, existe);
+            propio.complete(existe);
+            return existe;
+        } catch (IOException | RuntimeException e) {
+            propio.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(id, propio);
+        }
+    }
+
+    private void guardar(Long id, boolean existe) {
+        if (maximoEntradas == 0) {
+            return;
+        }
+        long vence = System.nanoTime() + (existe ? ttlPositivoNanos : ttlNegativoNanos);
+        synchronized (entradas) {
+            entradas.put(id, new Entrada(existe, vence));
+        }
+    }
+
+    private static boolean esperar(CompletableFuture<Boolean> futuro) throws IOException {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException) {
+                throw new IOException(causa.getMessage(), causa);
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Cliente HTTP de Componente C hacia los Componentes A y B, sobre Apache HttpClient 5 y Jackson.
+ */
+module com.logistica.componentec.integracion {
+    requires transitive com.logistica.componentec.core;
+    requires transitive com.fasterxml.jackson.databind;
+    requires org.apache.httpcomponents.core5.httpcore5;
+    requires org.apache.httpcomponents.client5.httpclient5;
+
+    exports com.logistica.componentec.integration;
+
+    // Jackson lee las anotaciones de los mixins privados de IntercambioDTO
+    opens com.logistica.componentec.integration to com.fasterxml.jackson.databind;
+}
@@ -0,0 +1,178 @@
+package com.logistica.componentec.integration;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CacheRespuestasTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testAciertoDentroDelTtl() throws IOException {
+        CacheRespuestas cache = new CacheRespuestas(10_000 * MS, 0, 10, Runnable::run);
+        AtomicInteger cargas = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("v1", cache.<String>obtener("a", etag -> CacheRespuestas.Respuesta.nueva("v" + cargas.incrementAndGet(), null)));
+        }
+        EstadisticasCache estadisticas = cache.estadisticas();
+        assertEquals(1, cargas.get());
+        assertEquals(1, estadisticas.getFallos());
+        assertEquals(4, estadisticas.getAciertos());
+        assertEquals(1, estadisticas.getEntradas());
+    }
+
+    @Test
+    void testObsoletoSeSirveMientrasSeRevalidaConEtag() throws Exception {
+        List<Runnable> pendientes = new ArrayList<>();
+        CacheRespuestas cache = new CacheRespuestas(MS, 10_000 * MS, 10, pendientes::add);
+        List<String> etagsRecibidos = new ArrayList<>();
+        CacheRespuestas.Cargador cargador = etag -> {
+            etagsRecibidos.add(etag);
+            return etag == null ? CacheRespuestas.Respuesta.nueva("cuerpo", "\"e1\"") : CacheRespuestas.Respuesta.noModificada();
+        };
+
+        assertEquals("cuerpo", cache.obtener("a", cargador));
+        Thread.sleep(5);
+
+        // Vencida: se sirve el valor y se programa una sola revalidación
+        assertEquals("cuerpo", cache.obtener("a", cargador));
+        assertEquals("cuerpo", cache.obtener("a", cargador));
+        assertEquals(1, pendientes.size());
+        pendientes.get(0).run();
+
+        assertEquals(Arrays.asList(null, "\"e1\""), etagsRecibidos);
+        EstadisticasCache estadisticas = cache.estadisticas();
+        assertEquals(2, estadisticas.getAciertosObsoletos());
+        assertEquals(1, estadisticas.getRevalidaciones());
+        assertEquals(1, estadisticas.getNoModificadas());
+    }
+
+    @Test
+    void testFueraDelPeriodoObsoletoCargaSincrona() throws Exception {
+        CacheRespuestas cache = new CacheRespuestas(MS, 0, 10, Runnable::run);
+        AtomicInteger cargas = new AtomicInteger();
+        CacheRespuestas.Cargador cargador = etag -> CacheRespuestas.Respuesta.nueva(cargas.incrementAndGet(), null);
+
+        assertEquals(1, (int) cache.obtener("a", cargador));
+        Thread.sleep(5);
+        assertEquals(2, (int) cache.obtener("a", cargador));
+        assertEquals(2, cache.estadisticas().getFallos());
+    }
+
+    @Test
+    void testRevalidacionFallidaConservaValor() throws Exception {
+        CacheRespuestas cache = new CacheRespuestas(MS, 10_000 * MS, 10, Runnable::run);
+        assertEquals("v", cache.obtener("a", etag -> CacheRespuestas.Respuesta.nueva("v", null)));
+        Thread.sleep(5);
+
+        CacheRespuestas.Cargador fallido = etag -> {
+            throw new IOException("caído");
+        };
+        assertEquals("v", cache.obtener("a", fallido));
+        assertEquals("v", cache.obtener("a", fallido));
+        assertEquals(2, cache.estadisticas().getRevalidaciones());
+    }
+
+    @Test
+    void testLruDescartaMenosUsada() throws IOException {
+        CacheRespuestas cache = new CacheRespuestas(10_000 * MS, 0, 2, Runnable::run);
+        AtomicInteger cargas = new AtomicInteger();
+        CacheRespuestas.Cargador cargador = etag -> CacheRespuestas.Respuesta.nueva(cargas.incrementAndGet(), null);
+
+        cache.obtener("a", cargador);
+        cache.obtener("b", cargador);
+        cache.obtener("a", cargador);
+        cache.obtener("c", cargador);
+        assertEquals(3, cargas.get());
+
+        cache.obtener("a", cargador);
+        assertEquals(3, cargas.get());
+        cache.obtener("b", cargador);
+        assertEquals(4, cargas.get());
+        assertEquals(2, cache.estadisticas().getEntradas());
+    }
+
+    @Test
+    void testCargasSimultaneasSeAgrupan() throws Exception {
+        CacheRespuestas cache = new CacheRespuestas(MS, 0, 10, Runnable::run);
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        CacheRespuestas.Cargador lento = etag -> {
+            int n = cargas.incrementAndGet();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CacheRespuestas.Respuesta.nueva(n, null);
+        };
+
+        ExecutorService hilos = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                resultados.add(hilos.submit(() -> cache.<Integer>obtener("a", lento)));
+            }
+            Thread.sleep(200);
+            liberar.countDown();
+            for (Future<Integer> resultado : resultados) {
+                assertEquals(1, (int) resultado.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, cargas.get());
+
+            // Vencida y sin período obsoleto, la siguiente lectura vuelve a cargar
+            Thread.sleep(5);
+            assertEquals(2, (int) cache.<Integer>obtener("a", lento));
+        } finally {
+            hilos.shutdownNow();
+        }
+    }
+
+    @Test
+    void testErrorDeCargaAgrupadaLlegaATodos() throws Exception {
+        CacheRespuestas cache = new CacheRespuestas(10_000 * MS, 0, 10, Runnable::run);
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        CacheRespuestas.Cargador fallido = etag -> {
+            cargas.incrementAndGet();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("caído");
+        };
+
+        ExecutorService hilos = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> resultados = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                resultados.add(hilos.submit(() -> cache.obtener("a", fallido)));
+            }
+            Thread.sleep(200);
+            liberar.countDown();
+            for (Future<Object> resultado : resultados) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> resultado.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IOException.class, e.getCause());
+            }
+            assertEquals(1, cargas.get());
+            assertEquals(0, cache.estadisticas().getEntradas());
+        } finally {
+            hilos.shutdownNow();
+        }
+    }
+}
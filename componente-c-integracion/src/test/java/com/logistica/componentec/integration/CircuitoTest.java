@@ -0,0 +1,109 @@
+package com.logistica.componentec.integration;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+class CircuitoTest {
+
+    private static final long ABIERTO_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testNoSeAbreAntesDeLlenarLaVentana() throws Exception {
+        Circuito circuito = new Circuito("Componente A", 0.5, 4, ABIERTO_NANOS);
+        for (int i = 0; i < 3; i++) {
+            assertFalse(circuito.permitir());
+            circuito.registrar(false, false);
+        }
+        assertEquals(EstadoCircuito.CERRADO, circuito.getEstado());
+        circuito.registrar(true, false);
+        // 3 fallos de 4 superan el 50 %
+        assertEquals(EstadoCircuito.ABIERTO, circuito.getEstado());
+        assertThrows(CircuitoAbiertoException.class, circuito::permitir);
+    }
+
+    @Test
+    void testVentanaDeslizanteOlvidaFallosAntiguos() throws Exception {
+        Circuito circuito = new Circuito("Componente A", 0.5, 4, ABIERTO_NANOS);
+        circuito.registrar(false, false);
+        for (int i = 0; i < 10; i++) {
+            circuito.registrar(true, false);
+        }
+        circuito.registrar(false, false);
+        assertEquals(EstadoCircuito.CERRADO, circuito.getEstado());
+        circuito.registrar(false, false);
+        assertEquals(EstadoCircuito.ABIERTO, circuito.getEstado());
+    }
+
+    @Test
+    void testSemiabiertoAdmiteUnaSolaPrueba() throws Exception {
+        Circuito circuito = new Circuito("Componente B", 1.0, 1, ABIERTO_NANOS);
+        circuito.registrar(false, false);
+        CircuitoAbiertoException e = assertThrows(CircuitoAbiertoException.class, circuito::permitir);
+        assertTrue(e.getMessage().contains("Componente B"));
+
+        Thread.sleep(120);
+        assertEquals(EstadoCircuito.SEMIABIERTO, circuito.getEstado());
+        assertTrue(circuito.permitir());
+        assertEquals(0, assertThrows(CircuitoAbiertoException.class, circuito::permitir).getReintentarEnMs());
+
+        // Una llamada anterior a la apertura no decide el estado
+        circuito.registrar(true, false);
+        assertEquals(EstadoCircuito.SEMIABIERTO, circuito.getEstado());
+
+        circuito.registrar(false, true);
+        assertEquals(EstadoCircuito.ABIERTO, circuito.getEstado());
+        Thread.sleep(120);
+        assertTrue(circuito.permitir());
+        circuito.registrar(true, true);
+        assertEquals(EstadoCircuito.CERRADO, circuito.getEstado());
+        assertFalse(circuito.permitir());
+    }
+
+    @Test
+    void testPresupuestoProporcionalAlTrafico() {
+        PresupuestoReintentos presupuesto = new PresupuestoReintentos(0.2, 0);
+        assertFalse(presupuesto.retirar());
+        for (int i = 0; i < 10; i++) {
+            presupuesto.depositar();
+        }
+        assertEquals(2, presupuesto.disponibles());
+        assertTrue(presupuesto.retirar());
+        assertTrue(presupuesto.retirar());
+        assertFalse(presupuesto.retirar());
+
+        // El saldo tiene tope: una racha larga de éxitos no habilita una tormenta de reintentos
+        for (int i = 0; i < 10_000; i++) {
+            presupuesto.depositar();
+        }
+        assertEquals(10, presupuesto.disponibles());
+    }
+
+    @Test
+    void testPresupuestoRecargaMinimoPorSegundo() throws Exception {
+        PresupuestoReintentos presupuesto = new PresupuestoReintentos(0, 20);
+        assertEquals(20, presupuesto.disponibles());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(presupuesto.retirar());
+        }
+        assertFalse(presupuesto.retirar());
+        Thread.sleep(120);
+        assertTrue(presupuesto.retirar());
+    }
+
+    @Test
+    void testPercentilDeLatencia() {
+        EstimadorLatencia estimador = new EstimadorLatencia(0.95);
+        for (int i = 1; i < EstimadorLatencia.MINIMO_MUESTRAS; i++) {
+            estimador.registrar(i);
+        }
+        assertEquals(-1, estimador.percentil());
+        estimador.registrar(EstimadorLatencia.MINIMO_MUESTRAS);
+        assertEquals(19, estimador.percentil());
+        for (int i = 0; i < EstimadorLatencia.MUESTRAS; i++) {
+            estimador.registrar(i < 100 ? 1_000 : 50_000);
+        }
+        assertEquals(50_000, estimador.percentil());
+    }
+}
@@ -0,0 +1,512 @@
+package com.logistica.componentec.integration;
+
+import com.logistica.componentec.dto.EstadisticasDocumentosDTO;
+import com.logistica.componentec.dto.EstadisticasProyectosDTO;
+import com.logistica.componentec.dto.ProyectoDTO;
+import com.logistica.componentec.metricas.MetricasEndpoint;
+import com.logistica.componentec.metricas.RegistroMetricas;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IntegracionClientTest {
+
+    private HttpServer servidor;
+    private String baseUrl;
+    private final CountDownLatch enCurso = new CountDownLatch(4);
+    private final AtomicInteger solicitudesEtag = new AtomicInteger();
+    private final AtomicInteger respuestasCompletas = new AtomicInteger();
+    private final AtomicInteger consultasProyecto = new AtomicInteger();
+    private final AtomicInteger consultasSimultaneas = new AtomicInteger();
+    private final AtomicInteger maximoSimultaneas = new AtomicInteger();
+    private final Map<String, String> notificaciones = new java.util.concurrent.ConcurrentHashMap<>();
+    private final AtomicBoolean fallando = new AtomicBoolean();
+    private final AtomicInteger solicitudesInestables = new AtomicInteger();
+    private final AtomicBoolean retenerSiguiente = new AtomicBoolean();
+    private final AtomicInteger solicitudesCobertura = new AtomicInteger();
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.createContext("/api/documentos/estadisticas", intercambio -> {
+            pausar(300);
+            responder(intercambio, 200, "{\"totalDocumentos\":5}");
+        });
+        servidor.createContext("/b-caido/documentos/estadisticas", intercambio -> responder(intercambio, 503, ""));
+        servidor.createContext("/b-lento/documentos/estadisticas", intercambio -> {
+            pausar(3_000);
+            responder(intercambio, 200, "{}");
+        });
+        servidor.createContext("/a-lento/proyectos/estadisticas", intercambio -> {
+            pausar(300);
+            responder(intercambio, 200, "{\"totalProyectos\":3}");
+        });
+        servidor.createContext("/api/proyectos/estadisticas", intercambio -> {
+            // Retiene cada respuesta hasta que 4 solicitudes estén en curso a la vez
+            enCurso.countDown();
+            try {
+                enCurso.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responder(intercambio, 200, "{\"totalProyectos\":3}");
+        });
+        servidor.createContext("/api/proyectos/7", intercambio -> responder(intercambio, 200,
+            "{\"id\":7,\"codigo\":\"PR-001234\",\"nombre\":\"Ampliación Muñoz\",\"estado\":\"ACTIVO\","
+                + "\"montoPresupuesto\":1500.25,\"campoNuevo\":{\"a\":[1,2]}}"));
+        servidor.createContext("/tipado/proyectos/estadisticas", intercambio -> responder(intercambio, 200,
+            "{\"totalProyectos\":3,\"proyectosActivos\":2,\"montoTotal\":3752.25,"
+                + "\"proyectosPorEstado\":{\"ACTIVO\":2,\"CERRADO\":1},\"otro\":true}"));
+        servidor.createContext("/tipado/documentos/estadisticas", intercambio -> responder(intercambio, 200,
+            "{\"totalDocumentos\":5,\"documentosPendientes\":1,\"documentosPorTipo\":{\"FACTURA\":5}}"));
+        servidor.createContext("/etag/proyectos/estadisticas", intercambio -> {
+            solicitudesEtag.incrementAndGet();
+            if ("\"v1\"".equals(intercambio.getRequestHeaders().getFirst("If-None-Match"))) {
+                responder(intercambio, 304, "");
+                return;
+            }
+            respuestasCompletas.incrementAndGet();
+            intercambio.getResponseHeaders().set("ETag", "\"v1\"");
+            responder(intercambio, 200, "{\"totalProyectos\":3}");
+        });
+        servidor.createContext("/cuenta/proyectos/", intercambio -> {
+            consultasProyecto.incrementAndGet();
+            maximoSimultaneas.accumulateAndGet(consultasSimultaneas.incrementAndGet(), Math::max);
+            pausar(50);
+            consultasSimultaneas.decrementAndGet();
+            String ruta = intercambio.getRequestURI().getPath();
+            long id = Long.parseLong(ruta.substring(ruta.lastIndexOf('/') + 1));
+            if (id == 500) {
+                responder(intercambio, 500, "");
+            } else {
+                responder(intercambio, id % 2 == 1 ? 200 : 404, id % 2 == 1 ? "{\"id\":" + id + "}" : "");
+            }
+        });
+        servidor.createContext("/outbox/proyectos/", intercambio -> {
+            String cuerpo = new String(intercambio.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            notificaciones.put(intercambio.getRequestHeaders().getFirst("Idempotency-Key"),
+                intercambio.getRequestURI().getPath() + " " + cuerpo);
+            responder(intercambio, 204, "");
+        });
+        servidor.createContext("/inestable/proyectos/estadisticas", intercambio -> {
+            solicitudesInestables.incrementAndGet();
+            responder(intercambio, fallando.get() ? 503 : 200, fallando.get() ? "" : "{\"totalProyectos\":3}");
+        });
+        servidor.createContext("/cobertura/proyectos/estadisticas", intercambio -> {
+            solicitudesCobertura.incrementAndGet();
+            if (retenerSiguiente.compareAndSet(true, false)) {
+                pausar(3_000);
+            }
+            responder(intercambio, 200, "{\"totalProyectos\":3}");
+        });
+        servidor.createContext("/api/proyectos/", intercambio -> responder(intercambio, 404, ""));
+        servidor.start();
+        baseUrl = "http://localhost:" + servidor.getAddress().getPort() + "/api/";
+    }
+
+    @AfterEach
+    void detenerServidor() {
+        servidor.stop(0);
+    }
+
+    private static void pausar(long milisegundos) {
+        try {
+            Thread.sleep(milisegundos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void responder(com.sun.net.httpserver.HttpExchange intercambio, int estado, String cuerpo) throws IOException {
+        if (cuerpo.isEmpty() && estado >= 400) {
+            // Con errores sin cuerpo, HttpServer del JDK puede cerrar la conexión que el cliente ya devolvió al pool
+            cuerpo = "{\"estado\":" + estado + "}";
+        }
+        byte[] bytes = cuerpo.getBytes(StandardCharsets.UTF_8);
+        intercambio.sendResponseHeaders(estado, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(bytes);
+        }
+    }
+
+    @Test
+    void testUrlBaseInyectadaYConexionesConcurrentes() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl(baseUrl)
+            .maximoConexionesPorRuta(4)
+            .tiempoRespuesta(Duration.ofSeconds(5))
+            .build();
+        ExecutorService hilos = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(baseUrl.substring(0, baseUrl.length() - 1), cliente.getComponenteABaseUrl());
+
+            // Con el límite por defecto de httpclient (2 por ruta) estas 4 solicitudes se bloquearían
+            List<Future<Map<String, Object>>> respuestas = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                respuestas.add(hilos.submit(cliente::obtenerEstadisticasProyectos));
+            }
+            for (Future<Map<String, Object>> respuesta : respuestas) {
+                assertEquals(3, respuesta.get(10, TimeUnit.SECONDS).get("totalProyectos"));
+            }
+            assertTrue(enCurso.await(0, TimeUnit.SECONDS));
+            assertFalse(cliente.validarExistenciaProyecto(99L));
+            assertEquals(0, cliente.getEstadisticasPool().getEnUso());
+        } finally {
+            hilos.shutdownNow();
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testDashboardConsultaEnParalelo() throws Exception {
+        String raiz = "http://localhost:" + servidor.getAddress().getPort();
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl(raiz + "/a-lento")
+            .componenteBBaseUrl(raiz + "/api")
+            .build();
+        try {
+            long inicio = System.nanoTime();
+            Map<String, Object> dashboard = cliente.obtenerDashboardIntegrado();
+            long milisegundos = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+            assertEquals(Map.of("totalProyectos", 3), dashboard.get("proyectos"));
+            assertEquals(Map.of("totalDocumentos", 5), dashboard.get("documentos"));
+            assertFalse(dashboard.containsKey("error"));
+            // En serie tardaría al menos 600 ms
+            assertTrue(milisegundos < 550, "El dashboard tardó " + milisegundos + " ms");
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testDashboardConservaResultadosParciales() throws Exception {
+        String raiz = "http://localhost:" + servidor.getAddress().getPort();
+        IntegracionClient caido = IntegracionClient.builder()
+            .componenteABaseUrl(raiz + "/a-lento")
+            .componenteBBaseUrl(raiz + "/b-caido")
+            .build();
+        IntegracionClient lento = IntegracionClient.builder()
+            .componenteABaseUrl(raiz + "/a-lento")
+            .componenteBBaseUrl(raiz + "/b-lento")
+            .plazoDashboard(Duration.ofMillis(600))
+            .build();
+        try {
+            Map<String, Object> dashboard = caido.obtenerDashboardIntegradoAsync().get(5, TimeUnit.SECONDS);
+            assertEquals(Map.of("totalProyectos", 3), dashboard.get("proyectos"));
+            assertNull(dashboard.get("documentos"));
+            assertTrue(((String) dashboard.get("errorDocumentos")).contains("503"));
+            assertTrue(((String) dashboard.get("error")).startsWith("Error al obtener algunas estadísticas"));
+
+            long inicio = System.nanoTime();
+            dashboard = lento.obtenerDashboardIntegrado();
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio) < 2_000);
+            assertEquals(Map.of("totalProyectos", 3), dashboard.get("proyectos"));
+            assertTrue(((String) dashboard.get("errorDocumentos")).contains("tiempo de espera"));
+            assertFalse(dashboard.containsKey("errorProyectos"));
+        } finally {
+            caido.cerrar();
+            lento.cerrar();
+        }
+    }
+
+    @Test
+    void testPlazoDelDashboardLiberaLaConexion() throws Exception {
+        String raiz = "http://localhost:" + servidor.getAddress().getPort();
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl(raiz + "/a-lento")
+            .componenteBBaseUrl(raiz + "/b-lento")
+            .plazoDashboard(Duration.ofMillis(500))
+            .build();
+        try {
+            Map<String, Object> dashboard = cliente.obtenerDashboardIntegrado();
+            assertTrue(((String) dashboard.get("errorDocumentos")).contains("tiempo de espera"));
+
+            // B tarda 3 s; sin cancelar, la conexión seguiría prestada hasta entonces
+            long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_000);
+            while (cliente.getEstadisticasPool().getEnUso() > 0 && System.nanoTime() < limite) {
+                pausar(10);
+            }
+            assertEquals(0, cliente.getEstadisticasPool().getEnUso());
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testAsyncFallaConIOException() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteBBaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/b-caido")
+            .build();
+        try {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                () -> cliente.obtenerEstadisticasDocumentosAsync().get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IOException);
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testDecodificacionTipada() throws Exception {
+        String raiz = "http://localhost:" + servidor.getAddress().getPort();
+        RegistroMetricas metricas = new RegistroMetricas();
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl(raiz + "/api")
+            .componenteBBaseUrl(raiz + "/tipado")
+            .metricas(metricas)
+            .build();
+        IntegracionClient estadisticas = IntegracionClient.builder().componenteABaseUrl(raiz + "/tipado").build();
+        try {
+            ProyectoDTO proyecto = cliente.obtenerProyectoDTO(7L);
+            assertEquals(7L, proyecto.getId());
+            assertEquals("Ampliación Muñoz", proyecto.getNombre());
+            assertEquals(new BigDecimal("1500.25"), proyecto.getMontoPresupuesto());
+            assertEquals("Ampliación Muñoz", cliente.obtenerProyecto(7L).get("nombre"));
+            assertNull(cliente.obtenerProyectoDTO(8L));
+            assertTrue(cliente.validarExistenciaProyecto(7L));
+
+            EstadisticasProyectosDTO proyectos = estadisticas.obtenerEstadisticasProyectosDTO();
+            assertEquals(3, proyectos.getTotalProyectos());
+            assertEquals(new BigDecimal("3752.25"), proyectos.getMontoTotal());
+            assertEquals(Map.of("ACTIVO", 2L, "CERRADO", 1L), proyectos.getProyectosPorEstado());
+
+            EstadisticasDocumentosDTO documentos = cliente.obtenerEstadisticasDocumentosDTO();
+            assertEquals(5, documentos.getTotalDocumentos());
+            assertEquals(Map.of("FACTURA", 5L), documentos.getDocumentosPorTipo());
+            assertEquals(0, cliente.getEstadisticasPool().getEnUso());
+
+            MetricasEndpoint proyectoMetricas = metricas.endpoint("integracion.PROYECTO");
+            assertEquals(3, proyectoMetricas.getRespuestas(200));
+            assertEquals(1, proyectoMetricas.getRespuestas(404));
+            assertEquals(0, proyectoMetricas.getErrores());
+            assertEquals(4, proyectoMetricas.getLatencia().getCantidad());
+            assertTrue(proyectoMetricas.getBytesRecibidos() > 0);
+            assertEquals(1, metricas.endpoint("integracion.ESTADISTICAS_DOCUMENTOS").getRespuestas(200));
+        } finally {
+            cliente.cerrar();
+            estadisticas.cerrar();
+        }
+    }
+
+    @Test
+    void testCacheDeEstadisticasConRevalidacionCondicional() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/etag")
+            .cacheEstadisticas(Duration.ofMillis(100), Duration.ofSeconds(30), 16)
+            .build();
+        try {
+            for (int i = 0; i < 50; i++) {
+                assertEquals(3, cliente.obtenerEstadisticasProyectos().get("totalProyectos"));
+            }
+            assertEquals(3, cliente.obtenerEstadisticasProyectosDTO().getTotalProyectos());
+            assertEquals(2, solicitudesEtag.get());
+
+            Thread.sleep(150);
+            assertEquals(3, cliente.obtenerEstadisticasProyectos().get("totalProyectos"));
+            long limite = System.currentTimeMillis() + 5_000;
+            while (cliente.getEstadisticasCache().getNoModificadas() == 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            EstadisticasCache estadisticas = cliente.getEstadisticasCache();
+            assertEquals(2, estadisticas.getFallos());
+            assertEquals(49, estadisticas.getAciertos());
+            assertEquals(1, estadisticas.getAciertosObsoletos());
+            assertEquals(1, estadisticas.getRevalidaciones());
+            assertEquals(1, estadisticas.getNoModificadas());
+            assertEquals(2, respuestasCompletas.get());
+            assertNull(new IntegracionClient().getEstadisticasCache());
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testValidarExistenciaProyectosEnLote() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/cuenta")
+            .cacheExistencia(Duration.ofMinutes(5), Duration.ofSeconds(30), 1_000)
+            .concurrenciaExistencia(3)
+            .build();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (long i = 1; i <= 12; i++) {
+                ids.add(i);
+                ids.add(i);
+            }
+            Map<Long, Boolean> resultado = cliente.validarExistenciaProyectos(ids);
+
+            assertEquals(12, resultado.size());
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L), new ArrayList<>(resultado.keySet()));
+            assertTrue(resultado.get(1L));
+            assertFalse(resultado.get(2L));
+            assertEquals(12, consultasProyecto.get());
+            assertTrue(maximoSimultaneas.get() <= 3, "Simultáneas: " + maximoSimultaneas.get());
+            assertTrue(maximoSimultaneas.get() > 1);
+
+            // Positivos y negativos quedan en caché
+            assertTrue(cliente.validarExistenciaProyecto(3L));
+            assertFalse(cliente.validarExistenciaProyecto(4L));
+            assertEquals(12, cliente.validarExistenciaProyectos(ids).size());
+            assertEquals(12, consultasProyecto.get());
+
+            IOException error = assertThrows(IOException.class, () -> cliente.validarExistenciaProyectos(List.of(13L, 500L, 15L)));
+            assertTrue(error.getMessage().contains("500"));
+            assertThrows(IllegalArgumentException.class, () -> cliente.validarExistenciaProyectos(Arrays.asList(1L, null)));
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testNotificacionesPorBandejaDeSalida(@TempDir Path directorio) throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/outbox")
+            .outboxNotificaciones(directorio.resolve("notificaciones.journal"))
+            .build();
+        try {
+            for (long i = 1; i <= 20; i++) {
+                cliente.notificarDocumentoCreado(3L, i, "FACTURA");
+            }
+            cliente.getOutbox().flush();
+            assertEquals(20, notificaciones.size());
+            assertTrue(notificaciones.containsValue(
+                "/outbox/proyectos/3/notificar-documento {\"documentoId\":20,\"tipoDocumento\":\"FACTURA\",\"accion\":\"CREADO\"}"));
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testCircuitoFallaRapidoYSeRecupera() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/inestable")
+            .circuito(0.5, 4, Duration.ofMillis(300))
+            .build();
+        try {
+            fallando.set(true);
+            for (int i = 0; i < 4; i++) {
+                RespuestaHttpException e = assertThrows(RespuestaHttpException.class, cliente::obtenerEstadisticasProyectos);
+                assertEquals(503, e.getCodigo());
+            }
+            assertEquals(EstadoCircuito.ABIERTO, cliente.getEstadoCircuitoA());
+            assertEquals(EstadoCircuito.CERRADO, cliente.getEstadoCircuitoB());
+
+            CircuitoAbiertoException abierto = assertThrows(CircuitoAbiertoException.class,
+                cliente::obtenerEstadisticasProyectos);
+            assertEquals("Componente A", abierto.getComponente());
+            assertTrue(abierto.getReintentarEnMs() > 0);
+            assertEquals(4, solicitudesInestables.get());
+            Map<String, Object> dashboard = cliente.obtenerDashboardIntegrado();
+            assertTrue(((String) dashboard.get("errorProyectos")).startsWith("Circuito abierto"));
+
+            fallando.set(false);
+            Thread.sleep(350);
+            assertEquals(EstadoCircuito.SEMIABIERTO, cliente.getEstadoCircuitoA());
+            assertEquals(3, cliente.obtenerEstadisticasProyectos().get("totalProyectos"));
+            assertEquals(EstadoCircuito.CERRADO, cliente.getEstadoCircuitoA());
+            assertEquals(2, cliente.getEstadisticasResiliencia().getRechazosCircuito());
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testPresupuestoLimitaReintentos() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/inestable")
+            .politica(OperacionRemota.ESTADISTICAS_PROYECTOS,
+                PoliticaResiliencia.builder().reintentos(3).esperaReintento(Duration.ZERO).build())
+            .presupuestoReintentos(0.1, 0)
+            .circuito(0.5, 1_000, Duration.ofSeconds(1))
+            .build();
+        try {
+            fallando.set(true);
+            for (int i = 0; i < 50; i++) {
+                assertThrows(RespuestaHttpException.class, cliente::obtenerEstadisticasProyectos);
+            }
+            // 50 llamadas al 10 % pagan como mucho 5 reintentos, no 150
+            EstadisticasResiliencia estadisticas = cliente.getEstadisticasResiliencia();
+            assertTrue(estadisticas.getReintentos() >= 4 && estadisticas.getReintentos() <= 5,
+                estadisticas.toString());
+            assertEquals(50 + estadisticas.getReintentos(), solicitudesInestables.get());
+            assertTrue(estadisticas.getReintentosSinPresupuesto() > 0);
+
+            fallando.set(false);
+            assertEquals(3, cliente.obtenerEstadisticasProyectos().get("totalProyectos"));
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testCoberturaRecortaLatenciaDeCola() throws Exception {
+        IntegracionClient cliente = IntegracionClient.builder()
+            .componenteABaseUrl("http://localhost:" + servidor.getAddress().getPort() + "/cobertura")
+            .politica(OperacionRemota.ESTADISTICAS_PROYECTOS,
+                PoliticaResiliencia.builder().cobertura(Duration.ofMillis(250)).build())
+            .build();
+        try {
+            // Calentamiento: alimenta el percentil; en una JVM fría alguna llamada puede pasar del
+            // retraso mínimo y lanzar una cobertura, así que solo se miden las diferencias posteriores
+            for (int i = 0; i < 30; i++) {
+                cliente.obtenerEstadisticasProyectos();
+            }
+            EstadisticasResiliencia antes = cliente.getEstadisticasResiliencia();
+            int solicitudesAntes = solicitudesCobertura.get();
+
+            // La respuesta normal es inmediata; solo la retenida (3 s) supera el retraso de 250 ms
+            retenerSiguiente.set(true);
+            long inicio = System.nanoTime();
+            assertEquals(3, cliente.obtenerEstadisticasProyectos().get("totalProyectos"));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio) < 1_500);
+
+            EstadisticasResiliencia despues = cliente.getEstadisticasResiliencia();
+            assertEquals(2, solicitudesCobertura.get() - solicitudesAntes);
+            assertEquals(1, despues.getCoberturas() - antes.getCoberturas());
+            assertEquals(1, despues.getCoberturasGanadoras() - antes.getCoberturasGanadoras());
+        } finally {
+            cliente.cerrar();
+        }
+    }
+
+    @Test
+    void testBuilderValidaOpciones() {
+        assertThrows(IllegalArgumentException.class, () -> IntegracionClient.builder().maximoConexiones(0));
+        assertThrows(IllegalArgumentException.class, () -> IntegracionClient.builder().tiempoConexion(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> IntegracionClient.builder().componenteBBaseUrl(" "));
+        assertThrows(IllegalArgumentException.class,
+            () -> IntegracionClient.builder().maximoConexiones(10).maximoConexionesPorRuta(20).build());
+        assertThrows(IllegalArgumentException.class, () -> IntegracionClient.builder()
+            .politica(OperacionRemota.NOTIFICACION, PoliticaResiliencia.builder().reintentos(1).build()));
+        assertThrows(IllegalArgumentException.class,
+            () -> IntegracionClient.builder().circuito(0, 10, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> IntegracionClient.builder().presupuestoReintentos(1.5, 0));
+    }
+}
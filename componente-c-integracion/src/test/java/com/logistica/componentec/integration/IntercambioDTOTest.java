@@ -0,0 +1,80 @@
+package com.logistica.componentec.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistica.componentec.dto.CalculoEmpresarialDTO;
+import com.logistica.componentec.dto.CodecBinario;
+import com.logistica.componentec.dto.CodecDTO;
+import com.logistica.componentec.dto.ErrorResponseDTO;
+import com.logistica.componentec.dto.RespuestaExitosaDTO;
+import com.logistica.componentec.utils.CalculadoraUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class IntercambioDTOTest {
+
+    private static final CodecDTO<RespuestaExitosaDTO<CalculoEmpresarialDTO>> CODEC =
+        CodecBinario.respuestaExitosa(CodecBinario.CALCULO_EMPRESARIAL);
+    private static final TypeReference<RespuestaExitosaDTO<CalculoEmpresarialDTO>> TIPO = new TypeReference<>() { };
+
+    private final IntercambioDTO intercambio = new IntercambioDTO(new ObjectMapper());
+
+    private static RespuestaExitosaDTO<CalculoEmpresarialDTO> respuesta() {
+        return new RespuestaExitosaDTO<>(200, "OK",
+            CalculoEmpresarialDTO.deCentavos(1_250_075, CalculadoraUtils.obtenerReglas()), 1_700_000_000_000L);
+    }
+
+    @Test
+    void testNegociaBinarioYRespaldoJson() throws IOException {
+        RespuestaExitosaDTO<CalculoEmpresarialDTO> original = respuesta();
+
+        byte[] binario = intercambio.codificar(original, CODEC, IntercambioDTO.ACEPTAR);
+        assertEquals(IntercambioDTO.TIPO_BINARIO, IntercambioDTO.tipoContenido(IntercambioDTO.ACEPTAR));
+        assertEquals(original, intercambio.decodificar(binario, IntercambioDTO.TIPO_BINARIO, CODEC, TIPO));
+
+        byte[] json = intercambio.codificar(original, CODEC, "application/json");
+        assertEquals(IntercambioDTO.TIPO_JSON, IntercambioDTO.tipoContenido(null));
+        assertEquals('{', json[0]);
+        assertEquals(original, intercambio.decodificar(json, "application/json; charset=UTF-8", CODEC, TIPO));
+    }
+
+    @Test
+    void testErrorPorJson() throws IOException {
+        ErrorResponseDTO error = new ErrorResponseDTO(409, "CONFLICTO", "Ya existe", List.of("codigo"), 5L);
+        byte[] json = intercambio.codificar(error, CodecBinario.ERROR_RESPUESTA, null);
+        assertEquals(error, intercambio.decodificar(json, IntercambioDTO.TIPO_JSON, CodecBinario.ERROR_RESPUESTA,
+            new TypeReference<ErrorResponseDTO>() { }));
+    }
+
+    @Test
+    void testBinarioInvalidoEsIOException() {
+        assertThrows(IOException.class,
+            () -> intercambio.decodificar(new byte[] {3, 1, 0}, IntercambioDTO.TIPO_BINARIO, CODEC, TIPO));
+    }
+
+    @Test
+    void testBinarioVariasVecesMenorQueMapaJson() throws IOException {
+        CalculadoraUtils.ResultadoCalculoEmpresarial resultado =
+            CalculadoraUtils.calcularTotalEmpresarial(new BigDecimal("12500.75"));
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("montoOriginal", resultado.getMontoOriginal());
+        mapa.put("porcentajeDescuento", resultado.getPorcentajeDescuento());
+        mapa.put("montoDescuento", resultado.getMontoDescuento());
+        mapa.put("subtotal", resultado.getSubtotal());
+        mapa.put("porcentajeIVA", resultado.getPorcentajeIVA());
+        mapa.put("montoIVA", resultado.getMontoIVA());
+        mapa.put("total", resultado.getTotal());
+        Map<String, Object> envoltorio = Map.of("estado", 200, "mensaje", "OK", "datos", mapa,
+            "timestamp", 1_700_000_000_000L);
+
+        int json = new ObjectMapper().writeValueAsBytes(envoltorio).length;
+        int binario = CODEC.tamanio(respuesta());
+        assertTrue(binario * 4 < json, "binario " + binario + " json " + json);
+    }
+}
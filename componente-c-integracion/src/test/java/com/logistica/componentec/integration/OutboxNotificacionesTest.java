@@ -0,0 +1,255 @@
+package com.logistica.componentec.integration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OutboxNotificacionesTest {
+
+    @TempDir
+    Path directorio;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private static byte[] cuerpo(int i) {
+        return ("{\"documentoId\":" + i + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private OutboxNotificaciones abrir(int capacidad, int maximoEnVuelo, Duration plazo,
+                                       OutboxNotificaciones.Enviador enviador) throws IOException {
+        return new OutboxNotificaciones(directorio.resolve("outbox.journal"), capacidad, 16, maximoEnVuelo, plazo,
+            enviador, executor);
+    }
+
+    @Test
+    void testEntregaTodasConClavesUnicas() throws IOException {
+        Map<String, String> recibidas = new ConcurrentHashMap<>();
+        try (OutboxNotificaciones outbox = abrir(1 << 20, 4, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> {
+            assertNull(recibidas.put(clave, new String(cuerpo, StandardCharsets.UTF_8)));
+            return 204;
+        })) {
+            for (int i = 0; i < 200; i++) {
+                outbox.registrar(7L, cuerpo(i));
+            }
+            outbox.flush();
+            assertEquals(0, outbox.pendientes());
+            assertEquals(200, outbox.getEnviadas());
+        }
+        assertEquals(200, recibidas.size());
+        assertTrue(recibidas.containsValue("{\"documentoId\":199}"));
+    }
+
+    @Test
+    void testReintentaConLaMismaClave() throws IOException {
+        List<String> claves = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger llamadas = new AtomicInteger();
+        try (OutboxNotificaciones outbox = abrir(1 << 16, 2, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> {
+            claves.add(clave);
+            int n = llamadas.incrementAndGet();
+            if (n == 1) {
+                return 503;
+            }
+            if (n == 2) {
+                throw new IOException("conexión rechazada");
+            }
+            return 200;
+        })) {
+            outbox.registrar(1L, cuerpo(1));
+            outbox.flush();
+            assertEquals(2, outbox.getReintentos());
+        }
+        assertEquals(3, claves.size());
+        assertEquals(1, claves.stream().distinct().count());
+    }
+
+    @Test
+    void testRechazoDefinitivoSeDescarta() throws IOException {
+        try (OutboxNotificaciones outbox = abrir(1 << 16, 2, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> 400)) {
+            outbox.registrar(1L, cuerpo(1));
+            outbox.flush();
+            assertEquals(1, outbox.getDescartadas());
+            assertEquals(0, outbox.getReintentos());
+        }
+    }
+
+    @Test
+    void testSobreviveAlReinicio() throws IOException {
+        List<String> clavesIniciales = Collections.synchronizedList(new ArrayList<>());
+        OutboxNotificaciones caido = abrir(1 << 16, 2, Duration.ofMillis(300), (proyecto, cuerpo, clave) -> {
+            clavesIniciales.add(clave);
+            throw new IOException("Componente A caído");
+        });
+        for (int i = 0; i < 3; i++) {
+            caido.registrar(10L + i, cuerpo(i));
+        }
+        assertFalse(caido.flush(Duration.ofMillis(50)));
+        caido.close();
+
+        Map<String, Long> entregadas = new ConcurrentHashMap<>();
+        CountDownLatch disponible = new CountDownLatch(1);
+        try (OutboxNotificaciones reabierto = abrir(1 << 16, 2, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> {
+            try {
+                disponible.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            entregadas.put(clave, proyecto);
+            return 200;
+        })) {
+            assertEquals(3, reabierto.pendientes());
+            disponible.countDown();
+            reabierto.flush();
+            reabierto.registrar(20L, cuerpo(3));
+            reabierto.flush();
+        }
+        assertEquals(4, entregadas.size());
+        assertTrue(entregadas.keySet().containsAll(clavesIniciales));
+        assertEquals(List.of(10L, 11L, 12L, 20L), entregadas.values().stream().sorted().toList());
+
+        // Todo quedó confirmado: al reabrir no hay nada que reenviar
+        try (OutboxNotificaciones vacio = abrir(1 << 16, 2, Duration.ofSeconds(1), (proyecto, cuerpo, clave) -> 200)) {
+            assertEquals(0, vacio.pendientes());
+        }
+    }
+
+    @Test
+    void testCompactaYAplicaContrapresion() throws IOException {
+        AtomicInteger enVuelo = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        AtomicInteger entregadas = new AtomicInteger();
+        // Journal de 4 KB: unas 80 notificaciones; se registran 1000
+        try (OutboxNotificaciones outbox = abrir(4096, 3, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> {
+            maximo.accumulateAndGet(enVuelo.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            enVuelo.decrementAndGet();
+            entregadas.incrementAndGet();
+            return 200;
+        })) {
+            for (int i = 0; i < 1000; i++) {
+                outbox.registrar(1L, cuerpo(i));
+            }
+            outbox.flush();
+        }
+        assertEquals(1000, entregadas.get());
+        assertTrue(maximo.get() <= 3, "En vuelo: " + maximo.get());
+    }
+
+    @Test
+    void testCaidaAlCompactarConservaLasPendientes() throws Exception {
+        Path archivo = directorio.resolve("outbox.journal");
+        // Registros de 64 bytes: caben ocho antes de dar la vuelta
+        int capacidad = OutboxNotificaciones.CABECERA + 8 * 64;
+        byte[] antes;
+        byte[] despues;
+        OutboxNotificaciones caido = abrir(capacidad, 8, Duration.ofMillis(200), (proyecto, cuerpo, clave) -> {
+            if (ByteBuffer.wrap(cuerpo).getInt() < 4) {
+                return 200;
+            }
+            throw new IOException("Componente A caído");
+        });
+        try {
+            for (int i = 0; i < 8; i++) {
+                caido.registrar(1L, cuerpoFijo(i));
+            }
+            long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (caido.getEnviadas() < 4 && System.nanoTime() - limite < 0) {
+                Thread.sleep(5);
+            }
+            assertEquals(4, caido.pendientes());
+            antes = Files.readAllBytes(archivo);
+            // No cabe al final: se compacta moviendo el puntero y el registro da la vuelta
+            caido.registrar(1L, cuerpoFijo(8));
+            despues = Files.readAllBytes(archivo);
+        } finally {
+            caido.close();
+        }
+
+        int inicioRanura = -1;
+        for (int i = 0; i < 2; i++) {
+            int base = OutboxNotificaciones.PUNTEROS + i * OutboxNotificaciones.TAMANIO_PUNTERO;
+            if (!Arrays.equals(antes, base, base + OutboxNotificaciones.TAMANIO_PUNTERO,
+                    despues, base, base + OutboxNotificaciones.TAMANIO_PUNTERO)) {
+                inicioRanura = base;
+            }
+        }
+        assertTrue(inicioRanura > 0, "La compactación no cambió el puntero de inicio");
+
+        // Caída a mitad de la escritura del puntero nuevo: sigue vigente el anterior
+        byte[] punteroAMedias = antes.clone();
+        System.arraycopy(despues, inicioRanura, punteroAMedias, inicioRanura, 12);
+        assertEquals(List.of(4, 5, 6, 7), reabrirYEntregar(archivo, punteroAMedias));
+
+        // Caída con el puntero nuevo escrito pero antes del registro que da la vuelta
+        byte[] sinRegistro = antes.clone();
+        System.arraycopy(despues, inicioRanura, sinRegistro, inicioRanura, OutboxNotificaciones.TAMANIO_PUNTERO);
+        assertEquals(List.of(4, 5, 6, 7), reabrirYEntregar(archivo, sinRegistro));
+
+        // Compactación completa: el registro tras la cabecera también se recupera
+        assertEquals(List.of(4, 5, 6, 7, 8), reabrirYEntregar(archivo, despues));
+        try (OutboxNotificaciones vacio = abrir(capacidad, 2, Duration.ofSeconds(1), (proyecto, cuerpo, clave) -> 200)) {
+            assertEquals(0, vacio.pendientes());
+        }
+    }
+
+    private static byte[] cuerpoFijo(int i) {
+        return ByteBuffer.allocate(64 - OutboxNotificaciones.CABECERA_REGISTRO).putInt(0, i).array();
+    }
+
+    private List<Integer> reabrirYEntregar(Path archivo, byte[] imagen) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(imagen), 0);
+        }
+        List<Integer> entregadas = Collections.synchronizedList(new ArrayList<>());
+        try (OutboxNotificaciones reabierto = abrir(imagen.length, 1, Duration.ofSeconds(10), (proyecto, cuerpo, clave) -> {
+            entregadas.add(ByteBuffer.wrap(cuerpo).getInt());
+            return 200;
+        })) {
+            reabierto.flush();
+        }
+        return entregadas.stream().sorted().toList();
+    }
+
+    @Test
+    void testJournalLlenoVencePlazo() throws IOException {
+        try (OutboxNotificaciones outbox = abrir(1024, 1, Duration.ofMillis(200), (proyecto, cuerpo, clave) -> 503)) {
+            assertThrows(IllegalArgumentException.class, () -> outbox.registrar(1L, new byte[2048]));
+            IOException error = assertThrows(IOException.class, () -> {
+                for (int i = 0; i < 100; i++) {
+                    outbox.registrar(1L, cuerpo(i));
+                }
+            });
+            assertTrue(error.getMessage().contains("lleno"));
+        }
+    }
+
+    @Test
+    void testCuerpoDeNotificacion() {
+        assertEquals("{\"documentoId\":5,\"tipoDocumento\":\"FACTURA \\\"A\\\"\",\"accion\":\"CREADO\"}",
+            new String(IntegracionClient.cuerpoNotificacion(5L, "FACTURA \"A\""), StandardCharsets.UTF_8));
+        assertEquals("{\"documentoId\":null,\"tipoDocumento\":null,\"accion\":\"CREADO\"}",
+            new String(IntegracionClient.cuerpoNotificacion(null, null), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.logistica.componentec.integration;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+class PresupuestoReintentosTest {
+
+    @Test
+    void testRecargaTrasUnaPausaLargaLlenaElSaldo() {
+        // 15 días sin reintentos: recargaPorSegundo * transcurrido desborda a negativo
+        long hace15Dias = System.nanoTime() - TimeUnit.DAYS.toNanos(15);
+        PresupuestoReintentos presupuesto = new PresupuestoReintentos(0, 10, hace15Dias);
+
+        assertEquals(100, presupuesto.disponibles());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(presupuesto.retirar(), "Reintento " + i);
+        }
+        assertFalse(presupuesto.retirar());
+    }
+
+    @Test
+    void testSinRecargaMinimaSoloCuentanLosDepositos() {
+        PresupuestoReintentos presupuesto = new PresupuestoReintentos(0.5, 0, System.nanoTime() - TimeUnit.DAYS.toNanos(15));
+        assertEquals(0, presupuesto.disponibles());
+        presupuesto.depositar();
+        presupuesto.depositar();
+        assertTrue(presupuesto.retirar());
+        assertFalse(presupuesto.retirar());
+    }
+}
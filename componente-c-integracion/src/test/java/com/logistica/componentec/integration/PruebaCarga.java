@@ -0,0 +1,278 @@
+package com.logistica.componentec.integration;
+
+import com.logistica.componentec.metricas.Histograma;
+import com.logistica.componentec.metricas.InstantaneaHistograma;
+import com.logistica.componentec.metricas.RegistroMetricas;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generador de carga para {@link IntegracionClient}: ejecuta cada método con N llamadores
+ * concurrentes durante un tiempo fijo, tras un calentamiento, y reporta llamadas por segundo,
+ * errores y percentiles de latencia. Junto con {@link ServidorStub} permite dimensionar el pool
+ * de conexiones y comparar configuraciones del cliente sin los componentes reales.
+ * <p>
+ * Los métodos se miden uno tras otro con el mismo cliente. La latencia se registra en un
+ * {@link Histograma} propio, por lo que requiere las métricas activas (el valor por defecto).
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.logistica.componentec.integration.PruebaCarga llamadores=64 segundos=30 conexiones=20
+ * </pre>
+ */
+public final class PruebaCarga {
+
+    /**
+     * Invocación de un método del cliente; {@code secuencia} varía los argumentos entre llamadas.
+     */
+    @FunctionalInterface
+    public interface Llamada {
+        void invocar(IntegracionClient cliente, long secuencia) throws Exception;
+    }
+
+    /** Métodos públicos del cliente con argumentos sintéticos, en el orden de medición. */
+    public static final Map<String, Llamada> METODOS_CLIENTE;
+
+    static {
+        Map<String, Llamada> metodos = new LinkedHashMap<>();
+        metodos.put("obtenerEstadisticasProyectos", (cliente, secuencia) -> cliente.obtenerEstadisticasProyectos());
+        metodos.put("obtenerEstadisticasProyectosDTO", (cliente, secuencia) -> cliente.obtenerEstadisticasProyectosDTO());
+        metodos.put("obtenerProyecto", (cliente, secuencia) -> cliente.obtenerProyecto(1 + secuencia % 10_000));
+        metodos.put("obtenerProyectoDTO", (cliente, secuencia) -> cliente.obtenerProyectoDTO(1 + secuencia % 10_000));
+        metodos.put("obtenerEstadisticasDocumentos", (cliente, secuencia) -> cliente.obtenerEstadisticasDocumentos());
+        metodos.put("validarExistenciaProyecto", (cliente, secuencia) -> cliente.validarExistenciaProyecto(1 + secuencia));
+        metodos.put("notificarDocumentoCreado",
+            (cliente, secuencia) -> cliente.notificarDocumentoCreado(1 + secuencia % 10_000, 1 + secuencia, "FACTURA"));
+        metodos.put("obtenerDashboardIntegrado", (cliente, secuencia) -> cliente.obtenerDashboardIntegrado());
+        METODOS_CLIENTE = Collections.unmodifiableMap(metodos);
+    }
+
+    private final int llamadores;
+    private final Duration calentamiento;
+    private final Duration duracion;
+    private final Map<String, Llamada> metodos;
+
+    private PruebaCarga(Builder builder) {
+        this.llamadores = builder.llamadores;
+        this.calentamiento = builder.calentamiento;
+        this.duracion = builder.duracion;
+        this.metodos = new LinkedHashMap<>(builder.metodos.isEmpty() ? METODOS_CLIENTE : builder.metodos);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Mide cada método con el cliente indicado.
+     *
+     * @return Un resultado por método, en el orden configurado
+     */
+    public List<ResultadoCarga> ejecutar(IntegracionClient cliente) throws InterruptedException {
+        if (cliente == null) {
+            throw new IllegalArgumentException("El cliente no puede ser null");
+        }
+        List<ResultadoCarga> resultados = new ArrayList<>(metodos.size());
+        for (Map.Entry<String, Llamada> metodo : metodos.entrySet()) {
+            if (!calentamiento.isZero()) {
+                medir(cliente, metodo.getKey(), metodo.getValue(), calentamiento);
+            }
+            resultados.add(medir(cliente, metodo.getKey(), metodo.getValue(), duracion));
+        }
+        return resultados;
+    }
+
+    private ResultadoCarga medir(IntegracionClient cliente, String nombre, Llamada llamada, Duration periodo)
+            throws InterruptedException {
+        Histograma latencias = new RegistroMetricas().histograma("carga." + nombre + ".latencia");
+        LongAdder errores = new LongAdder();
+        Map<String, LongAdder> erroresPorTipo = new ConcurrentHashMap<>();
+        AtomicLong secuencia = new AtomicLong();
+        CountDownLatch salida = new CountDownLatch(1);
+        CountDownLatch terminados = new CountDownLatch(llamadores);
+        AtomicLong fin = new AtomicLong();
+
+        for (int i = 0; i < llamadores; i++) {
+            Thread hilo = new Thread(() -> {
+                try {
+                    salida.await();
+                    while (System.nanoTime() - fin.get() < 0) {
+                        long inicio = System.nanoTime();
+                        try {
+                            llamada.invocar(cliente, secuencia.getAndIncrement());
+                            latencias.registrar(System.nanoTime() - inicio);
+                        } catch (Exception e) {
+                            errores.increment();
+                            erroresPorTipo.computeIfAbsent(e.getClass().getSimpleName(), tipo -> new LongAdder()).increment();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    terminados.countDown();
+                }
+            }, "carga-" + nombre + "-" + i);
+            hilo.setDaemon(true);
+            hilo.start();
+        }
+
+        long inicio = System.nanoTime();
+        fin.set(inicio + periodo.toNanos());
+        salida.countDown();
+        terminados.await();
+        long transcurrido = System.nanoTime() - inicio;
+
+        Map<String, Long> tipos = new HashMap<>();
+        erroresPorTipo.forEach((tipo, cantidad) -> tipos.put(tipo, cantidad.sum()));
+        return new ResultadoCarga(nombre, llamadores, Duration.ofNanos(transcurrido), latencias.instantanea(),
+            errores.sum(), tipos);
+    }
+
+    /**
+     * Tabla con una fila por método: llamadas por segundo, errores y percentiles en milisegundos.
+     */
+    public static String tabla(List<ResultadoCarga> resultados) {
+        StringBuilder texto = new StringBuilder(String.format("%-32s %10s %8s %9s %9s %9s %9s%n",
+            "metodo", "llamadas/s", "errores", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (ResultadoCarga resultado : resultados) {
+            InstantaneaHistograma latencia = resultado.getLatencia();
+            texto.append(String.format("%-32s %10.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                resultado.getMetodo(), resultado.getLlamadasPorSegundo(), resultado.getErrores(),
+                milisegundos(latencia.percentil(0.5)), milisegundos(latencia.percentil(0.9)),
+                milisegundos(latencia.percentil(0.99)), milisegundos(latencia.getMaximo())));
+        }
+        return texto.toString();
+    }
+
+    private static double milisegundos(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Inicia un {@link ServidorStub} y mide el cliente contra él. Argumentos {@code clave=valor}:
+     * {@code llamadores} (16), {@code segundos} (10), {@code calentamiento} (2, en segundos),
+     * {@code conexiones} (máximo por ruta, 50), {@code medianaMs} (5), {@code p99Ms} (40),
+     * {@code errores} (proporción, 0), {@code bytes} (tamaño de respuesta, 512) y
+     * {@code metodos} (lista separada por comas; todos por defecto).
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = new HashMap<>();
+        for (String argumento : args) {
+            int igual = argumento.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento sin formato clave=valor: " + argumento);
+            }
+            opciones.put(argumento.substring(0, igual), argumento.substring(igual + 1));
+        }
+        int llamadores = Integer.parseInt(opciones.getOrDefault("llamadores", "16"));
+        int conexiones = Integer.parseInt(opciones.getOrDefault("conexiones", "50"));
+
+        ServidorStub.Comportamiento comportamiento = ServidorStub.Comportamiento.builder()
+            .latencia(ServidorStub.Latencia.logNormal(
+                Duration.ofMillis(Long.parseLong(opciones.getOrDefault("medianaMs", "5"))),
+                Duration.ofMillis(Long.parseLong(opciones.getOrDefault("p99Ms", "40")))))
+            .errores(Double.parseDouble(opciones.getOrDefault("errores", "0")))
+            .tamanioRespuesta(Integer.parseInt(opciones.getOrDefault("bytes", "512")))
+            .build();
+        Builder builder = builder()
+            .llamadores(llamadores)
+            .duracion(Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("segundos", "10"))))
+            .calentamiento(Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("calentamiento", "2"))));
+        if (opciones.containsKey("metodos")) {
+            Arrays.stream(opciones.get("metodos").split(",")).map(String::trim).forEach(builder::metodo);
+        }
+        PruebaCarga prueba = builder.build();
+
+        // Con el dashboard, cada llamador tiene dos solicitudes en curso
+        try (ServidorStub stub = ServidorStub.builder().predeterminado(comportamiento).hilos(2 * llamadores + 8).build()) {
+            IntegracionClient cliente = stub.configurar(IntegracionClient.builder())
+                .maximoConexiones(2 * conexiones)
+                .maximoConexionesPorRuta(conexiones)
+                .build();
+            try {
+                System.out.printf("%d llamadores, %d conexiones por ruta, %s%n", llamadores, conexiones, opciones);
+                List<ResultadoCarga> resultados = prueba.ejecutar(cliente);
+                System.out.print(tabla(resultados));
+                for (ResultadoCarga resultado : resultados) {
+                    if (resultado.getErrores() > 0) {
+                        System.out.printf("%s: %s%n", resultado.getMetodo(), resultado.getErroresPorTipo());
+                    }
+                }
+            } finally {
+                cliente.cerrar();
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final Map<String, Llamada> metodos = new LinkedHashMap<>();
+        private int llamadores = 16;
+        private Duration calentamiento = Duration.ofSeconds(2);
+        private Duration duracion = Duration.ofSeconds(10);
+
+        private Builder() {
+        }
+
+        /** Llamadores concurrentes, cada uno en su propio hilo (16 por defecto). */
+        public Builder llamadores(int llamadores) {
+            if (llamadores < 1) {
+                throw new IllegalArgumentException("Debe haber al menos un llamador");
+            }
+            this.llamadores = llamadores;
+            return this;
+        }
+
+        /** Tiempo de ejecución previo a cada medición, descartado (2 s por defecto; cero lo omite). */
+        public Builder calentamiento(Duration calentamiento) {
+            if (calentamiento == null || calentamiento.isNegative()) {
+                throw new IllegalArgumentException("El calentamiento no puede ser null ni negativo");
+            }
+            this.calentamiento = calentamiento;
+            return this;
+        }
+
+        /** Tiempo medido por método (10 s por defecto). */
+        public Builder duracion(Duration duracion) {
+            if (duracion == null || duracion.isNegative() || duracion.isZero()) {
+                throw new IllegalArgumentException("La duración debe ser positiva");
+            }
+            this.duracion = duracion;
+            return this;
+        }
+
+        /** Mide un método de {@link #METODOS_CLIENTE}. Sin métodos configurados se miden todos. */
+        public Builder metodo(String nombre) {
+            Llamada llamada = METODOS_CLIENTE.get(nombre);
+            if (llamada == null) {
+                throw new IllegalArgumentException("Método desconocido: " + nombre + "; disponibles: "
+                    + METODOS_CLIENTE.keySet());
+            }
+            return metodo(nombre, llamada);
+        }
+
+        /** Mide una llamada arbitraria, por ejemplo con otra combinación de argumentos. */
+        public Builder metodo(String nombre, Llamada llamada) {
+            if (nombre == null || llamada == null) {
+                throw new IllegalArgumentException("Nombre y llamada no pueden ser null");
+            }
+            metodos.put(nombre, llamada);
+            return this;
+        }
+
+        public PruebaCarga build() {
+            return new PruebaCarga(this);
+        }
+    }
+}
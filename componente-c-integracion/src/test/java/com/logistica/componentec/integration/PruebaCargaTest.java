@@ -0,0 +1,103 @@
+package com.logistica.componentec.integration;
+
+import com.logistica.componentec.dto.EstadisticasProyectosDTO;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+class PruebaCargaTest {
+
+    @Test
+    void testStubSirveLosEndpointsDelCliente() throws Exception {
+        try (ServidorStub stub = ServidorStub.builder()
+                .predeterminado(ServidorStub.Comportamiento.builder().tamanioRespuesta(4_096).build())
+                .comportamiento(OperacionRemota.ESTADISTICAS_DOCUMENTOS, ServidorStub.Comportamiento.builder()
+                    .errores(1)
+                    .estadoError(500)
+                    .build())
+                .build()) {
+            IntegracionClient cliente = stub.configurar(IntegracionClient.builder()).build();
+            try {
+                EstadisticasProyectosDTO estadisticas = cliente.obtenerEstadisticasProyectosDTO();
+                assertEquals(42L, estadisticas.getTotalProyectos());
+                assertEquals(7L, cliente.obtenerProyectoDTO(7L).getId());
+                assertTrue(cliente.validarExistenciaProyecto(8L));
+                cliente.notificarDocumentoCreado(7L, 3L, "FACTURA");
+                assertThrows(IOException.class, cliente::obtenerEstadisticasDocumentos);
+
+                assertEquals(1, stub.getSolicitudes(OperacionRemota.ESTADISTICAS_PROYECTOS));
+                assertEquals(2, stub.getSolicitudes(OperacionRemota.PROYECTO));
+                assertEquals(1, stub.getSolicitudes(OperacionRemota.NOTIFICACION));
+                assertTrue(stub.getErrores(OperacionRemota.ESTADISTICAS_DOCUMENTOS) >= 1);
+                assertEquals(stub.getSolicitudes(OperacionRemota.ESTADISTICAS_DOCUMENTOS),
+                    stub.getErrores(OperacionRemota.ESTADISTICAS_DOCUMENTOS));
+            } finally {
+                cliente.cerrar();
+            }
+        }
+    }
+
+    @Test
+    void testLatenciaLogNormalRespetaMedianaYPercentil99() {
+        ServidorStub.Latencia latencia = ServidorStub.Latencia.logNormal(Duration.ofMillis(5), Duration.ofMillis(40));
+        long[] muestras = new long[20_000];
+        for (int i = 0; i < muestras.length; i++) {
+            muestras[i] = latencia.muestra(ThreadLocalRandom.current());
+        }
+        Arrays.sort(muestras);
+
+        assertEquals(5_000_000, muestras[muestras.length / 2], 500_000);
+        assertEquals(40_000_000, muestras[muestras.length * 99 / 100], 8_000_000);
+        assertThrows(IllegalArgumentException.class,
+            () -> ServidorStub.Latencia.logNormal(Duration.ofMillis(5), Duration.ofMillis(1)));
+    }
+
+    @Test
+    void testReportaRendimientoYPercentilesPorMetodo() throws Exception {
+        try (ServidorStub stub = ServidorStub.builder()
+                .comportamiento(OperacionRemota.PROYECTO, ServidorStub.Comportamiento.builder()
+                    .latencia(ServidorStub.Latencia.fija(Duration.ofMillis(2)))
+                    .build())
+                .comportamiento(OperacionRemota.ESTADISTICAS_DOCUMENTOS, ServidorStub.Comportamiento.builder()
+                    .errores(1)
+                    .build())
+                .build()) {
+            IntegracionClient cliente = stub.configurar(IntegracionClient.builder()).build();
+            try {
+                List<ResultadoCarga> resultados = PruebaCarga.builder()
+                    .llamadores(4)
+                    .calentamiento(Duration.ZERO)
+                    .duracion(Duration.ofMillis(300))
+                    .metodo("obtenerProyecto")
+                    .metodo("obtenerEstadisticasDocumentos")
+                    .build()
+                    .ejecutar(cliente);
+
+                ResultadoCarga proyecto = resultados.get(0);
+                assertEquals("obtenerProyecto", proyecto.getMetodo());
+                assertEquals(0, proyecto.getErrores());
+                assertTrue(proyecto.getLlamadas() > 0);
+                assertTrue(proyecto.getLlamadasPorSegundo() > 0);
+                assertTrue(proyecto.getLatencia().percentil(0.5) >= 1_750_000, "la cubeta cubre los 2 ms simulados");
+                assertTrue(proyecto.getLatencia().percentil(0.99) >= proyecto.getLatencia().percentil(0.5));
+
+                ResultadoCarga documentos = resultados.get(1);
+                assertEquals(documentos.getLlamadas(), documentos.getErrores());
+                assertEquals(0, documentos.getLatencia().getCantidad());
+                assertFalse(documentos.getErroresPorTipo().isEmpty());
+
+                String tabla = PruebaCarga.tabla(resultados);
+                assertTrue(tabla.contains("obtenerProyecto"));
+                assertTrue(tabla.contains("p99 ms"));
+            } finally {
+                cliente.cerrar();
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> PruebaCarga.builder().metodo("noExiste"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.logistica.componentec.integration;
+
+import com.logistica.componentec.metricas.InstantaneaHistograma;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Resultado de medir un método del cliente con {@link PruebaCarga}. La latencia, en
+ * nanosegundos, incluye solo las llamadas exitosas.
+ */
+public final class ResultadoCarga {
+    private final String metodo;
+    private final int llamadores;
+    private final Duration duracion;
+    private final InstantaneaHistograma latencia;
+    private final long errores;
+    private final Map<String, Long> erroresPorTipo;
+
+    ResultadoCarga(String metodo, int llamadores, Duration duracion, InstantaneaHistograma latencia,
+                   long errores, Map<String, Long> erroresPorTipo) {
+        this.metodo = metodo;
+        this.llamadores = llamadores;
+        this.duracion = duracion;
+        this.latencia = latencia;
+        this.errores = errores;
+        this.erroresPorTipo = Map.copyOf(erroresPorTipo);
+    }
+
+    public String getMetodo() { return metodo; }
+    public int getLlamadores() { return llamadores; }
+    public Duration getDuracion() { return duracion; }
+    public InstantaneaHistograma getLatencia() { return latencia; }
+    public long getErrores() { return errores; }
+
+    /** Errores agrupados por el nombre simple de la excepción. */
+    public Map<String, Long> getErroresPorTipo() { return erroresPorTipo; }
+
+    /** Llamadas exitosas y fallidas. */
+    public long getLlamadas() {
+        return latencia.getCantidad() + errores;
+    }
+
+    /** Llamadas exitosas por segundo. */
+    public double getLlamadasPorSegundo() {
+        return latencia.getCantidad() * 1e9 / Math.max(1, duracion.toNanos());
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoCarga{metodo=" + metodo + ", llamadores=" + llamadores + ", llamadas=" + getLlamadas()
+            + ", errores=" + errores + ", latencia=" + latencia + "}";
+    }
+}
@@ -0,0 +1,394 @@
+package com.logistica.componentec.integration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Servidor local con los endpoints de los Componentes A y B que usa {@link IntegracionClient},
+ * para probarlo y medirlo sin los servicios reales. Cada operación tiene su propio
+ * {@link Comportamiento}: distribución de latencia, proporción de errores y tamaño de respuesta.
+ * <p>
+ * Rutas servidas, bajo {@link #getUrlComponenteA()} y {@link #getUrlComponenteB()}:
+ * <ul>
+ *   <li>{@code GET /api/proyectos/estadisticas}</li>
+ *   <li>{@code GET /api/proyectos/{id}}</li>
+ *   <li>{@code POST /api/proyectos/{id}/notificar-documento}</li>
+ *   <li>{@code GET /api/documentos/estadisticas}</li>
+ * </ul>
+ *
+ * <pre>
+ * try (ServidorStub stub = ServidorStub.builder()
+ *         .comportamiento(OperacionRemota.PROYECTO, Comportamiento.builder()
+ *             .latencia(Latencia.logNormal(Duration.ofMillis(5), Duration.ofMillis(40)))
+ *             .errores(0.01)
+ *             .build())
+ *         .build()) {
+ *     IntegracionClient cliente = stub.configurar(IntegracionClient.builder()).build();
+ * }
+ * </pre>
+ */
+public final class ServidorStub implements AutoCloseable {
+
+    private static final String PROYECTOS = "/api/proyectos/";
+    private static final String DOCUMENTOS = "/api/documentos/estadisticas";
+    private static final String NOTIFICAR = "/notificar-documento";
+    private static final char RELLENO = 'x';
+    private static final int BACKLOG = 1024;
+    private static final byte[] ACEPTADA = "{}".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        // Sin TCP_NODELAY, encabezados y cuerpo escritos por separado esperan el ACK retardado (~40 ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer servidor;
+    private final ExecutorService hilos;
+    private final Map<OperacionRemota, Comportamiento> comportamientos;
+    private final Map<OperacionRemota, byte[]> cuerpos = new EnumMap<>(OperacionRemota.class);
+    private final AtomicLongArray solicitudes = new AtomicLongArray(OperacionRemota.values().length);
+    private final AtomicLongArray errores = new AtomicLongArray(OperacionRemota.values().length);
+
+    private ServidorStub(Builder builder) throws IOException {
+        this.comportamientos = new EnumMap<>(builder.comportamientos);
+        for (OperacionRemota operacion : OperacionRemota.values()) {
+            comportamientos.putIfAbsent(operacion, builder.predeterminado);
+        }
+        cuerpos.put(OperacionRemota.ESTADISTICAS_PROYECTOS, rellenar("{\"totalProyectos\":42,\"proyectosActivos\":30,"
+            + "\"montoTotal\":125000.50,\"proyectosPorEstado\":{\"ACTIVO\":30,\"CERRADO\":12}", OperacionRemota.ESTADISTICAS_PROYECTOS));
+        cuerpos.put(OperacionRemota.ESTADISTICAS_DOCUMENTOS, rellenar("{\"totalDocumentos\":120,\"documentosPendientes\":8,"
+            + "\"documentosPorTipo\":{\"FACTURA\":100,\"CONTRATO\":20}", OperacionRemota.ESTADISTICAS_DOCUMENTOS));
+        // El id se agrega en cada respuesta al inicio del cuerpo
+        cuerpos.put(OperacionRemota.PROYECTO, rellenar(",\"codigo\":\"PR-001234\",\"nombre\":\"Proyecto de carga\","
+            + "\"estado\":\"ACTIVO\",\"montoPresupuesto\":1500.25", OperacionRemota.PROYECTO));
+
+        this.hilos = Executors.newFixedThreadPool(builder.hilos);
+        this.servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.puerto),
+            BACKLOG);
+        servidor.setExecutor(hilos);
+        servidor.createContext(PROYECTOS, this::atenderProyectos);
+        servidor.createContext(DOCUMENTOS, intercambio ->
+            atender(intercambio, OperacionRemota.ESTADISTICAS_DOCUMENTOS, null));
+        servidor.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** URL base del Componente A simulado, para {@link IntegracionClient.Builder#componenteABaseUrl(String)}. */
+    public String getUrlComponenteA() {
+        return "http://localhost:" + servidor.getAddress().getPort() + "/api";
+    }
+
+    /** URL base del Componente B simulado, para {@link IntegracionClient.Builder#componenteBBaseUrl(String)}. */
+    public String getUrlComponenteB() {
+        return getUrlComponenteA();
+    }
+
+    /**
+     * Apunta el builder del cliente a este servidor.
+     */
+    public IntegracionClient.Builder configurar(IntegracionClient.Builder builder) {
+        return builder.componenteABaseUrl(getUrlComponenteA()).componenteBBaseUrl(getUrlComponenteB());
+    }
+
+    /** Solicitudes recibidas por la operación, incluidas las respondidas con error. */
+    public long getSolicitudes(OperacionRemota operacion) {
+        return solicitudes.get(operacion.ordinal());
+    }
+
+    /** Solicitudes de la operación respondidas con el estado de error configurado. */
+    public long getErrores(OperacionRemota operacion) {
+        return errores.get(operacion.ordinal());
+    }
+
+    @Override
+    public void close() {
+        servidor.stop(0);
+        hilos.shutdownNow();
+    }
+
+    private void atenderProyectos(HttpExchange intercambio) throws IOException {
+        String ruta = intercambio.getRequestURI().getPath();
+        String resto = ruta.substring(PROYECTOS.length());
+        if (resto.equals("estadisticas")) {
+            atender(intercambio, OperacionRemota.ESTADISTICAS_PROYECTOS, null);
+        } else if (resto.endsWith(NOTIFICAR) && "POST".equals(intercambio.getRequestMethod())) {
+            atender(intercambio, OperacionRemota.NOTIFICACION, null);
+        } else if (esNumero(resto)) {
+            atender(intercambio, OperacionRemota.PROYECTO, resto);
+        } else {
+            responder(intercambio, 404, cuerpoError(404));
+        }
+    }
+
+    private void atender(HttpExchange intercambio, OperacionRemota operacion, String id) throws IOException {
+        solicitudes.incrementAndGet(operacion.ordinal());
+        try (InputStream entrada = intercambio.getRequestBody()) {
+            entrada.transferTo(OutputStream.nullOutputStream());
+        }
+        Comportamiento comportamiento = comportamientos.get(operacion);
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long espera = comportamiento.latencia.muestra(aleatorio);
+        if (espera > 0) {
+            LockSupport.parkNanos(espera);
+        }
+
+        if (comportamiento.proporcionErrores > 0 && aleatorio.nextDouble() < comportamiento.proporcionErrores) {
+            errores.incrementAndGet(operacion.ordinal());
+            responder(intercambio, comportamiento.estadoError, cuerpoError(comportamiento.estadoError));
+        } else if (operacion == OperacionRemota.NOTIFICACION) {
+            // 200 con cuerpo en lugar de 204: con POST concurrentes sin cuerpo de respuesta, HttpServer
+            // del JDK 17 puede desalinear la siguiente solicitud de la conexión persistente
+            responder(intercambio, 200, ACEPTADA);
+        } else if (id != null) {
+            byte[] prefijo = ("{\"id\":" + id).getBytes(StandardCharsets.US_ASCII);
+            byte[] resto = cuerpos.get(operacion);
+            intercambio.getResponseHeaders().set("Content-Type", "application/json");
+            intercambio.sendResponseHeaders(200, prefijo.length + resto.length);
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                salida.write(prefijo);
+                salida.write(resto);
+            }
+        } else {
+            intercambio.getResponseHeaders().set("Content-Type", "application/json");
+            responder(intercambio, 200, cuerpos.get(operacion));
+        }
+    }
+
+    private static void responder(HttpExchange intercambio, int estado, byte[] cuerpo) throws IOException {
+        intercambio.sendResponseHeaders(estado, cuerpo == null ? -1 : cuerpo.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            if (cuerpo != null) {
+                salida.write(cuerpo);
+            }
+        }
+    }
+
+    private static byte[] cuerpoError(int estado) {
+        // Con errores sin cuerpo, HttpServer del JDK puede cerrar la conexión que el cliente ya devolvió al pool
+        return ("{\"estado\":" + estado + "}").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Cierra el JSON agregando un campo de relleno hasta el tamaño de respuesta configurado.
+     */
+    private byte[] rellenar(String json, OperacionRemota operacion) {
+        int tamanio = comportamientos.get(operacion).tamanioRespuesta;
+        String campo = ",\"relleno\":\"";
+        int faltante = tamanio - json.length() - campo.length() - 2;
+        if (faltante <= 0) {
+            return (json + "}").getBytes(StandardCharsets.US_ASCII);
+        }
+        return (json + campo + String.valueOf(RELLENO).repeat(faltante) + "\"}").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static boolean esNumero(String texto) {
+        if (texto.isEmpty() || texto.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) < '0' || texto.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Distribución de la latencia simulada de cada respuesta.
+     */
+    @FunctionalInterface
+    public interface Latencia {
+
+        /** Latencia de una respuesta en nanosegundos. */
+        long muestra(ThreadLocalRandom aleatorio);
+
+        static Latencia ninguna() {
+            return aleatorio -> 0;
+        }
+
+        static Latencia fija(Duration latencia) {
+            long nanos = nanos(latencia);
+            return aleatorio -> nanos;
+        }
+
+        /** Uniforme entre ambos límites, incluidos. */
+        static Latencia uniforme(Duration minima, Duration maxima) {
+            long desde = nanos(minima);
+            long hasta = nanos(maxima);
+            if (hasta < desde) {
+                throw new IllegalArgumentException("La latencia máxima no puede ser menor que la mínima");
+            }
+            return aleatorio -> aleatorio.nextLong(desde, hasta + 1);
+        }
+
+        /**
+         * Log-normal con la mediana y el percentil 99 indicados: la mayoría de respuestas rápidas
+         * y una cola larga, como en un servicio real.
+         */
+        static Latencia logNormal(Duration mediana, Duration p99) {
+            long nanosMediana = nanos(mediana);
+            long nanosP99 = nanos(p99);
+            if (nanosMediana <= 0 || nanosP99 < nanosMediana) {
+                throw new IllegalArgumentException("La mediana debe ser positiva y no mayor que el percentil 99");
+            }
+            double mu = Math.log(nanosMediana);
+            // 2.326 es el cuantil 0.99 de la normal estándar
+            double sigma = Math.log((double) nanosP99 / nanosMediana) / 2.326;
+            return aleatorio -> (long) Math.exp(mu + sigma * aleatorio.nextGaussian());
+        }
+
+        private static long nanos(Duration duracion) {
+            if (duracion == null || duracion.isNegative()) {
+                throw new IllegalArgumentException("La latencia no puede ser null ni negativa");
+            }
+            return duracion.toNanos();
+        }
+    }
+
+    /**
+     * Respuesta simulada de una operación.
+     */
+    public static final class Comportamiento {
+        private final Latencia latencia;
+        private final double proporcionErrores;
+        private final int estadoError;
+        private final int tamanioRespuesta;
+
+        private Comportamiento(Builder builder) {
+            this.latencia = builder.latencia;
+            this.proporcionErrores = builder.proporcionErrores;
+            this.estadoError = builder.estadoError;
+            this.tamanioRespuesta = builder.tamanioRespuesta;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public static final class Builder {
+            private Latencia latencia = Latencia.ninguna();
+            private double proporcionErrores;
+            private int estadoError = 503;
+            private int tamanioRespuesta;
+
+            private Builder() {
+            }
+
+            public Builder latencia(Latencia latencia) {
+                if (latencia == null) {
+                    throw new IllegalArgumentException("La latencia no puede ser null");
+                }
+                this.latencia = latencia;
+                return this;
+            }
+
+            /**
+             * Proporción de respuestas con error, entre 0 y 1.
+             */
+            public Builder errores(double proporcion) {
+                if (!(proporcion >= 0 && proporcion <= 1)) {
+                    throw new IllegalArgumentException("La proporción de errores debe estar entre 0 y 1");
+                }
+                this.proporcionErrores = proporcion;
+                return this;
+            }
+
+            /** Código de estado de las respuestas con error (503 por defecto). */
+            public Builder estadoError(int estado) {
+                if (estado < 400 || estado > 599) {
+                    throw new IllegalArgumentException("El estado de error debe ser 4xx o 5xx");
+                }
+                this.estadoError = estado;
+                return this;
+            }
+
+            /**
+             * Tamaño mínimo en bytes de las respuestas exitosas con cuerpo; se completa con un
+             * campo de relleno que el cliente ignora.
+             */
+            public Builder tamanioRespuesta(int bytes) {
+                if (bytes < 0) {
+                    throw new IllegalArgumentException("El tamaño de respuesta no puede ser negativo");
+                }
+                this.tamanioRespuesta = bytes;
+                return this;
+            }
+
+            public Comportamiento build() {
+                return new Comportamiento(this);
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final Map<OperacionRemota, Comportamiento> comportamientos = new EnumMap<>(OperacionRemota.class);
+        private Comportamiento predeterminado = Comportamiento.builder().build();
+        private int hilos = 64;
+        private int puerto;
+
+        private Builder() {
+        }
+
+        /** Comportamiento de una operación. */
+        public Builder comportamiento(OperacionRemota operacion, Comportamiento comportamiento) {
+            if (operacion == null || comportamiento == null) {
+                throw new IllegalArgumentException("Operación y comportamiento no pueden ser null");
+            }
+            comportamientos.put(operacion, comportamiento);
+            return this;
+        }
+
+        /** Comportamiento de las operaciones sin uno propio (sin latencia ni errores por defecto). */
+        public Builder predeterminado(Comportamiento comportamiento) {
+            if (comportamiento == null) {
+                throw new IllegalArgumentException("El comportamiento no puede ser null");
+            }
+            this.predeterminado = comportamiento;
+            return this;
+        }
+
+        /**
+         * Hilos que atienden solicitudes (64 por defecto). Con latencia simulada, cada solicitud
+         * en espera ocupa un hilo, así que debe cubrir la concurrencia de la prueba.
+         */
+        public Builder hilos(int hilos) {
+            if (hilos < 1) {
+                throw new IllegalArgumentException("Debe haber al menos un hilo");
+            }
+            this.hilos = hilos;
+            return this;
+        }
+
+        /** Puerto local (0, por defecto, elige uno libre). */
+        public Builder puerto(int puerto) {
+            if (puerto < 0 || puerto > 65_535) {
+                throw new IllegalArgumentException("Puerto inválido: " + puerto);
+            }
+            this.puerto = puerto;
+            return this;
+        }
+
+        public ServidorStub build() throws IOException {
+            return new ServidorStub(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.logistica.componentec.integration;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class VerificadorExistenciaTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void testConsultasSimultaneasSeAgrupan() throws Exception {
+        VerificadorExistencia verificador = new VerificadorExistencia(0, 0, 0);
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        VerificadorExistencia.Consulta lenta = id -> {
+            consultas.incrementAndGet();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        };
+
+        ExecutorService hilos = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> resultados = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                resultados.add(hilos.submit(() -> verificador.existe(5L, lenta)));
+            }
+            Thread.sleep(200);
+            liberar.countDown();
+            for (Future<Boolean> resultado : resultados) {
+                assertTrue(resultado.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, consultas.get());
+
+            // Sin caché, una consulta posterior vuelve a la red
+            verificador.existe(5L, lenta);
+            assertEquals(2, consultas.get());
+        } finally {
+            hilos.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCachePositivaYNegativaConVigenciasDistintas() throws Exception {
+        VerificadorExistencia verificador = new VerificadorExistencia(10_000 * MS, MS, 10);
+        AtomicInteger consultas = new AtomicInteger();
+        VerificadorExistencia.Consulta consulta = id -> {
+            consultas.incrementAndGet();
+            return id % 2 == 1;
+        };
+
+        assertTrue(verificador.existe(1L, consulta));
+        assertFalse(verificador.existe(2L, consulta));
+        Thread.sleep(5);
+
+        assertEquals(Boolean.TRUE, verificador.enCache(1L));
+        assertNull(verificador.enCache(2L));
+        assertTrue(verificador.existe(1L, consulta));
+        assertFalse(verificador.existe(2L, consulta));
+        assertEquals(3, consultas.get());
+    }
+
+    @Test
+    void testErrorNoSeGuarda() throws Exception {
+        VerificadorExistencia verificador = new VerificadorExistencia(10_000 * MS, 10_000 * MS, 10);
+        assertThrows(IOException.class, () -> verificador.existe(1L, id -> {
+            throw new IOException("caído");
+        }));
+        assertNull(verificador.enCache(1L));
+        assertTrue(verificador.existe(1L, id -> true));
+    }
+}